@@ -1,29 +1,65 @@
-
 package com.github.mikephil.charting.animation;
 
-import android.animation.ObjectAnimator;
+import android.animation.ValueAnimator;
 import android.animation.ValueAnimator.AnimatorUpdateListener;
-import android.annotation.SuppressLint;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.animation.AnimationUtils;
 
 /**
  * Object responsible for all animations in the Chart. ANIMATIONS ONLY WORK FOR
  * API LEVEL 11 (Android 3.0.x) AND HIGHER.
- * 
+ *
+ * All running animations (x-phase, y-phase and data transition) are advanced together in a
+ * single callback per frame, driven by the Choreographer (API level 16 and higher) or a
+ * ValueAnimator pulse below. The phases are set directly, nothing is resolved by reflection.
+ *
  * @author Philipp Jahoda
  */
 public class ChartAnimator {
 
+    /**
+     * Notified once per animation frame, after the phases and the data transition were updated.
+     */
+    public interface OnAnimationFrameListener {
+
+        void onAnimationFrame(ChartAnimator animator);
+    }
+
+    /** easing of the animations without easing, the default interpolation of ValueAnimator */
+    private static final EasingFunction DEFAULT_EASING =
+            Easing.getEasingFunctionFromOption(Easing.EasingOption.EaseInOutSine);
+
+    /** start time of an animation that is not running */
+    private static final long NOT_RUNNING = -1L;
+
+    /** start time of an animation that starts with the next frame */
+    private static final long PENDING = -2L;
+
     /** object that is updated upon animation update */
     private AnimatorUpdateListener mListener;
 
+    /** object that is notified upon animation update */
+    private OnAnimationFrameListener mFrameListener;
+
     public ChartAnimator() {
 
     }
 
+    /**
+     * @param listener notified on every animation frame with the ValueAnimator pulsing the
+     *                 frames, its animated value does not reflect the progress of the animations
+     *                 (use the phases instead)
+     */
     public ChartAnimator(AnimatorUpdateListener listener) {
         mListener = listener;
     }
 
+    public ChartAnimator(OnAnimationFrameListener listener) {
+        mFrameListener = listener;
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -35,6 +71,263 @@ public class ChartAnimator {
     /** the phase that is animated and influences the drawn values on the x-axis */
     protected float mPhaseX = 1f;
 
+    private long mStartX = NOT_RUNNING;
+    private int mDurationX;
+    private EasingFunction mEasingX;
+
+    private long mStartY = NOT_RUNNING;
+    private int mDurationY;
+    private EasingFunction mEasingY;
+
+    /** the running data transition, null if none */
+    private DataTransition mTransition;
+    private long mStartTransition = NOT_RUNNING;
+    private int mDurationTransition;
+    private EasingFunction mEasingTransition;
+
+    /** delivers the frames, created with the first animation */
+    private FrameTicker mTicker;
+
+    /**
+     * Starts the phase animations with a duration >= 0, the others keep running.
+     */
+    private void start(int durationMillisX, int durationMillisY, EasingFunction easingX,
+                       EasingFunction easingY) {
+
+        if (android.os.Build.VERSION.SDK_INT < 11)
+            return;
+
+        if (durationMillisX >= 0) {
+            mDurationX = durationMillisX;
+            mEasingX = easingX;
+            mStartX = PENDING;
+            mPhaseX = ease(easingX, 0f);
+        }
+
+        if (durationMillisY >= 0) {
+            mDurationY = durationMillisY;
+            mEasingY = easingY;
+            mStartY = PENDING;
+            mPhaseY = ease(easingY, 0f);
+        }
+
+        scheduleFrame();
+    }
+
+    /**
+     * Animates the y-values of the data of the given transition from their previous to their
+     * current values. A transition that is still running is finished first.
+     *
+     * @param transition
+     * @param durationMillis
+     * @param easing         null for the default easing
+     */
+    public void animateTransition(DataTransition transition, int durationMillis, EasingFunction easing) {
+
+        finishTransition();
+
+        if (android.os.Build.VERSION.SDK_INT < 11) {
+            transition.finish();
+            return;
+        }
+
+        mTransition = transition;
+        mDurationTransition = durationMillis;
+        mEasingTransition = easing != null ? easing : DEFAULT_EASING;
+        mStartTransition = PENDING;
+
+        // show the previous values until the first frame
+        if (!transition.apply(ease(mEasingTransition, 0f))) {
+            mTransition = null;
+            mStartTransition = NOT_RUNNING;
+            return;
+        }
+
+        scheduleFrame();
+    }
+
+    /**
+     * Returns true if a data transition is running.
+     *
+     * @return
+     */
+    public boolean isTransitionRunning() {
+        return mTransition != null;
+    }
+
+    /**
+     * Finishes a running data transition immediately, all entries are set to their final values.
+     */
+    public void finishTransition() {
+
+        if (mTransition == null)
+            return;
+
+        mTransition.finish();
+        mTransition = null;
+        mStartTransition = NOT_RUNNING;
+    }
+
+    /**
+     * Advances all running animations to the given frame time.
+     *
+     * @param frameTimeMillis
+     * @return true if animations are still running
+     */
+    protected boolean onFrame(long frameTimeMillis) {
+
+        boolean running = false;
+
+        if (mStartX != NOT_RUNNING) {
+
+            if (mStartX == PENDING)
+                mStartX = frameTimeMillis;
+
+            float fraction = fraction(frameTimeMillis - mStartX, mDurationX);
+            mPhaseX = ease(mEasingX, fraction);
+
+            if (fraction < 1f)
+                running = true;
+            else
+                mStartX = NOT_RUNNING;
+        }
+
+        if (mStartY != NOT_RUNNING) {
+
+            if (mStartY == PENDING)
+                mStartY = frameTimeMillis;
+
+            float fraction = fraction(frameTimeMillis - mStartY, mDurationY);
+            mPhaseY = ease(mEasingY, fraction);
+
+            if (fraction < 1f)
+                running = true;
+            else
+                mStartY = NOT_RUNNING;
+        }
+
+        if (mTransition != null) {
+
+            if (mStartTransition == PENDING)
+                mStartTransition = frameTimeMillis;
+
+            float fraction = fraction(frameTimeMillis - mStartTransition, mDurationTransition);
+
+            if (fraction < 1f && mTransition.apply(ease(mEasingTransition, fraction)))
+                running = true;
+            else
+                finishTransition();
+        }
+
+        return running;
+    }
+
+    private void notifyFrame(ValueAnimator animator) {
+
+        if (mFrameListener != null)
+            mFrameListener.onAnimationFrame(this);
+
+        if (mListener != null)
+            mListener.onAnimationUpdate(animator);
+    }
+
+    private static float fraction(long elapsedMillis, int durationMillis) {
+
+        if (durationMillis <= 0)
+            return 1f;
+
+        return Math.max(0f, Math.min(1f, elapsedMillis / (float) durationMillis));
+    }
+
+    private static float ease(EasingFunction easing, float fraction) {
+        return easing != null ? easing.getInterpolation(fraction) : fraction;
+    }
+
+    private void scheduleFrame() {
+
+        if (mTicker == null) {
+            // an AnimatorUpdateListener needs a ValueAnimator to be passed to it
+            if (Build.VERSION.SDK_INT >= 16 && mListener == null)
+                mTicker = new ChoreographerTicker();
+            else
+                mTicker = new AnimatorTicker();
+        }
+
+        mTicker.schedule();
+    }
+
+    /**
+     * Delivers the animation frames to onFrame(...) until it returns false.
+     */
+    private interface FrameTicker {
+
+        void schedule();
+    }
+
+    @TargetApi(16)
+    private class ChoreographerTicker implements FrameTicker, Choreographer.FrameCallback {
+
+        private final Choreographer mChoreographer = Choreographer.getInstance();
+
+        private boolean mScheduled = false;
+
+        @Override
+        public void schedule() {
+
+            if (mScheduled)
+                return;
+
+            mScheduled = true;
+            mChoreographer.postFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+
+            mScheduled = false;
+
+            boolean running = onFrame(frameTimeNanos / 1000000L);
+            notifyFrame(null);
+
+            if (running)
+                schedule();
+        }
+    }
+
+    /**
+     * Ticker for API level 11 to 15 and for AnimatorUpdateListeners, uses an endless ValueAnimator
+     * as frame pulse (which is driven by the Choreographer itself from API level 16 on).
+     */
+    @TargetApi(11)
+    private class AnimatorTicker implements FrameTicker, AnimatorUpdateListener {
+
+        private ValueAnimator mPulse;
+
+        @Override
+        public void schedule() {
+
+            if (mPulse == null) {
+                mPulse = ValueAnimator.ofFloat(0f, 1f);
+                mPulse.setDuration(1000);
+                mPulse.setRepeatCount(ValueAnimator.INFINITE);
+                mPulse.addUpdateListener(this);
+            }
+
+            if (!mPulse.isStarted())
+                mPulse.start();
+        }
+
+        @Override
+        public void onAnimationUpdate(ValueAnimator animation) {
+
+            boolean running = onFrame(AnimationUtils.currentAnimationTimeMillis());
+            notifyFrame(animation);
+
+            if (!running)
+                mPulse.cancel();
+        }
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -52,29 +345,7 @@ public class ChartAnimator {
      */
     public void animateXY(int durationMillisX, int durationMillisY, EasingFunction easingX,
             EasingFunction easingY) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorY = ObjectAnimator.ofFloat(this, "phaseY", 0f, 1f);
-        animatorY.setInterpolator(easingY);
-        animatorY.setDuration(
-                durationMillisY);
-        ObjectAnimator animatorX = ObjectAnimator.ofFloat(this, "phaseX", 0f, 1f);
-        animatorX.setInterpolator(easingX);
-        animatorX.setDuration(
-                durationMillisX);
-
-        // make sure only one animator produces update-callbacks (which then
-        // call invalidate())
-        if (durationMillisX > durationMillisY) {
-            animatorX.addUpdateListener(mListener);
-        } else {
-            animatorY.addUpdateListener(mListener);
-        }
-
-        animatorX.start();
-        animatorY.start();
+        start(durationMillisX, durationMillisY, easingX, easingY);
     }
 
     /**
@@ -86,15 +357,7 @@ public class ChartAnimator {
      * @param easing
      */
     public void animateX(int durationMillis, EasingFunction easing) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorX = ObjectAnimator.ofFloat(this, "phaseX", 0f, 1f);
-        animatorX.setInterpolator(easing);
-        animatorX.setDuration(durationMillis);
-        animatorX.addUpdateListener(mListener);
-        animatorX.start();
+        start(durationMillis, -1, easing, null);
     }
 
     /**
@@ -106,15 +369,7 @@ public class ChartAnimator {
      * @param easing
      */
     public void animateY(int durationMillis, EasingFunction easing) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorY = ObjectAnimator.ofFloat(this, "phaseY", 0f, 1f);
-        animatorY.setInterpolator(easing);
-        animatorY.setDuration(durationMillis);
-        animatorY.addUpdateListener(mListener);
-        animatorY.start();
+        start(-1, durationMillis, null, easing);
     }
 
     /**
@@ -134,29 +389,8 @@ public class ChartAnimator {
      */
     public void animateXY(int durationMillisX, int durationMillisY, Easing.EasingOption easingX,
             Easing.EasingOption easingY) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorY = ObjectAnimator.ofFloat(this, "phaseY", 0f, 1f);
-        animatorY.setInterpolator(Easing.getEasingFunctionFromOption(easingY));
-        animatorY.setDuration(
-                durationMillisY);
-        ObjectAnimator animatorX = ObjectAnimator.ofFloat(this, "phaseX", 0f, 1f);
-        animatorX.setInterpolator(Easing.getEasingFunctionFromOption(easingX));
-        animatorX.setDuration(
-                durationMillisX);
-
-        // make sure only one animator produces update-callbacks (which then
-        // call invalidate())
-        if (durationMillisX > durationMillisY) {
-            animatorX.addUpdateListener(mListener);
-        } else {
-            animatorY.addUpdateListener(mListener);
-        }
-
-        animatorX.start();
-        animatorY.start();
+        start(durationMillisX, durationMillisY, Easing.getEasingFunctionFromOption(easingX),
+                Easing.getEasingFunctionFromOption(easingY));
     }
 
     /**
@@ -168,15 +402,7 @@ public class ChartAnimator {
      * @param easing
      */
     public void animateX(int durationMillis, Easing.EasingOption easing) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorX = ObjectAnimator.ofFloat(this, "phaseX", 0f, 1f);
-        animatorX.setInterpolator(Easing.getEasingFunctionFromOption(easing));
-        animatorX.setDuration(durationMillis);
-        animatorX.addUpdateListener(mListener);
-        animatorX.start();
+        start(durationMillis, -1, Easing.getEasingFunctionFromOption(easing), null);
     }
 
     /**
@@ -188,15 +414,7 @@ public class ChartAnimator {
      * @param easing
      */
     public void animateY(int durationMillis, Easing.EasingOption easing) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorY = ObjectAnimator.ofFloat(this, "phaseY", 0f, 1f);
-        animatorY.setInterpolator(Easing.getEasingFunctionFromOption(easing));
-        animatorY.setDuration(durationMillis);
-        animatorY.addUpdateListener(mListener);
-        animatorY.start();
+        start(-1, durationMillis, null, Easing.getEasingFunctionFromOption(easing));
     }
 
     /**
@@ -213,27 +431,7 @@ public class ChartAnimator {
      * @param durationMillisY
      */
     public void animateXY(int durationMillisX, int durationMillisY) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorY = ObjectAnimator.ofFloat(this, "phaseY", 0f, 1f);
-        animatorY.setDuration(
-                durationMillisY);
-        ObjectAnimator animatorX = ObjectAnimator.ofFloat(this, "phaseX", 0f, 1f);
-        animatorX.setDuration(
-                durationMillisX);
-
-        // make sure only one animator produces update-callbacks (which then
-        // call invalidate())
-        if (durationMillisX > durationMillisY) {
-            animatorX.addUpdateListener(mListener);
-        } else {
-            animatorY.addUpdateListener(mListener);
-        }
-
-        animatorX.start();
-        animatorY.start();
+        start(durationMillisX, durationMillisY, DEFAULT_EASING, DEFAULT_EASING);
     }
 
     /**
@@ -244,14 +442,7 @@ public class ChartAnimator {
      * @param durationMillis
      */
     public void animateX(int durationMillis) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorX = ObjectAnimator.ofFloat(this, "phaseX", 0f, 1f);
-        animatorX.setDuration(durationMillis);
-        animatorX.addUpdateListener(mListener);
-        animatorX.start();
+        start(durationMillis, -1, DEFAULT_EASING, null);
     }
 
     /**
@@ -262,14 +453,7 @@ public class ChartAnimator {
      * @param durationMillis
      */
     public void animateY(int durationMillis) {
-
-        if (android.os.Build.VERSION.SDK_INT < 11)
-            return;
-
-        ObjectAnimator animatorY = ObjectAnimator.ofFloat(this, "phaseY", 0f, 1f);
-        animatorY.setDuration(durationMillis);
-        animatorY.addUpdateListener(mListener);
-        animatorY.start();
+        start(-1, durationMillis, null, DEFAULT_EASING);
     }
 
     /**
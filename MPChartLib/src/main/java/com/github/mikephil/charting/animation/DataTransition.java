@@ -0,0 +1,248 @@
+package com.github.mikephil.charting.animation;
+
+import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Animates the y-values of a chart from the values of a previous data object to the values of
+ * the data object currently shown. The start and end values are copied into primitive buffers
+ * when the transition is created, every frame the entries of the current data are set to the
+ * interpolated values.
+ *
+ * DataSets and entries are matched by their index, entries without counterpart in the previous
+ * data start at their final value. DataSets whose drawn values are not their entries' y-values
+ * (see isAnimatable(...)) are shown with their final values right away. Only the entries in the
+ * visible x-range are interpolated, and only as long as their number does not exceed the
+ * per-frame budget, otherwise the transition ends immediately with the final values.
+ */
+public class DataTransition {
+
+    /**
+     * default for the maximum number of entries interpolated per frame
+     */
+    public static final int DEFAULT_MAX_ENTRIES_PER_FRAME = 20000;
+
+    private final ChartData<?> mData;
+
+    private final BarLineScatterCandleBubbleDataProvider mChart;
+
+    /**
+     * y-values of the previous data, per DataSet
+     */
+    private final float[][] mFrom;
+
+    /**
+     * y-values of the current data, per DataSet
+     */
+    private final float[][] mTo;
+
+    /**
+     * range of entry indices that currently hold interpolated values, per DataSet (inclusive,
+     * from > to if none)
+     */
+    private final int[] mTouchedFrom;
+    private final int[] mTouchedTo;
+
+    /**
+     * visible range of entry indices of the current frame, per DataSet (inclusive)
+     */
+    private final int[] mVisibleFrom;
+    private final int[] mVisibleTo;
+
+    private int mMaxEntriesPerFrame = DEFAULT_MAX_ENTRIES_PER_FRAME;
+
+    private boolean mFinished = false;
+
+    /**
+     * @param from  the data previously shown
+     * @param to    the data now shown, its entries are modified during the transition
+     * @param chart provider of the visible range, null to interpolate all entries
+     */
+    public DataTransition(ChartData<?> from, ChartData<?> to,
+                          BarLineScatterCandleBubbleDataProvider chart) {
+
+        mData = to;
+        mChart = chart;
+
+        int setCount = to.getDataSetCount();
+
+        mFrom = new float[setCount][];
+        mTo = new float[setCount][];
+        mTouchedFrom = new int[setCount];
+        mTouchedTo = new int[setCount];
+        mVisibleFrom = new int[setCount];
+        mVisibleTo = new int[setCount];
+
+        for (int i = 0; i < setCount; i++) {
+
+            IDataSet target = to.getDataSetByIndex(i);
+            IDataSet source = i < from.getDataSetCount() ? from.getDataSetByIndex(i) : null;
+
+            if (source != null && !isAnimatable(source))
+                source = null;
+
+            int count = isAnimatable(target) ? target.getEntryCount() : 0;
+            int sourceCount = source == null ? 0 : source.getEntryCount();
+
+            float[] toValues = new float[count];
+            float[] fromValues = new float[count];
+
+            for (int j = 0; j < count; j++) {
+                toValues[j] = getY(target, j);
+                fromValues[j] = j < sourceCount ? getY(source, j) : toValues[j];
+            }
+
+            mFrom[i] = fromValues;
+            mTo[i] = toValues;
+            mTouchedFrom[i] = 0;
+            mTouchedTo[i] = -1;
+        }
+    }
+
+    /**
+     * Sets the maximum number of entries interpolated per frame. If more entries are visible,
+     * the transition ends immediately. Default: DEFAULT_MAX_ENTRIES_PER_FRAME
+     *
+     * @param maxEntries
+     */
+    public void setMaxEntriesPerFrame(int maxEntries) {
+        mMaxEntriesPerFrame = maxEntries;
+    }
+
+    public int getMaxEntriesPerFrame() {
+        return mMaxEntriesPerFrame;
+    }
+
+    public ChartData<?> getData() {
+        return mData;
+    }
+
+    public boolean isFinished() {
+        return mFinished;
+    }
+
+    /**
+     * Sets the visible entries to the values at the given fraction of the transition.
+     *
+     * @param fraction eased fraction of the transition, 0 = previous values, 1 = final values
+     * @return false if the transition cannot be continued (e.g. because the budget is exceeded)
+     * and has been finished
+     */
+    public boolean apply(float fraction) {
+
+        if (mFinished)
+            return false;
+
+        int setCount = Math.min(mTo.length, mData.getDataSetCount());
+
+        int[] from = mVisibleFrom;
+        int[] to = mVisibleTo;
+
+        float lowestVisibleX = mChart != null ? mChart.getLowestVisibleX() : 0f;
+        float highestVisibleX = mChart != null ? mChart.getHighestVisibleX() : 0f;
+
+        int total = 0;
+
+        for (int i = 0; i < setCount; i++) {
+
+            IDataSet set = mData.getDataSetByIndex(i);
+            int count = Math.min(mTo[i].length, set.getEntryCount());
+
+            from[i] = 0;
+            to[i] = count - 1;
+
+            if (mChart != null && count > 0) {
+                from[i] = Math.max(0, set.getEntryIndex(lowestVisibleX, Float.NaN,
+                        DataSet.Rounding.DOWN));
+                to[i] = Math.min(count - 1, set.getEntryIndex(highestVisibleX, Float.NaN,
+                        DataSet.Rounding.UP));
+            }
+
+            total += Math.max(0, to[i] - from[i] + 1);
+        }
+
+        if (total > mMaxEntriesPerFrame) {
+            finish();
+            return false;
+        }
+
+        for (int i = 0; i < setCount; i++) {
+
+            IDataSet set = mData.getDataSetByIndex(i);
+            float[] fromValues = mFrom[i];
+            float[] toValues = mTo[i];
+
+            // entries that scrolled out of the visible range go back to their final value
+            for (int j = mTouchedFrom[i]; j <= mTouchedTo[i]; j++) {
+                if (j < from[i] || j > to[i])
+                    setY(set, j, toValues[j]);
+            }
+
+            for (int j = from[i]; j <= to[i]; j++)
+                setY(set, j, fromValues[j] + (toValues[j] - fromValues[j]) * fraction);
+
+            mTouchedFrom[i] = from[i];
+            mTouchedTo[i] = to[i];
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets all entries to their final values, the transition cannot be applied afterwards.
+     */
+    public void finish() {
+
+        if (mFinished)
+            return;
+
+        mFinished = true;
+
+        int setCount = Math.min(mTo.length, mData.getDataSetCount());
+
+        for (int i = 0; i < setCount; i++) {
+
+            IDataSet set = mData.getDataSetByIndex(i);
+            int count = Math.min(mTo[i].length, set.getEntryCount());
+
+            for (int j = mTouchedFrom[i]; j <= mTouchedTo[i] && j < count; j++)
+                setY(set, j, mTo[i][j]);
+        }
+    }
+
+    /**
+     * Returns true if the y-values of the given DataSet can be animated, see
+     * IDataSet.hasMutableYValues().
+     *
+     * @param set
+     * @return
+     */
+    protected boolean isAnimatable(IDataSet set) {
+        return set.hasMutableYValues();
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index.
+     *
+     * @param set
+     * @param index
+     * @return
+     */
+    protected float getY(IDataSet set, int index) {
+        return set.getYValueForIndex(index);
+    }
+
+    /**
+     * Sets the y-value of the entry at the given index, without recalculating the bounds of the
+     * DataSet (the axes keep the range of the final values during the transition).
+     *
+     * @param set
+     * @param index
+     * @param y
+     */
+    protected void setY(IDataSet set, int index, float y) {
+        set.setYValueForIndex(index, y);
+    }
+}
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.StackedBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
@@ -43,6 +44,11 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     @Override
     public void feed(IBarDataSet data) {
 
+        if (mContainsStacks && data instanceof StackedBarDataSet) {
+            feedStacked((StackedBarDataSet) data);
+            return;
+        }
+
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
@@ -127,4 +133,50 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
 
         reset();
     }
+
+    /**
+     * Feeds the segments of a StackedBarDataSet, reading its flat value and offset arrays
+     * directly instead of creating a BarEntry per bar.
+     *
+     * @param data
+     */
+    protected void feedStacked(StackedBarDataSet data) {
+
+        float size = data.getEntryCount() * phaseX;
+        float barWidthHalf = mBarWidth / 2f;
+
+        final int stackSize = data.getStackSize();
+        final float[] values = data.getStackValues();
+        final float[] offsets = data.getStackOffsets();
+
+        for (int i = 0; i < size; i++) {
+
+            float x = data.getXValue(i);
+            float left = x - barWidthHalf;
+            float right = x + barWidthHalf;
+
+            for (int k = i * stackSize, end = k + stackSize; k < end; k++) {
+
+                float from = offsets[k];
+                float to = from + Math.abs(values[k]);
+                float bottom, top;
+
+                if (mInverted) {
+                    bottom = to;
+                    top = from;
+                } else {
+                    top = to;
+                    bottom = from;
+                }
+
+                // multiply the height of the rect with the phase
+                top *= phaseY;
+                bottom *= phaseY;
+
+                addBar(left, top, right, bottom);
+            }
+        }
+
+        reset();
+    }
 }
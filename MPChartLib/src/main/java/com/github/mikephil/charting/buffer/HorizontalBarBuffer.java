@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.StackedBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class HorizontalBarBuffer extends BarBuffer {
@@ -13,6 +14,11 @@ public class HorizontalBarBuffer extends BarBuffer {
     @Override
     public void feed(IBarDataSet data) {
 
+        if (mContainsStacks && data instanceof StackedBarDataSet) {
+            feedStacked((StackedBarDataSet) data);
+            return;
+        }
+
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
@@ -91,4 +97,45 @@ public class HorizontalBarBuffer extends BarBuffer {
 
         reset();
     }
+
+    @Override
+    protected void feedStacked(StackedBarDataSet data) {
+
+        float size = data.getEntryCount() * phaseX;
+        float barWidthHalf = mBarWidth / 2f;
+
+        final int stackSize = data.getStackSize();
+        final float[] values = data.getStackValues();
+        final float[] offsets = data.getStackOffsets();
+
+        for (int i = 0; i < size; i++) {
+
+            float x = data.getXValue(i);
+            float bottom = x - barWidthHalf;
+            float top = x + barWidthHalf;
+
+            for (int k = i * stackSize, end = k + stackSize; k < end; k++) {
+
+                float from = offsets[k];
+                float to = from + Math.abs(values[k]);
+                float left, right;
+
+                if (mInverted) {
+                    left = to;
+                    right = from;
+                } else {
+                    right = to;
+                    left = from;
+                }
+
+                // multiply the height of the rect with the phase
+                right *= phaseY;
+                left *= phaseY;
+
+                addBar(left, top, right, bottom);
+            }
+        }
+
+        reset();
+    }
 }
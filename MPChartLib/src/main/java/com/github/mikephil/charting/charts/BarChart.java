@@ -10,6 +10,7 @@ import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.highlight.BarHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.highlight.HighlightBuffer;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.renderer.BarChartRenderer;
@@ -38,6 +39,13 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 
     private boolean mFitBars = false;
 
+    /**
+     * the full-bar counterpart of the current highlight and the reused full-bar highlights handed
+     * out to the touch listener
+     */
+    private Highlight mFullBarCandidate = new Highlight(Float.NaN, Float.NaN, 0f, 0f, 0, null);
+    private HighlightBuffer mFullBarResults = new HighlightBuffer();
+
     public BarChart(Context context) {
         super(context);
     }
@@ -82,6 +90,9 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
      * point
      * inside the BarChart.
      *
+     * The returned Highlight is reused and overwritten by one of the next calls, copy it
+     * (new Highlight(h)) to keep it.
+     *
      * @param x
      * @param y
      * @return
@@ -97,9 +108,12 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
             if (h == null || !isHighlightFullBarEnabled()) return h;
 
             // For isHighlightFullBarEnabled, remove stackIndex
-            return new Highlight(h.getX(), h.getY(),
+            mFullBarCandidate.set(h.getX(), h.getY(),
                     h.getXPx(), h.getYPx(),
                     h.getDataSetIndex(), -1, h.getAxis());
+            mFullBarCandidate.setEntryIndex(h.getEntryIndex());
+
+            return mFullBarResults.obtain(mFullBarCandidate);
         }
     }
 
@@ -14,6 +14,7 @@ import android.util.AttributeSet;
 import android.util.Log;
 import android.view.MotionEvent;
 
+import com.github.mikephil.charting.animation.DataTransition;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
@@ -23,6 +24,7 @@ import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.jobs.AnimatedMoveViewJob;
 import com.github.mikephil.charting.jobs.AnimatedZoomJob;
 import com.github.mikephil.charting.jobs.MoveViewJob;
@@ -30,9 +32,13 @@ import com.github.mikephil.charting.jobs.ZoomJob;
 import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
+import com.github.mikephil.charting.renderer.canvas.ChartCanvas;
+import com.github.mikephil.charting.renderer.canvas.DataLayerCache;
+import com.github.mikephil.charting.renderer.canvas.DisplayListChartCanvas;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -75,6 +81,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mHighlightPerDragEnabled = true;
 
+    /**
+     * if true, the moves of a gesture are applied once per frame instead of once per touch event
+     */
+    protected boolean mGestureBatchingEnabled = true;
+
     /**
      * if true, dragging is enabled for the chart
      */
@@ -133,6 +144,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected XAxisRenderer mXAxisRenderer;
 
+    /**
+     * cache for the recorded data layer, null if data layer caching is disabled
+     */
+    protected DataLayerCache mDataLayerCache;
+
     // /** the approximator object used for data filtering */
     // private Approximator mApproximator;
 
@@ -229,7 +245,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         int clipRestoreCount = canvas.save();
         canvas.clipRect(mViewPortHandler.getContentRect());
 
-        mRenderer.drawData(canvas);
+        if (mDataLayerCache != null)
+            mDataLayerCache.draw(canvas, mRenderer, mViewPortHandler, mAnimator,
+                    mLeftAxisTransformer, mRightAxisTransformer);
+        else
+            mRenderer.drawData(canvas);
 
         // if highlighting is enabled
         if (valuesToHighlight())
@@ -325,6 +345,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mRenderer != null)
             mRenderer.initBuffers();
 
+        if (mDataLayerCache != null)
+            mDataLayerCache.invalidate();
+
         calcMinMax();
 
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
@@ -337,6 +360,40 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         calculateOffsets();
     }
 
+    @Override
+    protected void onEntriesChanged(IDataSet set) {
+
+        // only the cached bounds of the DataSets are combined here
+        mData.notifyDataChanged();
+
+        if (mRenderer != null)
+            mRenderer.onEntriesChanged(set);
+
+        if (mDataLayerCache != null)
+            mDataLayerCache.invalidate();
+
+        float xMin = mXAxis.mAxisMinimum, xMax = mXAxis.mAxisMaximum;
+        float leftMin = mAxisLeft.mAxisMinimum, leftMax = mAxisLeft.mAxisMaximum;
+        float rightMin = mAxisRight.mAxisMinimum, rightMax = mAxisRight.mAxisMaximum;
+
+        calcMinMax();
+
+        boolean xChanged = xMin != mXAxis.mAxisMinimum || xMax != mXAxis.mAxisMaximum;
+        boolean leftChanged = leftMin != mAxisLeft.mAxisMinimum || leftMax != mAxisLeft.mAxisMaximum;
+        boolean rightChanged = rightMin != mAxisRight.mAxisMinimum || rightMax != mAxisRight.mAxisMaximum;
+
+        // labels and offsets stay the same as long as the axis ranges do
+        if (leftChanged)
+            mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
+        if (rightChanged)
+            mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
+        if (xChanged)
+            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+
+        if (xChanged || leftChanged || rightChanged)
+            calculateOffsets();
+    }
+
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on the entries currently in view.
      */
@@ -1147,6 +1204,27 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return mDragYEnabled;
     }
 
+    /**
+     * If set to true, the moves of drag, zoom and highlight-per-drag gestures are collected and
+     * applied once per frame, right before the chart is drawn: the viewport is refreshed and
+     * highlights are searched once per frame, no matter how many touch events the display
+     * delivers. If false, every touch event is applied immediately. Default: true
+     *
+     * @param enabled
+     */
+    public void setGestureBatchingEnabled(boolean enabled) {
+        this.mGestureBatchingEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the moves of gestures are applied once per frame.
+     *
+     * @return
+     */
+    public boolean isGestureBatchingEnabled() {
+        return mGestureBatchingEnabled;
+    }
+
     /**
      * Set this to true to enable scaling (zooming in and out by gesture) for
      * the chart (this does not effect dragging) on both X- and Y-Axis.
@@ -1242,6 +1320,66 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return mClipValuesToContent;
     }
 
+    /**
+     * If set to true, the data of the chart is recorded into a display list and replayed on
+     * subsequent frames, as long as data, zoom and axis ranges stay the same. While panning, the
+     * display list is replayed with a translation only. Call notifyDataSetChanged() or
+     * invalidateDataLayer() after modifying the data or the styling of a DataSet. The size of the
+     * display list cannot be queried, so it is not counted by the MemoryBudgetManager, but it is
+     * released with the caches. Default: false
+     *
+     * @param enabled
+     */
+    public void setDataLayerCachingEnabled(boolean enabled) {
+
+        if (enabled) {
+            if (mDataLayerCache == null)
+                mDataLayerCache = new DataLayerCache(new DisplayListChartCanvas());
+        } else if (mDataLayerCache != null) {
+            mDataLayerCache.release();
+            mDataLayerCache = null;
+        }
+    }
+
+    /**
+     * Sets a custom ChartCanvas backend the data layer is recorded into, null disables data layer
+     * caching.
+     *
+     * @param backend
+     */
+    public void setDataLayerCanvas(ChartCanvas backend) {
+
+        if (mDataLayerCache != null)
+            mDataLayerCache.release();
+
+        mDataLayerCache = backend == null ? null : new DataLayerCache(backend);
+    }
+
+    public boolean isDataLayerCachingEnabled() {
+        return mDataLayerCache != null;
+    }
+
+    /**
+     * Returns the cache of the data layer, null if data layer caching is disabled.
+     *
+     * @return
+     */
+    public DataLayerCache getDataLayerCache() {
+        return mDataLayerCache;
+    }
+
+    /**
+     * Forces the data layer to be recorded again on the next frame, e.g. after changing the
+     * styling of a DataSet.
+     */
+    public void invalidateDataLayer() {
+
+        if (mDataLayerCache != null)
+            mDataLayerCache.invalidate();
+
+        invalidate();
+    }
+
     /**
      * Sets the width of the border lines in dp.
      *
@@ -1357,6 +1495,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected MPPointD posForGetLowestVisibleX = MPPointD.getInstance(0, 0);
 
+    /**
+     * Data transitions of BarLine-charts only animate the entries in the visible range.
+     */
+    @Override
+    protected DataTransition createDataTransition(T previous, T data) {
+        return new DataTransition(previous, data, this);
+    }
+
     /**
      * Returns the lowest x-index (value on the x-axis) that is still visible on
      * the chart.
@@ -1365,10 +1511,12 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public float getLowestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
-                mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
-        float result = (float) Math.max(mXAxis.mAxisMinimum, posForGetLowestVisibleX.x);
-        return result;
+        synchronized (posForGetLowestVisibleX) {
+            getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
+                    mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
+            float result = (float) Math.max(mXAxis.mAxisMinimum, posForGetLowestVisibleX.x);
+            return result;
+        }
     }
 
     /**
@@ -1384,10 +1532,12 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public float getHighestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentRight(),
-                mViewPortHandler.contentBottom(), posForGetHighestVisibleX);
-        float result = (float) Math.min(mXAxis.mAxisMaximum, posForGetHighestVisibleX.x);
-        return result;
+        synchronized (posForGetHighestVisibleX) {
+            getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentRight(),
+                    mViewPortHandler.contentBottom(), posForGetHighestVisibleX);
+            float result = (float) Math.min(mXAxis.mAxisMaximum, posForGetHighestVisibleX.x);
+            return result;
+        }
     }
 
     /**
@@ -1622,6 +1772,38 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return null;
     }
 
+    @Override
+    public long getMemorySize(int priority) {
+
+        long size = super.getMemorySize(priority);
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES && mDataLayerCache != null)
+            size += mDataLayerCache.getMemorySize();
+
+        return size;
+    }
+
+    @Override
+    public long trimMemory(int priority) {
+
+        long size = super.trimMemory(priority);
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES && mDataLayerCache != null) {
+            size += mDataLayerCache.getMemorySize();
+            mDataLayerCache.release();
+        }
+
+        return size;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        // releases the recorded data layer
+        if (mDataLayerCache != null)
+            mDataLayerCache.release();
+        super.onDetachedFromWindow();
+    }
+
     protected float[] mOnSizeChangedBuffer = new float[2];
 
     @Override
@@ -1,8 +1,6 @@
 
 package com.github.mikephil.charting.charts;
 
-import android.animation.ValueAnimator;
-import android.animation.ValueAnimator.AnimatorUpdateListener;
 import android.annotation.SuppressLint;
 import android.content.ContentValues;
 import android.content.Context;
@@ -25,14 +23,17 @@ import android.view.ViewGroup;
 import android.view.ViewParent;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.animation.DataTransition;
 import com.github.mikephil.charting.animation.Easing;
 import com.github.mikephil.charting.animation.EasingFunction;
 import com.github.mikephil.charting.components.Description;
 import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
+import com.github.mikephil.charting.components.MarkerView;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.IngestionQueue;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
@@ -40,12 +41,14 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.IHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ChartInterface;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.jobs.ViewPortJobScheduler;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -212,12 +215,12 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         if (android.os.Build.VERSION.SDK_INT < 11)
             mAnimator = new ChartAnimator();
         else
-            mAnimator = new ChartAnimator(new AnimatorUpdateListener() {
+            mAnimator = new ChartAnimator(new ChartAnimator.OnAnimationFrameListener() {
 
                 @Override
-                public void onAnimationUpdate(ValueAnimator animation) {
-                    // ViewCompat.postInvalidateOnAnimation(Chart.this);
-                    postInvalidate();
+                public void onAnimationFrame(ChartAnimator animator) {
+                    // called on the ui thread before the frame is drawn
+                    invalidate();
                 }
             });
 
@@ -285,8 +288,12 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setData(T data) {
 
+        // a running transition modifies the entries of the previous data
+        mAnimator.finishTransition();
+
         mData = data;
         mOffsetsCalculated = false;
+        invalidateMarkerContent();
 
         if (data == null) {
             return;
@@ -355,6 +362,72 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public abstract void notifyDataSetChanged();
 
+    /**
+     * Lets the chart know that the given number of entries were inserted into the given DataSet
+     * at the given index. Cheaper than notifyDataSetChanged(), the bounds are only updated with
+     * the inserted entries and only what depends on the changed bounds is recalculated. Call
+     * invalidate() afterwards to refresh the chart.
+     *
+     * @param set   the DataSet of the current data the entries were inserted into
+     * @param from  index of the first inserted Entry
+     * @param count number of inserted entries
+     */
+    public void notifyEntriesInserted(IDataSet set, int from, int count) {
+
+        if (mData == null)
+            return;
+
+        set.notifyEntriesInserted(from, count);
+        onEntriesChanged(set);
+    }
+
+    /**
+     * Lets the chart know that the values of the entries in the given range of the given DataSet
+     * changed. All entries are only scanned again if a changed Entry held a minimum or maximum.
+     * Call invalidate() afterwards to refresh the chart.
+     *
+     * @param set   the DataSet of the current data the entries belong to
+     * @param from  index of the first changed Entry
+     * @param count number of changed entries
+     */
+    public void notifyEntriesChanged(IDataSet set, int from, int count) {
+
+        if (mData == null)
+            return;
+
+        set.notifyEntriesChanged(from, count);
+        onEntriesChanged(set);
+    }
+
+    /**
+     * Lets the chart know that the given number of entries were removed from the given DataSet
+     * at the given index. All entries are only scanned again if a removed Entry held a minimum or
+     * maximum. Call invalidate() afterwards to refresh the chart.
+     *
+     * @param set   the DataSet of the current data the entries were removed from
+     * @param from  index the first removed Entry had
+     * @param count number of removed entries
+     */
+    public void notifyEntriesRemoved(IDataSet set, int from, int count) {
+
+        if (mData == null)
+            return;
+
+        set.notifyEntriesRemoved(from, count);
+        onEntriesChanged(set);
+    }
+
+    /**
+     * Called after the entries of the given DataSet changed and its bounds were updated. The
+     * default recalculates the whole chart.
+     *
+     * @param set
+     */
+    protected void onEntriesChanged(IDataSet set) {
+        mData.notifyDataChanged();
+        notifyDataSetChanged();
+    }
+
     /**
      * Calculates the offsets of the chart to the border depending on the
      * position of an eventual legend or depending on the length of the y-axis
@@ -388,6 +461,72 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         mDefaultValueFormatter.setup(digits);
     }
 
+    /**
+     * the queues drained at the start of every frame
+     */
+    private ArrayList<IngestionQueue> mIngestionQueues = new ArrayList<>();
+
+    /**
+     * posted by the producer threads of the ingestion queues, once per frame
+     */
+    private Runnable mIngestionInvalidator = new Runnable() {
+        @Override
+        public void run() {
+            postInvalidate();
+        }
+    };
+
+    /**
+     * Adds a queue the chart drains at the start of every frame: all samples published into it
+     * since the previous frame are appended to its DataSet in one batch, the bounds and the chart
+     * are updated once for the whole batch. Publishing into the queue invalidates the chart. Must
+     * be called on the UI thread.
+     *
+     * @param queue the queue of a DataSet of the current data
+     */
+    public void addIngestionQueue(IngestionQueue queue) {
+
+        if (queue == null || mIngestionQueues.contains(queue))
+            return;
+
+        mIngestionQueues.add(queue);
+        queue.setOnPublishCallback(mIngestionInvalidator);
+
+        if (queue.getDepth() > 0)
+            invalidate();
+    }
+
+    /**
+     * Removes the given queue, samples that were not drained yet stay in the queue. Must be
+     * called on the UI thread.
+     *
+     * @param queue
+     */
+    public void removeIngestionQueue(IngestionQueue queue) {
+
+        if (mIngestionQueues.remove(queue))
+            queue.setOnPublishCallback(null);
+    }
+
+    /**
+     * Appends the samples published into the ingestion queues to their DataSets and updates the
+     * chart once per DataSet. Queues of DataSets that are not part of the current data are left
+     * as they are.
+     */
+    protected void drainIngestionQueues() {
+
+        for (int i = 0; i < mIngestionQueues.size(); i++) {
+
+            IngestionQueue queue = mIngestionQueues.get(i);
+
+            if (!mData.getDataSets().contains(queue.getDataSet()))
+                continue;
+
+            if (queue.drain() > 0)
+                onEntriesChanged(queue.getDataSet());
+        }
+    }
+
     /**
      * flag that indicates if offsets calculation has already been done or not
      */
@@ -409,6 +548,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             return;
         }
 
+        if (!mIngestionQueues.isEmpty())
+            drainIngestionQueues();
+
         if (!mOffsetsCalculated) {
 
             calculateOffsets();
@@ -457,6 +599,11 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected Highlight[] mIndicesToHighlight;
 
+    /**
+     * the array holding a single highlighted value, see highlightValue(Highlight, boolean)
+     */
+    private Highlight[] mSingleHighlight = new Highlight[1];
+
     /**
      * The maximum distance in dp away from an entry causing it to highlight.
      */
@@ -481,6 +628,11 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      * Returns the array of currently highlighted values. This might a null or
      * empty array if nothing is highlighted.
      *
+     * A value highlighted by touch or with highlightValue(Highlight, boolean) is returned in an
+     * array that is reused for the next value, and its Highlight object is reused by the
+     * highlighter while scrubbing. Copy the array and the Highlight (new Highlight(h)) to keep
+     * them beyond the current highlight.
+     *
      * @return
      */
     public Highlight[] getHighlighted() {
@@ -638,10 +790,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
                 high = null;
             } else {
 
-                // set the indices to highlight
-                mIndicesToHighlight = new Highlight[]{
-                        high
-                };
+                // set the indices to highlight, reusing the array while scrubbing
+                mSingleHighlight[0] = high;
+                mIndicesToHighlight = mSingleHighlight;
             }
         }
 
@@ -666,6 +817,9 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      * selected value at the given touch point inside the Line-, Scatter-, or
      * CandleStick-Chart.
      *
+     * The returned Highlight is reused by the highlighter and overwritten by one of the next
+     * calls, copy it (new Highlight(h)) to keep it.
+     *
      * @param x
      * @param y
      * @return
@@ -713,6 +867,20 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     protected IMarker mMarker;
 
+    /**
+     * if true, the content of the marker is only refreshed when the highlighted entry changes
+     */
+    protected boolean mMarkerContentCacheEnabled = true;
+
+    /**
+     * the x- and y-value of the entry and the highlight the content of the marker was last
+     * refreshed for, entries are compared by value as DataSets may hand out reused instances
+     */
+    private boolean mMarkerContentValid = false;
+    private float mMarkerContentX;
+    private float mMarkerContentY;
+    private final Highlight mMarkerContentHighlight = new Highlight(Float.NaN, Float.NaN, -1);
+
     /**
      * draws all MarkerViews on the highlighted positions
      */
@@ -729,10 +897,14 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             IDataSet set = mData.getDataSetByIndex(highlight.getDataSetIndex());
 
             Entry e = mData.getEntryForHighlight(mIndicesToHighlight[i]);
-            int entryIndex = set.getEntryIndex(e);
 
             // make sure entry not null
-            if (e == null || entryIndex > set.getEntryCount() * mAnimator.getPhaseX())
+            if (e == null)
+                continue;
+
+            int entryIndex = getMarkerEntryIndex(set, e, highlight);
+
+            if (entryIndex > set.getEntryCount() * mAnimator.getPhaseX())
                 continue;
 
             float[] pos = getMarkerPosition(highlight);
@@ -742,22 +914,109 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
                 continue;
 
             // callbacks to update the content
-            mMarker.refreshContent(e, highlight);
+            refreshMarkerContent(e, highlight);
 
             // draw the marker
             mMarker.draw(canvas, pos[0], pos[1]);
         }
     }
 
+    /**
+     * buffer for the position of the marker, reused on every call of getMarkerPosition(...)
+     */
+    protected float[] mMarkerPositionBuffer = new float[2];
+
+    /**
+     * Returns the index of the given highlighted entry in its DataSet. The index stored in the
+     * Highlight is used if the entry at that index still has the same x- and y-value, the DataSet
+     * is only searched for highlights that don't carry one, e.g. the ones created with
+     * highlightValue(x, dataSetIndex). Entries are compared by value, not by identity, as
+     * DataSets like the SharedXLineDataSet create or reuse their entries on demand.
+     *
+     * @param set
+     * @param e
+     * @param highlight
+     * @return
+     */
+    protected int getMarkerEntryIndex(IDataSet set, Entry e, Highlight highlight) {
+
+        int entryIndex = highlight.getEntryIndex();
+
+        if (entryIndex >= 0 && entryIndex < set.getEntryCount()) {
+
+            Entry atIndex = set.getEntryForIndex(entryIndex);
+
+            if (atIndex != null && atIndex.getX() == e.getX() && atIndex.getY() == e.getY())
+                return entryIndex;
+        }
+
+        return set.getEntryIndex(e);
+    }
+
+    /**
+     * Refreshes the content of the marker for the given entry. If the marker shows the same
+     * entry (x- and y-value) of the same DataSet and stack as in the previous frame, its content
+     * is kept and not laid out again. With more than one highlighted value, the content is
+     * refreshed for each of them.
+     *
+     * @param e
+     * @param highlight
+     */
+    protected void refreshMarkerContent(Entry e, Highlight highlight) {
+
+        if (mMarkerContentCacheEnabled && mIndicesToHighlight.length == 1 && mMarkerContentValid
+                && e.getX() == mMarkerContentX && e.getY() == mMarkerContentY
+                && highlight.getDataSetIndex() == mMarkerContentHighlight.getDataSetIndex()
+                && highlight.getStackIndex() == mMarkerContentHighlight.getStackIndex()
+                && highlight.getDataIndex() == mMarkerContentHighlight.getDataIndex())
+            return;
+
+        mMarker.refreshContent(e, highlight);
+
+        // also for markers that don't call super.refreshContent(...)
+        if (mMarker instanceof MarkerView)
+            ((MarkerView) mMarker).invalidateCache();
+
+        mMarkerContentX = e.getX();
+        mMarkerContentY = e.getY();
+        mMarkerContentHighlight.set(highlight);
+        mMarkerContentValid = true;
+    }
+
+    /**
+     * Makes the marker refresh its content the next time it is drawn. Call this if the content
+     * of the marker depends on something else than the highlighted entry.
+     */
+    public void invalidateMarkerContent() {
+        mMarkerContentValid = false;
+    }
+
+    /**
+     * If set to true, the content of the marker is only refreshed when the highlighted entry
+     * changes, instead of on every frame. Default: true
+     *
+     * @param enabled
+     */
+    public void setMarkerContentCacheEnabled(boolean enabled) {
+        mMarkerContentCacheEnabled = enabled;
+        invalidateMarkerContent();
+    }
+
+    public boolean isMarkerContentCacheEnabled() {
+        return mMarkerContentCacheEnabled;
+    }
+
     /**
      * Returns the actual position in pixels of the MarkerView for the given
-     * Highlight object.
+     * Highlight object. The returned array is reused by the next call.
      *
      * @param high
      * @return
      */
     protected float[] getMarkerPosition(Highlight high) {
-        return new float[]{high.getDrawX(), high.getDrawY()};
+        mMarkerPositionBuffer[0] = high.getDrawX();
+        mMarkerPositionBuffer[1] = high.getDrawY();
+        return mMarkerPositionBuffer;
     }
 
     /**
@@ -775,6 +1034,40 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         return mAnimator;
     }
 
+    /**
+     * Sets the given data object and animates the y-values from the values of the previous data
+     * to the new ones. DataSets and entries are matched by their index, so the new data should
+     * have the same structure as the previous one. The data object must not be the one currently
+     * set, its entries are modified during the animation. Only the visible entries are animated.
+     * ANIMATIONS ONLY WORK FOR API LEVEL 11 (Android 3.0.x) AND HIGHER.
+     *
+     * @param data
+     * @param durationMillis
+     * @param easing         a custom easing function, null for the default easing
+     */
+    public void animateDataChange(T data, int durationMillis, EasingFunction easing) {
+
+        T previous = mData;
+
+        setData(data);
+
+        if (previous == null || data == null || previous == data)
+            return;
+
+        mAnimator.animateTransition(createDataTransition(previous, data), durationMillis, easing);
+    }
+
+    /**
+     * Creates the transition animating from the previous to the new data.
+     *
+     * @param previous
+     * @param data
+     * @return
+     */
+    protected DataTransition createDataTransition(T previous, T data) {
+        return new DataTransition(previous, data, null);
+    }
+
     /**
      * If set to true, chart continues to scroll after touch up default: true
      */
@@ -1204,6 +1497,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public void setMarker(IMarker marker) {
         mMarker = marker;
+        invalidateMarkerContent();
     }
 
     /**
@@ -1611,34 +1905,97 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         return saveToGallery(fileName, "", "MPAndroidChart-Library Save", Bitmap.CompressFormat.JPEG, quality);
     }
 
+    /**
+     * Returns the number of bytes this chart holds in caches, bitmaps or buffers of the given
+     * priority of the MemoryBudgetManager.
+     *
+     * @param priority
+     * @return
+     */
+    public long getMemorySize(int priority) {
+
+        long size = mRenderer == null ? 0 : mRenderer.getMemorySize(priority);
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES && mMarker instanceof MarkerView)
+            size += ((MarkerView) mMarker).getCacheSize();
+
+        return size;
+    }
+
+    /**
+     * Releases the caches, bitmaps or buffers of the given priority of the MemoryBudgetManager,
+     * they are created again when the chart is drawn the next time. Does not redraw the chart.
+     *
+     * @param priority
+     * @return the number of bytes released
+     */
+    public long trimMemory(int priority) {
+
+        long size = mRenderer == null ? 0 : mRenderer.trimMemory(priority);
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES && mMarker instanceof MarkerView)
+            size += ((MarkerView) mMarker).releaseCache();
+
+        return size;
+    }
+
     /**
      * tasks to be done after the view is setup
      */
     protected ArrayList<Runnable> mJobs = new ArrayList<Runnable>();
 
+    /**
+     * executes the viewport jobs once the chart is set up, all jobs of a frame together
+     */
+    protected ViewPortJobScheduler mViewPortJobScheduler = new ViewPortJobScheduler();
+
     public void removeViewportJob(Runnable job) {
         mJobs.remove(job);
+        mViewPortJobScheduler.cancel(job);
     }
 
     public void clearAllViewportJobs() {
         mJobs.clear();
+        mViewPortJobScheduler.cancelAll(this);
     }
 
     /**
-     * Either posts a job immediately if the chart has already setup it's
-     * dimensions or adds the job to the execution queue.
+     * Either schedules a job for the next frame if the chart has already setup
+     * it's dimensions or adds the job to the execution queue.
      *
      * @param job
      */
     public void addViewportJob(Runnable job) {
 
         if (mViewPortHandler.hasChartDimens()) {
-            post(job);
+            mViewPortJobScheduler.schedule(this, job);
         } else {
             mJobs.add(job);
         }
     }
 
+    /**
+     * Sets the scheduler that executes the viewport jobs of this chart, pending jobs are moved
+     * to the new scheduler. Charts sharing a scheduler update their viewports in the same frame,
+     * see ViewPortSyncGroup.
+     *
+     * @param scheduler
+     */
+    public void setViewPortJobScheduler(ViewPortJobScheduler scheduler) {
+
+        if (scheduler == null)
+            throw new IllegalArgumentException("ViewPortJobScheduler is NULL");
+
+        if (scheduler != mViewPortJobScheduler) {
+            mViewPortJobScheduler.moveJobs(this, scheduler);
+            mViewPortJobScheduler = scheduler;
+        }
+    }
+
+    public ViewPortJobScheduler getViewPortJobScheduler() {
+        return mViewPortJobScheduler;
+    }
+
     /**
      * Returns all jobs that are scheduled to be executed after
      * onSizeChanged(...).
@@ -1689,7 +2046,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         notifyDataSetChanged();
 
         for (Runnable r : mJobs) {
-            post(r);
+            mViewPortJobScheduler.schedule(this, r);
         }
 
         mJobs.clear();
@@ -1717,12 +2074,28 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
     }
 
+    @Override
+    protected void dispatchDraw(Canvas canvas) {
+        super.dispatchDraw(canvas);
+
+        MemoryBudgetManager.getInstance().onFrameDrawn(this);
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+
+        MemoryBudgetManager.getInstance().register(this);
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
 
         //Log.i(LOG_TAG, "Detaching...");
 
+        MemoryBudgetManager.getInstance().unregister(this);
+
         if (mUnbind)
             unbindDrawables(this);
     }
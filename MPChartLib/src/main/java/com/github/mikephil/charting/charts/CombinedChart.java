@@ -15,6 +15,7 @@ import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.CombinedHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.highlight.HighlightBuffer;
 import com.github.mikephil.charting.interfaces.dataprovider.CombinedDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.renderer.CombinedChartRenderer;
@@ -47,6 +48,13 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
 
     protected DrawOrder[] mDrawOrder;
 
+    /**
+     * the full-bar counterpart of the current highlight and the reused full-bar highlights handed
+     * out to the touch listener
+     */
+    private Highlight mFullBarCandidate = new Highlight(Float.NaN, Float.NaN, 0f, 0f, 0, null);
+    private HighlightBuffer mFullBarResults = new HighlightBuffer();
+
     /**
      * enum that allows to specify the order in which the different data objects
      * for the combined-chart are drawn
@@ -102,6 +110,9 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
      * point
      * inside the CombinedChart.
      *
+     * The returned Highlight is reused and overwritten by one of the next calls, copy it
+     * (new Highlight(h)) to keep it.
+     *
      * @param x
      * @param y
      * @return
@@ -117,9 +128,12 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
             if (h == null || !isHighlightFullBarEnabled()) return h;
 
             // For isHighlightFullBarEnabled, remove stackIndex
-            return new Highlight(h.getX(), h.getY(),
+            mFullBarCandidate.set(h.getX(), h.getY(),
                     h.getXPx(), h.getYPx(),
                     h.getDataSetIndex(), -1, h.getAxis());
+            mFullBarCandidate.setEntryIndex(h.getEntryIndex());
+
+            return mFullBarResults.obtain(mFullBarCandidate);
         }
     }
 
@@ -230,6 +244,30 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
         mDrawOrder = order;
     }
 
+    /**
+     * If set to true, the different data types (bar, bubble, line, candle, scatter) are rendered
+     * concurrently into separate layers that are then composited in draw order. Uses one
+     * chart-sized bitmap per data type. Default: false
+     *
+     * @param enabled
+     */
+    public void setParallelRenderingEnabled(boolean enabled) {
+        ((CombinedChartRenderer) mRenderer).setParallelRenderingEnabled(enabled);
+    }
+
+    public boolean isParallelRenderingEnabled() {
+        return ((CombinedChartRenderer) mRenderer).isParallelRenderingEnabled();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        // releases the bitmaps in the renderer to avoid oom error
+        if (mRenderer != null && mRenderer instanceof CombinedChartRenderer) {
+            ((CombinedChartRenderer) mRenderer).releaseBitmaps();
+        }
+        super.onDetachedFromWindow();
+    }
+
     /**
      * draws all MarkerViews on the highlighted positions
      */
@@ -249,7 +287,7 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
             if (e == null)
                 continue;
 
-            int entryIndex = set.getEntryIndex(e);
+            int entryIndex = getMarkerEntryIndex(set, e, highlight);
 
             // make sure entry not null
             if (entryIndex > set.getEntryCount() * mAnimator.getPhaseX())
@@ -262,7 +300,7 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
                 continue;
 
             // callbacks to update the content
-            mMarker.refreshContent(e, highlight);
+            refreshMarkerContent(e, highlight);
 
             // draw the marker
             mMarker.draw(canvas, pos[0], pos[1]);
@@ -135,7 +135,9 @@ public class HorizontalBarChart extends BarChart {
 
     @Override
     protected float[] getMarkerPosition(Highlight high) {
-        return new float[]{high.getDrawY(), high.getDrawX()};
+        mMarkerPositionBuffer[0] = high.getDrawY();
+        mMarkerPositionBuffer[1] = high.getDrawX();
+        return mMarkerPositionBuffer;
     }
 
     @Override
@@ -193,6 +195,9 @@ public class HorizontalBarChart extends BarChart {
      * Returns the Highlight object (contains x-index and DataSet index) of the selected value at the given touch point
      * inside the BarChart.
      *
+     * The returned Highlight is reused and overwritten by one of the next calls, copy it
+     * (new Highlight(h)) to keep it.
+     *
      * @param x
      * @param y
      * @return
@@ -199,7 +199,10 @@ public class PieChart extends PieRadarChartBase<PieData> {
                 * mAnimator.getPhaseY())) + center.y);
 
         MPPointF.recycleInstance(center);
-        return new float[]{x, y};
+
+        mMarkerPositionBuffer[0] = x;
+        mMarkerPositionBuffer[1] = y;
+        return mMarkerPositionBuffer;
     }
 
     /**
@@ -5,8 +5,12 @@ import android.content.Context;
 import android.util.AttributeSet;
 
 import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.highlight.ScatterHighlighter;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.renderer.ScatterChartRenderer;
+import com.github.mikephil.charting.utils.DensityGrid;
 
 /**
  * The ScatterChart. Draws dots, triangles, squares and custom shapes into the
@@ -36,6 +40,8 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
 
         mRenderer = new ScatterChartRenderer(this, mAnimator, mViewPortHandler);
 
+        setHighlighter(new ScatterHighlighter(this));
+
         getXAxis().setSpaceMin(0.5f);
         getXAxis().setSpaceMax(0.5f);
     }
@@ -45,6 +51,31 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
         return mData;
     }
 
+    /**
+     * Returns the density bins of the given DataSet as of the last time it was drawn, null if it
+     * is not drawn in density mode (see ScatterDataSet.setDensityMode(...)).
+     *
+     * @param set
+     * @return
+     */
+    public DensityGrid getDensityGrid(IScatterDataSet set) {
+
+        if (mRenderer instanceof ScatterChartRenderer)
+            return ((ScatterChartRenderer) mRenderer).getDensityGrid(set);
+
+        return null;
+    }
+
+    @Override
+    public void notifyEntriesChanged(IDataSet set, int from, int count) {
+
+        // changed entries have to be removed from their bins, the bins are calculated again
+        if (mRenderer instanceof ScatterChartRenderer && set instanceof IScatterDataSet)
+            ((ScatterChartRenderer) mRenderer).invalidateDensity((IScatterDataSet) set);
+
+        super.notifyEntriesChanged(set, from, count);
+    }
+
     /**
      * Predefined ScatterShapes that allow the specification of a shape a ScatterDataSet should be drawn with.
      * If a ScatterShape is specified for a ScatterDataSet, the required renderer is set.
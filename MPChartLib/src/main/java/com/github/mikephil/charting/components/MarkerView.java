@@ -1,7 +1,9 @@
 package com.github.mikephil.charting.components;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.widget.RelativeLayout;
@@ -11,6 +13,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.utils.FSize;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 
 import java.lang.ref.WeakReference;
 
@@ -26,6 +29,14 @@ public class MarkerView extends RelativeLayout implements IMarker {
     private MPPointF mOffset2 = new MPPointF();
     private WeakReference<Chart> mWeakChart;
 
+    /**
+     * bitmap holding the drawn marker, redrawn only after the content was refreshed
+     */
+    private Bitmap mCacheBitmap;
+    private Canvas mCacheCanvas;
+    private boolean mCacheValid = false;
+    private boolean mBitmapCacheEnabled = true;
+
     /**
      * Constructor. Sets up the MarkerView with a custom layout resource.
      *
@@ -113,6 +124,89 @@ public class MarkerView extends RelativeLayout implements IMarker {
                 MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED));
         layout(0, 0, getMeasuredWidth(), getMeasuredHeight());
 
+        invalidateCache();
+    }
+
+    /**
+     * If set to true, the laid out marker is drawn into a bitmap once after its content was
+     * refreshed, and only the bitmap is drawn on the following frames. Disable this if the views
+     * of the marker change without refreshContent(...) being called, e.g. animated views.
+     * Default: true
+     *
+     * @param enabled
+     */
+    public void setBitmapCacheEnabled(boolean enabled) {
+        mBitmapCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseCache();
+    }
+
+    public boolean isBitmapCacheEnabled() {
+        return mBitmapCacheEnabled;
+    }
+
+    /**
+     * Makes the marker draw its views into the cache again the next time it is drawn. Call this
+     * after changing the content outside of refreshContent(...).
+     */
+    public void invalidateCache() {
+        mCacheValid = false;
+    }
+
+    /**
+     * Drops the cache bitmap, it is created again when the marker is drawn.
+     *
+     * @return the number of bytes released
+     */
+    public long releaseCache() {
+
+        long size = getCacheSize();
+
+        mCacheBitmap = null;
+        mCacheCanvas = null;
+        mCacheValid = false;
+
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes held by the cache bitmap.
+     *
+     * @return
+     */
+    public long getCacheSize() {
+        return MemoryBudgetManager.getBitmapSize(mCacheBitmap);
+    }
+
+    /**
+     * Makes sure the cache bitmap holds the current content of the marker. Returns false if the
+     * marker has not been laid out yet.
+     */
+    private boolean updateCache() {
+
+        int width = getWidth();
+        int height = getHeight();
+
+        if (width <= 0 || height <= 0)
+            return false;
+
+        if (mCacheBitmap == null
+                || mCacheBitmap.getWidth() != width
+                || mCacheBitmap.getHeight() != height) {
+
+            mCacheBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mCacheCanvas = new Canvas(mCacheBitmap);
+            mCacheValid = false;
+        }
+
+        if (!mCacheValid) {
+            mCacheBitmap.eraseColor(Color.TRANSPARENT);
+            draw(mCacheCanvas);
+            mCacheValid = true;
+        }
+
+        return true;
     }
 
     @Override
@@ -120,6 +214,11 @@ public class MarkerView extends RelativeLayout implements IMarker {
 
         MPPointF offset = getOffsetForDrawingAtPoint(posX, posY);
 
+        if (mBitmapCacheEnabled && updateCache()) {
+            canvas.drawBitmap(mCacheBitmap, posX + offset.x, posY + offset.y, null);
+            return;
+        }
+
         int saveId = canvas.save();
         // translate to the correct position and draw
         canvas.translate(posX + offset.x, posY + offset.y);
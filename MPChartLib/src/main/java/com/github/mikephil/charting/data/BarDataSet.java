@@ -63,6 +63,7 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
 
         BarDataSet copied = new BarDataSet(yVals, getLabel());
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mStackSize = mStackSize;
         copied.mBarShadowColor = mBarShadowColor;
         copied.mStackLabels = mStackLabels;
@@ -141,6 +142,16 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         return mStackSize > 1 ? true : false;
     }
 
+    /**
+     * Stacked bars draw the values of their stacks, not the y-values of their entries.
+     *
+     * @return
+     */
+    @Override
+    public boolean hasMutableYValues() {
+        return !isStacked();
+    }
+
     /**
      * returns the overall entry count, including counting each stack-value
      * individually
@@ -10,7 +10,8 @@ import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
-import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.listener.OnEntriesChangedListener;
+import com.github.mikephil.charting.utils.IntArrayList;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -29,18 +30,28 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     /**
      * List representing all colors that are used for this DataSet
      */
-    protected List<Integer> mColors = null;
+    protected IntArrayList mColors = null;
+
+    /**
+     * optional per-entry colors, aligned with the entries of this DataSet, null if not used
+     */
+    protected int[] mEntryColors = null;
 
     /**
      * List representing all colors that are used for drawing the actual values for this DataSet
      */
-    protected List<Integer> mValueColors = null;
+    protected IntArrayList mValueColors = null;
 
     /**
      * label that describes the DataSet or the data the DataSet represents
      */
     private String mLabel = "DataSet";
 
+    /**
+     * listeners informed about changes of the entries, null if there are none
+     */
+    private List<OnEntriesChangedListener> mEntriesListeners;
+
     /**
      * this specifies which axis this DataSet should be plotted against
      */
@@ -95,12 +106,12 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Default constructor.
      */
     public BaseDataSet() {
-        mColors = new ArrayList<Integer>();
-        mValueColors = new ArrayList<Integer>();
+        mColors = new IntArrayList();
+        mValueColors = new IntArrayList();
 
         // default color
-        mColors.add(Color.rgb(140, 234, 255));
-        mValueColors.add(Color.BLACK);
+        mColors.addInt(Color.rgb(140, 234, 255));
+        mValueColors.addInt(Color.BLACK);
     }
 
     /**
@@ -118,6 +129,88 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void notifyDataSetChanged() {
         calcMinMax();
+        dispatchEntriesChanged();
+    }
+
+    @Override
+    public void notifyEntriesInserted(int from, int count) {
+        calcMinMax();
+        dispatchEntriesInserted(from, count);
+    }
+
+    @Override
+    public void notifyEntriesChanged(int from, int count) {
+        calcMinMax();
+        dispatchEntriesChanged();
+    }
+
+    @Override
+    public void notifyEntriesRemoved(int from, int count) {
+        calcMinMax();
+        dispatchEntriesChanged();
+    }
+
+    /**
+     * Registers a listener that is informed by the notify...() methods of this DataSet, e.g.
+     * an Indicator deriving values from the entries.
+     *
+     * @param listener
+     */
+    public void addOnEntriesChangedListener(OnEntriesChangedListener listener) {
+
+        if (mEntriesListeners == null)
+            mEntriesListeners = new ArrayList<OnEntriesChangedListener>();
+
+        if (!mEntriesListeners.contains(listener))
+            mEntriesListeners.add(listener);
+    }
+
+    public void removeOnEntriesChangedListener(OnEntriesChangedListener listener) {
+
+        if (mEntriesListeners != null)
+            mEntriesListeners.remove(listener);
+    }
+
+    protected void dispatchEntriesInserted(int from, int count) {
+
+        if (mEntriesListeners == null)
+            return;
+
+        for (int i = 0; i < mEntriesListeners.size(); i++)
+            mEntriesListeners.get(i).onEntriesInserted(this, from, count);
+    }
+
+    protected void dispatchEntriesChanged() {
+
+        if (mEntriesListeners == null)
+            return;
+
+        for (int i = 0; i < mEntriesListeners.size(); i++)
+            mEntriesListeners.get(i).onEntriesChanged(this);
+    }
+
+    @Override
+    public void onVisibleRangeChanged(float fromX, float toX) {
+    }
+
+    @Override
+    public boolean isEntryIndexConstantTime() {
+        return false;
+    }
+
+    @Override
+    public boolean hasMutableYValues() {
+        return false;
+    }
+
+    @Override
+    public float getYValueForIndex(int index) {
+        return getEntryForIndex(index).getY();
+    }
+
+    @Override
+    public void setYValueForIndex(int index, float y) {
+        getEntryForIndex(index).setY(y);
     }
 
 
@@ -136,12 +229,26 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     @Override
     public int getColor() {
-        return mColors.get(0);
+        return mColors.getInt(0);
     }
 
     @Override
     public int getColor(int index) {
-        return mColors.get(index % mColors.size());
+
+        if (mEntryColors != null && index >= 0 && index < mEntryColors.length)
+            return mEntryColors[index];
+
+        return mColors.getInt(index % mColors.size());
+    }
+
+    @Override
+    public boolean isSingleColor() {
+        return mEntryColors == null && mColors.size() == 1;
+    }
+
+    @Override
+    public int[] getEntryColors() {
+        return mEntryColors;
     }
 
     /**
@@ -158,7 +265,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * @param colors
      */
     public void setColors(List<Integer> colors) {
-        this.mColors = colors;
+        this.mColors = toIntArrayList(colors);
     }
 
     /**
@@ -171,7 +278,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * @param colors
      */
     public void setColors(int... colors) {
-        this.mColors = ColorTemplate.createColors(colors);
+        this.mColors = new IntArrayList(colors);
     }
 
     /**
@@ -187,16 +294,28 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     public void setColors(int[] colors, Context c) {
 
         if(mColors == null){
-            mColors = new ArrayList<>();
+            mColors = new IntArrayList();
         }
 
         mColors.clear();
 
         for (int color : colors) {
-            mColors.add(c.getResources().getColor(color));
+            mColors.addInt(c.getResources().getColor(color));
         }
     }
 
+    /**
+     * Sets one color per entry, e.g. for heat-mapped series. The color at index i is used for
+     * the entry at index i, the array is not copied. Entries without a per-entry color (index
+     * out of range) fall back to the colors set via setColors(...). Set to null to disable
+     * per-entry colors.
+     *
+     * @param colors
+     */
+    public void setEntryColors(int[] colors) {
+        this.mEntryColors = colors;
+    }
+
     /**
      * Adds a new color to the colors array of the DataSet.
      *
@@ -204,8 +323,8 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void addColor(int color) {
         if (mColors == null)
-            mColors = new ArrayList<Integer>();
-        mColors.add(color);
+            mColors = new IntArrayList();
+        mColors.addInt(color);
     }
 
     /**
@@ -216,7 +335,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColor(int color) {
         resetColors();
-        mColors.add(color);
+        mColors.addInt(color);
     }
 
     /**
@@ -247,11 +366,28 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void resetColors() {
         if(mColors == null) {
-            mColors = new ArrayList<Integer>();
+            mColors = new IntArrayList();
         }
         mColors.clear();
     }
 
+    /**
+     * Returns the given colors as IntArrayList, copying them if needed.
+     *
+     * @param colors
+     * @return
+     */
+    private static IntArrayList toIntArrayList(List<Integer> colors) {
+
+        if (colors == null)
+            return new IntArrayList();
+
+        if (colors instanceof IntArrayList)
+            return (IntArrayList) colors;
+
+        return new IntArrayList(colors);
+    }
+
     /**
      * ###### ###### OTHER STYLING RELATED METHODS ##### ######
      */
@@ -300,12 +436,12 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     @Override
     public void setValueTextColor(int color) {
         mValueColors.clear();
-        mValueColors.add(color);
+        mValueColors.addInt(color);
     }
 
     @Override
     public void setValueTextColors(List<Integer> colors) {
-        mValueColors = colors;
+        mValueColors = toIntArrayList(colors);
     }
 
     @Override
@@ -320,12 +456,12 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     @Override
     public int getValueTextColor() {
-        return mValueColors.get(0);
+        return mValueColors.getInt(0);
     }
 
     @Override
     public int getValueTextColor(int index) {
-        return mValueColors.get(index % mValueColors.size());
+        return mValueColors.getInt(index % mValueColors.size());
     }
 
     @Override
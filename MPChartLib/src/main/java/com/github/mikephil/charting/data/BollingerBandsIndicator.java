@@ -0,0 +1,91 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Bollinger bands: the simple moving average of the last period values (output 0) and the bands
+ * the given number of standard deviations above (output 1) and below (output 2). The sums of the
+ * values and of their squares are updated with every value, so each value is processed in
+ * constant time.
+ */
+public class BollingerBandsIndicator extends Indicator {
+
+    protected final int mPeriod;
+
+    protected final float mDeviations;
+
+    private final float[] mWindow;
+
+    private int mWindowIndex;
+
+    private int mCount;
+
+    private double mSum;
+
+    private double mSumOfSquares;
+
+    /**
+     * @param source
+     * @param period     the number of values of the moving average, e.g. 20
+     * @param deviations the distance of the bands in standard deviations, e.g. 2
+     * @param label      the label of the middle band, the others get " upper" and " lower" appended
+     */
+    public BollingerBandsIndicator(BaseDataSet<? extends Entry> source, int period, float deviations, String label) {
+        super(source);
+
+        if (period <= 0)
+            throw new IllegalArgumentException("Period must be positive");
+
+        mPeriod = period;
+        mDeviations = deviations;
+        mWindow = new float[period];
+
+        createOutput(label);
+        createOutput(label + " upper");
+        createOutput(label + " lower");
+    }
+
+    public IndicatorDataSet getMiddleBand() {
+        return getOutput(0);
+    }
+
+    public IndicatorDataSet getUpperBand() {
+        return getOutput(1);
+    }
+
+    public IndicatorDataSet getLowerBand() {
+        return getOutput(2);
+    }
+
+    @Override
+    protected void reset() {
+        mWindowIndex = 0;
+        mCount = 0;
+        mSum = 0.0;
+        mSumOfSquares = 0.0;
+    }
+
+    @Override
+    protected void onValue(float x, float value) {
+
+        if (mCount >= mPeriod) {
+            float oldest = mWindow[mWindowIndex];
+            mSum -= oldest;
+            mSumOfSquares -= (double) oldest * oldest;
+        }
+
+        mWindow[mWindowIndex] = value;
+        mSum += value;
+        mSumOfSquares += (double) value * value;
+        mWindowIndex = (mWindowIndex + 1) % mPeriod;
+        mCount++;
+
+        if (mCount < mPeriod)
+            return;
+
+        double mean = mSum / mPeriod;
+
+        // rounding errors of the running sums can make the variance slightly negative
+        double deviation = Math.sqrt(Math.max(mSumOfSquares / mPeriod - mean * mean, 0.0));
+
+        emit(x, (float) mean, (float) (mean + mDeviations * deviation), (float) (mean - mDeviations * deviation));
+    }
+}
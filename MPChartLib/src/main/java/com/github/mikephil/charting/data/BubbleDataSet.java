@@ -50,6 +50,7 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
 
         BubbleDataSet copied = new BubbleDataSet(yVals, getLabel());
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mHighLightColor = mHighLightColor;
 
         return copied;
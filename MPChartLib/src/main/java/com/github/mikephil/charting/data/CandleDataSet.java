@@ -89,6 +89,7 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
 
         CandleDataSet copied = new CandleDataSet(yVals, getLabel());
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mShadowWidth = mShadowWidth;
         copied.mShowCandleBar = mShowCandleBar;
         copied.mBarSpace = mBarSpace;
@@ -100,6 +101,16 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         return copied;
     }
 
+    /**
+     * Candles draw their open, close, high and low values, not the y-values of their entries.
+     *
+     * @return false
+     */
+    @Override
+    public boolean hasMutableYValues() {
+        return false;
+    }
+
     @Override
     protected void calcMinMax(CandleEntry e) {
 
@@ -0,0 +1,342 @@
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+/**
+ * EntryPageSource keeping the entries compressed in memory, for long time series that would not
+ * fit into the heap as Entry objects. The entries are divided into blocks of a fixed size (the
+ * pages), every block is encoded on its own so it can be decoded without the others:
+ *
+ * x-values: the first one as is, followed by the delta of the deltas of their bit patterns in
+ * variable length codes, a single bit for values sampled at a constant rate.
+ *
+ * y-values: the first one as is, followed by the XOR with the previous value, storing only the
+ * meaningful bits. Slowly changing values need a few bits each.
+ *
+ * The minimum and maximum values of every block are kept uncompressed, a PagedLineDataSet reading
+ * from this source calculates its bounds from them and decodes only the blocks it needs. Entries
+ * can be appended at any time, call PagedLineDataSet.notifySourceChanged() afterwards.
+ */
+public class CompressedEntryPageSource implements EntryPageSource {
+
+    private final int mBlockSize;
+
+    private int mEntryCount = 0;
+
+    /**
+     * the encoded bits of all blocks, starting with the highest bit of the first word
+     */
+    private long[] mWords = new long[64];
+
+    private long mBitCount = 0;
+
+    /**
+     * bit offset and min / max values per block
+     */
+    private long[] mBlockOffsets = new long[16];
+    private float[] mXMin = new float[16];
+    private float[] mXMax = new float[16];
+    private float[] mYMin = new float[16];
+    private float[] mYMax = new float[16];
+
+    /**
+     * encoder state of the current block
+     */
+    private int mPrevX;
+    private int mPrevDelta;
+    private int mPrevY;
+    private int mPrevLeading;
+    private int mPrevTrailing;
+
+    private float mLastX = -Float.MAX_VALUE;
+
+    /**
+     * read position in bits while decoding
+     */
+    private long mReadPosition;
+
+    /**
+     * @param blockSize the number of entries per block, e.g. 256
+     */
+    public CompressedEntryPageSource(int blockSize) {
+
+        if (blockSize <= 0)
+            throw new IllegalArgumentException("Block size must be positive");
+
+        mBlockSize = blockSize;
+    }
+
+    /**
+     * Appends an entry, the entries have to be added in ascending x-order.
+     *
+     * @param x
+     * @param y
+     */
+    public synchronized void add(float x, float y) {
+
+        if (x < mLastX)
+            throw new IllegalArgumentException("Entries must be added in ascending x-order");
+
+        int block = mEntryCount / mBlockSize;
+        int xBits = Float.floatToRawIntBits(x);
+        int yBits = Float.floatToRawIntBits(y);
+
+        if (mEntryCount % mBlockSize == 0) {
+
+            startBlock(block, x);
+
+            writeBits(xBits & 0xffffffffL, 32);
+            writeBits(yBits & 0xffffffffL, 32);
+
+            mPrevDelta = 0;
+            mPrevLeading = -1;
+            mPrevTrailing = 0;
+
+        } else {
+            encodeX(xBits);
+            encodeY(yBits);
+        }
+
+        mXMax[block] = x;
+
+        if (y < mYMin[block])
+            mYMin[block] = y;
+
+        if (y > mYMax[block])
+            mYMax[block] = y;
+
+        mPrevX = xBits;
+        mPrevY = yBits;
+        mLastX = x;
+        mEntryCount++;
+    }
+
+    public void add(Entry e) {
+        add(e.getX(), e.getY());
+    }
+
+    private void startBlock(int block, float x) {
+
+        if (block == mBlockOffsets.length) {
+            int size = block * 2;
+            mBlockOffsets = Arrays.copyOf(mBlockOffsets, size);
+            mXMin = Arrays.copyOf(mXMin, size);
+            mXMax = Arrays.copyOf(mXMax, size);
+            mYMin = Arrays.copyOf(mYMin, size);
+            mYMax = Arrays.copyOf(mYMax, size);
+        }
+
+        mBlockOffsets[block] = mBitCount;
+        mXMin[block] = x;
+        mYMin[block] = Float.MAX_VALUE;
+        mYMax[block] = -Float.MAX_VALUE;
+    }
+
+    /**
+     * Writes the delta of the delta of the bit pattern of the x-value. The int arithmetic may
+     * overflow, decoding overflows the same way.
+     */
+    private void encodeX(int xBits) {
+
+        int delta = xBits - mPrevX;
+        int dod = delta - mPrevDelta;
+
+        if (dod == 0) {
+            writeBits(0, 1);
+        } else if (dod >= -63 && dod <= 64) {
+            writeBits(0x2, 2);
+            writeBits(dod + 63, 7);
+        } else if (dod >= -255 && dod <= 256) {
+            writeBits(0x6, 3);
+            writeBits(dod + 255, 9);
+        } else if (dod >= -2047 && dod <= 2048) {
+            writeBits(0xe, 4);
+            writeBits(dod + 2047, 12);
+        } else {
+            writeBits(0xf, 4);
+            writeBits(dod & 0xffffffffL, 32);
+        }
+
+        mPrevDelta = delta;
+    }
+
+    /**
+     * Writes the XOR of the bit patterns of the y-value and the previous one, reusing the window
+     * of meaningful bits of the previous value if it fits.
+     */
+    private void encodeY(int yBits) {
+
+        int xor = yBits ^ mPrevY;
+
+        if (xor == 0) {
+            writeBits(0, 1);
+            return;
+        }
+
+        int leading = Integer.numberOfLeadingZeros(xor);
+        int trailing = Integer.numberOfTrailingZeros(xor);
+
+        if (mPrevLeading >= 0 && leading >= mPrevLeading && trailing >= mPrevTrailing) {
+
+            writeBits(0x2, 2);
+            writeBits((xor & 0xffffffffL) >>> mPrevTrailing, 32 - mPrevLeading - mPrevTrailing);
+
+        } else {
+
+            int meaningful = 32 - leading - trailing;
+
+            writeBits(0x3, 2);
+            writeBits(leading, 5);
+            writeBits(meaningful - 1, 5);
+            writeBits((xor & 0xffffffffL) >>> trailing, meaningful);
+
+            mPrevLeading = leading;
+            mPrevTrailing = trailing;
+        }
+    }
+
+    /**
+     * Appends the lowest given number of bits of the value.
+     */
+    private void writeBits(long value, int bits) {
+
+        long end = mBitCount + bits;
+
+        if (((end + 63) >>> 6) > mWords.length)
+            mWords = Arrays.copyOf(mWords, mWords.length * 2);
+
+        int word = (int) (mBitCount >>> 6);
+        int free = 64 - (int) (mBitCount & 63);
+
+        value &= mask(bits);
+
+        if (bits <= free) {
+            mWords[word] |= value << (free - bits);
+        } else {
+            mWords[word] |= value >>> (bits - free);
+            mWords[word + 1] |= value << (64 - (bits - free));
+        }
+
+        mBitCount = end;
+    }
+
+    private long readBits(int bits) {
+
+        int word = (int) (mReadPosition >>> 6);
+        int offset = (int) (mReadPosition & 63);
+        int free = 64 - offset;
+
+        long value;
+
+        if (bits <= free) {
+            value = mWords[word] >>> (free - bits);
+        } else {
+            value = (mWords[word] << (bits - free)) | (mWords[word + 1] >>> (64 - (bits - free)));
+        }
+
+        mReadPosition += bits;
+        return value & mask(bits);
+    }
+
+    private static long mask(int bits) {
+        return bits == 64 ? -1L : (1L << bits) - 1;
+    }
+
+    @Override
+    public synchronized int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public int getPageSize() {
+        return mBlockSize;
+    }
+
+    public synchronized int getBlockCount() {
+        return (mEntryCount + mBlockSize - 1) / mBlockSize;
+    }
+
+    /**
+     * Returns the number of bytes used by the encoded entries and the block headers.
+     *
+     * @return
+     */
+    public synchronized long getCompressedSize() {
+        return (mBitCount + 7) / 8 + (long) getBlockCount() * 24;
+    }
+
+    @Override
+    public synchronized void readSummaries(float[] xMin, float[] xMax, float[] yMin, float[] yMax) {
+
+        int count = Math.min(getBlockCount(), xMin.length);
+
+        System.arraycopy(mXMin, 0, xMin, 0, count);
+        System.arraycopy(mXMax, 0, xMax, 0, count);
+        System.arraycopy(mYMin, 0, yMin, 0, count);
+        System.arraycopy(mYMax, 0, yMax, 0, count);
+    }
+
+    @Override
+    public synchronized int readPage(int page, float[] x, float[] y) {
+
+        int first = page * mBlockSize;
+        int count = Math.min(mBlockSize, mEntryCount - first);
+
+        if (count <= 0)
+            return 0;
+
+        mReadPosition = mBlockOffsets[page];
+
+        int xBits = (int) readBits(32);
+        int yBits = (int) readBits(32);
+        int delta = 0;
+        int leading = 0;
+        int trailing = 0;
+
+        x[0] = Float.intBitsToFloat(xBits);
+        y[0] = Float.intBitsToFloat(yBits);
+
+        for (int i = 1; i < count; i++) {
+
+            delta += decodeDeltaOfDelta();
+            xBits += delta;
+
+            if (readBits(1) != 0) {
+
+                if (readBits(1) != 0) {
+                    leading = (int) readBits(5);
+                    int meaningful = (int) readBits(5) + 1;
+                    trailing = 32 - leading - meaningful;
+                }
+
+                yBits ^= (int) (readBits(32 - leading - trailing) << trailing);
+            }
+
+            x[i] = Float.intBitsToFloat(xBits);
+            y[i] = Float.intBitsToFloat(yBits);
+        }
+
+        return count;
+    }
+
+    private int decodeDeltaOfDelta() {
+
+        if (readBits(1) == 0)
+            return 0;
+
+        if (readBits(1) == 0)
+            return (int) readBits(7) - 63;
+
+        if (readBits(1) == 0)
+            return (int) readBits(9) - 255;
+
+        if (readBits(1) == 0)
+            return (int) readBits(12) - 2047;
+
+        return (int) readBits(32);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -39,6 +40,26 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    private static final int EXTREME_X_MIN = 0;
+    private static final int EXTREME_X_MAX = 1;
+    private static final int EXTREME_Y_MIN = 2;
+    private static final int EXTREME_Y_MAX = 3;
+
+    /**
+     * indices of the entries holding the x-min, x-max, y-min and y-max, used to update the bounds
+     * when a range of entries changes without scanning all entries
+     */
+    private final int[] mExtremeIndices = new int[]{-1, -1, -1, -1};
+
+    /**
+     * the entries at the extreme indices, to detect indices that don't match the values anymore
+     */
+    private final Entry[] mExtremeEntries = new Entry[4];
+
+    /**
+     * true if the extreme indices are valid for the current bounds
+     */
+    private boolean mExtremesTracked = false;
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -61,6 +82,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMax() {
 
+        mExtremesTracked = false;
+
         if (mValues == null || mValues.isEmpty())
             return;
 
@@ -69,23 +92,73 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         mXMax = -Float.MAX_VALUE;
         mXMin = Float.MAX_VALUE;
 
-        for (T e : mValues) {
-            calcMinMax(e);
+        Arrays.fill(mExtremeIndices, -1);
+        mExtremesTracked = true;
+
+        if (hasEntryValueBounds() && ParallelMinMax.isParallel(mValues, mValues.size())) {
+            applyBounds(ParallelMinMax.calcBounds(mValues, 0, mValues.size(), true));
+            return;
+        }
+
+        for (int i = 0; i < mValues.size(); i++) {
+            calcMinMaxTracked(mValues.get(i), i);
         }
     }
 
+    /**
+     * Takes over the bounds calculated in parallel, including the indices of the extremes.
+     */
+    private void applyBounds(ParallelMinMax.Bounds bounds) {
+
+        mXMin = bounds.xMin;
+        mXMax = bounds.xMax;
+        mYMin = bounds.yMin;
+        mYMax = bounds.yMax;
+
+        if (bounds.xMinIndex >= 0)
+            setExtreme(EXTREME_X_MIN, bounds.xMinIndex, mValues.get(bounds.xMinIndex));
+        if (bounds.xMaxIndex >= 0)
+            setExtreme(EXTREME_X_MAX, bounds.xMaxIndex, mValues.get(bounds.xMaxIndex));
+        if (bounds.yMinIndex >= 0)
+            setExtreme(EXTREME_Y_MIN, bounds.yMinIndex, mValues.get(bounds.yMinIndex));
+        if (bounds.yMaxIndex >= 0)
+            setExtreme(EXTREME_Y_MAX, bounds.yMaxIndex, mValues.get(bounds.yMaxIndex));
+    }
+
+    /**
+     * Returns true if the bounds of this DataSet are the x- and y-values of its entries, which
+     * allows calculating them in parallel for large DataSets (see ParallelMinMax). False by
+     * default, since the parallel calculation bypasses calcMinMax(T) and calcMinMaxY(T). DataSets
+     * that do not override these methods can return true.
+     *
+     * @return
+     */
+    protected boolean hasEntryValueBounds() {
+        return false;
+    }
+
     @Override
     public void calcMinMaxY(float fromX, float toX) {
 
         if (mValues == null || mValues.isEmpty())
             return;
 
+        // the y-bounds only cover the given range now
+        mExtremesTracked = false;
+
         mYMax = -Float.MAX_VALUE;
         mYMin = Float.MAX_VALUE;
 
         int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
         int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
 
+        if (hasEntryValueBounds() && ParallelMinMax.isParallel(mValues, indexTo - indexFrom + 1)) {
+            ParallelMinMax.Bounds bounds = ParallelMinMax.calcBounds(mValues, indexFrom, indexTo + 1, false);
+            mYMin = bounds.yMin;
+            mYMax = bounds.yMax;
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
 
             // only recalculate y
@@ -108,6 +181,126 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMaxY(e);
     }
 
+    /**
+     * Updates the min and max values based on the given Entry at the given index and remembers
+     * the index for every bound the Entry extends.
+     *
+     * @param e
+     * @param index
+     */
+    private void calcMinMaxTracked(T e, int index) {
+
+        float xMin = mXMin;
+        float xMax = mXMax;
+        float yMin = mYMin;
+        float yMax = mYMax;
+
+        calcMinMax(e);
+
+        if (!mExtremesTracked)
+            return;
+
+        if (mXMin != xMin)
+            setExtreme(EXTREME_X_MIN, index, e);
+        if (mXMax != xMax)
+            setExtreme(EXTREME_X_MAX, index, e);
+        if (mYMin != yMin)
+            setExtreme(EXTREME_Y_MIN, index, e);
+        if (mYMax != yMax)
+            setExtreme(EXTREME_Y_MAX, index, e);
+    }
+
+    private void setExtreme(int extreme, int index, T e) {
+        mExtremeIndices[extreme] = index;
+        mExtremeEntries[extreme] = e;
+    }
+
+    /**
+     * Returns true if one of the extremes lies in the given range of indices.
+     */
+    private boolean isExtremeInRange(int from, int count) {
+
+        for (int index : mExtremeIndices) {
+            if (index >= from && index < from + count)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Moves the extreme indices at or after the given index by the given delta, except for those
+     * already pointing at their entry (recorded for an inserted entry, e.g. by addEntry(...)
+     * before the insertion is notified). Returns false if the extremes don't match the entries at
+     * their indices afterwards.
+     */
+    private boolean shiftExtremes(int from, int delta) {
+
+        for (int i = 0; i < mExtremeIndices.length; i++) {
+
+            int index = mExtremeIndices[i];
+
+            if (index < from)
+                continue;
+
+            if (index < mValues.size() && mValues.get(index) == mExtremeEntries[i])
+                continue;
+
+            mExtremeIndices[i] += delta;
+        }
+
+        return isExtremesValid();
+    }
+
+    private boolean isExtremesValid() {
+
+        for (int i = 0; i < mExtremeIndices.length; i++) {
+
+            int index = mExtremeIndices[i];
+
+            if (index < 0 || index >= mValues.size() || mValues.get(index) != mExtremeEntries[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public void notifyEntriesInserted(int from, int count) {
+
+        if (!mExtremesTracked || !shiftExtremes(from, count)) {
+            calcMinMax();
+        } else {
+            for (int i = from; i < from + count; i++)
+                calcMinMaxTracked(mValues.get(i), i);
+        }
+
+        dispatchEntriesInserted(from, count);
+    }
+
+    @Override
+    public void notifyEntriesChanged(int from, int count) {
+
+        // a changed extreme can shrink the bounds, which requires all entries
+        if (!mExtremesTracked || isExtremeInRange(from, count) || !isExtremesValid()) {
+            calcMinMax();
+        } else {
+            for (int i = from; i < from + count; i++)
+                calcMinMaxTracked(mValues.get(i), i);
+        }
+
+        dispatchEntriesChanged();
+    }
+
+    @Override
+    public void notifyEntriesRemoved(int from, int count) {
+
+        if (!mExtremesTracked || isExtremeInRange(from, count) || !shiftExtremes(from + count, -count))
+            calcMinMax();
+
+        dispatchEntriesChanged();
+    }
+
     protected void calcMinMaxX(T e) {
 
         if (e.getX() < mXMin)
@@ -210,14 +403,17 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mValues = new ArrayList<T>();
         }
 
-        calcMinMax(e);
+        int index = mValues.size();
 
-        if (mValues.size() > 0 && mValues.get(mValues.size() - 1).getX() > e.getX()) {
-            int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
-            mValues.add(closestIndex, e);
-        } else {
-            mValues.add(e);
-        }
+        if (index > 0 && mValues.get(index - 1).getX() > e.getX())
+            index = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
+
+        mValues.add(index, e);
+
+        if (mExtremesTracked && !shiftExtremes(index, 1))
+            mExtremesTracked = false;
+
+        calcMinMaxTracked(e, index);
     }
 
     @Override
@@ -237,7 +433,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             values = new ArrayList<T>();
         }
 
-        calcMinMax(e);
+        calcMinMaxTracked(e, values.size());
 
         // add the entry
         return values.add(e);
@@ -263,7 +459,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     }
 
     @Override
-    public int getEntryIndex(Entry e) {
+    public int getEntryIndex(T e) {
         return mValues.indexOf(e);
     }
 
@@ -286,6 +482,11 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return mValues.get(index);
     }
 
+    @Override
+    public boolean hasMutableYValues() {
+        return true;
+    }
+
     @Override
     public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
 
@@ -376,6 +577,18 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
         List<T> entries = new ArrayList<T>();
 
+        int[] range = new int[2];
+        int count = getEntryIndexRangeForXValue(xValue, range);
+
+        for (int i = 0; i < count; i++)
+            entries.add(mValues.get(range[0] + i));
+
+        return entries;
+    }
+
+    @Override
+    public int getEntryIndexRangeForXValue(float xValue, int[] range) {
+
         int low = 0;
         int high = mValues.size() - 1;
 
@@ -385,22 +598,17 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // if we have a match
             if (xValue == entry.getX()) {
-                while (m > 0 && mValues.get(m - 1).getX() == xValue)
-                    m--;
+                int first = m;
+                while (first > 0 && mValues.get(first - 1).getX() == xValue)
+                    first--;
 
-                high = mValues.size();
+                int last = m;
+                while (last < mValues.size() - 1 && mValues.get(last + 1).getX() == xValue)
+                    last++;
 
-                // loop over all "equal" entries
-                for (; m < high; m++) {
-                    entry = mValues.get(m);
-                    if (entry.getX() == xValue) {
-                        entries.add(entry);
-                    } else {
-                        break;
-                    }
-                }
-
-                break;
+                range[0] = first;
+                range[1] = last;
+                return last - first + 1;
             } else {
                 if (xValue > entry.getX())
                     low = m + 1;
@@ -409,7 +617,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             }
         }
 
-        return entries;
+        return 0;
     }
 
     /**
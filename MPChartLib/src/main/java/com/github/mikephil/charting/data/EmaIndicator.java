@@ -0,0 +1,57 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Exponential moving average with a smoothing factor of 2 / (period + 1). It starts with the
+ * simple average of the first period values, which is the first emitted value.
+ */
+public class EmaIndicator extends Indicator {
+
+    protected final int mPeriod;
+
+    private final float mAlpha;
+
+    private int mCount;
+
+    private double mEma;
+
+    public EmaIndicator(BaseDataSet<? extends Entry> source, int period, String label) {
+        super(source);
+
+        if (period <= 0)
+            throw new IllegalArgumentException("Period must be positive");
+
+        mPeriod = period;
+        mAlpha = 2f / (period + 1);
+
+        createOutput(label);
+    }
+
+    public int getPeriod() {
+        return mPeriod;
+    }
+
+    @Override
+    protected void reset() {
+        mCount = 0;
+        mEma = 0.0;
+    }
+
+    @Override
+    protected void onValue(float x, float value) {
+
+        mCount++;
+
+        if (mCount < mPeriod) {
+            // sums up the values of the starting average
+            mEma += value;
+            return;
+        }
+
+        if (mCount == mPeriod)
+            mEma = (mEma + value) / mPeriod;
+        else
+            mEma += mAlpha * (value - mEma);
+
+        emit(x, (float) mEma);
+    }
+}
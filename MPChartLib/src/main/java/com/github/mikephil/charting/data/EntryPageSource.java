@@ -0,0 +1,53 @@
+package com.github.mikephil.charting.data;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Storage of the entries of a PagedLineDataSet outside of the heap, e.g. a file or a database
+ * table. The entries are sorted by x-value and divided into pages of a fixed number of entries,
+ * for every page the source provides the minimum and maximum x- and y-values so that the bounds
+ * of the DataSet can be calculated without reading the entries.
+ *
+ * Pages may be read from different threads, implementations have to synchronize their access to
+ * the storage.
+ */
+public interface EntryPageSource extends Closeable {
+
+    /**
+     * Returns the total number of entries.
+     *
+     * @return
+     */
+    int getEntryCount();
+
+    /**
+     * Returns the number of entries per page, only the last page may hold less.
+     *
+     * @return
+     */
+    int getPageSize();
+
+    /**
+     * Reads the minimum and maximum values of all pages into the given arrays, which have one
+     * element per page.
+     *
+     * @param xMin
+     * @param xMax
+     * @param yMin
+     * @param yMax
+     * @throws IOException
+     */
+    void readSummaries(float[] xMin, float[] xMax, float[] yMin, float[] yMax) throws IOException;
+
+    /**
+     * Reads the x- and y-values of the entries of the given page into the given arrays.
+     *
+     * @param page
+     * @param x    array of at least getPageSize() elements
+     * @param y    array of at least getPageSize() elements
+     * @return the number of entries read
+     * @throws IOException
+     */
+    int readPage(int page, float[] x, float[] y) throws IOException;
+}
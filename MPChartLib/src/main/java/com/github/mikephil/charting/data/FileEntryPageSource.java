@@ -0,0 +1,243 @@
+package com.github.mikephil.charting.data;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * EntryPageSource reading from a file written by FileEntryPageSource.Writer. The file holds a
+ * header, the x- and y-values of all entries as pairs of floats and the min / max values of
+ * every page at the end:
+ *
+ * magic, version, entry count, page size (int) | x, y (float) per entry | x-min, x-max, y-min,
+ * y-max (float) per page
+ */
+public class FileEntryPageSource implements EntryPageSource {
+
+    private static final int MAGIC = 0x4d504350;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+
+    private static final int ENTRY_SIZE = 8;
+
+    private static final int SUMMARY_SIZE = 16;
+
+    private final RandomAccessFile mFile;
+
+    private final FileChannel mChannel;
+
+    private final int mEntryCount;
+
+    private final int mPageSize;
+
+    /**
+     * buffer for reading one page
+     */
+    private final ByteBuffer mBuffer;
+
+    public FileEntryPageSource(File file) throws IOException {
+
+        mFile = new RandomAccessFile(file, "r");
+        mChannel = mFile.getChannel();
+
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(header, 0);
+
+            if (header.getInt() != MAGIC || header.getInt() != VERSION)
+                throw new IOException("Not a paged entry file: " + file);
+
+            mEntryCount = header.getInt();
+            mPageSize = header.getInt();
+
+            if (mEntryCount < 0 || mPageSize <= 0)
+                throw new IOException("Invalid header in paged entry file: " + file);
+
+        } catch (IOException e) {
+            mFile.close();
+            throw e;
+        }
+
+        mBuffer = ByteBuffer.allocate(mPageSize * ENTRY_SIZE);
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    private int getPageCount() {
+        return (mEntryCount + mPageSize - 1) / mPageSize;
+    }
+
+    @Override
+    public synchronized void readSummaries(float[] xMin, float[] xMax, float[] yMin, float[] yMax)
+            throws IOException {
+
+        int pageCount = getPageCount();
+
+        ByteBuffer buffer = ByteBuffer.allocate(pageCount * SUMMARY_SIZE);
+        readFully(buffer, HEADER_SIZE + (long) mEntryCount * ENTRY_SIZE);
+
+        for (int i = 0; i < pageCount; i++) {
+            xMin[i] = buffer.getFloat();
+            xMax[i] = buffer.getFloat();
+            yMin[i] = buffer.getFloat();
+            yMax[i] = buffer.getFloat();
+        }
+    }
+
+    @Override
+    public synchronized int readPage(int page, float[] x, float[] y) throws IOException {
+
+        int first = page * mPageSize;
+        int count = Math.min(mPageSize, mEntryCount - first);
+
+        if (count <= 0)
+            return 0;
+
+        mBuffer.clear();
+        mBuffer.limit(count * ENTRY_SIZE);
+        readFully(mBuffer, HEADER_SIZE + (long) first * ENTRY_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            x[i] = mBuffer.getFloat();
+            y[i] = mBuffer.getFloat();
+        }
+
+        return count;
+    }
+
+    /**
+     * Fills the remaining space of the buffer from the given file position and flips it.
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+
+        while (buffer.hasRemaining()) {
+
+            int read = mChannel.read(buffer, position);
+
+            if (read < 0)
+                throw new EOFException("Unexpected end of paged entry file");
+
+            position += read;
+        }
+
+        buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        mFile.close();
+    }
+
+    /**
+     * Writes entries to a file that can be read by a FileEntryPageSource. The entries have to be
+     * added in ascending x-order, the page summaries are collected while writing.
+     */
+    public static class Writer implements Closeable {
+
+        private final File mFile;
+
+        private final DataOutputStream mOut;
+
+        private final int mPageSize;
+
+        private int mEntryCount = 0;
+
+        private float mLastX = -Float.MAX_VALUE;
+
+        /**
+         * x-min, x-max, y-min, y-max of every page
+         */
+        private float[] mSummaries = new float[64];
+
+        public Writer(File file, int pageSize) throws IOException {
+
+            if (pageSize <= 0)
+                throw new IllegalArgumentException("Page size must be positive");
+
+            mFile = file;
+            mPageSize = pageSize;
+            mOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+            mOut.writeInt(MAGIC);
+            mOut.writeInt(VERSION);
+            // the entry count is written on close
+            mOut.writeInt(0);
+            mOut.writeInt(pageSize);
+        }
+
+        public void add(float x, float y) throws IOException {
+
+            if (x < mLastX)
+                throw new IllegalArgumentException("Entries must be added in ascending x-order");
+
+            int page = mEntryCount / mPageSize;
+            int offset = page * 4;
+
+            if (offset + 4 > mSummaries.length)
+                mSummaries = Arrays.copyOf(mSummaries, mSummaries.length * 2);
+
+            if (mEntryCount % mPageSize == 0) {
+                mSummaries[offset] = x;
+                mSummaries[offset + 1] = x;
+                mSummaries[offset + 2] = y;
+                mSummaries[offset + 3] = y;
+            } else {
+                mSummaries[offset + 1] = x;
+                mSummaries[offset + 2] = Math.min(mSummaries[offset + 2], y);
+                mSummaries[offset + 3] = Math.max(mSummaries[offset + 3], y);
+            }
+
+            mOut.writeFloat(x);
+            mOut.writeFloat(y);
+
+            mLastX = x;
+            mEntryCount++;
+        }
+
+        public void add(Entry e) throws IOException {
+            add(e.getX(), e.getY());
+        }
+
+        public int getEntryCount() {
+            return mEntryCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            int pageCount = (mEntryCount + mPageSize - 1) / mPageSize;
+
+            for (int i = 0; i < pageCount * 4; i++)
+                mOut.writeFloat(mSummaries[i]);
+
+            mOut.close();
+
+            RandomAccessFile file = new RandomAccessFile(mFile, "rw");
+
+            try {
+                file.seek(8);
+                file.writeInt(mEntryCount);
+            } finally {
+                file.close();
+            }
+        }
+    }
+}
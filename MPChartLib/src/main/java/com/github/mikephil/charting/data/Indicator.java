@@ -0,0 +1,208 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.OnEntriesChangedListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of technical indicators deriving one or more IndicatorDataSets from a source DataSet,
+ * e.g. moving averages of a CandleDataSet. An attached Indicator listens to the notify...()
+ * methods of its source: entries appended to the source and announced with
+ * notifyEntriesInserted(...) (or Chart.notifyEntriesInserted(...)) are processed one by one in
+ * constant time each, any other change calculates all values again.
+ *
+ * The outputs store their values as primitive floats and extend their bounds with every appended
+ * value. Notifying the chart of the source is enough to update the ChartData, it merges the
+ * bounds of its DataSets without scanning their entries. Outputs can be the source of other
+ * Indicators.
+ *
+ * The value taken from an Entry is the close of CandleEntries and the y-value of other entries.
+ */
+public abstract class Indicator implements OnEntriesChangedListener {
+
+    protected final BaseDataSet<? extends Entry> mSource;
+
+    /**
+     * the x-column shared by all outputs
+     */
+    protected final SharedXValues mXValues = new SharedXValues(16);
+
+    protected final List<IndicatorDataSet> mOutputs = new ArrayList<IndicatorDataSet>();
+
+    /**
+     * number of source entries processed so far
+     */
+    private int mProcessedCount = 0;
+
+    private boolean mAttached = false;
+
+    protected Indicator(BaseDataSet<? extends Entry> source) {
+
+        if (source == null)
+            throw new IllegalArgumentException("Source DataSet is NULL");
+
+        mSource = source;
+    }
+
+    /**
+     * Creates an output of this Indicator, called by the constructors of the subclasses.
+     *
+     * @param label
+     * @return
+     */
+    protected IndicatorDataSet createOutput(String label) {
+
+        IndicatorDataSet output = new IndicatorDataSet(mXValues, label);
+        mOutputs.add(output);
+        return output;
+    }
+
+    /**
+     * Calculates the values for the entries of the source and starts following its changes.
+     */
+    public void attach() {
+
+        if (mAttached)
+            return;
+
+        mAttached = true;
+        mSource.addOnEntriesChangedListener(this);
+        recalculate();
+    }
+
+    /**
+     * Stops following the changes of the source, the outputs keep their values.
+     */
+    public void detach() {
+        mAttached = false;
+        mSource.removeOnEntriesChangedListener(this);
+    }
+
+    public boolean isAttached() {
+        return mAttached;
+    }
+
+    public BaseDataSet<? extends Entry> getSource() {
+        return mSource;
+    }
+
+    public List<IndicatorDataSet> getOutputs() {
+        return mOutputs;
+    }
+
+    public IndicatorDataSet getOutput(int index) {
+        return mOutputs.get(index);
+    }
+
+    @Override
+    public void onEntriesInserted(IDataSet set, int from, int count) {
+
+        // only appended entries can be processed incrementally
+        if (from != mProcessedCount) {
+            recalculate();
+            return;
+        }
+
+        int outputFrom = mXValues.size();
+
+        for (int i = from; i < from + count; i++)
+            process(mSource.getEntryForIndex(i));
+
+        mProcessedCount = from + count;
+
+        int outputCount = mXValues.size() - outputFrom;
+
+        if (outputCount > 0) {
+            for (int i = 0; i < mOutputs.size(); i++)
+                mOutputs.get(i).notifyEntriesInserted(outputFrom, outputCount);
+        }
+    }
+
+    @Override
+    public void onEntriesChanged(IDataSet set) {
+        recalculate();
+    }
+
+    /**
+     * Calculates all values again from the entries of the source.
+     */
+    public void recalculate() {
+
+        mXValues.clear();
+
+        for (int i = 0; i < mOutputs.size(); i++)
+            mOutputs.get(i).reset();
+
+        reset();
+
+        int count = mSource.getEntryCount();
+
+        for (int i = 0; i < count; i++)
+            process(mSource.getEntryForIndex(i));
+
+        mProcessedCount = count;
+
+        for (int i = 0; i < mOutputs.size(); i++)
+            mOutputs.get(i).notifyDataSetChanged();
+    }
+
+    private void process(Entry e) {
+        onValue(e.getX(), getValue(e));
+    }
+
+    /**
+     * Returns the value of the given Entry the Indicator is calculated from.
+     *
+     * @param e
+     * @return
+     */
+    protected float getValue(Entry e) {
+
+        if (e instanceof CandleEntry)
+            return ((CandleEntry) e).getClose();
+
+        return e.getY();
+    }
+
+    /**
+     * Appends the value of the only output at the given x-value.
+     *
+     * @param x
+     * @param y
+     */
+    protected void emit(float x, float y) {
+        mXValues.add(x);
+        mOutputs.get(0).addValue(y);
+    }
+
+    /**
+     * Appends the values of three outputs at the given x-value.
+     *
+     * @param x
+     * @param y0
+     * @param y1
+     * @param y2
+     */
+    protected void emit(float x, float y0, float y1, float y2) {
+        mXValues.add(x);
+        mOutputs.get(0).addValue(y0);
+        mOutputs.get(1).addValue(y1);
+        mOutputs.get(2).addValue(y2);
+    }
+
+    /**
+     * Resets the state of the calculation, before all values are calculated again.
+     */
+    protected abstract void reset();
+
+    /**
+     * Processes the next value of the source in constant time, appends the output values with
+     * emit(...) once enough values were processed.
+     *
+     * @param x
+     * @param value
+     */
+    protected abstract void onValue(float x, float value);
+}
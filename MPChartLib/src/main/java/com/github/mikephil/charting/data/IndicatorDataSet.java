@@ -0,0 +1,39 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Output of an Indicator, a SharedXLineDataSet sharing the x-column with the other outputs of the
+ * same Indicator (e.g. the bands of the BollingerBandsIndicator). The values are appended by the
+ * Indicator, which updates the bounds with every value, so notifying appended entries costs
+ * nothing.
+ */
+public class IndicatorDataSet extends SharedXLineDataSet {
+
+    public IndicatorDataSet(SharedXValues xValues, String label) {
+        super(xValues, label);
+    }
+
+    /**
+     * Removes all values without notifying the listeners, the Indicator calculates them again.
+     */
+    void reset() {
+        mYCount = 0;
+        calcMinMax();
+    }
+
+    @Override
+    public void notifyEntriesInserted(int from, int count) {
+
+        // the bounds were extended by addValue(...)
+        dispatchEntriesInserted(from, count);
+    }
+
+    @Override
+    public void notifyEntriesChanged(int from, int count) {
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void notifyEntriesRemoved(int from, int count) {
+        notifyDataSetChanged();
+    }
+}
@@ -0,0 +1,306 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock-free staging queue of (x, y) pairs for a single DataSet, for feeding a chart from a
+ * background thread (e.g. a sensor callback) without marshalling every sample to the UI thread.
+ * One producer thread publishes the samples, the chart drains them on the UI thread at the start
+ * of onDraw(...) and appends them to the DataSet in one batch (see Chart.addIngestionQueue(...)).
+ * The values are kept as primitive floats in a ring buffer, publishing does not allocate.
+ *
+ * Only one thread may publish into a queue at a time, use a queue per producer thread.
+ */
+public class IngestionQueue {
+
+    /**
+     * what publish(...) does while the queue is full
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * drops the oldest sample that has not been drained yet, the producer never waits
+         */
+        DROP_OLDEST,
+
+        /**
+         * waits until the chart drained the queue
+         */
+        BLOCK
+    }
+
+    /**
+     * how long a blocked producer sleeps before checking the queue again
+     */
+    private static final long BLOCK_PARK_NANOS = 100000;
+
+    private final DataSet<Entry> mDataSet;
+
+    private final OverflowPolicy mPolicy;
+
+    private final int mCapacity;
+
+    private final float[] mXValues;
+    private final float[] mYValues;
+
+    /**
+     * index of the next sample to drain, only moved forward: by the consumer after draining and
+     * by the producer when it drops the oldest sample
+     */
+    private final AtomicLong mHead = new AtomicLong();
+
+    /**
+     * index of the next sample to publish, only moved by the producer
+     */
+    private final AtomicLong mTail = new AtomicLong();
+
+    private final AtomicLong mDroppedCount = new AtomicLong();
+
+    /**
+     * true from the first sample published after a drain until the next drain
+     */
+    private final AtomicBoolean mDrainPending = new AtomicBoolean();
+
+    /**
+     * called when a sample is published into the drained queue, e.g. to invalidate the chart
+     */
+    private volatile Runnable mOnPublishCallback;
+
+    /**
+     * drain buffers, only used by the consumer
+     */
+    private float[] mDrainX = new float[0];
+    private float[] mDrainY = new float[0];
+
+    /**
+     * @param dataSet  the DataSet the samples are appended to, the x-values have to be published
+     *                 in ascending order. A PagedLineDataSet is read-only and not supported.
+     * @param capacity the maximum number of samples waiting to be drained
+     * @param policy
+     */
+    public IngestionQueue(DataSet<Entry> dataSet, int capacity, OverflowPolicy policy) {
+
+        if (dataSet == null)
+            throw new IllegalArgumentException("DataSet is NULL");
+
+        if (dataSet instanceof PagedLineDataSet)
+            throw new IllegalArgumentException("PagedLineDataSet is read-only");
+
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity must be positive");
+
+        mDataSet = dataSet;
+        mCapacity = capacity;
+        mPolicy = policy == null ? OverflowPolicy.DROP_OLDEST : policy;
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+    }
+
+    public DataSet<Entry> getDataSet() {
+        return mDataSet;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return mPolicy;
+    }
+
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * Sets the callback invoked on the producer thread when a sample is published into the queue
+     * after it was drained, at most once per drain. Set by the chart the queue is added to.
+     *
+     * @param callback
+     */
+    public void setOnPublishCallback(Runnable callback) {
+        mOnPublishCallback = callback;
+    }
+
+    /**
+     * Publishes a sample, may be called from any thread, but only from one at a time. Depending on
+     * the OverflowPolicy, a full queue drops its oldest sample or makes the caller wait.
+     *
+     * @param x
+     * @param y
+     * @return false if the thread was interrupted while waiting, the sample is not published then
+     */
+    public boolean publish(float x, float y) {
+
+        long tail = mTail.get();
+
+        while (tail - mHead.get() >= mCapacity) {
+
+            if (mPolicy == OverflowPolicy.DROP_OLDEST) {
+
+                long head = mHead.get();
+
+                // the consumer may have drained in the meantime
+                if (tail - head >= mCapacity && mHead.compareAndSet(head, head + 1))
+                    mDroppedCount.incrementAndGet();
+
+            } else {
+
+                wakeUpConsumer();
+                LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        int index = (int) (tail % mCapacity);
+        mXValues[index] = x;
+        mYValues[index] = y;
+
+        // publishes the values written above to the consumer
+        mTail.lazySet(tail + 1);
+
+        wakeUpConsumer();
+        return true;
+    }
+
+    private void wakeUpConsumer() {
+
+        if (mDrainPending.get() || !mDrainPending.compareAndSet(false, true))
+            return;
+
+        Runnable callback = mOnPublishCallback;
+
+        if (callback != null)
+            callback.run();
+    }
+
+    /**
+     * Appends all published samples to the DataSet and updates its bounds once. Must be called by
+     * the thread owning the DataSet (the UI thread), the chart calls it at the start of onDraw(...).
+     *
+     * @return the number of appended entries
+     */
+    public int drain() {
+
+        mDrainPending.set(false);
+
+        long head = mHead.get();
+        long tail = mTail.get();
+
+        if (tail == head)
+            return 0;
+
+        int count = (int) (tail - head);
+
+        if (mDrainX.length < count) {
+            mDrainX = new float[count];
+            mDrainY = new float[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            int index = (int) ((head + i) % mCapacity);
+            mDrainX[i] = mXValues[index];
+            mDrainY[i] = mYValues[index];
+        }
+
+        // samples the producer dropped while they were copied may have been overwritten, only
+        // the samples from the head on are valid
+        long valid;
+
+        while (true) {
+
+            valid = mHead.get();
+
+            if (valid >= tail)
+                return 0;
+
+            if (mHead.compareAndSet(valid, tail))
+                break;
+        }
+
+        int offset = (int) (valid - head);
+        count -= offset;
+
+        append(mDrainX, mDrainY, offset, count);
+        return count;
+    }
+
+    /**
+     * Appends the given samples to the DataSet, updating its bounds once for all of them, and
+     * informs the OnEntriesChangedListeners of the DataSet about the appended entries.
+     */
+    private void append(float[] xValues, float[] yValues, int offset, int count) {
+
+        int from = mDataSet.getEntryCount();
+
+        if (mDataSet instanceof UniformLineDataSet) {
+
+            // the x-values follow from the position
+            UniformLineDataSet set = (UniformLineDataSet) mDataSet;
+
+            for (int i = offset; i < offset + count; i++)
+                set.addValue(yValues[i]);
+
+        } else if (mDataSet instanceof SharedXLineDataSet) {
+
+            // checks the x-values against the shared x-column
+            for (int i = offset; i < offset + count; i++)
+                mDataSet.addEntry(new Entry(xValues[i], yValues[i]));
+
+        } else {
+
+            if (mDataSet.mValues == null)
+                mDataSet.mValues = new ArrayList<Entry>();
+
+            for (int i = offset; i < offset + count; i++)
+                mDataSet.mValues.add(new Entry(xValues[i], yValues[i]));
+        }
+
+        mDataSet.notifyEntriesInserted(from, count);
+    }
+
+    /**
+     * Returns the number of samples waiting to be drained.
+     *
+     * @return
+     */
+    public int getDepth() {
+        return (int) Math.max(mTail.get() - mHead.get(), 0);
+    }
+
+    /**
+     * Returns the number of samples published so far, including the dropped ones.
+     *
+     * @return
+     */
+    public long getPublishedCount() {
+        return mTail.get();
+    }
+
+    /**
+     * Returns the number of samples dropped because the queue was full.
+     *
+     * @return
+     */
+    public long getDroppedCount() {
+        return mDroppedCount.get();
+    }
+
+    /**
+     * Returns the fraction of the published samples that were dropped, between 0 and 1.
+     *
+     * @return
+     */
+    public float getDropRate() {
+
+        long published = getPublishedCount();
+
+        if (published == 0)
+            return 0f;
+
+        return (float) getDroppedCount() / published;
+    }
+}
@@ -64,6 +64,10 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * if true, the fill of linear and stepped lines is drawn as a triangle mesh
+     */
+    private boolean mDrawFilledMesh = false;
 
     public LineDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
@@ -94,17 +98,29 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         LineDataSet copied = new LineDataSet(yVals, getLabel());
         copied.mMode = mMode;
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mCircleRadius = mCircleRadius;
         copied.mCircleHoleRadius = mCircleHoleRadius;
         copied.mCircleColors = mCircleColors;
         copied.mDashPathEffect = mDashPathEffect;
         copied.mDrawCircles = mDrawCircles;
         copied.mDrawCircleHole = mDrawCircleHole;
+        copied.mDrawFilledMesh = mDrawFilledMesh;
         copied.mHighLightColor = mHighLightColor;
 
         return copied;
     }
 
+    /**
+     * Subclasses overriding calcMinMax(Entry) or calcMinMaxY(Entry) have to return false.
+     *
+     * @return
+     */
+    @Override
+    protected boolean hasEntryValueBounds() {
+        return true;
+    }
+
     /**
      * Returns the drawing mode for this line dataset
      *
@@ -382,6 +398,24 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         mDrawCircleHole = enabled;
     }
 
+    /**
+     * Set this to true to draw the fill of linear and stepped lines as a triangle strip between
+     * the line and the fill-line position (Canvas.drawVertices(...)) instead of filling paths.
+     * Only applies to fill colors, fill drawables are always drawn with paths. On hardware
+     * accelerated canvases below API level 29, which don't support drawVertices(...), paths are
+     * used as well. Default: false
+     *
+     * @param enabled
+     */
+    public void setDrawFilledMesh(boolean enabled) {
+        mDrawFilledMesh = enabled;
+    }
+
+    @Override
+    public boolean isDrawFilledMeshEnabled() {
+        return mDrawFilledMesh;
+    }
+
     @Override
     public boolean isDrawCircleHoleEnabled() {
         return mDrawCircleHole;
@@ -0,0 +1,59 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Simple moving average over the last period values of the source. The first value is emitted
+ * once period values were processed.
+ */
+public class MovingAverageIndicator extends Indicator {
+
+    protected final int mPeriod;
+
+    /**
+     * the last period values, the oldest at mWindowIndex once the window is full
+     */
+    private final float[] mWindow;
+
+    private int mWindowIndex;
+
+    private int mCount;
+
+    private double mSum;
+
+    public MovingAverageIndicator(BaseDataSet<? extends Entry> source, int period, String label) {
+        super(source);
+
+        if (period <= 0)
+            throw new IllegalArgumentException("Period must be positive");
+
+        mPeriod = period;
+        mWindow = new float[period];
+
+        createOutput(label);
+    }
+
+    public int getPeriod() {
+        return mPeriod;
+    }
+
+    @Override
+    protected void reset() {
+        mWindowIndex = 0;
+        mCount = 0;
+        mSum = 0.0;
+    }
+
+    @Override
+    protected void onValue(float x, float value) {
+
+        if (mCount >= mPeriod)
+            mSum -= mWindow[mWindowIndex];
+
+        mWindow[mWindowIndex] = value;
+        mSum += value;
+        mWindowIndex = (mWindowIndex + 1) % mPeriod;
+        mCount++;
+
+        if (mCount >= mPeriod)
+            emit(x, (float) (mSum / mPeriod));
+    }
+}
@@ -0,0 +1,787 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.ChartExecutors;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LineDataSet whose entries stay in an EntryPageSource (e.g. a file) and are loaded page by page
+ * when they are accessed. Loaded pages are kept in an LRU cache of limited size, the pages around
+ * the visible range are prefetched in the background while the chart is drawn. The bounds of the
+ * DataSet are calculated from the min / max summaries of the pages, without loading them.
+ *
+ * The entries have to be sorted by x-value. The DataSet is read-only: the methods adding or
+ * removing single entries return false, so that e.g. ChartData.removeEntry(...) leaves it
+ * untouched, the methods that cannot report a failure (setValues(...), addEntryOrdered(...),
+ * clear()) throw an UnsupportedOperationException. If the source supports appending (e.g.
+ * CompressedEntryPageSource), call notifySourceChanged() after appending to it.
+ *
+ * INFORMATION: Entry objects returned by this DataSet (e.g. getEntryForIndex(...)) are not backed
+ * by the DataSet, modifying them has no effect. getEntryForIndex(...) and getEntryForXValue(...)
+ * cycle through SCRATCH_ENTRY_COUNT reused instances, an entry returned by them is only valid
+ * until as many further calls were made. getValues() and getEntriesForXValue(...) return newly
+ * created entries.
+ */
+public class PagedLineDataSet extends LineDataSet {
+
+    /**
+     * default memory limit of the page cache in bytes
+     */
+    public static final int DEFAULT_CACHE_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * number of reused entries getEntryForIndex(...) cycles through
+     */
+    public static final int SCRATCH_ENTRY_COUNT = 4;
+
+    protected EntryPageSource mSource;
+
+    private int mEntryCount;
+
+    private int mPageSize;
+
+    /**
+     * min / max values per page
+     */
+    private float[] mPageXMin;
+    private float[] mPageXMax;
+    private float[] mPageYMin;
+    private float[] mPageYMax;
+
+    /**
+     * loaded pages by page index, in access order
+     */
+    private final LinkedHashMap<Integer, Page> mPages = new LinkedHashMap<Integer, Page>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Page> eldest) {
+            return size() > mMaxCachedPages;
+        }
+    };
+
+    /**
+     * marks the pages that are being loaded by the prefetch thread
+     */
+    private boolean[] mPending;
+
+    private int mMaxCachedPages;
+
+    /**
+     * the page accessed last, checked before the cache since entries are mostly accessed in order
+     */
+    private volatile Page mLastPage;
+
+    private float mPrefetchMargin = 0.5f;
+
+    /**
+     * the entries returned by getEntryForIndex(...)
+     */
+    protected Entry[] mScratchEntries = new Entry[SCRATCH_ENTRY_COUNT];
+
+    /**
+     * index of the scratch entry returned last
+     */
+    private int mScratchIndex = 0;
+
+    /**
+     * Creates a DataSet for the entries of the given source with a page cache of
+     * DEFAULT_CACHE_SIZE. The page summaries are read immediately.
+     *
+     * @param source
+     * @param label
+     * @throws IOException
+     */
+    public PagedLineDataSet(EntryPageSource source, String label) throws IOException {
+        super(null, label);
+
+        if (source == null)
+            throw new IllegalArgumentException("EntryPageSource is NULL");
+
+        mSource = source;
+        mPageSize = source.getPageSize();
+        mPending = new boolean[0];
+
+        readSummaries();
+
+        setMaxCacheSize(DEFAULT_CACHE_SIZE);
+        calcMinMax();
+    }
+
+    /**
+     * Reads the entry count and the page summaries from the source.
+     */
+    private void readSummaries() throws IOException {
+
+        int entryCount = mSource.getEntryCount();
+        int pageCount = (entryCount + mPageSize - 1) / mPageSize;
+
+        float[] xMin = new float[pageCount];
+        float[] xMax = new float[pageCount];
+        float[] yMin = new float[pageCount];
+        float[] yMax = new float[pageCount];
+
+        mSource.readSummaries(xMin, xMax, yMin, yMax);
+
+        synchronized (mPages) {
+
+            mPageXMin = xMin;
+            mPageXMax = xMax;
+            mPageYMin = yMin;
+            mPageYMax = yMax;
+            mEntryCount = entryCount;
+
+            if (mPending.length != pageCount)
+                mPending = Arrays.copyOf(mPending, pageCount);
+        }
+    }
+
+    /**
+     * Reads the entry count and the page summaries from the source again, after entries were
+     * appended to it, and recalculates the bounds. Loaded pages that were incomplete are loaded
+     * again when they are accessed. This reads the summaries of all pages, call it once after
+     * appending a batch of entries.
+     */
+    public void notifySourceChanged() {
+
+        try {
+            readSummaries();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read page summaries", e);
+        }
+
+        calcMinMax();
+    }
+
+    public EntryPageSource getSource() {
+        return mSource;
+    }
+
+    public int getPageCount() {
+        return (mEntryCount + mPageSize - 1) / mPageSize;
+    }
+
+    /**
+     * Sets the memory limit of the page cache in bytes, at least two pages are cached.
+     * Default: DEFAULT_CACHE_SIZE
+     *
+     * @param bytes
+     */
+    public void setMaxCacheSize(int bytes) {
+
+        synchronized (mPages) {
+
+            mMaxCachedPages = Math.max(2, bytes / (mPageSize * 8));
+
+            while (mPages.size() > mMaxCachedPages)
+                mPages.remove(mPages.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Returns the maximum number of pages held in the cache.
+     *
+     * @return
+     */
+    public int getMaxCachedPages() {
+        return mMaxCachedPages;
+    }
+
+    /**
+     * Sets the part of the visible x-range that is prefetched on both sides of it, e.g. 0.5 for
+     * half the visible range. Default: 0.5
+     *
+     * @param margin
+     */
+    public void setPrefetchMargin(float margin) {
+        mPrefetchMargin = Math.max(0f, margin);
+    }
+
+    public float getPrefetchMargin() {
+        return mPrefetchMargin;
+    }
+
+    /**
+     * Prefetches the pages around the visible range.
+     *
+     * @param fromX
+     * @param toX
+     */
+    @Override
+    public void onVisibleRangeChanged(float fromX, float toX) {
+        prefetch(fromX, toX);
+    }
+
+    /**
+     * Loads the pages covering the given x-range plus the prefetch margin in the background, as
+     * far as they fit into the cache.
+     *
+     * @param fromX
+     * @param toX
+     */
+    public void prefetch(float fromX, float toX) {
+
+        if (mEntryCount == 0)
+            return;
+
+        float margin = (toX - fromX) * mPrefetchMargin;
+
+        int first = getPageForX(fromX - margin);
+        int last = Math.min(getPageForX(toX + margin), first + mMaxCachedPages - 1);
+
+        for (int page = first; page <= last; page++) {
+
+            synchronized (mPages) {
+
+                if (mPending[page] || mPages.containsKey(page))
+                    continue;
+
+                mPending[page] = true;
+            }
+
+            final int pageToLoad = page;
+
+            ChartExecutors.getIoExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        loadPage(pageToLoad);
+                    } catch (RuntimeException e) {
+                        // the page is loaded again when it is accessed
+                    } finally {
+                        synchronized (mPages) {
+                            mPending[pageToLoad] = false;
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes all pages from the cache.
+     */
+    public void clearCache() {
+
+        synchronized (mPages) {
+            mPages.clear();
+            mLastPage = null;
+        }
+    }
+
+    /**
+     * Returns the number of pages currently cached.
+     *
+     * @return
+     */
+    public int getCachedPageCount() {
+
+        synchronized (mPages) {
+            return mPages.size();
+        }
+    }
+
+    /**
+     * Clears the cache and closes the source, the DataSet cannot be used afterwards.
+     *
+     * @throws IOException
+     */
+    public void close() throws IOException {
+        clearCache();
+        mSource.close();
+    }
+
+    /**
+     * Returns the page holding the entry at the given index, loading it if necessary.
+     *
+     * @param index
+     * @return
+     */
+    private Page getPageForIndex(int index) {
+
+        if (index < 0 || index >= mEntryCount)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mEntryCount);
+
+        int pageIndex = index / mPageSize;
+        Page page = mLastPage;
+
+        if (page != null && page.index == pageIndex && isComplete(page))
+            return page;
+
+        synchronized (mPages) {
+            page = mPages.get(pageIndex);
+        }
+
+        // pages loaded before entries were appended to the source miss the new ones
+        if (page == null || !isComplete(page))
+            page = loadPage(pageIndex);
+
+        mLastPage = page;
+        return page;
+    }
+
+    private boolean isComplete(Page page) {
+        return page.count == Math.min(mPageSize, mEntryCount - page.index * mPageSize);
+    }
+
+    private Page loadPage(int pageIndex) {
+
+        Page page = new Page(pageIndex, mPageSize);
+
+        try {
+            page.count = mSource.readPage(pageIndex, page.x, page.y);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read page " + pageIndex, e);
+        }
+
+        synchronized (mPages) {
+            mPages.put(pageIndex, page);
+        }
+
+        return page;
+    }
+
+    /**
+     * Returns the index of the first page whose maximum x-value is not lower than the given
+     * value, or the last page.
+     *
+     * @param x
+     * @return
+     */
+    private int getPageForX(float x) {
+
+        int low = 0;
+        int high = mPageXMax.length - 1;
+
+        while (low < high) {
+
+            int m = (low + high) >>> 1;
+
+            if (mPageXMax[m] < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the x-value of the entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getXValue(int index) {
+        return getPageForIndex(index).x[index % mPageSize];
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getYValue(int index) {
+        return getPageForIndex(index).y[index % mPageSize];
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor, before the source is set
+        if (mSource == null)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0; i < mPageXMin.length; i++)
+            calcMinMaxOfPage(i);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mEntryCount == 0)
+            return;
+
+        float xMin = mXMin;
+        float xMax = mXMax;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        int pageFrom = indexFrom / mPageSize;
+        int pageTo = indexTo / mPageSize;
+
+        // pages completely inside the range are covered by their summaries
+        for (int page = pageFrom; page <= pageTo; page++) {
+
+            int first = page * mPageSize;
+            int last = Math.min(first + mPageSize, mEntryCount) - 1;
+
+            if (first >= indexFrom && last <= indexTo) {
+                calcMinMaxOfPage(page);
+                continue;
+            }
+
+            for (int i = Math.max(first, indexFrom), end = Math.min(last, indexTo); i <= end; i++) {
+
+                float y = getYValue(i);
+
+                if (y < mYMin)
+                    mYMin = y;
+
+                if (y > mYMax)
+                    mYMax = y;
+            }
+        }
+
+        // only the y-bounds are recalculated
+        mXMin = xMin;
+        mXMax = xMax;
+    }
+
+    private void calcMinMaxOfPage(int page) {
+
+        if (mPageXMin[page] < mXMin)
+            mXMin = mPageXMin[page];
+
+        if (mPageXMax[page] > mXMax)
+            mXMax = mPageXMax[page];
+
+        if (mPageYMin[page] < mYMin)
+            mYMin = mPageYMin[page];
+
+        if (mPageYMax[page] > mYMax)
+            mYMax = mPageYMax[page];
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    /**
+     * The entries are loaded on demand, the DataSet is read-only.
+     *
+     * @return false
+     */
+    @Override
+    public boolean hasMutableYValues() {
+        return false;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+        mScratchIndex = (mScratchIndex + 1) % SCRATCH_ENTRY_COUNT;
+
+        Entry e = mScratchEntries[mScratchIndex];
+
+        if (e == null) {
+            e = new Entry();
+            mScratchEntries[mScratchIndex] = e;
+        }
+
+        Page page = getPageForIndex(index);
+        int offset = index % mPageSize;
+
+        e.setX(page.x[offset]);
+        e.setY(page.y[offset]);
+        return e;
+    }
+
+    /**
+     * Returns a newly created Entry for the given index.
+     *
+     * @param index
+     * @return
+     */
+    private Entry createEntry(int index) {
+        Page page = getPageForIndex(index);
+        int offset = index % mPageSize;
+        return new Entry(page.x[offset], page.y[offset]);
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        if (mEntryCount == 0)
+            return -1;
+
+        // the first entry with an x-value not lower than the given one, found within its page
+        int page = getPageForX(xValue);
+        Page loaded = getPageForIndex(page * mPageSize);
+
+        int low = 0;
+        int high = loaded.count;
+
+        while (low < high) {
+
+            int m = (low + high) >>> 1;
+
+            if (loaded.x[m] < xValue)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        int ceil = page * mPageSize + low;
+        int closest;
+
+        if (ceil >= mEntryCount) {
+            closest = mEntryCount - 1;
+        } else if (ceil == 0) {
+            closest = 0;
+        } else {
+            // equal distances resolve to the higher entry
+            float below = xValue - getXValue(ceil - 1);
+            float above = getXValue(ceil) - xValue;
+            closest = below < above ? ceil - 1 : ceil;
+        }
+
+        float closestXValue = getXValue(closest);
+
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < mEntryCount - 1)
+                closestXValue = getXValue(++closest);
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0)
+                closestXValue = getXValue(--closest);
+        }
+
+        // search by closest to y-value among entries with the same x-value
+        if (!Float.isNaN(closestToY)) {
+
+            while (closest > 0 && getXValue(closest - 1) == closestXValue)
+                closest--;
+
+            int closestYIndex = closest;
+
+            for (int i = closest + 1; i < mEntryCount && getXValue(i) == closestXValue; i++) {
+                if (Math.abs(getYValue(i) - closestToY) < Math.abs(getYValue(closestYIndex) - closestToY))
+                    closestYIndex = i;
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), e.getY(), Rounding.CLOSEST);
+
+        if (index > -1 && getXValue(index) == e.getX() && getYValue(index) == e.getY())
+            return index;
+
+        return -1;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        int[] range = new int[2];
+        int count = getEntryIndexRangeForXValue(xValue, range);
+
+        for (int i = 0; i < count; i++)
+            entries.add(createEntry(range[0] + i));
+
+        return entries;
+    }
+
+    @Override
+    public int getEntryIndexRangeForXValue(float xValue, int[] range) {
+
+        int index = getEntryIndex(xValue, Float.NaN, Rounding.CLOSEST);
+
+        if (index < 0 || getXValue(index) != xValue)
+            return 0;
+
+        int first = index;
+        while (first > 0 && getXValue(first - 1) == xValue)
+            first--;
+
+        int last = index;
+        while (last < mEntryCount - 1 && getXValue(last + 1) == xValue)
+            last++;
+
+        range[0] = first;
+        range[1] = last;
+        return last - first + 1;
+    }
+
+    /**
+     * Returns a newly created list of all entries of this DataSet, which loads every page.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+
+        List<Entry> entries = new ArrayList<Entry>(mEntryCount);
+
+        for (int i = 0; i < mEntryCount; i++)
+            entries.add(createEntry(i));
+
+        return entries;
+    }
+
+    /**
+     * Not supported, the DataSet is read-only.
+     *
+     * @param values
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        PagedLineDataSet copied;
+
+        try {
+            copied = new PagedLineDataSet(mSource, getLabel());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read page summaries", e);
+        }
+
+        copied.setMode(getMode());
+        copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
+        copied.setCircleRadius(getCircleRadius());
+        copied.setCircleHoleRadius(getCircleHoleRadius());
+        copied.setCircleColors(getCircleColors());
+        copied.setDrawCircles(isDrawCirclesEnabled());
+        copied.setDrawCircleHole(isDrawCircleHoleEnabled());
+        copied.mHighLightColor = mHighLightColor;
+        copied.mMaxCachedPages = mMaxCachedPages;
+        copied.mPrefetchMargin = mPrefetchMargin;
+
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        return toSimpleString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + getEntryCount() +
+                ", pages: " + getPageCount() + "\n");
+        return buffer.toString();
+    }
+
+    /**
+     * Not supported, the DataSet is read-only.
+     *
+     * @param e
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void addEntryOrdered(Entry e) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    /**
+     * Does nothing, the DataSet is read-only.
+     *
+     * @param e
+     * @return false
+     */
+    @Override
+    public boolean addEntry(Entry e) {
+        return false;
+    }
+
+    /**
+     * Does nothing, the DataSet is read-only.
+     *
+     * @param e
+     * @return false
+     */
+    @Override
+    public boolean removeEntry(Entry e) {
+        return false;
+    }
+
+    /**
+     * Does nothing, the DataSet is read-only.
+     *
+     * @return false
+     */
+    @Override
+    public boolean removeFirst() {
+        return false;
+    }
+
+    /**
+     * Does nothing, the DataSet is read-only.
+     *
+     * @return false
+     */
+    @Override
+    public boolean removeLast() {
+        return false;
+    }
+
+    /**
+     * Not supported, the DataSet is read-only.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    /**
+     * A loaded page, not modified after loading.
+     */
+    private static class Page {
+
+        final int index;
+
+        final float[] x;
+
+        final float[] y;
+
+        int count;
+
+        Page(int index, int size) {
+            this.index = index;
+            this.x = new float[size];
+            this.y = new float[size];
+        }
+    }
+}
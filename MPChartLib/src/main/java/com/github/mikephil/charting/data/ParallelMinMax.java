@@ -0,0 +1,215 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.ChartExecutors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Calculates the bounds of large lists of entries in chunks on several threads. Every chunk keeps
+ * its own bounds, the chunks are merged in order afterwards, so the results (including the index
+ * of the first entry holding a bound) are the same as those of a sequential scan. Lists below the
+ * threshold and lists without random access are scanned sequentially on the calling thread.
+ *
+ * The default threshold is an estimate, it has not been measured on devices. Where parallel
+ * scanning starts to pay off depends on the number of cores and the memory bandwidth, run
+ * ParallelMinMaxBenchmark on the target devices (./gradlew test -Dbenchmark=true) and adjust
+ * the threshold with setThreshold(...).
+ */
+public final class ParallelMinMax {
+
+    /**
+     * the smallest number of entries a chunk is made of, smaller chunks don't pay for the
+     * handoff to another thread
+     */
+    private static final int MIN_CHUNK_SIZE = 10000;
+
+    private static final int MAX_THREADS = 4;
+
+    private static int sThreshold = 200000;
+
+    private ParallelMinMax() {
+    }
+
+    /**
+     * Sets the number of entries from which on the bounds of a DataSet are calculated in
+     * parallel. Integer.MAX_VALUE disables the parallel calculation. Default: 200000, an
+     * unmeasured estimate (see the class description)
+     *
+     * @param entryCount
+     */
+    public static void setThreshold(int entryCount) {
+        sThreshold = Math.max(entryCount, 2 * MIN_CHUNK_SIZE);
+    }
+
+    public static int getThreshold() {
+        return sThreshold;
+    }
+
+    /**
+     * Returns true if the given range of the given list is large enough to be scanned in parallel.
+     *
+     * @param values
+     * @param count
+     * @return
+     */
+    public static boolean isParallel(List<?> values, int count) {
+        return count >= sThreshold && values instanceof RandomAccess && getChunkCount(count) > 1
+                && !ChartExecutors.isComputeThread();
+    }
+
+    private static int getChunkCount(int count) {
+        return Math.min(Math.min(ChartExecutors.getComputeThreadCount(), MAX_THREADS),
+                count / MIN_CHUNK_SIZE);
+    }
+
+    /**
+     * Calculates the bounds of the entries in the range [from, to) of the given list, in
+     * parallel if the range is large enough.
+     *
+     * @param values
+     * @param from
+     * @param to
+     * @param calcX  false if only the y-bounds are needed
+     * @return
+     */
+    public static Bounds calcBounds(final List<? extends Entry> values, int from, int to, final boolean calcX) {
+
+        int count = to - from;
+
+        if (!isParallel(values, count))
+            return scan(values, from, to, calcX);
+
+        int chunks = getChunkCount(count);
+        int chunkSize = (count + chunks - 1) / chunks;
+
+        List<Future<Bounds>> futures = new ArrayList<Future<Bounds>>(chunks - 1);
+
+        // the first chunk is scanned by the calling thread
+        for (int i = 1; i < chunks; i++) {
+
+            final int chunkFrom = from + i * chunkSize;
+            final int chunkTo = Math.min(chunkFrom + chunkSize, to);
+
+            futures.add(ChartExecutors.getComputeExecutor().submit(new Callable<Bounds>() {
+                @Override
+                public Bounds call() {
+                    return scan(values, chunkFrom, chunkTo, calcX);
+                }
+            }));
+        }
+
+        Bounds bounds = scan(values, from, from + chunkSize, calcX);
+
+        for (Future<Bounds> future : futures)
+            bounds.merge(await(future));
+
+        return bounds;
+    }
+
+    /**
+     * Scans the given range on the calling thread.
+     */
+    static Bounds scan(List<? extends Entry> values, int from, int to, boolean calcX) {
+
+        Bounds bounds = new Bounds();
+
+        for (int i = from; i < to; i++) {
+
+            Entry e = values.get(i);
+
+            if (e == null)
+                continue;
+
+            if (calcX) {
+
+                float x = e.getX();
+
+                if (x < bounds.xMin) {
+                    bounds.xMin = x;
+                    bounds.xMinIndex = i;
+                }
+
+                if (x > bounds.xMax) {
+                    bounds.xMax = x;
+                    bounds.xMaxIndex = i;
+                }
+            }
+
+            float y = e.getY();
+
+            if (y < bounds.yMin) {
+                bounds.yMin = y;
+                bounds.yMinIndex = i;
+            }
+
+            if (y > bounds.yMax) {
+                bounds.yMax = y;
+                bounds.yMaxIndex = i;
+            }
+        }
+
+        return bounds;
+    }
+
+    private static Bounds await(Future<Bounds> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calculating the bounds", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Calculating the bounds failed", e.getCause());
+        }
+    }
+
+    /**
+     * The bounds of a range of entries and the indices of the first entries holding them, -1 if
+     * the range holds no values.
+     */
+    public static class Bounds {
+
+        public float xMin = Float.MAX_VALUE;
+        public float xMax = -Float.MAX_VALUE;
+        public float yMin = Float.MAX_VALUE;
+        public float yMax = -Float.MAX_VALUE;
+
+        public int xMinIndex = -1;
+        public int xMaxIndex = -1;
+        public int yMinIndex = -1;
+        public int yMaxIndex = -1;
+
+        /**
+         * Merges the bounds of the following range into these, a bound is only taken over if it
+         * extends the current one, like in a sequential scan.
+         *
+         * @param b
+         */
+        void merge(Bounds b) {
+
+            if (b.xMin < xMin) {
+                xMin = b.xMin;
+                xMinIndex = b.xMinIndex;
+            }
+
+            if (b.xMax > xMax) {
+                xMax = b.xMax;
+                xMaxIndex = b.xMaxIndex;
+            }
+
+            if (b.yMin < yMin) {
+                yMin = b.yMin;
+                yMinIndex = b.yMinIndex;
+            }
+
+            if (b.yMax > yMax) {
+                yMax = b.yMax;
+                yMaxIndex = b.yMaxIndex;
+            }
+        }
+    }
+}
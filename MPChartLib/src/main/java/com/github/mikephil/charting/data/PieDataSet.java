@@ -41,6 +41,7 @@ public class PieDataSet extends DataSet<PieEntry> implements IPieDataSet {
 
         PieDataSet copied = new PieDataSet(yVals, getLabel());
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mSliceSpace = mSliceSpace;
         copied.mShift = mShift;
         return copied;
@@ -124,6 +124,7 @@ public class RadarDataSet extends LineRadarDataSet<RadarEntry> implements IRadar
 
         RadarDataSet copied = new RadarDataSet(yVals, getLabel());
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mHighLightColor = mHighLightColor;
 
         return copied;
@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Relative strength index with Wilder's smoothing, between 0 and 100. The average gain and loss
+ * start with the simple averages of the first period changes, the first value is emitted with
+ * the value completing them.
+ */
+public class RsiIndicator extends Indicator {
+
+    protected final int mPeriod;
+
+    private int mChangeCount = -1;
+
+    private float mPrevious;
+
+    private double mAverageGain;
+
+    private double mAverageLoss;
+
+    public RsiIndicator(BaseDataSet<? extends Entry> source, int period, String label) {
+        super(source);
+
+        if (period <= 0)
+            throw new IllegalArgumentException("Period must be positive");
+
+        mPeriod = period;
+
+        createOutput(label);
+    }
+
+    public int getPeriod() {
+        return mPeriod;
+    }
+
+    @Override
+    protected void reset() {
+        mChangeCount = -1;
+        mAverageGain = 0.0;
+        mAverageLoss = 0.0;
+    }
+
+    @Override
+    protected void onValue(float x, float value) {
+
+        if (mChangeCount < 0) {
+            mPrevious = value;
+            mChangeCount = 0;
+            return;
+        }
+
+        float change = value - mPrevious;
+        float gain = change > 0f ? change : 0f;
+        float loss = change < 0f ? -change : 0f;
+
+        mPrevious = value;
+        mChangeCount++;
+
+        if (mChangeCount <= mPeriod) {
+
+            // sums up the starting averages
+            mAverageGain += gain;
+            mAverageLoss += loss;
+
+            if (mChangeCount < mPeriod)
+                return;
+
+            mAverageGain /= mPeriod;
+            mAverageLoss /= mPeriod;
+
+        } else {
+            mAverageGain = (mAverageGain * (mPeriod - 1) + gain) / mPeriod;
+            mAverageLoss = (mAverageLoss * (mPeriod - 1) + loss) / mPeriod;
+        }
+
+        emit(x, getRsi());
+    }
+
+    private float getRsi() {
+
+        if (mAverageLoss == 0.0)
+            return mAverageGain == 0.0 ? 50f : 100f;
+
+        return (float) (100.0 - 100.0 / (1.0 + mAverageGain / mAverageLoss));
+    }
+}
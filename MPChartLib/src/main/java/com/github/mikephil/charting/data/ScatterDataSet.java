@@ -1,6 +1,8 @@
 
 package com.github.mikephil.charting.data;
 
+import android.graphics.Color;
+
 import com.github.mikephil.charting.charts.ScatterChart;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.renderer.scatter.ChevronDownShapeRenderer;
@@ -41,6 +43,27 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
      */
     private int mScatterShapeHoleColor = ColorTemplate.COLOR_NONE;
 
+    /**
+     * the colors of the density ramp, from the lowest to the highest count
+     */
+    public static final int[] DEFAULT_DENSITY_COLORS = {
+            Color.rgb(49, 54, 149), Color.rgb(69, 117, 180), Color.rgb(116, 173, 209),
+            Color.rgb(254, 224, 144), Color.rgb(244, 109, 67), Color.rgb(165, 0, 38)
+    };
+
+    /**
+     * how the entries are aggregated into density bins, default: OFF (every entry is drawn as a
+     * shape)
+     */
+    private DensityMode mDensityMode = DensityMode.OFF;
+
+    /**
+     * the size of a density bin in density pixels
+     */
+    private float mDensityBinSize = 6f;
+
+    private int[] mDensityColors = DEFAULT_DENSITY_COLORS;
+
     public ScatterDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
     }
@@ -58,10 +81,14 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         copied.mDrawValues = mDrawValues;
         copied.mValueColors = mValueColors;
         copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
         copied.mShapeSize = mShapeSize;
         copied.mShapeRenderer = mShapeRenderer;
         copied.mScatterShapeHoleRadius = mScatterShapeHoleRadius;
         copied.mScatterShapeHoleColor = mScatterShapeHoleColor;
+        copied.mDensityMode = mDensityMode;
+        copied.mDensityBinSize = mDensityBinSize;
+        copied.mDensityColors = mDensityColors;
         copied.mHighlightLineWidth = mHighlightLineWidth;
         copied.mHighLightColor = mHighLightColor;
         copied.mHighlightDashPathEffect = mHighlightDashPathEffect;
@@ -69,6 +96,16 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         return copied;
     }
 
+    /**
+     * Subclasses overriding calcMinMax(Entry) or calcMinMaxY(Entry) have to return false.
+     *
+     * @return
+     */
+    @Override
+    protected boolean hasEntryValueBounds() {
+        return true;
+    }
+
     /**
      * Sets the size in density pixels the drawn scattershape will have. This
      * only applies for non custom shapes.
@@ -138,6 +175,59 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         return mScatterShapeHoleColor;
     }
 
+    /**
+     * Sets how the entries are aggregated. With GRID or HEXAGON, the visible entries are counted
+     * in bins of the size set with setDensityBinSize(...) and the bins are drawn as a single bitmap
+     * colored by their count, instead of drawing a shape per entry. Appended entries are added to
+     * the existing bins, use Chart.notifyEntriesInserted(...) after appending, the bins are
+     * calculated again after any other change. Values are not drawn in density mode, touches
+     * highlight a whole bin (see BinHighlight).
+     *
+     * @param mode
+     */
+    public void setDensityMode(DensityMode mode) {
+        mDensityMode = mode == null ? DensityMode.OFF : mode;
+    }
+
+    @Override
+    public DensityMode getDensityMode() {
+        return mDensityMode;
+    }
+
+    /**
+     * Sets the size of a density bin in density pixels, for HEXAGON the width of a hexagon.
+     * Default: 6dp
+     *
+     * @param size
+     */
+    public void setDensityBinSize(float size) {
+        mDensityBinSize = Math.max(size, 1f);
+    }
+
+    @Override
+    public float getDensityBinSize() {
+        return mDensityBinSize;
+    }
+
+    /**
+     * Sets the colors the counts of the density bins are mapped to, from the lowest to the highest
+     * count. The colors in between are interpolated.
+     *
+     * @param colors
+     */
+    public void setDensityColors(int... colors) {
+
+        if (colors == null || colors.length == 0)
+            colors = DEFAULT_DENSITY_COLORS;
+
+        mDensityColors = colors;
+    }
+
+    @Override
+    public int[] getDensityColors() {
+        return mDensityColors;
+    }
+
     public static IShapeRenderer getRendererForShape(ScatterChart.ScatterShape shape) {
 
         switch (shape) {
@@ -152,4 +242,10 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
 
         return null;
     }
+
+    public enum DensityMode {
+        OFF,
+        GRID,
+        HEXAGON
+    }
 }
@@ -0,0 +1,493 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet that stores only a column of y-values as primitive floats and takes its x-values
+ * from a SharedXValues column that can be shared with other DataSets. Compared to a LineDataSet
+ * holding one Entry object per value, this needs a fraction of the memory for multi-channel data
+ * that is sampled at identical x-positions.
+ *
+ * The LineChartRenderer draws all visible SharedXLineDataSets of the same x-column in one pass:
+ * the visible range and the x-pixel positions are only computed once for the whole group.
+ *
+ * INFORMATION: Entry objects returned by this DataSet (e.g. getEntryForIndex(...)) are not backed
+ * by the DataSet, modifying them has no effect. getEntryForIndex(...) and getEntryForXValue(...)
+ * cycle through SCRATCH_ENTRY_COUNT reused instances, an entry returned by them is only valid
+ * until as many further calls were made (enough for the renderers, which hold at most four
+ * neighbouring entries at a time). getValues() and getEntriesForXValue(...) return newly created
+ * entries. Removing an entry removes its row from the shared x-column and thus
+ * from all DataSets sharing it.
+ */
+public class SharedXLineDataSet extends LineDataSet {
+
+    /**
+     * the shared x-column
+     */
+    protected SharedXValues mXValues;
+
+    /**
+     * the y-values, only the first mYCount are valid
+     */
+    protected float[] mYValues;
+
+    /**
+     * number of valid y-values
+     */
+    protected int mYCount;
+
+    /**
+     * number of reused entries getEntryForIndex(...) cycles through
+     */
+    public static final int SCRATCH_ENTRY_COUNT = 4;
+
+    /**
+     * the entries returned by getEntryForIndex(...)
+     */
+    protected Entry[] mScratchEntries = new Entry[SCRATCH_ENTRY_COUNT];
+
+    /**
+     * index of the scratch entry returned last
+     */
+    private int mScratchIndex = 0;
+
+    /**
+     * Creates a DataSet with the given y-values (the array is not copied). The y-value at index i
+     * belongs to the x-value at index i of the shared x-column.
+     *
+     * @param xValues
+     * @param yValues
+     * @param label
+     */
+    public SharedXLineDataSet(SharedXValues xValues, float[] yValues, String label) {
+        super(null, label);
+
+        if (xValues == null || yValues == null)
+            throw new IllegalArgumentException("x-values or y-values array is NULL");
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mYCount = yValues.length;
+
+        xValues.register(this);
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates an empty DataSet for the given x-column, y-values can be appended with
+     * addValue(...).
+     *
+     * @param xValues
+     * @param label
+     */
+    public SharedXLineDataSet(SharedXValues xValues, String label) {
+        this(xValues, new float[Math.max(xValues.size(), 16)], label);
+        mYCount = 0;
+        calcMinMax();
+    }
+
+    /**
+     * Returns the x-column this DataSet takes its x-values from.
+     *
+     * @return
+     */
+    public SharedXValues getSharedXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the raw y-values array, only the first getEntryCount() values are valid.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Returns the y-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getYValue(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public float getYValueForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public void setYValueForIndex(int index, float y) {
+        mYValues[index] = y;
+    }
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getXValue(int index) {
+        return mXValues.get(index);
+    }
+
+    /**
+     * Appends a y-value for the next x-value of the shared x-column.
+     *
+     * @param y
+     */
+    public void addValue(float y) {
+
+        if (mYCount == mYValues.length)
+            mYValues = Arrays.copyOf(mYValues, Math.max(mYCount * 2, 16));
+
+        mYValues[mYCount++] = y;
+
+        if (mYCount <= mXValues.size())
+            calcMinMax(mXValues.get(mYCount - 1), y);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor, before the columns are set
+        if (mXValues == null)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0, count = getEntryCount(); i < count; i++)
+            calcMinMax(mXValues.get(i), mYValues[i]);
+    }
+
+    /**
+     * Inserting at the end only extends the bounds by the appended values, any other insertion
+     * recalculates them.
+     *
+     * @param from
+     * @param count
+     */
+    @Override
+    public void notifyEntriesInserted(int from, int count) {
+
+        if (from + count != getEntryCount()) {
+            super.notifyEntriesInserted(from, count);
+            return;
+        }
+
+        for (int i = from; i < from + count; i++)
+            calcMinMax(getXValue(i), mYValues[i]);
+
+        dispatchEntriesInserted(from, count);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        int count = getEntryCount();
+        if (count == 0)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = mXValues.getIndex(fromX, Rounding.DOWN, count);
+        int indexTo = mXValues.getIndex(toX, Rounding.UP, count);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = mYValues[i];
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return Math.min(mYCount, mXValues.size());
+    }
+
+    /**
+     * Returns a newly created list of entries representing the values of this DataSet.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+
+        int count = getEntryCount();
+        List<Entry> entries = new ArrayList<Entry>(count);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(mXValues.get(i), mYValues[i]));
+
+        return entries;
+    }
+
+    /**
+     * Replaces the y-values with those of the given entries. The x-value of the entry at index i
+     * has to match the x-value at index i of the shared x-column.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        int count = values == null ? 0 : values.size();
+
+        if (count > mXValues.size())
+            throw new IllegalArgumentException("More entries than shared x-values");
+
+        float[] yValues = new float[Math.max(count, 16)];
+
+        for (int i = 0; i < count; i++) {
+
+            Entry e = values.get(i);
+
+            if (mXValues.get(i) != e.getX())
+                throw new IllegalArgumentException("Entry does not match the x-value at index " + i);
+
+            yValues[i] = e.getY();
+        }
+
+        mYValues = yValues;
+        mYCount = count;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Called by the shared x-column after the given rows were removed from it.
+     *
+     * @param from
+     * @param count
+     */
+    void onRowsRemoved(int from, int count) {
+
+        if (from >= mYCount)
+            return;
+
+        count = Math.min(count, mYCount - from);
+
+        System.arraycopy(mYValues, from + count, mYValues, from, mYCount - from - count);
+        mYCount -= count;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        SharedXLineDataSet copied = new SharedXLineDataSet(mXValues,
+                Arrays.copyOf(mYValues, mYCount), getLabel());
+        copied.setMode(getMode());
+        copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
+        copied.setCircleRadius(getCircleRadius());
+        copied.setCircleHoleRadius(getCircleHoleRadius());
+        copied.setCircleColors(getCircleColors());
+        copied.setDrawCircles(isDrawCirclesEnabled());
+        copied.setDrawCircleHole(isDrawCircleHoleEnabled());
+        copied.mHighLightColor = mHighLightColor;
+
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0, count = getEntryCount(); i < count; i++) {
+            buffer.append(getEntryForIndex(i).toString() + " ");
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + getEntryCount() +
+                "\n");
+        return buffer.toString();
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        addEntry(e);
+    }
+
+    /**
+     * Appends the y-value of the given Entry. The x-value of the Entry has to match the next
+     * x-value of the shared x-column.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        if (mYCount >= mXValues.size() || mXValues.get(mYCount) != e.getX())
+            throw new IllegalArgumentException("Entry does not match the next x-value of the shared x-values");
+
+        addValue(e.getY());
+        return true;
+    }
+
+    /**
+     * Removes the row of the given Entry from the shared x-column, which removes the values at its
+     * index from all DataSets sharing the column.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean removeEntry(Entry e) {
+
+        int index = getEntryIndex(e);
+
+        if (index < 0)
+            return false;
+
+        mXValues.remove(index, 1);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mYCount = 0;
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), e.getY(), Rounding.CLOSEST);
+
+        if (index > -1 && mXValues.get(index) == e.getX() && mYValues[index] == e.getY())
+            return index;
+
+        return -1;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+        mScratchIndex = (mScratchIndex + 1) % SCRATCH_ENTRY_COUNT;
+
+        Entry e = mScratchEntries[mScratchIndex];
+
+        if (e == null) {
+            e = new Entry();
+            mScratchEntries[mScratchIndex] = e;
+        }
+
+        e.setX(mXValues.get(index));
+        e.setY(mYValues[index]);
+        return e;
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        int count = getEntryCount();
+        int closest = mXValues.getIndex(xValue, rounding, count);
+
+        // search by closest to y-value among entries with the same x-value
+        if (closest > -1 && !Float.isNaN(closestToY)) {
+
+            float closestXValue = mXValues.get(closest);
+
+            while (closest > 0 && mXValues.get(closest - 1) == closestXValue)
+                closest--;
+
+            int closestYIndex = closest;
+
+            for (int i = closest + 1; i < count && mXValues.get(i) == closestXValue; i++) {
+                if (Math.abs(mYValues[i] - closestToY) < Math.abs(mYValues[closestYIndex] - closestToY))
+                    closestYIndex = i;
+            }
+
+            closest = closestYIndex;
+        }
+
+        return closest;
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        int[] range = new int[2];
+        int count = getEntryIndexRangeForXValue(xValue, range);
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(mXValues.get(range[0] + i), mYValues[range[0] + i]));
+
+        return entries;
+    }
+
+    @Override
+    public int getEntryIndexRangeForXValue(float xValue, int[] range) {
+
+        int count = getEntryCount();
+        int index = mXValues.getIndex(xValue, Rounding.CLOSEST, count);
+
+        if (index < 0 || mXValues.get(index) != xValue)
+            return 0;
+
+        int first = index;
+        while (first > 0 && mXValues.get(first - 1) == xValue)
+            first--;
+
+        int last = index;
+        while (last < count - 1 && mXValues.get(last + 1) == xValue)
+            last++;
+
+        range[0] = first;
+        range[1] = last;
+        return last - first + 1;
+    }
+}
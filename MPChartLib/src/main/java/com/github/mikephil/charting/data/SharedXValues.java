@@ -0,0 +1,225 @@
+package com.github.mikephil.charting.data;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single column of x-values that is shared by multiple SharedXLineDataSets, e.g. the sampling
+ * timestamps of a multi-channel sensor. The x-values are stored once as primitive floats and
+ * have to be in ascending order.
+ */
+public class SharedXValues {
+
+    /**
+     * the x-values, only the first mCount are valid
+     */
+    protected float[] mValues;
+
+    /**
+     * number of valid x-values
+     */
+    protected int mCount;
+
+    /**
+     * the DataSets taking their x-values from this column, notified when rows are removed
+     */
+    protected List<WeakReference<SharedXLineDataSet>> mDataSets = new ArrayList<WeakReference<SharedXLineDataSet>>();
+
+    /**
+     * Creates an empty x-column with the given initial capacity.
+     *
+     * @param capacity
+     */
+    public SharedXValues(int capacity) {
+        mValues = new float[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Creates a x-column backed by the given array (which is not copied). The values must be in
+     * ascending order.
+     *
+     * @param values
+     */
+    public SharedXValues(float[] values) {
+        if (values == null)
+            throw new IllegalArgumentException("values array is NULL");
+
+        mValues = values;
+        mCount = values.length;
+    }
+
+    /**
+     * Appends a x-value. It must not be smaller than the last x-value of the column.
+     *
+     * @param x
+     */
+    public void add(float x) {
+
+        if (mCount > 0 && x < mValues[mCount - 1])
+            throw new IllegalArgumentException("x-values must be added in ascending order");
+
+        if (mCount == mValues.length)
+            mValues = Arrays.copyOf(mValues, Math.max(mCount * 2, 16));
+
+        mValues[mCount++] = x;
+    }
+
+    /**
+     * Removes the given number of x-values starting at the given index, together with the
+     * y-values at these indices of all SharedXLineDataSets using this column.
+     *
+     * @param from
+     * @param count
+     */
+    public void remove(int from, int count) {
+
+        if (from < 0 || count <= 0 || from >= mCount)
+            return;
+
+        count = Math.min(count, mCount - from);
+
+        System.arraycopy(mValues, from + count, mValues, from, mCount - from - count);
+        mCount -= count;
+
+        dispatchRowsRemoved(from, count);
+    }
+
+    private void dispatchRowsRemoved(int from, int count) {
+
+        for (int i = mDataSets.size() - 1; i >= 0; i--) {
+
+            SharedXLineDataSet set = mDataSets.get(i).get();
+
+            if (set == null)
+                mDataSets.remove(i);
+            else
+                set.onRowsRemoved(from, count);
+        }
+    }
+
+    /**
+     * Registers a DataSet using this column.
+     *
+     * @param set
+     */
+    void register(SharedXLineDataSet set) {
+        mDataSets.add(new WeakReference<SharedXLineDataSet>(set));
+    }
+
+    /**
+     * Removes all x-values, together with all y-values of the SharedXLineDataSets using this
+     * column.
+     */
+    public void clear() {
+        mCount = 0;
+
+        // also drops y-values appended ahead of their x-values
+        dispatchRowsRemoved(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of x-values in this column.
+     *
+     * @return
+     */
+    public int size() {
+        return mCount;
+    }
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float get(int index) {
+        return mValues[index];
+    }
+
+    /**
+     * Returns the index of the x-value closest to the given x-value, using the same search as
+     * DataSet.getEntryIndex(...). Returns -1 if the column is empty.
+     *
+     * @param xValue
+     * @param rounding
+     * @return
+     */
+    public int getIndex(float xValue, DataSet.Rounding rounding) {
+        return getIndex(xValue, rounding, mCount);
+    }
+
+    /**
+     * Same as getIndex(float, Rounding), but only searches the first count x-values.
+     *
+     * @param xValue
+     * @param rounding
+     * @param count
+     * @return
+     */
+    public int getIndex(float xValue, DataSet.Rounding rounding, int count) {
+
+        count = Math.min(count, mCount);
+
+        if (count <= 0)
+            return -1;
+
+        int low = 0;
+        int high = count - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final float d1 = mValues[m] - xValue,
+                    d2 = mValues[m + 1] - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                high = m;
+            } else {
+                // multiple sequential x-values with the same distance
+                if (d1 >= 0.0)
+                    high = m;
+                else
+                    low = m + 1;
+            }
+
+            closest = high;
+        }
+
+        float closestXValue = mValues[closest];
+        if (rounding == DataSet.Rounding.UP) {
+            if (closestXValue < xValue && closest < count - 1)
+                ++closest;
+        } else if (rounding == DataSet.Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0)
+                --closest;
+        }
+
+        return closest;
+    }
+
+    /**
+     * Returns the first x-value of the column.
+     *
+     * @return
+     */
+    public float getMin() {
+        return mCount == 0 ? 0f : mValues[0];
+    }
+
+    /**
+     * Returns the last x-value of the column.
+     *
+     * @return
+     */
+    public float getMax() {
+        return mCount == 0 ? 0f : mValues[mCount - 1];
+    }
+}
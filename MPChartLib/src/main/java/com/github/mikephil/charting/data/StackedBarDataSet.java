@@ -0,0 +1,623 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stacked BarDataSet that stores the values of all stacks in one flat float array (row-major by
+ * entry, getStackSize() values per entry) instead of one BarEntry with its own values- and
+ * Range-array per bar. The lower bound of every stack segment is precomputed, so that the
+ * BarBuffer and the BarHighlighter can read the segments directly.
+ *
+ * INFORMATION: BarEntry objects returned by this DataSet (e.g. getEntryForIndex(...)) are created
+ * on demand and are not backed by the DataSet, modifying them (e.g. BarData.groupBars(...)) has
+ * no effect. The renderers and the highlighter read the flat arrays directly and do not create
+ * entries.
+ */
+public class StackedBarDataSet extends BarDataSet {
+
+    /**
+     * the x-values, one per entry
+     */
+    protected SharedXValues mXValues;
+
+    /**
+     * the stack values, mStackSize per entry
+     */
+    protected float[] mStackValues;
+
+    /**
+     * the lower bound of each stack segment, aligned with mStackValues
+     */
+    protected float[] mStackOffsets;
+
+    /**
+     * number of values per stack
+     */
+    protected int mStack;
+
+    /**
+     * number of entries
+     */
+    protected int mCount;
+
+    /**
+     * buffer for the index range looked up by getEntryIndex(...)
+     */
+    private int[] mIndexRange = new int[2];
+
+    /**
+     * Creates a DataSet from the given x-values and stack values (the arrays are not copied).
+     * The values of the stack of entry i are stored at [i * stackSize, (i + 1) * stackSize).
+     *
+     * @param xValues     x-values in ascending order
+     * @param stackValues
+     * @param stackSize   number of values per stack
+     * @param label
+     */
+    public StackedBarDataSet(float[] xValues, float[] stackValues, int stackSize, String label) {
+        super(new ArrayList<BarEntry>(0), label);
+
+        if (xValues == null || stackValues == null)
+            throw new IllegalArgumentException("x-values or stack values array is NULL");
+
+        if (stackSize < 1 || stackValues.length < xValues.length * stackSize)
+            throw new IllegalArgumentException("stack values array does not match the x-values and stack size");
+
+        mXValues = new SharedXValues(xValues);
+        mStackValues = stackValues;
+        mStack = stackSize;
+        mCount = xValues.length;
+        mStackOffsets = new float[stackValues.length];
+
+        for (int i = 0; i < mCount; i++)
+            calcStackOffsets(i);
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates an empty DataSet, stacks can be appended with addStack(...).
+     *
+     * @param stackSize number of values per stack
+     * @param label
+     */
+    public StackedBarDataSet(int stackSize, String label) {
+        this(new float[0], new float[0], stackSize, label);
+        mXValues = new SharedXValues(16);
+        mStackValues = new float[16 * stackSize];
+        mStackOffsets = new float[16 * stackSize];
+    }
+
+    /**
+     * Appends a stack. Missing values are treated as 0, additional ones are ignored.
+     *
+     * @param x      must not be smaller than the last x-value
+     * @param values
+     */
+    public void addStack(float x, float[] values) {
+
+        mXValues.add(x);
+
+        int size = (mCount + 1) * mStack;
+        if (mStackValues.length < size) {
+            mStackValues = Arrays.copyOf(mStackValues, size * 2);
+            mStackOffsets = Arrays.copyOf(mStackOffsets, size * 2);
+        }
+
+        int offset = mCount * mStack;
+        for (int k = 0; k < mStack; k++)
+            mStackValues[offset + k] = values != null && k < values.length ? values[k] : 0f;
+
+        calcStackOffsets(mCount);
+        mCount++;
+
+        calcMinMax(mCount - 1);
+    }
+
+    /**
+     * Calculates the lower bounds of the stack segments of the given entry, the same way as
+     * BarEntry does for its ranges: negative values are stacked downwards from the negative sum,
+     * positive values upwards from 0.
+     */
+    protected void calcStackOffsets(int index) {
+
+        int offset = index * mStack;
+
+        float negRemain = -getNegativeSum(index);
+        float posRemain = 0f;
+
+        for (int k = 0; k < mStack; k++) {
+
+            float value = mStackValues[offset + k];
+
+            if (value < 0) {
+                mStackOffsets[offset + k] = negRemain;
+                negRemain -= value;
+            } else {
+                mStackOffsets[offset + k] = posRemain;
+                posRemain += value;
+            }
+        }
+    }
+
+    /**
+     * Returns the x-value of the entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getXValue(int index) {
+        return mXValues.get(index);
+    }
+
+    /**
+     * Returns the value of the given segment of the stack at the given index.
+     *
+     * @param index
+     * @param stackIndex
+     * @return
+     */
+    public float getStackValue(int index, int stackIndex) {
+        return mStackValues[index * mStack + stackIndex];
+    }
+
+    /**
+     * Returns the lower bound of the given segment of the stack at the given index.
+     *
+     * @param index
+     * @param stackIndex
+     * @return
+     */
+    public float getStackFrom(int index, int stackIndex) {
+        return mStackOffsets[index * mStack + stackIndex];
+    }
+
+    /**
+     * Returns the upper bound of the given segment of the stack at the given index.
+     *
+     * @param index
+     * @param stackIndex
+     * @return
+     */
+    public float getStackTo(int index, int stackIndex) {
+        int i = index * mStack + stackIndex;
+        return mStackOffsets[i] + Math.abs(mStackValues[i]);
+    }
+
+    /**
+     * Returns the raw stack values, getStackSize() per entry.
+     *
+     * @return
+     */
+    public float[] getStackValues() {
+        return mStackValues;
+    }
+
+    /**
+     * Returns the raw lower bounds of the stack segments, aligned with getStackValues().
+     *
+     * @return
+     */
+    public float[] getStackOffsets() {
+        return mStackOffsets;
+    }
+
+    /**
+     * Returns the sum of all values of the stack at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getSum(int index) {
+
+        float sum = 0f;
+
+        for (int i = index * mStack, end = i + mStack; i < end; i++)
+            sum += mStackValues[i];
+
+        return sum;
+    }
+
+    /**
+     * Returns the sum of all positive values of the stack at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getPositiveSum(int index) {
+
+        float sum = 0f;
+
+        for (int i = index * mStack, end = i + mStack; i < end; i++) {
+            if (mStackValues[i] > 0f)
+                sum += mStackValues[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the absolute sum of all negative values of the stack at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getNegativeSum(int index) {
+
+        float sum = 0f;
+
+        for (int i = index * mStack, end = i + mStack; i < end; i++) {
+            if (mStackValues[i] <= 0f)
+                sum += Math.abs(mStackValues[i]);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the index of the segment of the stack at the given index that contains the given
+     * value, or the closest one if none contains it. Same as BarHighlighter.getClosestStackIndex(...)
+     * for the ranges of a BarEntry.
+     *
+     * @param index
+     * @param value
+     * @return
+     */
+    public int getClosestStackIndex(int index, float value) {
+
+        int offset = index * mStack;
+
+        for (int k = 0; k < mStack; k++) {
+
+            float from = mStackOffsets[offset + k];
+            float to = from + Math.abs(mStackValues[offset + k]);
+
+            if (value > from && value <= to)
+                return k;
+        }
+
+        int last = mStack - 1;
+
+        return value > getStackTo(index, last) ? last : 0;
+    }
+
+    /**
+     * The entries are created on demand.
+     *
+     * @return false
+     */
+    @Override
+    public boolean hasMutableYValues() {
+        return false;
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor, before the arrays are set
+        if (mXValues == null)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0; i < mCount; i++)
+            calcMinMax(i);
+    }
+
+    protected void calcMinMax(int index) {
+
+        float negativeSum = getNegativeSum(index);
+        float positiveSum = getPositiveSum(index);
+
+        if (-negativeSum < mYMin)
+            mYMin = -negativeSum;
+
+        if (positiveSum > mYMax)
+            mYMax = positiveSum;
+
+        float x = mXValues.get(index);
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mCount == 0)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = mXValues.getIndex(fromX, Rounding.DOWN, mCount);
+        int indexTo = mXValues.getIndex(toX, Rounding.UP, mCount);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float negativeSum = getNegativeSum(i);
+            float positiveSum = getPositiveSum(i);
+
+            if (-negativeSum < mYMin)
+                mYMin = -negativeSum;
+
+            if (positiveSum > mYMax)
+                mYMax = positiveSum;
+        }
+    }
+
+    @Override
+    public int getStackSize() {
+        return mStack;
+    }
+
+    @Override
+    public boolean isStacked() {
+        return mStack > 1;
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        return mCount * mStack;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns a newly created list of entries representing the values of this DataSet.
+     *
+     * @return
+     */
+    @Override
+    public List<BarEntry> getValues() {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>(mCount);
+
+        for (int i = 0; i < mCount; i++)
+            entries.add(getEntryForIndex(i));
+
+        return entries;
+    }
+
+    /**
+     * Replaces all stacks with those of the given entries, see addStack(...).
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<BarEntry> values) {
+
+        mCount = 0;
+        mXValues = new SharedXValues(16);
+
+        if (values != null) {
+            for (BarEntry e : values)
+                addStack(e.getX(), e.getYVals() != null ? e.getYVals() : new float[]{e.getY()});
+        }
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<BarEntry> copy() {
+
+        StackedBarDataSet copied = new StackedBarDataSet(
+                Arrays.copyOf(mXValues.mValues, mCount),
+                Arrays.copyOf(mStackValues, mCount * mStack), mStack, getLabel());
+        copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
+        copied.setBarShadowColor(getBarShadowColor());
+        copied.setStackLabels(getStackLabels());
+        copied.mHighLightColor = mHighLightColor;
+        copied.setHighLightAlpha(getHighLightAlpha());
+
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0; i < mCount; i++) {
+            buffer.append(getEntryForIndex(i).toString() + " ");
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + mCount +
+                "\n");
+        return buffer.toString();
+    }
+
+    @Override
+    public void addEntryOrdered(BarEntry e) {
+        addEntry(e);
+    }
+
+    /**
+     * Appends the stack of the given BarEntry, see addStack(...).
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean addEntry(BarEntry e) {
+
+        if (e == null)
+            return false;
+
+        addStack(e.getX(), e.getYVals() != null ? e.getYVals() : new float[]{e.getY()});
+        return true;
+    }
+
+    /**
+     * Removes the stack of the given BarEntry, matched by its x-value and stack values.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean removeEntry(BarEntry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    /**
+     * Removes the stack at the given index.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mCount)
+            return false;
+
+        int from = (index + 1) * mStack;
+        int length = (mCount - index - 1) * mStack;
+
+        System.arraycopy(mStackValues, from, mStackValues, index * mStack, length);
+        System.arraycopy(mStackOffsets, from, mStackOffsets, index * mStack, length);
+
+        mXValues.remove(index, 1);
+        mCount--;
+
+        notifyDataSetChanged();
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mCount - 1);
+    }
+
+    /**
+     * Returns the index of the stack with the x-value and stack values of the given BarEntry. For
+     * a BarEntry without stack values, the first stack at its x-value with the same sum is used.
+     *
+     * @param e
+     * @return -1 if there is no such stack
+     */
+    @Override
+    public int getEntryIndex(BarEntry e) {
+
+        if (e == null)
+            return -1;
+
+        int[] range = mIndexRange;
+        int count = getEntryIndexRangeForXValue(e.getX(), range);
+
+        float[] vals = e.getYVals();
+
+        for (int i = range[0]; i < range[0] + count; i++) {
+
+            if (vals == null) {
+
+                if (getSum(i) == e.getY())
+                    return i;
+
+            } else if (matchesStack(i, vals)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean matchesStack(int index, float[] vals) {
+
+        int offset = index * mStack;
+
+        for (int k = 0; k < mStack; k++) {
+
+            float value = k < vals.length ? vals[k] : 0f;
+
+            if (mStackValues[offset + k] != value)
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mCount = 0;
+        mXValues = new SharedXValues(16);
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public BarEntry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public BarEntry getEntryForIndex(int index) {
+
+        int offset = index * mStack;
+        return new BarEntry(mXValues.get(index), Arrays.copyOfRange(mStackValues, offset, offset + mStack));
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+        return mXValues.getIndex(xValue, rounding, mCount);
+    }
+
+    @Override
+    public List<BarEntry> getEntriesForXValue(float xValue) {
+
+        List<BarEntry> entries = new ArrayList<BarEntry>();
+
+        int[] range = new int[2];
+        int count = getEntryIndexRangeForXValue(xValue, range);
+
+        for (int i = 0; i < count; i++)
+            entries.add(getEntryForIndex(range[0] + i));
+
+        return entries;
+    }
+
+    @Override
+    public int getEntryIndexRangeForXValue(float xValue, int[] range) {
+
+        int index = mXValues.getIndex(xValue, Rounding.CLOSEST, mCount);
+
+        if (index < 0 || mXValues.get(index) != xValue)
+            return 0;
+
+        int first = index;
+        while (first > 0 && mXValues.get(first - 1) == xValue)
+            first--;
+
+        int last = index;
+        while (last < mCount - 1 && mXValues.get(last + 1) == xValue)
+            last++;
+
+        range[0] = first;
+        range[1] = last;
+        return last - first + 1;
+    }
+}
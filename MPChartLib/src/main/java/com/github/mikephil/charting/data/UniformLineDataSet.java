@@ -0,0 +1,573 @@
+package com.github.mikephil.charting.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * LineDataSet for values sampled at a fixed interval. The x-value of the entry at index i is
+ * x0 + i * dx, so no x-values are stored at all, only a column of y-values as primitive floats.
+ * Looking up the index of an x-value is a constant time calculation instead of a binary search,
+ * which makes finding the visible range and highlighting independent of the number of entries.
+ *
+ * The LineChartRenderer draws linear and stepped UniformLineDataSets directly from the y-column,
+ * calculating the x-pixel positions from the first position and the pixel distance of dx.
+ *
+ * INFORMATION: Entry objects returned by this DataSet (e.g. getEntryForIndex(...)) are not backed
+ * by the DataSet, modifying them has no effect. getEntryForIndex(...) and getEntryForXValue(...)
+ * cycle through SCRATCH_ENTRY_COUNT reused instances, an entry returned by them is only valid
+ * until as many further calls were made. getValues() and getEntriesForXValue(...) return newly
+ * created entries. As the x-values follow from the position, only the first and the last entry
+ * can be removed, removing an entry in between would move the x-values of all following entries.
+ */
+public class UniformLineDataSet extends LineDataSet {
+
+    /**
+     * number of reused entries getEntryForIndex(...) cycles through
+     */
+    public static final int SCRATCH_ENTRY_COUNT = 4;
+
+    /**
+     * the x-value of the first entry
+     */
+    protected float mX0;
+
+    /**
+     * the distance between the x-values of two adjacent entries
+     */
+    protected float mDx;
+
+    /**
+     * the y-values, only the first mYCount are valid
+     */
+    protected float[] mYValues;
+
+    /**
+     * number of valid y-values
+     */
+    protected int mYCount;
+
+    /**
+     * the entries returned by getEntryForIndex(...)
+     */
+    protected Entry[] mScratchEntries = new Entry[SCRATCH_ENTRY_COUNT];
+
+    /**
+     * index of the scratch entry returned last
+     */
+    private int mScratchIndex = 0;
+
+    /**
+     * Creates a DataSet with the given y-values (the array is not copied). The y-value at index i
+     * belongs to the x-value x0 + i * dx.
+     *
+     * @param x0      the x-value of the first entry
+     * @param dx      the distance between the x-values of two adjacent entries, has to be positive
+     * @param yValues
+     * @param label
+     */
+    public UniformLineDataSet(float x0, float dx, float[] yValues, String label) {
+        super(null, label);
+
+        if (yValues == null)
+            throw new IllegalArgumentException("y-values array is NULL");
+
+        if (!(dx > 0f))
+            throw new IllegalArgumentException("The x-distance has to be positive");
+
+        mX0 = x0;
+        mDx = dx;
+        mYValues = yValues;
+        mYCount = yValues.length;
+
+        calcMinMax();
+    }
+
+    /**
+     * Creates an empty DataSet, y-values can be appended with addValue(...).
+     *
+     * @param x0    the x-value of the first entry
+     * @param dx    the distance between the x-values of two adjacent entries, has to be positive
+     * @param label
+     */
+    public UniformLineDataSet(float x0, float dx, String label) {
+        this(x0, dx, new float[16], label);
+        mYCount = 0;
+        calcMinMax();
+    }
+
+    /**
+     * Returns the x-value of the first entry.
+     *
+     * @return
+     */
+    public float getX0() {
+        return mX0;
+    }
+
+    /**
+     * Returns the distance between the x-values of two adjacent entries.
+     *
+     * @return
+     */
+    public float getDx() {
+        return mDx;
+    }
+
+    /**
+     * Returns the raw y-values array, only the first getEntryCount() values are valid.
+     *
+     * @return
+     */
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Returns the y-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getYValue(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public float getYValueForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public void setYValueForIndex(int index, float y) {
+        mYValues[index] = y;
+    }
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getXValue(int index) {
+        return mX0 + index * mDx;
+    }
+
+    /**
+     * Appends the y-value of the next sample.
+     *
+     * @param y
+     */
+    public void addValue(float y) {
+
+        if (mYCount == mYValues.length)
+            mYValues = Arrays.copyOf(mYValues, Math.max(mYCount * 2, 16));
+
+        mYValues[mYCount++] = y;
+
+        calcMinMax(getXValue(mYCount - 1), y);
+    }
+
+    /**
+     * Removes the given number of samples from the start, the x-value of the first remaining
+     * sample becomes the new x0.
+     *
+     * @param count
+     */
+    public void removeFirst(int count) {
+
+        count = Math.min(Math.max(count, 0), mYCount);
+
+        if (count == 0)
+            return;
+
+        System.arraycopy(mYValues, count, mYValues, 0, mYCount - count);
+
+        mYCount -= count;
+        mX0 += count * mDx;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Removes the given number of samples from the end.
+     *
+     * @param count
+     */
+    public void removeLast(int count) {
+
+        count = Math.min(Math.max(count, 0), mYCount);
+
+        if (count == 0)
+            return;
+
+        mYCount -= count;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor, before the column is set
+        if (mYValues == null)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        if (mYCount == 0)
+            return;
+
+        mXMin = mX0;
+        mXMax = getXValue(mYCount - 1);
+
+        for (int i = 0; i < mYCount; i++)
+            calcMinMaxY(mYValues[i]);
+    }
+
+    /**
+     * Inserting at the end only extends the bounds by the appended samples, any other insertion
+     * recalculates them.
+     *
+     * @param from
+     * @param count
+     */
+    @Override
+    public void notifyEntriesInserted(int from, int count) {
+
+        if (from + count != getEntryCount()) {
+            super.notifyEntriesInserted(from, count);
+            return;
+        }
+
+        for (int i = from; i < from + count; i++)
+            calcMinMax(getXValue(i), mYValues[i]);
+
+        dispatchEntriesInserted(from, count);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        if (mYCount == 0)
+            return;
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++)
+            calcMinMaxY(mYValues[i]);
+    }
+
+    protected void calcMinMax(float x, float y) {
+
+        if (x < mXMin)
+            mXMin = x;
+
+        if (x > mXMax)
+            mXMax = x;
+
+        calcMinMaxY(y);
+    }
+
+    private void calcMinMaxY(float y) {
+
+        if (y < mYMin)
+            mYMin = y;
+
+        if (y > mYMax)
+            mYMax = y;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mYCount;
+    }
+
+    /**
+     * Returns a newly created list of entries representing the values of this DataSet.
+     *
+     * @return
+     */
+    @Override
+    public List<Entry> getValues() {
+
+        List<Entry> entries = new ArrayList<Entry>(mYCount);
+
+        for (int i = 0; i < mYCount; i++)
+            entries.add(new Entry(getXValue(i), mYValues[i]));
+
+        return entries;
+    }
+
+    /**
+     * Replaces the values with the y-values of the given entries, which have to be sorted by
+     * x-value and evenly spaced. The x-value of the first entry becomes x0, the distance to the
+     * second one dx (with a single entry, dx is kept).
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(List<Entry> values) {
+
+        int count = values == null ? 0 : values.size();
+
+        float x0 = count > 0 ? values.get(0).getX() : mX0;
+        float dx = count > 1 ? values.get(1).getX() - x0 : mDx;
+
+        if (!(dx > 0f))
+            throw new IllegalArgumentException("The x-distance has to be positive");
+
+        float[] yValues = new float[Math.max(count, 16)];
+
+        for (int i = 0; i < count; i++) {
+
+            Entry e = values.get(i);
+
+            // the x-values are compared with a tolerance of a thousandth of dx
+            if (Math.abs(e.getX() - (x0 + i * dx)) > dx * 0.001f)
+                throw new IllegalArgumentException("Entries are not evenly spaced at index " + i);
+
+            yValues[i] = e.getY();
+        }
+
+        mX0 = x0;
+        mDx = dx;
+        mYValues = yValues;
+        mYCount = count;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+
+        UniformLineDataSet copied = new UniformLineDataSet(mX0, mDx,
+                Arrays.copyOf(mYValues, mYCount), getLabel());
+        copied.setMode(getMode());
+        copied.mColors = mColors;
+        copied.mEntryColors = mEntryColors;
+        copied.setCircleRadius(getCircleRadius());
+        copied.setCircleHoleRadius(getCircleHoleRadius());
+        copied.setCircleColors(getCircleColors());
+        copied.setDrawCircles(isDrawCirclesEnabled());
+        copied.setDrawCircleHole(isDrawCircleHoleEnabled());
+        copied.mHighLightColor = mHighLightColor;
+
+        return copied;
+    }
+
+    @Override
+    public String toString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append(toSimpleString());
+        for (int i = 0; i < mYCount; i++) {
+            buffer.append(getEntryForIndex(i).toString() + " ");
+        }
+        return buffer.toString();
+    }
+
+    @Override
+    public String toSimpleString() {
+        StringBuffer buffer = new StringBuffer();
+        buffer.append("DataSet, label: " + (getLabel() == null ? "" : getLabel()) + ", entries: " + getEntryCount() +
+                ", x0: " + mX0 + ", dx: " + mDx + "\n");
+        return buffer.toString();
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        addEntry(e);
+    }
+
+    /**
+     * Appends the y-value of the given Entry. The x-value of the Entry has to be the x-value of
+     * the next sample.
+     *
+     * @param e
+     * @return
+     */
+    @Override
+    public boolean addEntry(Entry e) {
+
+        if (e == null)
+            return false;
+
+        if (e.getX() != getXValue(mYCount))
+            throw new IllegalArgumentException("Entry does not match the x-value of the next sample");
+
+        addValue(e.getY());
+        return true;
+    }
+
+    /**
+     * Removes the given entry, which has to be the first or the last one.
+     *
+     * @param e
+     * @return false if the entry is not part of the DataSet
+     * @throws IllegalArgumentException if the entry is neither the first nor the last one
+     */
+    @Override
+    public boolean removeEntry(Entry e) {
+        return removeEntry(getEntryIndex(e));
+    }
+
+    /**
+     * Removes the entry at the given index, which has to be the first or the last one.
+     *
+     * @param index
+     * @return false if the index is out of range
+     * @throws IllegalArgumentException if the entry is neither the first nor the last one
+     */
+    @Override
+    public boolean removeEntry(int index) {
+
+        if (index < 0 || index >= mYCount)
+            return false;
+
+        if (index == 0)
+            removeFirst(1);
+        else if (index == mYCount - 1)
+            removeLast(1);
+        else
+            throw new IllegalArgumentException("Only the first or the last entry can be removed from a UniformLineDataSet");
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mYCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mYCount = 0;
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), e.getY(), Rounding.CLOSEST);
+
+        if (index > -1 && getXValue(index) == e.getX() && mYValues[index] == e.getY())
+            return index;
+
+        return -1;
+    }
+
+    @Override
+    public Entry getEntryForXValue(float xValue, float closestToY, Rounding rounding) {
+
+        int index = getEntryIndex(xValue, closestToY, rounding);
+        if (index > -1)
+            return getEntryForIndex(index);
+        return null;
+    }
+
+    @Override
+    public Entry getEntryForIndex(int index) {
+        mScratchIndex = (mScratchIndex + 1) % SCRATCH_ENTRY_COUNT;
+
+        Entry e = mScratchEntries[mScratchIndex];
+
+        if (e == null) {
+            e = new Entry();
+            mScratchEntries[mScratchIndex] = e;
+        }
+
+        e.setX(getXValue(index));
+        e.setY(mYValues[index]);
+        return e;
+    }
+
+    /**
+     * The index is calculated from the x-value.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isEntryIndexConstantTime() {
+        return true;
+    }
+
+    /**
+     * Calculates the index for the given x-value, there is only one entry per x-value so the
+     * y-value is not needed.
+     *
+     * @param xValue
+     * @param closestToY
+     * @param rounding
+     * @return
+     */
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        if (mYCount == 0)
+            return -1;
+
+        float position = (xValue - mX0) / mDx;
+
+        int closest;
+
+        if (!(position > 0f))
+            closest = 0;
+        else if (position >= mYCount - 1)
+            closest = mYCount - 1;
+        else
+            closest = Math.round(position);
+
+        float closestXValue = getXValue(closest);
+
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < mYCount - 1)
+                closest++;
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0)
+                closest--;
+        }
+
+        return closest;
+    }
+
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        int index = getEntryIndex(xValue, Float.NaN, Rounding.CLOSEST);
+
+        if (index > -1 && getXValue(index) == xValue)
+            entries.add(new Entry(getXValue(index), mYValues[index]));
+
+        return entries;
+    }
+
+    @Override
+    public int getEntryIndexRangeForXValue(float xValue, int[] range) {
+
+        int index = getEntryIndex(xValue, Float.NaN, Rounding.CLOSEST);
+
+        if (index < 0 || getXValue(index) != xValue)
+            return 0;
+
+        range[0] = index;
+        range[1] = index;
+        return 1;
+    }
+}
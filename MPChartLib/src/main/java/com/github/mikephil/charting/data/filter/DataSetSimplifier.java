@@ -0,0 +1,129 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.IntArrayList;
+import com.github.mikephil.charting.utils.Transformer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simplifies the line of a DataSet as it is drawn: the entries are transformed into pixels with
+ * the Transformer of the chart, so that the tolerance is given in screen pixels independent of
+ * the value range. Simplify again after the chart was zoomed, a line simplified for a zoomed out
+ * chart looks coarse when zoomed in.
+ *
+ * A DataSetSimplifier reuses its buffers and is not thread safe.
+ */
+public class DataSetSimplifier {
+
+    private final PolylineSimplifier mSimplifier;
+
+    /**
+     * the entries transformed into pixels (x, y pairs)
+     */
+    private float[] mPixelBuffer = new float[0];
+
+    private final IntArrayList mKept = new IntArrayList(64);
+
+    /**
+     * Creates a simplifier using Douglas-Peucker.
+     */
+    public DataSetSimplifier() {
+        this(new DouglasPeuckerSimplifier());
+    }
+
+    public DataSetSimplifier(PolylineSimplifier simplifier) {
+        mSimplifier = simplifier;
+    }
+
+    /**
+     * Returns the entries of the given DataSet that are kept when its line is simplified with the
+     * given tolerance.
+     *
+     * @param set
+     * @param transformer the transformer of the axis the DataSet is plotted against
+     * @param tolerance   in pixels
+     * @return
+     */
+    public List<Entry> simplify(ILineDataSet set, Transformer transformer, float tolerance) {
+
+        IntArrayList kept = simplifyIndices(set, transformer, tolerance);
+
+        List<Entry> entries = new ArrayList<Entry>(kept.size());
+
+        for (int i = 0; i < kept.size(); i++)
+            entries.add(set.getEntryForIndex(kept.getInt(i)));
+
+        return entries;
+    }
+
+    /**
+     * Returns the indices of the entries of the given DataSet that are kept when its line is
+     * simplified with the given tolerance. The returned list is reused by the next call.
+     *
+     * @param set
+     * @param transformer the transformer of the axis the DataSet is plotted against
+     * @param tolerance   in pixels
+     * @return
+     */
+    public IntArrayList simplifyIndices(ILineDataSet set, Transformer transformer, float tolerance) {
+
+        int count = set.getEntryCount();
+
+        if (mPixelBuffer.length < count * 2)
+            mPixelBuffer = new float[count * 2];
+
+        float[] pixels = mPixelBuffer;
+
+        for (int i = 0; i < count; i++) {
+            Entry e = set.getEntryForIndex(i);
+            pixels[i * 2] = e.getX();
+            pixels[i * 2 + 1] = e.getY();
+        }
+
+        transformer.pointValuesToPixel(pixels, 0, count);
+
+        mKept.clear();
+        mSimplifier.simplify(pixels, 0, count, tolerance, mKept);
+
+        return mKept;
+    }
+
+    /**
+     * Creates a new LineDataSet holding copies of the entries kept when the line of the given
+     * DataSet is simplified, styled like the given DataSet.
+     *
+     * @param set
+     * @param transformer the transformer of the axis the DataSet is plotted against
+     * @param tolerance   in pixels
+     * @return
+     */
+    public LineDataSet createSimplified(ILineDataSet set, Transformer transformer, float tolerance) {
+
+        List<Entry> kept = simplify(set, transformer, tolerance);
+
+        for (int i = 0; i < kept.size(); i++)
+            kept.set(i, kept.get(i).copy());
+
+        LineDataSet simplified = new LineDataSet(kept, set.getLabel());
+        simplified.setAxisDependency(set.getAxisDependency());
+        simplified.setMode(set.getMode());
+        simplified.setColors(set.getColors());
+        simplified.setLineWidth(set.getLineWidth());
+        simplified.setCircleRadius(set.getCircleRadius());
+        simplified.setCircleHoleRadius(set.getCircleHoleRadius());
+        simplified.setDrawCircles(set.isDrawCirclesEnabled());
+        simplified.setDrawCircleHole(set.isDrawCircleHoleEnabled());
+        simplified.setDrawValues(set.isDrawValuesEnabled());
+        simplified.setDrawFilled(set.isDrawFilledEnabled());
+        simplified.setFillColor(set.getFillColor());
+        simplified.setFillAlpha(set.getFillAlpha());
+        simplified.setHighLightColor(set.getHighLightColor());
+        simplified.setVisible(set.isVisible());
+
+        return simplified;
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.utils.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Ramer-Douglas-Peucker simplification: points that are closer than the tolerance to the line
+ * between the kept points around them are dropped.
+ *
+ * Unlike the recursive Approximator, the ranges still to be split are kept on an explicit stack
+ * and kept points are only marked, so the input size is not limited by the call stack and no
+ * arrays are copied. The buffers are reused between calls, a simplifier is not thread safe.
+ */
+public class DouglasPeuckerSimplifier implements PolylineSimplifier {
+
+    /**
+     * pairs of point indices of the ranges still to be split
+     */
+    private int[] mStack = new int[64];
+
+    /**
+     * marks the points to keep, relative to the start of the simplified range
+     */
+    private boolean[] mKeep = new boolean[0];
+
+    @Override
+    public void simplify(float[] points, int from, int to, float tolerance, IntArrayList kept) {
+
+        int count = to - from;
+
+        if (count <= 2) {
+            for (int i = from; i < to; i++)
+                kept.addInt(i);
+            return;
+        }
+
+        if (mKeep.length < count)
+            mKeep = new boolean[count];
+        else
+            Arrays.fill(mKeep, 0, count, false);
+
+        boolean[] keep = mKeep;
+        keep[0] = true;
+        keep[count - 1] = true;
+
+        int top = 0;
+        mStack[top++] = from;
+        mStack[top++] = to - 1;
+
+        while (top > 0) {
+
+            int last = mStack[--top];
+            int first = mStack[--top];
+
+            if (last - first < 2)
+                continue;
+
+            int farthest = findFarthest(points, first, last, tolerance);
+
+            if (farthest < 0)
+                continue;
+
+            keep[farthest - from] = true;
+
+            if (top + 4 > mStack.length)
+                mStack = Arrays.copyOf(mStack, mStack.length * 2);
+
+            mStack[top++] = first;
+            mStack[top++] = farthest;
+            mStack[top++] = farthest;
+            mStack[top++] = last;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (keep[i])
+                kept.addInt(from + i);
+        }
+    }
+
+    /**
+     * Returns the index of the point between first and last that is farthest from the line
+     * between them, or -1 if no point is farther away than the tolerance.
+     */
+    private static int findFarthest(float[] points, int first, int last, float tolerance) {
+
+        float x1 = points[first * 2];
+        float y1 = points[first * 2 + 1];
+        float x2 = points[last * 2];
+        float y2 = points[last * 2 + 1];
+
+        float dx = x1 - x2;
+        float dy = y1 - y2;
+        float cross = x1 * y2 - x2 * y1;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        int farthest = -1;
+        float greatestDistance = 0f;
+
+        for (int i = first + 1; i < last; i++) {
+
+            float x = points[i * 2];
+            float y = points[i * 2 + 1];
+
+            float distance;
+
+            if (length > 0f) {
+                distance = Math.abs(dy * x - dx * y + cross) / length;
+            } else {
+                // start and end are the same point, use the distance to it
+                distance = (float) Math.hypot(x - x1, y - y1);
+            }
+
+            if (distance > greatestDistance) {
+                greatestDistance = distance;
+                farthest = i;
+            }
+        }
+
+        return greatestDistance > tolerance ? farthest : -1;
+    }
+}
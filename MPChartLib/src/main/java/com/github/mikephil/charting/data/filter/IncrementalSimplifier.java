@@ -0,0 +1,91 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.utils.IntArrayList;
+
+/**
+ * Keeps the simplification of a polyline up to date while points are appended to it. Only the
+ * part after the second to last kept point is simplified again on every update, everything
+ * before it is settled: the last kept point was only kept for being the end of the line.
+ *
+ * The result stays within the tolerance, but can differ slightly from simplifying all points at
+ * once.
+ */
+public class IncrementalSimplifier {
+
+    private final PolylineSimplifier mSimplifier;
+
+    private final float mTolerance;
+
+    /**
+     * indices of the kept points
+     */
+    private final IntArrayList mKept = new IntArrayList(64);
+
+    /**
+     * number of points the kept indices were calculated for
+     */
+    private int mPointCount = 0;
+
+    /**
+     * @param simplifier
+     * @param tolerance
+     */
+    public IncrementalSimplifier(PolylineSimplifier simplifier, float tolerance) {
+        mSimplifier = simplifier;
+        mTolerance = tolerance;
+    }
+
+    /**
+     * Updates the simplification for the given points, of which only the ones appended since the
+     * last update are new. If the points were removed (pointCount is smaller than before) the
+     * simplification is started over.
+     *
+     * @param points     the points as x, y pairs
+     * @param pointCount number of valid points
+     * @return the indices of the kept points, the list is reused by the next update
+     */
+    public IntArrayList update(float[] points, int pointCount) {
+
+        if (pointCount < mPointCount)
+            reset();
+
+        if (pointCount == mPointCount)
+            return mKept;
+
+        int anchor = 0;
+        int size = mKept.size();
+
+        if (size >= 2) {
+            anchor = mKept.getInt(size - 2);
+            mKept.truncate(size - 2);
+        } else {
+            mKept.clear();
+        }
+
+        mSimplifier.simplify(points, anchor, pointCount, mTolerance, mKept);
+        mPointCount = pointCount;
+
+        return mKept;
+    }
+
+    /**
+     * Returns the indices of the kept points of the last update.
+     *
+     * @return
+     */
+    public IntArrayList getKeptIndices() {
+        return mKept;
+    }
+
+    public int getPointCount() {
+        return mPointCount;
+    }
+
+    /**
+     * Discards the simplification, the next update starts over.
+     */
+    public void reset() {
+        mKept.clear();
+        mPointCount = 0;
+    }
+}
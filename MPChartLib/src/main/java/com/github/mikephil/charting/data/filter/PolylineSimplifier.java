@@ -0,0 +1,24 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.utils.IntArrayList;
+
+/**
+ * Reduces the number of points of a polyline while keeping its shape within a tolerance.
+ * Simplifiers work on primitive point arrays and only mark the points to keep, the points
+ * themselves are never copied.
+ */
+public interface PolylineSimplifier {
+
+    /**
+     * Simplifies the polyline formed by the points in the given range and appends the indices of
+     * the points to keep to the given list, in ascending order. The first and the last point of
+     * the range are always kept.
+     *
+     * @param points    the points as x, y pairs
+     * @param from      index of the first point (not array index)
+     * @param to        index after the last point
+     * @param tolerance
+     * @param kept      the list the indices of the kept points are appended to
+     */
+    void simplify(float[] points, int from, int to, float tolerance, IntArrayList kept);
+}
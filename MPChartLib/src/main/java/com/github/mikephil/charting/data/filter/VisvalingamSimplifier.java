@@ -0,0 +1,197 @@
+package com.github.mikephil.charting.data.filter;
+
+import com.github.mikephil.charting.utils.IntArrayList;
+
+/**
+ * Visvalingam-Whyatt simplification: repeatedly drops the point that forms the triangle with the
+ * smallest area with its two neighbours, until every remaining triangle is at least as large as
+ * the square of the tolerance. Compared to Douglas-Peucker this keeps the overall shape of noisy
+ * data better, as it removes detail by significance instead of by distance.
+ *
+ * The points are managed in a linked list over index arrays and a binary min-heap over the
+ * triangle areas, all buffers are reused between calls. A simplifier is not thread safe.
+ */
+public class VisvalingamSimplifier implements PolylineSimplifier {
+
+    private int[] mPrevious = new int[0];
+    private int[] mNext = new int[0];
+    private float[] mAreas = new float[0];
+
+    /**
+     * min-heap of point indices (relative to the start of the range), ordered by area
+     */
+    private int[] mHeap = new int[0];
+
+    /**
+     * position of each point in the heap, -1 once removed
+     */
+    private int[] mHeapPositions = new int[0];
+
+    private int mHeapSize;
+
+    @Override
+    public void simplify(float[] points, int from, int to, float tolerance, IntArrayList kept) {
+
+        int count = to - from;
+
+        if (count <= 2) {
+            for (int i = from; i < to; i++)
+                kept.addInt(i);
+            return;
+        }
+
+        ensureCapacity(count);
+
+        float minArea = tolerance * tolerance;
+
+        mHeapSize = 0;
+        mHeapPositions[0] = -1;
+        mHeapPositions[count - 1] = -1;
+
+        for (int i = 0; i < count; i++) {
+            mPrevious[i] = i - 1;
+            mNext[i] = i + 1;
+        }
+
+        for (int i = 1; i < count - 1; i++) {
+            mAreas[i] = area(points, from, i - 1, i, i + 1);
+            mHeap[mHeapSize] = i;
+            mHeapPositions[i] = mHeapSize;
+            mHeapSize++;
+        }
+
+        for (int i = mHeapSize / 2 - 1; i >= 0; i--)
+            siftDown(i);
+
+        // area of the last removed point, the effective area of the remaining points never drops
+        // below it so that points are removed in order of significance
+        float removedArea = 0f;
+
+        while (mHeapSize > 0) {
+
+            int point = mHeap[0];
+            float area = mAreas[point];
+
+            if (area >= minArea)
+                break;
+
+            removeTop();
+            removedArea = Math.max(removedArea, area);
+
+            int previous = mPrevious[point];
+            int next = mNext[point];
+
+            mNext[previous] = next;
+            mPrevious[next] = previous;
+
+            if (previous > 0)
+                updateArea(points, from, previous, removedArea);
+
+            if (next < count - 1)
+                updateArea(points, from, next, removedArea);
+        }
+
+        for (int i = 0; i < count; i = mNext[i])
+            kept.addInt(from + i);
+    }
+
+    private void updateArea(float[] points, int from, int point, float removedArea) {
+
+        float area = Math.max(area(points, from, mPrevious[point], point, mNext[point]), removedArea);
+        float previousArea = mAreas[point];
+
+        mAreas[point] = area;
+
+        int position = mHeapPositions[point];
+
+        if (area < previousArea)
+            siftUp(position);
+        else
+            siftDown(position);
+    }
+
+    private static float area(float[] points, int from, int a, int b, int c) {
+
+        int ia = (from + a) * 2;
+        int ib = (from + b) * 2;
+        int ic = (from + c) * 2;
+
+        float x1 = points[ia];
+        float y1 = points[ia + 1];
+
+        return Math.abs((points[ib] - x1) * (points[ic + 1] - y1)
+                - (points[ic] - x1) * (points[ib + 1] - y1)) * 0.5f;
+    }
+
+    private void removeTop() {
+
+        mHeapPositions[mHeap[0]] = -1;
+        mHeapSize--;
+
+        if (mHeapSize > 0) {
+            mHeap[0] = mHeap[mHeapSize];
+            mHeapPositions[mHeap[0]] = 0;
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int position) {
+
+        int point = mHeap[position];
+        float area = mAreas[point];
+
+        while (position > 0) {
+
+            int parent = (position - 1) / 2;
+
+            if (mAreas[mHeap[parent]] <= area)
+                break;
+
+            mHeap[position] = mHeap[parent];
+            mHeapPositions[mHeap[position]] = position;
+            position = parent;
+        }
+
+        mHeap[position] = point;
+        mHeapPositions[point] = position;
+    }
+
+    private void siftDown(int position) {
+
+        int point = mHeap[position];
+        float area = mAreas[point];
+
+        while (true) {
+
+            int child = position * 2 + 1;
+
+            if (child >= mHeapSize)
+                break;
+
+            if (child + 1 < mHeapSize && mAreas[mHeap[child + 1]] < mAreas[mHeap[child]])
+                child++;
+
+            if (mAreas[mHeap[child]] >= area)
+                break;
+
+            mHeap[position] = mHeap[child];
+            mHeapPositions[mHeap[position]] = position;
+            position = child;
+        }
+
+        mHeap[position] = point;
+        mHeapPositions[point] = position;
+    }
+
+    private void ensureCapacity(int count) {
+
+        if (mPrevious.length >= count)
+            return;
+
+        mPrevious = new int[count];
+        mNext = new int[count];
+        mAreas = new float[count];
+        mHeap = new int[count];
+        mHeapPositions = new int[count];
+    }
+}
@@ -0,0 +1,249 @@
+package com.github.mikephil.charting.export;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.os.Looper;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.utils.ChartExecutors;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Renders many charts into image files in parallel, without showing them. Each chart is created
+ * by a ChartFactory on a worker thread of the executor, laid out off-screen and drawn into a
+ * bitmap that every worker thread reuses for all of its charts (see ChartBitmapRenderer), or
+ * streamed into a vector document if a VectorChartExporter is set.
+ *
+ * All methods of this class are thread safe. Charts created by the factories must not be shared
+ * between jobs.
+ */
+public class BatchChartRenderer {
+
+    /**
+     * Creates the chart for a single image. Called on a worker thread, the chart should be
+     * fully configured and have its data set, animations are not played.
+     */
+    public interface ChartFactory {
+
+        Chart createChart(Context context);
+    }
+
+    private final Context mContext;
+
+    private final int mWidth;
+    private final int mHeight;
+
+    private final ExecutorService mExecutor;
+
+    private volatile Bitmap.Config mBitmapConfig = Bitmap.Config.ARGB_8888;
+
+    private volatile Bitmap.CompressFormat mCompressFormat = Bitmap.CompressFormat.PNG;
+
+    private volatile int mQuality = 100;
+
+    private volatile int mBackgroundColor = Color.WHITE;
+
+    private volatile VectorChartExporter mVectorExporter;
+
+    /**
+     * renderer (and with it the bitmap) of each worker thread
+     */
+    private final ThreadLocal<ChartBitmapRenderer> mRenderers = new ThreadLocal<>();
+
+    /**
+     * Creates a batch renderer using the compute pool of ChartExecutors, with one thread per
+     * available processor.
+     *
+     * @param context
+     * @param width   width of the images in pixels
+     * @param height  height of the images in pixels
+     */
+    public BatchChartRenderer(Context context, int width, int height) {
+        this(context, width, height, ChartExecutors.getComputeExecutor());
+    }
+
+    /**
+     * @param context
+     * @param width    width of the images in pixels
+     * @param height   height of the images in pixels
+     * @param executor the executor the charts are rendered on
+     */
+    public BatchChartRenderer(Context context, int width, int height, ExecutorService executor) {
+
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("width and height must be greater than 0");
+
+        mContext = context.getApplicationContext() != null ? context.getApplicationContext() : context;
+        mWidth = width;
+        mHeight = height;
+        mExecutor = executor;
+    }
+
+    /**
+     * Schedules rendering the chart created by the given factory into the given file.
+     *
+     * @param factory
+     * @param target
+     * @return a Future returning the target file once it has been written
+     */
+    public Future<File> submit(ChartFactory factory, File target) {
+        return mExecutor.submit(new RenderTask(factory, target));
+    }
+
+    /**
+     * Renders the charts created by the given factories into the corresponding files and waits
+     * until all of them are written.
+     *
+     * @param factories
+     * @param targets   one file per factory
+     * @return the written files
+     * @throws InterruptedException
+     * @throws ExecutionException   if rendering or writing one of the charts failed
+     */
+    public List<File> renderAll(List<ChartFactory> factories, List<File> targets)
+            throws InterruptedException, ExecutionException {
+
+        if (factories.size() != targets.size())
+            throw new IllegalArgumentException("factories and targets need to be of the same size");
+
+        List<RenderTask> tasks = new ArrayList<>(factories.size());
+
+        for (int i = 0; i < factories.size(); i++)
+            tasks.add(new RenderTask(factories.get(i), targets.get(i)));
+
+        List<Future<File>> futures = mExecutor.invokeAll(tasks);
+        List<File> files = new ArrayList<>(futures.size());
+
+        for (Future<File> future : futures)
+            files.add(future.get());
+
+        return files;
+    }
+
+    /**
+     * Renders the chart created by the given factory on the calling thread and writes the image
+     * to the given stream. The stream is not closed.
+     *
+     * @param factory
+     * @param stream
+     * @throws IOException
+     */
+    public void render(ChartFactory factory, OutputStream stream) throws IOException {
+
+        // creating a chart requires a Looper (e.g. for its gesture detectors), the looper is
+        // never started as charts rendered off-screen do not receive any events
+        if (Looper.myLooper() == null)
+            Looper.prepare();
+
+        Chart chart = factory.createChart(mContext);
+
+        VectorChartExporter exporter = mVectorExporter;
+
+        if (exporter != null)
+            exporter.export(chart, mWidth, mHeight, stream);
+        else
+            getRenderer().render(chart, stream, mCompressFormat, mQuality);
+    }
+
+    /**
+     * Returns the renderer of the calling thread, creating it if needed.
+     *
+     * @return
+     */
+    private ChartBitmapRenderer getRenderer() {
+
+        ChartBitmapRenderer renderer = mRenderers.get();
+
+        if (renderer == null || renderer.getConfig() != mBitmapConfig) {
+
+            if (renderer != null)
+                renderer.release();
+
+            renderer = new ChartBitmapRenderer(mWidth, mHeight, mBitmapConfig);
+            mRenderers.set(renderer);
+        }
+
+        renderer.setBackgroundColor(mBackgroundColor);
+
+        return renderer;
+    }
+
+    /**
+     * Sets the format and quality the images are written with. Default: PNG
+     *
+     * @param format
+     * @param quality hint for the compressor, 0-100 (ignored by PNG)
+     */
+    public void setCompressFormat(Bitmap.CompressFormat format, int quality) {
+        mCompressFormat = format;
+        mQuality = quality;
+    }
+
+    /**
+     * Sets the Bitmap.Config the charts are rendered with. Default: Bitmap.Config.ARGB_8888
+     *
+     * @param config
+     */
+    public void setBitmapConfig(Bitmap.Config config) {
+        mBitmapConfig = config;
+    }
+
+    /**
+     * Sets the color the images are filled with before the chart is drawn, default: white
+     *
+     * @param color
+     */
+    public void setBackgroundColor(int color) {
+        mBackgroundColor = color;
+    }
+
+    /**
+     * Sets the exporter charts are written with as vector documents (SVG or PDF) instead of
+     * images, null to render images again. Default: null
+     *
+     * @param exporter
+     */
+    public void setVectorExporter(VectorChartExporter exporter) {
+        mVectorExporter = exporter;
+    }
+
+    /**
+     * Renders a single chart into a file.
+     */
+    protected class RenderTask implements Callable<File> {
+
+        private final ChartFactory mFactory;
+        private final File mTarget;
+
+        public RenderTask(ChartFactory factory, File target) {
+            mFactory = factory;
+            mTarget = target;
+        }
+
+        @Override
+        public File call() throws IOException {
+
+            OutputStream stream = new BufferedOutputStream(new FileOutputStream(mTarget));
+
+            try {
+                render(mFactory, stream);
+            } finally {
+                stream.close();
+            }
+
+            return mTarget;
+        }
+    }
+}
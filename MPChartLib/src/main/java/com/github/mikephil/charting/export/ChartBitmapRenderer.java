@@ -0,0 +1,127 @@
+package com.github.mikephil.charting.export;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.view.View;
+
+import com.github.mikephil.charting.charts.Chart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Renders charts into a Bitmap without them being attached to a window. The chart is measured
+ * and laid out to the size of the renderer and then drawn onto a Bitmap that is reused for every
+ * chart rendered, which keeps the per-chart overhead low when generating many images.
+ *
+ * A ChartBitmapRenderer is not thread safe, use one instance per thread (the BatchChartRenderer
+ * does this).
+ */
+public class ChartBitmapRenderer {
+
+    /**
+     * the bitmap all charts are rendered into
+     */
+    protected Bitmap mBitmap;
+
+    /**
+     * canvas drawing into mBitmap
+     */
+    protected Canvas mCanvas;
+
+    /**
+     * the color the bitmap is cleared with before a chart is drawn
+     */
+    protected int mBackgroundColor = Color.WHITE;
+
+    /**
+     * @param width  width of the rendered images in pixels
+     * @param height height of the rendered images in pixels
+     * @param config
+     */
+    public ChartBitmapRenderer(int width, int height, Bitmap.Config config) {
+
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("width and height must be greater than 0");
+
+        mBitmap = Bitmap.createBitmap(width, height, config);
+        mCanvas = new Canvas(mBitmap);
+    }
+
+    public ChartBitmapRenderer(int width, int height) {
+        this(width, height, Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     * Lays out the given chart to the size of this renderer and draws it. The returned Bitmap is
+     * reused by the next call, copy it if it has to be kept.
+     *
+     * @param chart
+     * @return
+     */
+    public Bitmap render(Chart chart) {
+
+        int width = mBitmap.getWidth();
+        int height = mBitmap.getHeight();
+
+        if (chart.getWidth() != width || chart.getHeight() != height || chart.isLayoutRequested()) {
+            chart.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                    View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+            chart.layout(0, 0, width, height);
+        }
+
+        mBitmap.eraseColor(mBackgroundColor);
+        chart.draw(mCanvas);
+
+        return mBitmap;
+    }
+
+    /**
+     * Renders the given chart and writes the image to the given stream. The stream is not closed.
+     *
+     * @param chart
+     * @param stream
+     * @param format
+     * @param quality hint for the compressor, 0-100 (ignored by PNG)
+     * @throws IOException if the image could not be written
+     */
+    public void render(Chart chart, OutputStream stream, Bitmap.CompressFormat format, int quality)
+            throws IOException {
+
+        if (!render(chart).compress(format, quality, stream))
+            throw new IOException("Failed to compress the chart image");
+    }
+
+    /**
+     * Sets the color the image is filled with before the chart is drawn, default: white
+     *
+     * @param color
+     */
+    public void setBackgroundColor(int color) {
+        mBackgroundColor = color;
+    }
+
+    public int getBackgroundColor() {
+        return mBackgroundColor;
+    }
+
+    public int getWidth() {
+        return mBitmap.getWidth();
+    }
+
+    public int getHeight() {
+        return mBitmap.getHeight();
+    }
+
+    public Bitmap.Config getConfig() {
+        return mBitmap.getConfig();
+    }
+
+    /**
+     * Releases the bitmap, the renderer must not be used afterwards.
+     */
+    public void release() {
+        mBitmap.recycle();
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.mikephil.charting.export;
+
+import android.view.View;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.renderer.DataRenderer;
+import com.github.mikephil.charting.renderer.canvas.PdfCanvas;
+import com.github.mikephil.charting.renderer.canvas.SvgCanvas;
+import com.github.mikephil.charting.renderer.canvas.VectorCanvas;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exports charts as SVG or PDF documents. The chart is drawn by its usual renderers (with the
+ * same culling of the visible range) onto a VectorCanvas that streams every drawing command into
+ * the document as it is issued, the document is never held in memory as a whole.
+ *
+ * Exporting a chart that is shown on screen has to happen on the UI thread. To export off the UI
+ * thread, create the chart on a worker thread, e.g. via BatchChartRenderer.setVectorExporter(...).
+ */
+public class VectorChartExporter {
+
+    public enum Format {
+        SVG, PDF
+    }
+
+    private final Format mFormat;
+
+    private float mDecimationTolerance = 0f;
+
+    private float mFlatteningTolerance = 0.5f;
+
+    public VectorChartExporter(Format format) {
+        mFormat = format;
+    }
+
+    public Format getFormat() {
+        return mFormat;
+    }
+
+    /**
+     * Sets the distance in pixels below which consecutive points of lines are merged, see
+     * VectorCanvas.setDecimationTolerance(...). Default: 0 (off)
+     *
+     * @param tolerance
+     */
+    public void setDecimationTolerance(float tolerance) {
+        mDecimationTolerance = tolerance;
+    }
+
+    public float getDecimationTolerance() {
+        return mDecimationTolerance;
+    }
+
+    /**
+     * Sets the maximum deviation in pixels when curves are flattened, see
+     * VectorCanvas.setFlatteningTolerance(...). Default: 0.5
+     *
+     * @param tolerance
+     */
+    public void setFlatteningTolerance(float tolerance) {
+        mFlatteningTolerance = tolerance;
+    }
+
+    public float getFlatteningTolerance() {
+        return mFlatteningTolerance;
+    }
+
+    /**
+     * Writes the given chart, at its current size, to the given stream. The stream is not closed.
+     *
+     * @param chart
+     * @param stream
+     * @throws IOException
+     */
+    public void export(Chart chart, OutputStream stream) throws IOException {
+
+        if (chart.getWidth() <= 0 || chart.getHeight() <= 0)
+            throw new IllegalStateException("The chart has not been laid out yet");
+
+        draw(chart, createCanvas(stream, chart.getWidth(), chart.getHeight()));
+    }
+
+    /**
+     * Lays out the given chart to the given size and writes it to the given stream. The stream
+     * is not closed. Do not use this for charts shown on screen.
+     *
+     * @param chart
+     * @param width  width of the document in pixels
+     * @param height height of the document in pixels
+     * @param stream
+     * @throws IOException
+     */
+    public void export(Chart chart, int width, int height, OutputStream stream) throws IOException {
+
+        if (chart.getWidth() != width || chart.getHeight() != height || chart.isLayoutRequested()) {
+            chart.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                    View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+            chart.layout(0, 0, width, height);
+        }
+
+        draw(chart, createCanvas(stream, width, height));
+    }
+
+    /**
+     * Creates the canvas the document is written with.
+     *
+     * @param stream
+     * @param width
+     * @param height
+     * @return
+     */
+    protected VectorCanvas createCanvas(OutputStream stream, int width, int height) {
+
+        VectorCanvas canvas = mFormat == Format.PDF
+                ? new PdfCanvas(stream, width, height)
+                : new SvgCanvas(stream, width, height);
+
+        canvas.setDecimationTolerance(mDecimationTolerance);
+        canvas.setFlatteningTolerance(mFlatteningTolerance);
+
+        return canvas;
+    }
+
+    private void draw(Chart chart, VectorCanvas canvas) throws IOException {
+
+        // renderers that draw into intermediate bitmaps have to draw directly onto the canvas
+        DataRenderer renderer = chart.getRenderer();
+        boolean recording = renderer != null && renderer.isRecordingEnabled();
+
+        if (renderer != null)
+            renderer.setRecordingEnabled(true);
+
+        try {
+            chart.draw(canvas);
+        } finally {
+            if (renderer != null)
+                renderer.setRecordingEnabled(recording);
+        }
+
+        canvas.finish();
+    }
+}
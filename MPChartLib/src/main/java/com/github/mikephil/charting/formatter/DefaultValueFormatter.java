@@ -57,7 +57,10 @@ public class DefaultValueFormatter implements IValueFormatter
         // put more logic here ...
         // avoid memory allocations here (for performance reasons)
 
-        return mFormat.format(value);
+        // DecimalFormat is not thread safe, the default formatter is shared by all charts
+        synchronized (this) {
+            return mFormat.format(value);
+        }
     }
 
     /**
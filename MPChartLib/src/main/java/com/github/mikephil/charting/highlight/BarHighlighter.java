@@ -3,8 +3,12 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.StackedBarDataSet;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
 
 /**
@@ -12,26 +16,46 @@ import com.github.mikephil.charting.utils.MPPointD;
  */
 public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
+    /**
+     * the entry returned by getEntryForIndex(...) for StackedBarDataSets
+     */
+    protected BarEntry mStackedEntry = new BarEntry(0f, 0f);
+
     public BarHighlighter(BarDataProvider chart) {
         super(chart);
     }
 
+    @Override
+    protected Entry getEntryForIndex(IDataSet set, int index) {
+
+        if (!(set instanceof StackedBarDataSet))
+            return super.getEntryForIndex(set, index);
+
+        StackedBarDataSet stacked = (StackedBarDataSet) set;
+
+        mStackedEntry.setX(stacked.getXValue(index));
+        mStackedEntry.setY(stacked.getSum(index));
+        return mStackedEntry;
+    }
+
     @Override
     public Highlight getHighlight(float x, float y) {
-        Highlight high = super.getHighlight(x, y);
+
+        MPPointD pos = getValsForTouch(x, y);
+
+        Highlight high = getHighlightForX((float) pos.x, x, y);
 
         if(high == null) {
+            MPPointD.recycleInstance(pos);
             return null;
         }
 
-        MPPointD pos = getValsForTouch(x, y);
-
         BarData barData = mChart.getBarData();
 
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
         if (set.isStacked()) {
 
-            return getStackedHighlight(high,
+            high = getStackedHighlight(high,
                     set,
                     (float) pos.x,
                     (float) pos.y);
@@ -39,7 +63,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
         MPPointD.recycleInstance(pos);
 
-        return high;
+        return obtainResult(high);
     }
 
     /**
@@ -54,6 +78,9 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
      */
     public Highlight getStackedHighlight(Highlight high, IBarDataSet set, float xVal, float yVal) {
 
+        if (set instanceof StackedBarDataSet)
+            return getStackedHighlight(high, (StackedBarDataSet) set, xVal, yVal);
+
         BarEntry entry = set.getEntryForXValue(xVal, yVal);
 
         if (entry == null)
@@ -68,27 +95,65 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
             if (ranges.length > 0) {
                 int stackIndex = getClosestStackIndex(ranges, yVal);
 
-                MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), ranges[stackIndex].to);
+                mPixelBuffer[0] = high.getX();
+                mPixelBuffer[1] = ranges[stackIndex].to;
+                mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(mPixelBuffer);
 
-                Highlight stackedHigh = new Highlight(
+                Highlight stackedHigh = obtainCandidate().set(
                         entry.getX(),
                         entry.getY(),
-                        (float) pixels.x,
-                        (float) pixels.y,
+                        mPixelBuffer[0],
+                        mPixelBuffer[1],
                         high.getDataSetIndex(),
                         stackIndex,
                         high.getAxis()
                 );
+                stackedHigh.setEntryIndex(high.getEntryIndex());
 
-                MPPointD.recycleInstance(pixels);
-
-                return stackedHigh;
+                return obtainResult(stackedHigh);
             }
         }
 
         return null;
     }
 
+    /**
+     * Same as getStackedHighlight(...) for a StackedBarDataSet, hit-testing its flat stack
+     * arrays directly.
+     *
+     * @param high
+     * @param set
+     * @param xVal
+     * @param yVal
+     * @return
+     */
+    protected Highlight getStackedHighlight(Highlight high, StackedBarDataSet set, float xVal, float yVal) {
+
+        int index = set.getEntryIndex(xVal, yVal, DataSet.Rounding.CLOSEST);
+
+        if (index < 0)
+            return null;
+
+        int stackIndex = set.getClosestStackIndex(index, yVal);
+
+        mPixelBuffer[0] = high.getX();
+        mPixelBuffer[1] = set.getStackTo(index, stackIndex);
+        mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(mPixelBuffer);
+
+        Highlight stackedHigh = obtainCandidate().set(
+                set.getXValue(index),
+                set.getSum(index),
+                mPixelBuffer[0],
+                mPixelBuffer[1],
+                high.getDataSetIndex(),
+                stackIndex,
+                high.getAxis()
+        );
+        stackedHigh.setEntryIndex(index);
+
+        return obtainResult(stackedHigh);
+    }
+
     /**
      * Returns the index of the closest value inside the values array / ranges (stacked barchart) to the value
      * given as
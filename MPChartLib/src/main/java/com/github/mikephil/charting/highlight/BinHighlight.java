@@ -0,0 +1,93 @@
+package com.github.mikephil.charting.highlight;
+
+import com.github.mikephil.charting.components.YAxis;
+
+/**
+ * Highlight of a density bin of a ScatterDataSet (see ScatterDataSet.setDensityMode(...)). The
+ * x- and y-value are the mean values of the entries in the bin, the pixel position is the center
+ * of the bin.
+ */
+public class BinHighlight extends Highlight {
+
+    /**
+     * the index of the bin in the DensityGrid
+     */
+    private int mBinIndex;
+
+    /**
+     * the number of entries in the bin
+     */
+    private int mCount;
+
+    public BinHighlight(float meanX, float meanY, float xPx, float yPx, int dataSetIndex,
+                        YAxis.AxisDependency axis, int binIndex, int count) {
+        super(meanX, meanY, xPx, yPx, dataSetIndex, axis);
+        this.mBinIndex = binIndex;
+        this.mCount = count;
+    }
+
+    /**
+     * Sets all values of this highlight, for reusing the instance.
+     *
+     * @return this BinHighlight
+     */
+    BinHighlight set(float meanX, float meanY, float xPx, float yPx, int dataSetIndex,
+                     YAxis.AxisDependency axis, int binIndex, int count) {
+        super.set(meanX, meanY, xPx, yPx, dataSetIndex, -1, axis);
+        this.mBinIndex = binIndex;
+        this.mCount = count;
+        return this;
+    }
+
+    public BinHighlight(BinHighlight h) {
+        super(h);
+        this.mBinIndex = h.mBinIndex;
+        this.mCount = h.mCount;
+    }
+
+    @Override
+    public Highlight set(Highlight h) {
+        super.set(h);
+
+        if (h instanceof BinHighlight) {
+            this.mBinIndex = ((BinHighlight) h).mBinIndex;
+            this.mCount = ((BinHighlight) h).mCount;
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns the index of the highlighted bin in the DensityGrid.
+     *
+     * @return
+     */
+    public int getBinIndex() {
+        return mBinIndex;
+    }
+
+    /**
+     * Returns the number of entries in the highlighted bin.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    @Override
+    public boolean isSameAs(Highlight h) {
+
+        if (!(h instanceof BinHighlight))
+            return false;
+
+        BinHighlight b = (BinHighlight) h;
+        return super.isSameAs(h) && mBinIndex == b.mBinIndex && mCount == b.mCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BinHighlight, mean x: " + getX() + ", mean y: " + getY() + ", dataSetIndex: " + getDataSetIndex()
+                + ", bin: " + mBinIndex + ", count: " + mCount;
+    }
+}
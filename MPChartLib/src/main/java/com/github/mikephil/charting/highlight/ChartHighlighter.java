@@ -7,6 +7,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,37 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * buffer for the highlights built for a single DataSet
+     */
+    protected List<Highlight> mBuildBuffer = new ArrayList<Highlight>();
+
+    /**
+     * pool of recycled candidate Highlight objects, the first mCandidateCount are in use
+     */
+    protected List<Highlight> mCandidatePool = new ArrayList<Highlight>();
+
+    /**
+     * number of candidates of the pool currently in use
+     */
+    protected int mCandidateCount = 0;
+
+    /**
+     * the Highlights returned by getHighlight(...), the last one is handed out again as long as
+     * the touch resolves to the same values
+     */
+    protected HighlightBuffer mResults = new HighlightBuffer();
+
+    /**
+     * buffer for the index range of the entries at an x-value
+     */
+    protected int[] mIndexRange = new int[2];
+
+    /**
+     * buffer for converting entry values to pixels
+     */
+    protected float[] mPixelBuffer = new float[2];
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -39,7 +71,42 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         MPPointD.recycleInstance(pos);
 
         Highlight high = getHighlightForX(xVal, x, y);
-        return high;
+        return obtainResult(high);
+    }
+
+    /**
+     * Turns the given (recycled) candidate into the Highlight that is handed out to the chart.
+     * If it holds the same values as the previously returned Highlight, that instance is
+     * returned again, otherwise the values are copied into a reused instance, so that scrubbing
+     * does not allocate. The returned Highlight is overwritten by later calls.
+     *
+     * @param candidate
+     * @return
+     */
+    protected Highlight obtainResult(Highlight candidate) {
+        return mResults.obtain(candidate);
+    }
+
+    /**
+     * Marks all candidate Highlight objects as unused. Candidates obtained before are
+     * overwritten by subsequent calls to obtainCandidate().
+     */
+    protected void resetCandidates() {
+        mCandidateCount = 0;
+    }
+
+    /**
+     * Returns a recycled Highlight object from the candidate pool, creating a new one only if
+     * the pool is exhausted. The returned object is only valid until resetCandidates() is called.
+     *
+     * @return
+     */
+    protected Highlight obtainCandidate() {
+
+        if (mCandidateCount == mCandidatePool.size())
+            mCandidatePool.add(new Highlight(Float.NaN, Float.NaN, 0f, 0f, 0, null));
+
+        return mCandidatePool.get(mCandidateCount++);
     }
 
     /**
@@ -128,6 +195,7 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        resetCandidates();
 
         BarLineScatterCandleBubbleData data = getData();
 
@@ -142,7 +210,11 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            // added one by one, addAll(...) would copy the list into a new array
+            List<Highlight> highlights = buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST);
+
+            for (int j = 0; j < highlights.size(); j++)
+                mHighlightBuffer.add(highlights.get(j));
         }
 
         return mHighlightBuffer;
@@ -150,6 +222,8 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
 
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
+     * The returned list and the Highlight objects in it are recycled, they are only valid until
+     * the next call.
      *
      * @param set
      * @param dataSetIndex
@@ -159,34 +233,69 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
-        ArrayList<Highlight> highlights = new ArrayList<>();
+        mBuildBuffer.clear();
 
-        //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
-        if (entries.size() == 0) {
-            // Try to find closest x-value and take all entries for that x-value
-            final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-            if (closest != null)
-            {
-                //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
-            }
-        }
+        int count = getEntryIndexRange(set, xVal, rounding, mIndexRange);
+        if (count == 0)
+            return mBuildBuffer;
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
 
-        if (entries.size() == 0)
-            return highlights;
+        for (int i = mIndexRange[0]; i <= mIndexRange[1]; i++) {
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+            Entry e = getEntryForIndex(set, i);
 
-            highlights.add(new Highlight(
+            mPixelBuffer[0] = e.getX();
+            mPixelBuffer[1] = e.getY();
+            trans.pointValuesToPixel(mPixelBuffer);
+
+            Highlight high = obtainCandidate().set(
                     e.getX(), e.getY(),
-                    (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
+                    mPixelBuffer[0], mPixelBuffer[1],
+                    dataSetIndex, -1, set.getAxisDependency());
+            high.setEntryIndex(i);
+
+            mBuildBuffer.add(high);
         }
 
-        return highlights;
+        return mBuildBuffer;
+    }
+
+    /**
+     * Writes the index range of all entries at the given x-value into the provided array. If
+     * there is no entry at exactly that x-value, the range of all entries at the closest x-value
+     * (according to the rounding) is used.
+     *
+     * @param set
+     * @param xVal
+     * @param rounding
+     * @param range
+     * @return the number of entries in the range
+     */
+    protected int getEntryIndexRange(IDataSet set, float xVal, DataSet.Rounding rounding, int[] range) {
+
+        int count = set.getEntryIndexRangeForXValue(xVal, range);
+        if (count == 0) {
+            // Try to find closest x-value and take all entries for that x-value
+            final int closest = set.getEntryIndex(xVal, Float.NaN, rounding);
+            if (closest > -1)
+                count = set.getEntryIndexRangeForXValue(getEntryForIndex(set, closest).getX(), range);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the entry at the given index of the given DataSet, only its x- and y-value are used
+     * and only until the next call. Subclasses may return a reused instance for DataSets that
+     * create their entries on demand.
+     *
+     * @param set
+     * @param index
+     * @return
+     */
+    protected Entry getEntryForIndex(IDataSet set, int index) {
+        return set.getEntryForIndex(index);
     }
 
     /**
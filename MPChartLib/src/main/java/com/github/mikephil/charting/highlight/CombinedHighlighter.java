@@ -32,6 +32,7 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        resetCandidates();
 
         List<BarLineScatterCandleBubbleData> dataObjects = mChart.getCombinedData().getAllData();
 
@@ -44,8 +45,10 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                 Highlight high = barHighlighter.getHighlight(x, y);
 
                 if (high != null) {
-                    high.setDataIndex(i);
-                    mHighlightBuffer.add(high);
+                    // copy, the result of the bar highlighter is handed out again as long as it does not change
+                    Highlight candidate = obtainCandidate().set(high);
+                    candidate.setDataIndex(i);
+                    mHighlightBuffer.add(candidate);
                 }
             } else {
 
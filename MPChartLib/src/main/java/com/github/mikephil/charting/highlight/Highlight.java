@@ -45,6 +45,11 @@ public class Highlight {
      */
     private int mStackIndex = -1;
 
+    /**
+     * the index of the highlighted entry in its DataSet, -1 if unknown
+     */
+    private int mEntryIndex = -1;
+
     /**
      * the axis the highlighted value belongs to
      */
@@ -101,6 +106,66 @@ public class Highlight {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Copy constructor, creates a Highlight holding the same values as the given one.
+     *
+     * @param h
+     */
+    public Highlight(Highlight h) {
+        set(h);
+    }
+
+    /**
+     * Overwrites all values of this Highlight. Used by the highlighters to recycle their
+     * candidate objects instead of allocating new ones for every touch event. The data index,
+     * the entry index and the last drawn position are reset.
+     *
+     * @param x
+     * @param y
+     * @param xPx
+     * @param yPx
+     * @param dataSetIndex
+     * @param stackIndex
+     * @param axis
+     * @return this Highlight
+     */
+    public Highlight set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex,
+                         YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataIndex = -1;
+        this.mDataSetIndex = dataSetIndex;
+        this.mStackIndex = stackIndex;
+        this.mEntryIndex = -1;
+        this.axis = axis;
+        this.mDrawX = 0f;
+        this.mDrawY = 0f;
+        return this;
+    }
+
+    /**
+     * Copies all values of the given Highlight into this one.
+     *
+     * @param h
+     * @return this Highlight
+     */
+    public Highlight set(Highlight h) {
+        this.mX = h.mX;
+        this.mY = h.mY;
+        this.mXPx = h.mXPx;
+        this.mYPx = h.mYPx;
+        this.mDataIndex = h.mDataIndex;
+        this.mDataSetIndex = h.mDataSetIndex;
+        this.mStackIndex = h.mStackIndex;
+        this.mEntryIndex = h.mEntryIndex;
+        this.axis = h.axis;
+        this.mDrawX = h.mDrawX;
+        this.mDrawY = h.mDrawY;
+        return this;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
@@ -169,6 +234,20 @@ public class Highlight {
         return mStackIndex >= 0;
     }
 
+    /**
+     * Returns the index of the highlighted entry in its DataSet, -1 if the highlight was not
+     * created by a highlighter and the index is unknown.
+     *
+     * @return
+     */
+    public int getEntryIndex() {
+        return mEntryIndex;
+    }
+
+    public void setEntryIndex(int entryIndex) {
+        this.mEntryIndex = entryIndex;
+    }
+
     /**
      * Returns the axis the highlighted value belongs to.
      *
@@ -227,6 +306,22 @@ public class Highlight {
         }
     }
 
+    /**
+     * Returns true if this highlight object holds exactly the same values as the other,
+     * including y-value, pixel position and axis. The last drawn position is not compared.
+     *
+     * @param h
+     * @return
+     */
+    public boolean isSameAs(Highlight h) {
+
+        if (h == null)
+            return false;
+
+        return equalTo(h) && Float.compare(this.mY, h.mY) == 0 && this.mXPx == h.mXPx && this.mYPx == h.mYPx
+                && this.axis == h.axis && this.mEntryIndex == h.mEntryIndex;
+    }
+
     @Override
     public String toString() {
         return "Highlight, x: " + mX + ", y: " + mY + ", dataSetIndex: " + mDataSetIndex
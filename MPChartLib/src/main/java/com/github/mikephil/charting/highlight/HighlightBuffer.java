@@ -0,0 +1,61 @@
+package com.github.mikephil.charting.highlight;
+
+/**
+ * Double buffer for the Highlight objects handed out to the chart while scrubbing. A result is
+ * only overwritten two changes after it was handed out, so the chart can still compare the
+ * current result with the previous one (which it holds) without any allocation. Callers that
+ * need to keep a Highlight for longer have to copy it.
+ */
+public class HighlightBuffer {
+
+    private final Highlight[] mSlots;
+
+    /**
+     * the Highlight last handed out, null if none
+     */
+    private Highlight mLast;
+
+    public HighlightBuffer() {
+        this(new Highlight(Float.NaN, Float.NaN, 0f, 0f, 0, null),
+                new Highlight(Float.NaN, Float.NaN, 0f, 0f, 0, null));
+    }
+
+    /**
+     * @param first  the first of the two reused instances, e.g. of a Highlight subclass
+     * @param second the second reused instance, of the same class as the first
+     */
+    public HighlightBuffer(Highlight first, Highlight second) {
+        mSlots = new Highlight[]{first, second};
+    }
+
+    /**
+     * Returns the Highlight handed out last if it holds the same values as the given candidate,
+     * otherwise copies the candidate into the other instance and returns that.
+     *
+     * @param candidate
+     * @return null if the candidate is null
+     */
+    public Highlight obtain(Highlight candidate) {
+
+        if (candidate == null)
+            return null;
+
+        if (candidate == mLast || candidate.isSameAs(mLast))
+            return mLast;
+
+        Highlight next = mLast == mSlots[0] ? mSlots[1] : mSlots[0];
+        next.set(candidate);
+
+        mLast = next;
+        return next;
+    }
+
+    /**
+     * Returns the Highlight handed out last, null if none.
+     *
+     * @return
+     */
+    public Highlight getLast() {
+        return mLast;
+    }
+}
@@ -7,8 +7,8 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,13 +28,15 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 		MPPointD pos = getValsForTouch(y, x);
 
 		Highlight high = getHighlightForX((float) pos.y, y, x);
-		if (high == null)
+		if (high == null) {
+			MPPointD.recycleInstance(pos);
 			return null;
+		}
 
 		IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
 		if (set.isStacked()) {
 
-			return getStackedHighlight(high,
+			high = getStackedHighlight(high,
 					set,
 					(float) pos.y,
 					(float) pos.x);
@@ -42,40 +44,38 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 
 		MPPointD.recycleInstance(pos);
 
-		return high;
+		return obtainResult(high);
 	}
 
 	@Override
 	protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
-		ArrayList<Highlight> highlights = new ArrayList<>();
-
-		//noinspection unchecked
-		List<Entry> entries = set.getEntriesForXValue(xVal);
-		if (entries.size() == 0) {
-			// Try to find closest x-value and take all entries for that x-value
-			final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-			if (closest != null)
-			{
-				//noinspection unchecked
-				entries = set.getEntriesForXValue(closest.getX());
-			}
-		}
+		mBuildBuffer.clear();
+
+		int count = getEntryIndexRange(set, xVal, rounding, mIndexRange);
+		if (count == 0)
+			return mBuildBuffer;
 
-		if (entries.size() == 0)
-			return highlights;
+		Transformer trans = mChart.getTransformer(set.getAxisDependency());
 
-		for (Entry e : entries) {
-			MPPointD pixels = mChart.getTransformer(
-					set.getAxisDependency()).getPixelForValues(e.getY(), e.getX());
+		for (int i = mIndexRange[0]; i <= mIndexRange[1]; i++) {
 
-			highlights.add(new Highlight(
+			Entry e = getEntryForIndex(set, i);
+
+			mPixelBuffer[0] = e.getY();
+			mPixelBuffer[1] = e.getX();
+			trans.pointValuesToPixel(mPixelBuffer);
+
+			Highlight high = obtainCandidate().set(
 					e.getX(), e.getY(),
-					(float) pixels.x, (float) pixels.y,
-					dataSetIndex, set.getAxisDependency()));
+					mPixelBuffer[0], mPixelBuffer[1],
+					dataSetIndex, -1, set.getAxisDependency());
+			high.setEntryIndex(i);
+
+			mBuildBuffer.add(high);
 		}
 
-		return highlights;
+		return mBuildBuffer;
 	}
 
 	@Override
@@ -8,6 +8,8 @@ public interface IHighlighter
 
     /**
      * Returns a Highlight object corresponding to the given x- and y- touch positions in pixels.
+     * The highlighters of the library reuse the returned object, it is overwritten by one of
+     * the next calls.
      *
      * @param x
      * @param y
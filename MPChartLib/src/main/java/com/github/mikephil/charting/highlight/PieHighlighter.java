@@ -20,6 +20,9 @@ public class PieHighlighter extends PieRadarHighlighter<PieChart> {
 
         final Entry entry = set.getEntryForIndex(index);
 
-        return new Highlight(index, entry.getY(), x, y, 0, set.getAxisDependency());
+        Highlight high = new Highlight(index, entry.getY(), x, y, 0, set.getAxisDependency());
+        high.setEntryIndex(index);
+
+        return high;
     }
 }
@@ -71,7 +71,10 @@ public class RadarHighlighter extends PieRadarHighlighter<RadarChart> {
                     mChart.getCenterOffsets(), y * factor * phaseY,
                     sliceangle * index * phaseX + mChart.getRotationAngle(), pOut);
 
-            mHighlightBuffer.add(new Highlight(index, entry.getY(), pOut.x, pOut.y, i, dataSet.getAxisDependency()));
+            Highlight high = new Highlight(index, entry.getY(), pOut.x, pOut.y, i, dataSet.getAxisDependency());
+            high.setEntryIndex(index);
+
+            mHighlightBuffer.add(high);
         }
 
         return mHighlightBuffer;
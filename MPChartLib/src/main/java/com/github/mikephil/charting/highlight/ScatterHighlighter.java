@@ -0,0 +1,113 @@
+package com.github.mikephil.charting.highlight;
+
+import com.github.mikephil.charting.charts.ScatterChart;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.DensityGrid;
+
+import java.util.List;
+
+/**
+ * Highlighter of the ScatterChart. DataSets drawn in density mode are highlighted by bin: a touch
+ * on a non-empty bin returns a BinHighlight with the number of entries in the bin and their mean
+ * values. The entries of these DataSets are not highlighted one by one.
+ */
+public class ScatterHighlighter extends ChartHighlighter<ScatterChart> {
+
+    public ScatterHighlighter(ScatterChart chart) {
+        super(chart);
+    }
+
+    @Override
+    public Highlight getHighlight(float x, float y) {
+
+        BinHighlight bin = getBinHighlight(x, y);
+
+        if (bin != null)
+            return bin;
+
+        return super.getHighlight(x, y);
+    }
+
+    /**
+     * Returns the highlight of the bin at the given touch position, of the first DataSet in
+     * density mode with a non-empty bin there, null if there is none.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected BinHighlight getBinHighlight(float x, float y) {
+
+        ScatterData data = mChart.getScatterData();
+
+        if (data == null)
+            return null;
+
+        for (int i = 0, dataSetCount = data.getDataSetCount(); i < dataSetCount; i++) {
+
+            IScatterDataSet set = data.getDataSetByIndex(i);
+
+            if (!set.isVisible() || !set.isHighlightEnabled()
+                    || set.getDensityMode() == ScatterDataSet.DensityMode.OFF)
+                continue;
+
+            DensityGrid grid = mChart.getDensityGrid(set);
+
+            if (grid == null)
+                continue;
+
+            int bin = grid.getBinIndex(x, y);
+
+            if (bin < 0 || grid.getCount(bin) == 0)
+                continue;
+
+            return obtainBinResult(grid, bin, i, set);
+        }
+
+        return null;
+    }
+
+    /**
+     * the bin highlights handed out to the chart
+     */
+    private HighlightBuffer mBinResults = new HighlightBuffer(newBinHighlight(), newBinHighlight());
+
+    /**
+     * the bin highlight of the current touch, copied into mBinResults
+     */
+    private BinHighlight mBinCandidate = newBinHighlight();
+
+    private static BinHighlight newBinHighlight() {
+        return new BinHighlight(Float.NaN, Float.NaN, 0f, 0f, 0, null, -1, 0);
+    }
+
+    /**
+     * Returns the previous result again if it refers to the same bin holding the same entries.
+     */
+    private BinHighlight obtainBinResult(DensityGrid grid, int bin, int dataSetIndex, IScatterDataSet set) {
+
+        grid.getBinCenter(bin, mPixelBuffer);
+
+        mBinCandidate.set(grid.getMeanX(bin), grid.getMeanY(bin), mPixelBuffer[0], mPixelBuffer[1],
+                dataSetIndex, set.getAxisDependency(), bin, grid.getCount(bin));
+
+        return (BinHighlight) mBinResults.obtain(mBinCandidate);
+    }
+
+    @Override
+    protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
+
+        // DataSets in density mode are highlighted by bin only
+        if (set instanceof IScatterDataSet
+                && ((IScatterDataSet) set).getDensityMode() != ScatterDataSet.DensityMode.OFF) {
+            mBuildBuffer.clear();
+            return mBuildBuffer;
+        }
+
+        return super.buildHighlights(set, dataSetIndex, xVal, rounding);
+    }
+}
@@ -70,6 +70,36 @@ public interface IDataSet<T extends Entry> {
      */
     void calcMinMaxY(float fromX, float toX);
 
+    /**
+     * Updates the minimum and maximum values after the given number of entries were inserted
+     * into the values of this DataSet at the given index, without touching the other entries if
+     * possible.
+     *
+     * @param from  index of the first inserted Entry
+     * @param count number of inserted entries
+     */
+    void notifyEntriesInserted(int from, int count);
+
+    /**
+     * Updates the minimum and maximum values after the values of the entries in the given range
+     * were changed. All entries are only scanned again if one of the changed entries held a
+     * minimum or maximum.
+     *
+     * @param from  index of the first changed Entry
+     * @param count number of changed entries
+     */
+    void notifyEntriesChanged(int from, int count);
+
+    /**
+     * Updates the minimum and maximum values after the given number of entries were removed from
+     * the values of this DataSet at the given index. All entries are only scanned again if one of
+     * the removed entries held a minimum or maximum.
+     *
+     * @param from  index the first removed Entry had
+     * @param count number of removed entries
+     */
+    void notifyEntriesRemoved(int from, int count);
+
     /**
      * Returns the first Entry object found at the given x-value with binary
      * search.
@@ -114,6 +144,17 @@ public interface IDataSet<T extends Entry> {
      */
     List<T> getEntriesForXValue(float xValue);
 
+    /**
+     * Allocation free variant of getEntriesForXValue(...). Looks up all Entry objects at the
+     * given x-value with binary search and writes the index of the first one into range[0]
+     * and the index of the last one into range[1].
+     *
+     * @param xValue
+     * @param range  array of at least length 2 that receives the index range
+     * @return the number of entries found at the given x-value, 0 if none
+     */
+    int getEntryIndexRangeForXValue(float xValue, int[] range);
+
     /**
      * Returns the Entry object found at the given index (NOT xIndex) in the values array.
      *
@@ -159,6 +200,52 @@ public interface IDataSet<T extends Entry> {
      */
     int getIndexInEntries(int xIndex);
 
+    /**
+     * Called by the renderers with the visible x-range before they look up the visible entries,
+     * once per DataSet and drawing pass. Lets the DataSet prepare the entries of that range,
+     * e.g. load them in the background.
+     *
+     * @param fromX
+     * @param toX
+     */
+    void onVisibleRangeChanged(float fromX, float toX);
+
+    /**
+     * Returns true if getEntryIndex(float, float, Rounding) takes constant time, e.g. because
+     * the index follows from the x-value. The renderers then look up the visible entries every
+     * pass instead of caching them.
+     *
+     * @return
+     */
+    boolean isEntryIndexConstantTime();
+
+    /**
+     * Returns true if the drawn values of this DataSet are the y-values of its entries and can
+     * be changed in place with setYValueForIndex(...), e.g. by a DataTransition. False for
+     * DataSets drawing other values (e.g. stacks or candles) or creating their entries on demand.
+     *
+     * @return
+     */
+    boolean hasMutableYValues();
+
+    /**
+     * Returns the y-value of the entry at the given index, without creating an Entry if the
+     * DataSet stores its values in columns.
+     *
+     * @param index
+     * @return
+     */
+    float getYValueForIndex(int index);
+
+    /**
+     * Sets the y-value of the entry at the given index. The minimum and maximum values are not
+     * recalculated, see notifyEntriesChanged(...).
+     *
+     * @param index
+     * @param y
+     */
+    void setYValueForIndex(int index, float y);
+
     /**
      * Adds an Entry to the DataSet dynamically.
      * Entries are added to the end of the list.
@@ -294,6 +381,22 @@ public interface IDataSet<T extends Entry> {
      */
     int getColor(int index);
 
+    /**
+     * Returns true if all entries of this DataSet are drawn in the same color (a single color is
+     * set and there are no per-entry colors).
+     *
+     * @return
+     */
+    boolean isSingleColor();
+
+    /**
+     * Returns the per-entry colors of this DataSet, aligned with the entry indices, null if not
+     * set.
+     *
+     * @return
+     */
+    int[] getEntryColors();
+
     /**
      * returns true if highlighting of values is enabled, false if not
      *
@@ -79,6 +79,14 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     boolean isDrawCircleHoleEnabled();
 
+    /**
+     * Returns true if the fill of linear and stepped lines is drawn as a triangle mesh instead of
+     * a path.
+     *
+     * @return
+     */
+    boolean isDrawFilledMeshEnabled();
+
     /**
      * Returns the DashPathEffect that is used for drawing the lines.
      *
@@ -1,6 +1,7 @@
 package com.github.mikephil.charting.interfaces.datasets;
 
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 
 /**
@@ -35,4 +36,27 @@ public interface IScatterDataSet extends ILineScatterCandleRadarDataSet<Entry> {
      * @return
      */
     IShapeRenderer getShapeRenderer();
+
+    /**
+     * Returns how the entries are aggregated into density bins, OFF if every entry is drawn as a
+     * shape.
+     *
+     * @return
+     */
+    ScatterDataSet.DensityMode getDensityMode();
+
+    /**
+     * Returns the size of a density bin in density pixels.
+     *
+     * @return
+     */
+    float getDensityBinSize();
+
+    /**
+     * Returns the colors the counts of the density bins are mapped to, from the lowest to the
+     * highest count.
+     *
+     * @return
+     */
+    int[] getDensityColors();
 }
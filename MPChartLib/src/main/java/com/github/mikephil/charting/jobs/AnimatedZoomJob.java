@@ -6,7 +6,6 @@ import android.annotation.SuppressLint;
 import android.graphics.Matrix;
 import android.view.View;
 
-import com.github.mikephil.charting.charts.BarLineChartBase;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.utils.ObjectPool;
 import com.github.mikephil.charting.utils.Transformer;
@@ -86,8 +85,7 @@ public class AnimatedZoomJob extends AnimatedViewPortJob implements Animator.Ani
 
     @Override
     public void onAnimationEnd(Animator animation) {
-        ((BarLineChartBase) view).calculateOffsets();
-        view.postInvalidate();
+        notifyViewPortChanged(true);
     }
 
     @Override
@@ -1,6 +1,7 @@
 
 package com.github.mikephil.charting.jobs;
 
+import android.graphics.Matrix;
 import android.view.View;
 
 import com.github.mikephil.charting.utils.ObjectPool;
@@ -37,6 +38,8 @@ public class MoveViewJob extends ViewPortJob {
         super(viewPortHandler, xValue, yValue, trans, v);
     }
 
+    protected Matrix mRunMatrixBuffer = new Matrix();
+
     @Override
     public void run() {
 
@@ -44,7 +47,12 @@ public class MoveViewJob extends ViewPortJob {
         pts[1] = yValue;
 
         mTrans.pointValuesToPixel(pts);
-        mViewPortHandler.centerViewPort(pts, view);
+
+        Matrix save = mRunMatrixBuffer;
+        mViewPortHandler.translate(pts, save);
+        mViewPortHandler.refresh(save, view, false);
+
+        notifyViewPortChanged(false);
 
         this.recycleInstance(this);
     }
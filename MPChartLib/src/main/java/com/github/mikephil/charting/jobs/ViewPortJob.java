@@ -3,6 +3,8 @@ package com.github.mikephil.charting.jobs;
 
 import android.view.View;
 
+import com.github.mikephil.charting.charts.BarLineChartBase;
+import com.github.mikephil.charting.charts.Chart;
 import com.github.mikephil.charting.utils.ObjectPool;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -44,4 +46,23 @@ public abstract class ViewPortJob extends ObjectPool.Poolable implements Runnabl
     public float getYValue() {
         return yValue;
     }
+
+    /**
+     * Lets the chart know that the job changed its viewport. If the job runs in a frame of the
+     * ViewPortJobScheduler of the chart, the chart is redrawn once at the end of the frame.
+     *
+     * @param recalculateOffsets true if the offsets of the chart have to be recalculated
+     */
+    protected void notifyViewPortChanged(boolean recalculateOffsets) {
+
+        if (view instanceof Chart) {
+            ((Chart<?>) view).getViewPortJobScheduler().onViewPortChanged((Chart<?>) view, recalculateOffsets);
+            return;
+        }
+
+        if (recalculateOffsets && view instanceof BarLineChartBase)
+            ((BarLineChartBase) view).calculateOffsets();
+
+        view.postInvalidate();
+    }
 }
@@ -0,0 +1,297 @@
+package com.github.mikephil.charting.jobs;
+
+import android.annotation.TargetApi;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import com.github.mikephil.charting.charts.BarLineChartBase;
+import com.github.mikephil.charting.charts.Chart;
+
+import java.util.ArrayList;
+
+/**
+ * Runs the viewport jobs of one or more charts once per frame. All jobs scheduled until the next
+ * frame are executed together. Before they run, the MoveViewJobs and ZoomJobs of a chart that
+ * directly follow each other are merged, so that a chart usually updates its matrix with a single
+ * job per frame (see mergeJobs(...)). The offsets of the charts whose viewport changed are
+ * calculated once after all jobs ran, and every chart is invalidated once.
+ *
+ * Charts that share a scheduler (see ViewPortSyncGroup) update their viewports in the same frame.
+ * The frames are driven by the Choreographer (API level 16 and higher) or a Handler of the main
+ * thread below, not by one of the charts, so a detached chart does not stall the others. A
+ * scheduler is only used on the UI thread.
+ */
+public class ViewPortJobScheduler implements Runnable {
+
+    /**
+     * the jobs of the next frame and the charts they belong to
+     */
+    private ArrayList<Runnable> mPendingJobs = new ArrayList<Runnable>();
+    private ArrayList<Chart<?>> mPendingCharts = new ArrayList<Chart<?>>();
+
+    /**
+     * the jobs of the frame currently running, swapped with the pending ones
+     */
+    private ArrayList<Runnable> mRunningJobs = new ArrayList<Runnable>();
+    private ArrayList<Chart<?>> mRunningCharts = new ArrayList<Chart<?>>();
+
+    /**
+     * charts whose viewport changed in the current frame
+     */
+    private final ArrayList<Chart<?>> mChangedCharts = new ArrayList<Chart<?>>();
+
+    /**
+     * charts whose offsets have to be recalculated at the end of the current frame
+     */
+    private final ArrayList<Chart<?>> mOffsetCharts = new ArrayList<Chart<?>>();
+
+    private boolean mFrameScheduled = false;
+
+    private boolean mRunning = false;
+
+    /**
+     * the Choreographer.FrameCallback running the frames, created with the first frame
+     */
+    private Object mFrameCallback;
+
+    /**
+     * the Handler running the frames below API level 16, created with the first frame
+     */
+    private Handler mHandler;
+
+    /**
+     * Schedules the given job of the given chart for the next frame.
+     *
+     * @param chart
+     * @param job
+     */
+    public void schedule(Chart<?> chart, Runnable job) {
+
+        mPendingJobs.add(job);
+        mPendingCharts.add(chart);
+
+        if (!mFrameScheduled) {
+            mFrameScheduled = true;
+            postFrame();
+        }
+    }
+
+    /**
+     * Removes the given job if it has not been executed yet.
+     *
+     * @param job
+     */
+    public void cancel(Runnable job) {
+
+        int index = mPendingJobs.indexOf(job);
+
+        if (index >= 0) {
+            mPendingJobs.remove(index);
+            mPendingCharts.remove(index);
+        }
+    }
+
+    /**
+     * Removes all jobs of the given chart that have not been executed yet.
+     *
+     * @param chart
+     */
+    public void cancelAll(Chart<?> chart) {
+
+        for (int i = mPendingCharts.size() - 1; i >= 0; i--) {
+            if (mPendingCharts.get(i) == chart) {
+                mPendingJobs.remove(i);
+                mPendingCharts.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Moves the jobs of the given chart that have not been executed yet to the given scheduler.
+     *
+     * @param chart
+     * @param scheduler
+     */
+    public void moveJobs(Chart<?> chart, ViewPortJobScheduler scheduler) {
+
+        for (int i = 0; i < mPendingCharts.size(); i++) {
+            if (mPendingCharts.get(i) == chart)
+                scheduler.schedule(chart, mPendingJobs.get(i));
+        }
+
+        cancelAll(chart);
+    }
+
+    /**
+     * Returns true if a job of the given type is scheduled for the given chart.
+     *
+     * @param chart
+     * @param type
+     * @return
+     */
+    public boolean isScheduled(Chart<?> chart, Class<? extends Runnable> type) {
+
+        for (int i = 0; i < mPendingJobs.size(); i++) {
+            if (mPendingCharts.get(i) == chart && type.isInstance(mPendingJobs.get(i)))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Called by the jobs after they changed the viewport of the given chart. Within a frame of
+     * this scheduler, calculating the offsets and redrawing is deferred to the end of the frame,
+     * otherwise it is done immediately.
+     *
+     * @param chart
+     * @param recalculateOffsets true if the visible range of the y-axis changed
+     */
+    public void onViewPortChanged(Chart<?> chart, boolean recalculateOffsets) {
+
+        if (!mRunning) {
+
+            if (recalculateOffsets && chart instanceof BarLineChartBase)
+                ((BarLineChartBase) chart).calculateOffsets();
+
+            chart.postInvalidate();
+            return;
+        }
+
+        if (!mChangedCharts.contains(chart))
+            mChangedCharts.add(chart);
+
+        if (recalculateOffsets && chart instanceof BarLineChartBase && !mOffsetCharts.contains(chart))
+            mOffsetCharts.add(chart);
+    }
+
+    /**
+     * Executes the jobs of the frame.
+     */
+    @Override
+    public void run() {
+
+        mFrameScheduled = false;
+
+        // jobs scheduled by the running jobs go to the next frame
+        ArrayList<Runnable> jobs = mPendingJobs;
+        ArrayList<Chart<?>> charts = mPendingCharts;
+        mPendingJobs = mRunningJobs;
+        mPendingCharts = mRunningCharts;
+        mRunningJobs = jobs;
+        mRunningCharts = charts;
+
+        mRunning = true;
+
+        try {
+            mergeJobs(jobs, charts);
+
+            for (int i = 0; i < jobs.size(); i++) {
+
+                Runnable job = jobs.get(i);
+
+                // merged into a later job
+                if (job == null)
+                    continue;
+
+                job.run();
+            }
+        } finally {
+            mRunning = false;
+            jobs.clear();
+            charts.clear();
+        }
+
+        for (int i = 0; i < mOffsetCharts.size(); i++)
+            ((BarLineChartBase) mOffsetCharts.get(i)).calculateOffsets();
+
+        for (int i = 0; i < mChangedCharts.size(); i++)
+            mChangedCharts.get(i).invalidate();
+
+        mOffsetCharts.clear();
+        mChangedCharts.clear();
+    }
+
+    /**
+     * Merges every job into the next job of the same chart where possible, the merged jobs are
+     * recycled and replaced by null. The order of the remaining jobs is not changed.
+     *
+     * - a MoveViewJob followed by a MoveViewJob or a ZoomJob is dropped, both set the translation
+     * of the viewport anyway and the scale does not depend on it
+     * - a ZoomJob followed by a ZoomJob is dropped and its scale factors are multiplied into the
+     * later one, which centers the viewport as before. The result only differs from running both
+     * jobs if the first one exceeds the scale limits of the chart.
+     *
+     * Any other job in between keeps the jobs of a chart apart.
+     */
+    private static void mergeJobs(ArrayList<Runnable> jobs, ArrayList<Chart<?>> charts) {
+
+        for (int i = 0; i < jobs.size(); i++) {
+
+            Runnable job = jobs.get(i);
+
+            if (!(job instanceof MoveViewJob) && !(job instanceof ZoomJob))
+                continue;
+
+            Runnable next = null;
+
+            for (int j = i + 1; j < jobs.size(); j++) {
+                if (charts.get(j) == charts.get(i)) {
+                    next = jobs.get(j);
+                    break;
+                }
+            }
+
+            if (job instanceof MoveViewJob) {
+
+                if (next instanceof MoveViewJob || next instanceof ZoomJob) {
+                    MoveViewJob.recycleInstance((MoveViewJob) job);
+                    jobs.set(i, null);
+                }
+
+            } else if (next instanceof ZoomJob) {
+
+                ZoomJob zoom = (ZoomJob) job;
+                ZoomJob nextZoom = (ZoomJob) next;
+
+                nextZoom.scaleX *= zoom.scaleX;
+                nextZoom.scaleY *= zoom.scaleY;
+
+                ZoomJob.recycleInstance(zoom);
+                jobs.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * Posts this scheduler to run with the next frame.
+     */
+    protected void postFrame() {
+
+        if (android.os.Build.VERSION.SDK_INT >= 16) {
+            postFrameCallback();
+        } else {
+
+            if (mHandler == null)
+                mHandler = new Handler(Looper.getMainLooper());
+
+            mHandler.post(this);
+        }
+    }
+
+    @TargetApi(16)
+    private void postFrameCallback() {
+
+        if (mFrameCallback == null) {
+            mFrameCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    run();
+                }
+            };
+        }
+
+        Choreographer.getInstance().postFrameCallback((Choreographer.FrameCallback) mFrameCallback);
+    }
+}
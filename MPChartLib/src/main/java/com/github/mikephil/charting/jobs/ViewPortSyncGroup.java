@@ -0,0 +1,143 @@
+package com.github.mikephil.charting.jobs;
+
+import android.graphics.Matrix;
+
+import com.github.mikephil.charting.charts.BarLineChartBase;
+import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.ObjectPool;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Group of charts with a shared x-axis whose viewports are updated together. The charts of a
+ * group share one ViewPortJobScheduler, so the viewport jobs of all charts run in the same frame
+ * and every chart calculates its offsets and redraws once for the frame.
+ *
+ * syncX(...) aligns the visible x-range of all charts to the one of the given chart, e.g. when
+ * called from the OnChartGestureListener of the chart the user drags or scales.
+ */
+public class ViewPortSyncGroup {
+
+    private final ViewPortJobScheduler mScheduler = new ViewPortJobScheduler();
+
+    private final List<BarLineChartBase> mCharts = new ArrayList<BarLineChartBase>();
+
+    /**
+     * the sync job of each chart, at most one is scheduled per chart
+     */
+    private final List<SyncXJob> mSyncJobs = new ArrayList<SyncXJob>();
+
+    public void add(BarLineChartBase chart) {
+
+        if (mCharts.contains(chart))
+            return;
+
+        chart.setViewPortJobScheduler(mScheduler);
+
+        mCharts.add(chart);
+        mSyncJobs.add(new SyncXJob(chart));
+    }
+
+    public void remove(BarLineChartBase chart) {
+
+        int index = mCharts.indexOf(chart);
+
+        if (index < 0)
+            return;
+
+        chart.setViewPortJobScheduler(new ViewPortJobScheduler());
+
+        mCharts.remove(index);
+        mSyncJobs.remove(index);
+    }
+
+    public List<BarLineChartBase> getCharts() {
+        return mCharts;
+    }
+
+    public ViewPortJobScheduler getScheduler() {
+        return mScheduler;
+    }
+
+    /**
+     * Schedules aligning the visible x-range of all other charts of the group to the visible
+     * x-range of the given chart. The range is taken from the given chart when the frame runs,
+     * after its own pending jobs.
+     *
+     * @param source
+     */
+    public void syncX(BarLineChartBase source) {
+
+        for (int i = 0; i < mCharts.size(); i++) {
+
+            BarLineChartBase chart = mCharts.get(i);
+
+            if (chart == source || !chart.getViewPortHandler().hasChartDimens())
+                continue;
+
+            SyncXJob job = mSyncJobs.get(i);
+            job.mSource = source;
+
+            if (!mScheduler.isScheduled(chart, SyncXJob.class))
+                mScheduler.schedule(chart, job);
+        }
+    }
+
+    /**
+     * Zooms and moves the chart so that it shows the same x-range as the source chart, the
+     * visible y-range stays the same.
+     */
+    private static class SyncXJob extends ViewPortJob {
+
+        private BarLineChartBase mSource;
+
+        private final Matrix mRunMatrixBuffer = new Matrix();
+
+        SyncXJob(BarLineChartBase chart) {
+            super(chart == null ? null : chart.getViewPortHandler(), 0f, 0f,
+                    chart == null ? null : chart.getTransformer(AxisDependency.LEFT), chart);
+        }
+
+        @Override
+        public void run() {
+
+            BarLineChartBase chart = (BarLineChartBase) view;
+
+            float lowestVisibleX = mSource.getLowestVisibleX();
+            float visibleRange = mSource.getHighestVisibleX() - lowestVisibleX;
+
+            if (visibleRange <= 0f)
+                return;
+
+            ViewPortHandler viewPortHandler = mViewPortHandler;
+
+            MPPointD top = chart.getValuesByTouchPoint(viewPortHandler.contentLeft(),
+                    viewPortHandler.contentTop(), AxisDependency.LEFT);
+
+            Matrix save = mRunMatrixBuffer;
+            viewPortHandler.setZoom(chart.getXAxis().mAxisRange / visibleRange,
+                    viewPortHandler.getScaleY(), save);
+            viewPortHandler.refresh(save, view, false);
+
+            pts[0] = lowestVisibleX;
+            pts[1] = (float) top.y;
+
+            MPPointD.recycleInstance(top);
+
+            mTrans.pointValuesToPixel(pts);
+
+            viewPortHandler.translate(pts, save);
+            viewPortHandler.refresh(save, view, false);
+
+            notifyViewPortChanged(false);
+        }
+
+        @Override
+        protected ObjectPool.Poolable instantiate() {
+            return new SyncXJob(null);
+        }
+    }
+}
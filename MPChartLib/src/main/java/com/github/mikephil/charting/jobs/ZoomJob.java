@@ -74,8 +74,7 @@ public class ZoomJob extends ViewPortJob {
         mViewPortHandler.translate(pts, save);
         mViewPortHandler.refresh(save, view, false);
 
-        ((BarLineChartBase) view).calculateOffsets();
-        view.postInvalidate();
+        notifyViewPortChanged(true);
 
         recycleInstance(this);
     }
@@ -64,6 +64,26 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
     private MPPointF mDecelerationCurrentPoint = MPPointF.getInstance(0,0);
     private MPPointF mDecelerationVelocity = MPPointF.getInstance(0,0);
 
+    /**
+     * the frame rate the deceleration friction coefficient refers to
+     */
+    private static final float DECELERATION_FRAME_RATE = 60f;
+
+    /**
+     * what to do with the pending move
+     */
+    private static final int PENDING_NONE = 0;
+    private static final int PENDING_DRAG = 1;
+    private static final int PENDING_ZOOM = 2;
+    private static final int PENDING_HIGHLIGHT = 3;
+
+    /**
+     * the latest move of the current frame that was not applied yet, null if there is none
+     */
+    private MotionEvent mPendingMove;
+
+    private int mPendingAction = PENDING_NONE;
+
     /**
      * the distance of movement that will be counted as a drag
      */
@@ -115,8 +135,14 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
         if (!mChart.isDragEnabled() && (!mChart.isScaleXEnabled() && !mChart.isScaleYEnabled()))
             return true;
 
+        int action = event.getAction() & MotionEvent.ACTION_MASK;
+
+        // everything but a move depends on the moves before being applied
+        if (action != MotionEvent.ACTION_MOVE)
+            applyPendingMove();
+
         // Handle touch events here...
-        switch (event.getAction() & MotionEvent.ACTION_MASK) {
+        switch (action) {
 
             case MotionEvent.ACTION_DOWN:
 
@@ -169,17 +195,14 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
 
                     mChart.disableScroll();
 
-                    float x = mChart.isDragXEnabled() ? event.getX() - mTouchStartPoint.x : 0.f;
-                    float y = mChart.isDragYEnabled() ? event.getY() - mTouchStartPoint.y : 0.f;
-
-                    performDrag(event, x, y);
+                    postMove(event, PENDING_DRAG);
 
                 } else if (mTouchMode == X_ZOOM || mTouchMode == Y_ZOOM || mTouchMode == PINCH_ZOOM) {
 
                     mChart.disableScroll();
 
                     if (mChart.isScaleXEnabled() || mChart.isScaleYEnabled())
-                        performZoom(event);
+                        postMove(event, PENDING_ZOOM);
 
                 } else if (mTouchMode == NONE
                         && Math.abs(distance(event.getX(), mTouchStartPoint.x, event.getY(),
@@ -209,7 +232,7 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
                                 mLastGesture = ChartGesture.DRAG;
 
                                 if (mChart.isHighlightPerDragEnabled())
-                                    performHighlightDrag(event);
+                                    postMove(event, PENDING_HIGHLIGHT);
                             }
                         }
 
@@ -282,12 +305,86 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
                 break;
         }
 
-        // perform the transformation, update the chart
-        mMatrix = mChart.getViewPortHandler().refresh(mMatrix, mChart, true);
+        // perform the transformation, update the chart, batched moves are applied in computeScroll()
+        if (action != MotionEvent.ACTION_MOVE || !mChart.isGestureBatchingEnabled())
+            mMatrix = mChart.getViewPortHandler().refresh(mMatrix, mChart, true);
 
         return true; // indicate event was handled
     }
 
+    /**
+     * Applies the given move, or keeps it until the next frame if gesture batching is enabled.
+     * Drags and zooms are relative to the touch start, so the latest move of a frame replaces
+     * the ones before, their historical samples are only of interest to the VelocityTracker.
+     *
+     * @param event
+     * @param pendingAction
+     */
+    private void postMove(MotionEvent event, int pendingAction) {
+
+        if (!mChart.isGestureBatchingEnabled()) {
+            performMove(event, pendingAction);
+            return;
+        }
+
+        boolean posted = mPendingMove != null;
+
+        if (posted)
+            mPendingMove.recycle();
+
+        mPendingMove = MotionEvent.obtain(event);
+        mPendingAction = pendingAction;
+
+        // computeScroll() applies the move right before the next frame is drawn
+        if (!posted)
+            Utils.postInvalidateOnAnimation(mChart);
+    }
+
+    /**
+     * Applies the move kept for the current frame, if there is one. Does not refresh the
+     * viewport.
+     *
+     * @return true if a move was applied
+     */
+    private boolean applyPendingMove() {
+
+        if (mPendingMove == null)
+            return false;
+
+        MotionEvent event = mPendingMove;
+        int pendingAction = mPendingAction;
+
+        mPendingMove = null;
+        mPendingAction = PENDING_NONE;
+
+        performMove(event, pendingAction);
+        event.recycle();
+
+        return true;
+    }
+
+    private void performMove(MotionEvent event, int pendingAction) {
+
+        switch (pendingAction) {
+
+            case PENDING_DRAG:
+
+                float x = mChart.isDragXEnabled() ? event.getX() - mTouchStartPoint.x : 0.f;
+                float y = mChart.isDragYEnabled() ? event.getY() - mTouchStartPoint.y : 0.f;
+
+                performDrag(event, x, y);
+                break;
+
+            case PENDING_ZOOM:
+                performZoom(event);
+                break;
+
+            case PENDING_HIGHLIGHT:
+                performHighlightDrag(event);
+                break;
+        }
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -645,18 +742,36 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
         mDecelerationVelocity.y = 0;
     }
 
+    /**
+     * Called once per frame before the chart is drawn, applies the batched gesture moves and the
+     * deceleration of the frame.
+     */
     public void computeScroll() {
 
+        // the frame is drawn right after this, no need to invalidate again
+        if (applyPendingMove())
+            mMatrix = mChart.getViewPortHandler().refresh(mMatrix, mChart, false);
+
         if (mDecelerationVelocity.x == 0.f && mDecelerationVelocity.y == 0.f)
             return; // There's no deceleration in progress
 
+        // the start time of the current frame, the same for all calls within a frame
         final long currentTime = AnimationUtils.currentAnimationTimeMillis();
 
-        mDecelerationVelocity.x *= mChart.getDragDecelerationFrictionCoef();
-        mDecelerationVelocity.y *= mChart.getDragDecelerationFrictionCoef();
+        if (currentTime == mDecelerationLastTime) {
+            Utils.postInvalidateOnAnimation(mChart);
+            return; // this frame was already decelerated
+        }
 
         final float timeInterval = (float) (currentTime - mDecelerationLastTime) / 1000.f;
 
+        // the friction coefficient is applied per 60 fps frame, independent of the actual frame rate
+        final float friction = (float) Math.pow(mChart.getDragDecelerationFrictionCoef(),
+                timeInterval * DECELERATION_FRAME_RATE);
+
+        mDecelerationVelocity.x *= friction;
+        mDecelerationVelocity.y *= friction;
+
         float distanceX = mDecelerationVelocity.x * timeInterval;
         float distanceY = mDecelerationVelocity.y * timeInterval;
 
@@ -14,6 +14,11 @@ public interface OnChartValueSelectedListener {
     /**
      * Called when a value has been selected inside the chart.
      *
+     * The Highlight is only valid during the callback: the chart reuses the Highlight objects
+     * while scrubbing and overwrites this one with a later selection. Keep a copy
+     * (new Highlight(h)) to highlight the value again later, e.g. with
+     * Chart.highlightValue(Highlight).
+     *
      * @param e The selected Entry
      * @param h The corresponding highlight object that contains information
      *          about the highlighted position such as dataSetIndex, ...
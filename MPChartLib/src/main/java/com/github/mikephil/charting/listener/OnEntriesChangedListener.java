@@ -0,0 +1,28 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Listener for changes of the entries of a DataSet, see BaseDataSet.addOnEntriesChangedListener(...).
+ * The callbacks are invoked by the notify...() methods of the DataSet, after its bounds were
+ * updated.
+ */
+public interface OnEntriesChangedListener {
+
+    /**
+     * Called when the given number of entries were inserted at the given index, e.g. appended.
+     *
+     * @param set
+     * @param from  index of the first inserted Entry
+     * @param count number of inserted entries
+     */
+    void onEntriesInserted(IDataSet set, int from, int count);
+
+    /**
+     * Called after any other change of the entries, e.g. changed or removed entries or
+     * notifyDataSetChanged().
+     *
+     * @param set
+     */
+    void onEntriesChanged(IDataSet set);
+}
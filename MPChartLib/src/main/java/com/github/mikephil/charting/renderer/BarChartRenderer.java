@@ -11,11 +11,16 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.StackedBarDataSet;
+import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -33,6 +38,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     protected BarBuffer[] mBarBuffers;
 
+    /**
+     * buffer for the positions of the values of a stacked bar, only grows
+     */
+    protected float[] mStackValuesBuffer = new float[2];
+
     protected Paint mShadowPaint;
     protected Paint mBarBorderPaint;
 
@@ -62,16 +72,83 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
+            mBarBuffers[i] = createBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
                     barData.getDataSetCount(), set.isStacked());
         }
     }
 
+    /**
+     * Creates the buffer the bars of a DataSet are fed into.
+     *
+     * @param size
+     * @param dataSetCount
+     * @param containsStacks
+     * @return
+     */
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new BarBuffer(size, dataSetCount, containsStacks);
+    }
+
+    @Override
+    public long getMemorySize(int priority) {
+
+        if (priority != MemoryBudgetManager.PRIORITY_BUFFERS || mBarBuffers == null)
+            return 0;
+
+        long size = 0;
+
+        for (BarBuffer buffer : mBarBuffers)
+            size += buffer.size() * 4L;
+
+        return size;
+    }
+
+    @Override
+    public long trimMemory(int priority) {
+
+        long size = getMemorySize(priority);
+
+        if (priority == MemoryBudgetManager.PRIORITY_BUFFERS)
+            mBarBuffers = null;
+
+        return size;
+    }
+
+    @Override
+    public void onEntriesChanged(IDataSet set) {
+
+        BarData barData = mChart.getBarData();
+
+        if (barData == null)
+            return;
+
+        int index = barData.getDataSets().indexOf(set);
+
+        if (mBarBuffers == null || mBarBuffers.length != barData.getDataSetCount()) {
+            initBuffers();
+            return;
+        }
+
+        // the set belongs to a different type of data (combined chart)
+        if (index < 0)
+            return;
+
+        IBarDataSet barSet = barData.getDataSetByIndex(index);
+        int size = barSet.getEntryCount() * 4 * (barSet.isStacked() ? barSet.getStackSize() : 1);
+
+        if (mBarBuffers[index].size() != size)
+            mBarBuffers[index] = createBarBuffer(size, barData.getDataSetCount(), barSet.isStacked());
+    }
+
     @Override
     public void drawData(Canvas c) {
 
         BarData barData = mChart.getBarData();
 
+        // the buffers may have been released to free memory
+        if (mBarBuffers == null)
+            initBuffers();
+
         for (int i = 0; i < barData.getDataSetCount(); i++) {
 
             IBarDataSet set = barData.getDataSetByIndex(i);
@@ -110,9 +187,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 i < count;
                 i++) {
 
-                BarEntry e = dataSet.getEntryForIndex(i);
-
-                x = e.getX();
+                // read the x-value directly from flat stacked data sets instead of creating an entry
+                if (dataSet instanceof StackedBarDataSet) {
+                    x = ((StackedBarDataSet) dataSet).getXValue(i);
+                } else {
+                    BarEntry e = dataSet.getEntryForIndex(i);
+                    x = e.getX();
+                }
 
                 mBarShadowRectBuffer.left = x - barWidthHalf;
                 mBarShadowRectBuffer.right = x + barWidthHalf;
@@ -143,7 +224,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         trans.pointValuesToPixel(buffer.buffer);
 
-        final boolean isSingleColor = dataSet.getColors().size() == 1;
+        final boolean isSingleColor = dataSet.isSingleColor();
 
         if (isSingleColor) {
             mRenderPaint.setColor(dataSet.getColor());
@@ -160,7 +241,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(getBarColorIndex(dataSet, j)));
             }
 
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
@@ -173,6 +254,23 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    /**
+     * Returns the color index of the bar starting at the given position of the bar buffer. The
+     * segments of stacked bars cycle through the colors of the DataSet, but per-entry colors
+     * color all segments of an entry alike.
+     *
+     * @param dataSet
+     * @param j       position of the bar in the buffer, 4 values per bar
+     * @return
+     */
+    protected int getBarColorIndex(IBarDataSet dataSet, int j) {
+
+        if (dataSet.isStacked() && dataSet.getEntryColors() != null)
+            return j / (4 * dataSet.getStackSize());
+
+        return j / 4;
+    }
+
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
 
         float left = x - barWidthHalf;
@@ -188,6 +286,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
     @Override
     public void drawValues(Canvas c) {
 
+        if (mBarBuffers == null)
+            initBuffers();
+
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
@@ -278,6 +379,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     }
 
                     // if we have stacks
+                } else if (dataSet instanceof StackedBarDataSet) {
+
+                    drawStackedValues(c, (StackedBarDataSet) dataSet, i, buffer, posOffset, negOffset);
+
                 } else {
 
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -336,12 +441,20 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                             // draw stack values
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            final int count = vals.length * 2;
+
+                            if (mStackValuesBuffer.length < count) {
+                                mStackValuesBuffer = new float[count];
+                            }
+                            float[] transformed = mStackValuesBuffer;
 
                             float posY = 0f;
                             float negY = -entry.getNegativeSum();
 
-                            for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
+                            for (int k = 0, idx = 0; k < count; k += 2, idx++) {
+
+                                // the buffer is reused
+                                transformed[k] = 0f;
 
                                 float value = vals[idx];
                                 float y;
@@ -360,9 +473,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 transformed[k + 1] = y * phaseY;
                             }
 
-                            trans.pointValuesToPixel(transformed);
+                            trans.pointValuesToPixel(transformed, 0, count / 2);
 
-                            for (int k = 0; k < transformed.length; k += 2) {
+                            for (int k = 0; k < count; k += 2) {
 
                                 final float val = vals[k / 2];
                                 final boolean drawBelow =
@@ -414,6 +527,142 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    /**
+     * the entry passed to the value formatter for the values of StackedBarDataSets, holding the
+     * x-value and the sum of the drawn stack
+     */
+    protected BarEntry mStackedValueEntry = new BarEntry(0f, 0f);
+
+    /**
+     * Draws the values of the stack segments of a StackedBarDataSet from its flat stack arrays,
+     * without creating a BarEntry per bar.
+     *
+     * @param c
+     * @param dataSet
+     * @param dataSetIndex
+     * @param buffer       the fed buffer of the DataSet
+     * @param posOffset
+     * @param negOffset
+     */
+    protected void drawStackedValues(Canvas c, StackedBarDataSet dataSet, int dataSetIndex, BarBuffer buffer,
+                                     float posOffset, float negOffset) {
+
+        if (!dataSet.isDrawValuesEnabled())
+            return;
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+        IValueFormatter formatter = dataSet.getValueFormatter();
+
+        final int stackSize = dataSet.getStackSize();
+
+        for (int index = 0, bufferIndex = 0; index < dataSet.getEntryCount() * mAnimator.getPhaseX();
+             index++, bufferIndex += 4 * stackSize) {
+
+            float x = (buffer.buffer[bufferIndex] + buffer.buffer[bufferIndex + 2]) / 2f;
+
+            if (!mViewPortHandler.isInBoundsRight(x))
+                break;
+
+            if (!mViewPortHandler.isInBoundsLeft(x))
+                continue;
+
+            mStackedValueEntry.setX(dataSet.getXValue(index));
+            mStackedValueEntry.setY(dataSet.getSum(index));
+
+            float[] transformed = getStackedValuePositions(dataSet, index, trans, false);
+            boolean hasPositive = dataSet.getPositiveSum(index) > 0f;
+            int color = dataSet.getValueTextColor(index);
+
+            for (int k = 0; k < stackSize; k++) {
+
+                final float val = dataSet.getStackValue(index, k);
+                final boolean drawBelow = (val == 0.0f && hasPositive) || val < 0.0f;
+                float y = transformed[k * 2 + 1] + (drawBelow ? negOffset : posOffset);
+
+                if (!mViewPortHandler.isInBoundsY(y))
+                    continue;
+
+                drawValue(c, formatter, val, mStackedValueEntry, dataSetIndex, x, y, color);
+            }
+        }
+    }
+
+    /**
+     * Writes the pixel positions of the values of the stack segments of the given entry of a
+     * StackedBarDataSet into mStackValuesBuffer, two values per segment: the top of positive and
+     * the bottom of negative segments on the value axis, 0 on the other one.
+     *
+     * @param dataSet
+     * @param index
+     * @param trans
+     * @param horizontal true if the value axis is the x-axis of the buffer
+     * @return the buffer
+     */
+    protected float[] getStackedValuePositions(StackedBarDataSet dataSet, int index, Transformer trans,
+                                               boolean horizontal) {
+
+        final int stackSize = dataSet.getStackSize();
+        final float phaseY = mAnimator.getPhaseY();
+
+        if (mStackValuesBuffer.length < stackSize * 2)
+            mStackValuesBuffer = new float[stackSize * 2];
+
+        float[] transformed = mStackValuesBuffer;
+
+        for (int k = 0; k < stackSize; k++) {
+
+            float y = dataSet.getStackValue(index, k) >= 0f
+                    ? dataSet.getStackTo(index, k)
+                    : dataSet.getStackFrom(index, k);
+
+            transformed[k * 2] = horizontal ? y * phaseY : 0f;
+            transformed[k * 2 + 1] = horizontal ? 0f : y * phaseY;
+        }
+
+        trans.pointValuesToPixel(transformed, 0, stackSize);
+        return transformed;
+    }
+
+    /**
+     * Draws the highlight of a StackedBarDataSet from its flat stack arrays.
+     *
+     * @param c
+     * @param high
+     * @param set
+     * @param barWidthHalf
+     */
+    protected void drawStackedHighlight(Canvas c, Highlight high, StackedBarDataSet set, float barWidthHalf) {
+
+        int index = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
+
+        if (index < 0 || index >= set.getEntryCount() * mAnimator.getPhaseX())
+            return;
+
+        final int stackIndex = high.getStackIndex();
+        final float y1;
+        final float y2;
+
+        if (stackIndex < 0 || stackIndex >= set.getStackSize()) {
+            y1 = set.getSum(index);
+            y2 = 0.f;
+        } else if (mChart.isHighlightFullBarEnabled()) {
+            y1 = set.getPositiveSum(index);
+            y2 = -set.getNegativeSum(index);
+        } else {
+            y1 = set.getStackFrom(index, stackIndex);
+            y2 = set.getStackTo(index, stackIndex);
+        }
+
+        mHighlightPaint.setColor(set.getHighLightColor());
+        mHighlightPaint.setAlpha(set.getHighLightAlpha());
+
+        prepareBarHighlight(set.getXValue(index), y1, y2, barWidthHalf, mChart.getTransformer(set.getAxisDependency()));
+
+        setHighlightDrawPos(high, mBarRect);
+
+        c.drawRect(mBarRect, mHighlightPaint);
+    }
+
     @Override
     public void drawHighlighted(Canvas c, Highlight[] indices) {
 
@@ -426,6 +675,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
+            if (set instanceof StackedBarDataSet) {
+                drawStackedHighlight(c, high, (StackedBarDataSet) set, barData.getBarWidth() / 2f);
+                continue;
+            }
+
             BarEntry e = set.getEntryForXValue(high.getX(), high.getY());
 
             if (!isInBoundsX(e, set))
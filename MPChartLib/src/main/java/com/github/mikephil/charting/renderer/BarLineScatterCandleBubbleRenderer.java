@@ -8,6 +8,9 @@ import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBub
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Created by Philipp Jahoda on 09/06/16.
  */
@@ -53,6 +56,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         }
     }
 
+    /**
+     * visible index bounds per DataSet, reused across passes (data, values, extras) and frames
+     */
+    protected Map<IDataSet, CachedBounds> mCachedBounds = new WeakHashMap<>();
+
     /**
      * Class representing the bounds of the current viewport in terms of indices in the values array of a DataSet.
      */
@@ -85,12 +93,92 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            dataSet.onVisibleRangeChanged(low, high);
+
+            // there is nothing to gain from caching a constant time lookup
+            if (dataSet.isEntryIndexConstantTime()) {
+                min = Math.max(dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN), 0);
+                max = Math.max(dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP), 0);
+                range = (int) ((max - min) * phaseX);
+                return;
+            }
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            CachedBounds bounds = mCachedBounds.get(dataSet);
+
+            if (bounds == null) {
+                bounds = new CachedBounds();
+                mCachedBounds.put(dataSet, bounds);
+            }
+
+            if (!bounds.contains(dataSet, low, high))
+                bounds.set(dataSet, low, high);
+
+            min = bounds.min;
+            max = bounds.max;
             range = (int) ((max - min) * phaseX);
         }
     }
+
+    /**
+     * Visible entry index bounds of a DataSet. The bounds stay valid as long as the lowest visible x-value stays
+     * between the x-values of the entries at min and min + 1, and the highest visible x-value between the x-values of
+     * the entries at max - 1 and max. Only crossing one of these boundaries requires a new search.
+     */
+    protected static class CachedBounds {
+
+        public int min = -1;
+
+        public int max = -1;
+
+        /**
+         * the entry count of the DataSet when the bounds were calculated
+         */
+        public int entryCount = -1;
+
+        /**
+         * Searches the visible index bounds for the given visible x-range.
+         *
+         * @param dataSet
+         * @param low
+         * @param high
+         */
+        public void set(IDataSet dataSet, float low, float high) {
+
+            entryCount = dataSet.getEntryCount();
+
+            min = Math.max(dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN), 0);
+            max = Math.max(dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP), 0);
+        }
+
+        /**
+         * Returns true if searching the bounds for the given visible x-range would yield the cached bounds.
+         *
+         * @param dataSet
+         * @param low
+         * @param high
+         * @return
+         */
+        public boolean contains(IDataSet dataSet, float low, float high) {
+
+            if (entryCount != dataSet.getEntryCount() || entryCount <= 0 || min < 0 || max < 0)
+                return false;
+
+            if (min >= entryCount || max >= entryCount)
+                return false;
+
+            if (min > 0 && low < dataSet.getEntryForIndex(min).getX())
+                return false;
+
+            if (min < entryCount - 1 && low >= dataSet.getEntryForIndex(min + 1).getX())
+                return false;
+
+            if (max < entryCount - 1 && high > dataSet.getEntryForIndex(max).getX())
+                return false;
+
+            if (max > 0 && high <= dataSet.getEntryForIndex(max - 1).getX())
+                return false;
+
+            return true;
+        }
+    }
 }
@@ -142,8 +142,11 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                final float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesBubble(dataSet, phaseY, mXBounds.min, mXBounds.max);
+                Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+                final float[] positions = trans.generateTransformedValuesBubble(dataSet, phaseY,
+                        mXBounds.min, mXBounds.max);
+                final int count = trans.getTransformedValuesCount();
 
                 final float alpha = phaseX == 1 ? phaseY : phaseX;
 
@@ -151,7 +154,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     int valueTextColor = dataSet.getValueTextColor(j / 2 + mXBounds.min);
                     valueTextColor = Color.argb(Math.round(255.f * alpha), Color.red(valueTextColor),
@@ -276,6 +276,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 float[] positions = trans.generateTransformedValuesCandle(
                         dataSet, mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                final int count = trans.getTransformedValuesCount();
 
                 float yOffset = Utils.convertDpToPixel(5f);
 
@@ -283,7 +284,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -358,6 +359,8 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
             // draw the lines
             drawHighlightLines(c, (float) pix.x, (float) pix.y, set);
+
+            MPPointD.recycleInstance(pix);
         }
     }
 }
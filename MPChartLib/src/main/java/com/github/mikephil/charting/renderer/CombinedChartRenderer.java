@@ -1,20 +1,32 @@
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.charts.BarLineChartBase;
 import com.github.mikephil.charting.charts.Chart;
 import com.github.mikephil.charting.charts.CombinedChart;
 import com.github.mikephil.charting.charts.CombinedChart.DrawOrder;
+import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.CombinedData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.ChartExecutors;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
+import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * Renderer class that is responsible for rendering multiple different data-types.
@@ -28,6 +40,32 @@ public class CombinedChartRenderer extends DataRenderer {
 
     protected WeakReference<Chart> mChart;
 
+    /**
+     * if true, the data of the sub-renderers is drawn concurrently into separate layer bitmaps
+     */
+    protected boolean mParallelRenderingEnabled = false;
+
+    /**
+     * the executor used for parallel rendering, null to use the shared default executor
+     */
+    protected ExecutorService mRenderExecutor;
+
+    /**
+     * one layer bitmap (and canvas) per sub-renderer, composited in draw order
+     */
+    protected Bitmap[] mLayerBitmaps;
+    protected Canvas[] mLayerCanvases;
+
+    /**
+     * reusable tasks, one per layer
+     */
+    protected List<LayerTask> mLayerTasks = new ArrayList<LayerTask>(5);
+
+    /**
+     * the bitmap configuration to be used for the layers
+     */
+    protected Bitmap.Config mLayerBitmapConfig = Bitmap.Config.ARGB_8888;
+
     public CombinedChartRenderer(CombinedChart chart, ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
         mChart = new WeakReference<Chart>(chart);
@@ -75,6 +113,14 @@ public class CombinedChartRenderer extends DataRenderer {
         }
     }
 
+    @Override
+    public void setRecordingEnabled(boolean enabled) {
+        super.setRecordingEnabled(enabled);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setRecordingEnabled(enabled);
+    }
+
     @Override
     public void initBuffers() {
 
@@ -82,13 +128,216 @@ public class CombinedChartRenderer extends DataRenderer {
             renderer.initBuffers();
     }
 
+    @Override
+    public void onEntriesChanged(IDataSet set) {
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.onEntriesChanged(set);
+    }
+
     @Override
     public void drawData(Canvas c) {
 
+        // on a thread of the shared pool (e.g. a batch export), waiting for the pool could block it
+        boolean parallel = mParallelRenderingEnabled && !mRecording && mRenderers.size() > 1
+                && (mRenderExecutor != null || !ChartExecutors.isComputeThread());
+
+        if (parallel && drawDataParallel(c))
+            return;
+
         for (DataRenderer renderer : mRenderers)
             renderer.drawData(c);
     }
 
+    /**
+     * Rasterises the data of every sub-renderer into its own layer bitmap on the render executor
+     * and composites the layers onto the given canvas in draw order. Returns false if the layers
+     * could not be set up (e.g. the chart has no dimensions yet), in which case nothing is drawn.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean drawDataParallel(Canvas c) {
+
+        int width = (int) mViewPortHandler.getChartWidth();
+        int height = (int) mViewPortHandler.getChartHeight();
+
+        if (!prepareLayers(width, height))
+            return false;
+
+        ExecutorService executor = mRenderExecutor != null ? mRenderExecutor : ChartExecutors.getComputeExecutor();
+
+        // the layers transform their values concurrently, with the matrices of this frame
+        setMatricesFrozen(true);
+
+        try {
+
+            List<Future<Void>> results;
+
+            try {
+                results = executor.invokeAll(mLayerTasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Rendering of data layer " + i + " failed.", e.getCause());
+                }
+            }
+
+        } finally {
+            setMatricesFrozen(false);
+        }
+
+        for (int i = 0; i < mLayerBitmaps.length; i++)
+            c.drawBitmap(mLayerBitmaps[i], 0, 0, mDrawPaint);
+
+        return true;
+    }
+
+    /**
+     * Makes sure there is one cleared layer bitmap of the given size for each sub-renderer.
+     *
+     * @param width
+     * @param height
+     * @return false if no layers could be created
+     */
+    protected boolean prepareLayers(int width, int height) {
+
+        if (width <= 0 || height <= 0)
+            return false;
+
+        int count = mRenderers.size();
+
+        if (mLayerBitmaps == null || mLayerBitmaps.length != count
+                || mLayerBitmaps[0].getWidth() != width
+                || mLayerBitmaps[0].getHeight() != height) {
+
+            releaseLayers();
+
+            mLayerBitmaps = new Bitmap[count];
+            mLayerCanvases = new Canvas[count];
+
+            for (int i = 0; i < count; i++) {
+                mLayerBitmaps[i] = Bitmap.createBitmap(width, height, mLayerBitmapConfig);
+                mLayerCanvases[i] = new Canvas(mLayerBitmaps[i]);
+            }
+        }
+
+        while (mLayerTasks.size() > count)
+            mLayerTasks.remove(mLayerTasks.size() - 1);
+
+        while (mLayerTasks.size() < count)
+            mLayerTasks.add(new LayerTask());
+
+        for (int i = 0; i < count; i++) {
+            mLayerBitmaps[i].eraseColor(Color.TRANSPARENT);
+            mLayerTasks.get(i).set(mRenderers.get(i), mLayerCanvases[i]);
+        }
+
+        return true;
+    }
+
+    /**
+     * Freezes or unfreezes the matrices of the transformers of both axes.
+     *
+     * @param frozen
+     */
+    private void setMatricesFrozen(boolean frozen) {
+
+        Chart chart = mChart.get();
+
+        if (!(chart instanceof BarLineChartBase))
+            return;
+
+        BarLineChartBase barLineChart = (BarLineChartBase) chart;
+
+        for (YAxis.AxisDependency axis : YAxis.AxisDependency.values()) {
+
+            Transformer trans = barLineChart.getTransformer(axis);
+
+            if (frozen)
+                trans.freezeMatrices();
+            else
+                trans.unfreezeMatrices();
+        }
+    }
+
+    /**
+     * Releases the layer bitmaps used for parallel rendering. They are recreated on demand.
+     */
+    public void releaseLayers() {
+
+        if (mLayerCanvases != null) {
+            for (Canvas canvas : mLayerCanvases)
+                canvas.setBitmap(null);
+            mLayerCanvases = null;
+        }
+
+        if (mLayerBitmaps != null) {
+            for (Bitmap bitmap : mLayerBitmaps)
+                bitmap.recycle();
+            mLayerBitmaps = null;
+        }
+    }
+
+    @Override
+    public long getMemorySize(int priority) {
+
+        long size = 0;
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES && mLayerBitmaps != null) {
+            for (Bitmap bitmap : mLayerBitmaps)
+                size += MemoryBudgetManager.getBitmapSize(bitmap);
+        }
+
+        for (DataRenderer renderer : mRenderers)
+            size += renderer.getMemorySize(priority);
+
+        return size;
+    }
+
+    @Override
+    public long trimMemory(int priority) {
+
+        long size = 0;
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES && mLayerBitmaps != null) {
+
+            for (Bitmap bitmap : mLayerBitmaps)
+                size += MemoryBudgetManager.getBitmapSize(bitmap);
+
+            // not recycled, they may still be referenced by the last drawn frame
+            mLayerCanvases = null;
+            mLayerBitmaps = null;
+        }
+
+        for (DataRenderer renderer : mRenderers)
+            size += renderer.trimMemory(priority);
+
+        return size;
+    }
+
+    /**
+     * Releases all bitmaps held by this renderer and its sub-renderers.
+     */
+    public void releaseBitmaps() {
+
+        releaseLayers();
+
+        for (DataRenderer renderer : mRenderers) {
+            if (renderer instanceof LineChartRenderer)
+                ((LineChartRenderer) renderer).releaseBitmap();
+        }
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -164,4 +413,64 @@ public class CombinedChartRenderer extends DataRenderer {
     public void setSubRenderers(List<DataRenderer> renderers) {
         this.mRenderers = renderers;
     }
+
+    /**
+     * If set to true, the data layers of the different sub-renderers (bar, bubble, line, candle,
+     * scatter) are rasterised concurrently into separate bitmaps and then composited in draw order.
+     * This trades memory (one chart-sized bitmap per sub-renderer) for drawing time and is only
+     * worth it for charts with many / large DataSets. Default: false
+     *
+     * @param enabled
+     */
+    public void setParallelRenderingEnabled(boolean enabled) {
+        mParallelRenderingEnabled = enabled;
+
+        if (!enabled)
+            releaseLayers();
+    }
+
+    public boolean isParallelRenderingEnabled() {
+        return mParallelRenderingEnabled;
+    }
+
+    /**
+     * Sets the executor used for parallel rendering. If null (default), the compute pool of
+     * ChartExecutors is used.
+     *
+     * @param executor
+     */
+    public void setRenderExecutor(ExecutorService executor) {
+        mRenderExecutor = executor;
+    }
+
+    /**
+     * Sets the Bitmap.Config to be used for the layers of parallel rendering.
+     * Default: Bitmap.Config.ARGB_8888
+     *
+     * @param config
+     */
+    public void setLayerBitmapConfig(Bitmap.Config config) {
+        mLayerBitmapConfig = config;
+        releaseLayers();
+    }
+
+    /**
+     * Draws the data of one sub-renderer onto its layer canvas.
+     */
+    protected static class LayerTask implements Callable<Void> {
+
+        private DataRenderer mRenderer;
+        private Canvas mCanvas;
+
+        public void set(DataRenderer renderer, Canvas canvas) {
+            mRenderer = renderer;
+            mCanvas = canvas;
+        }
+
+        @Override
+        public Void call() {
+            mRenderer.drawData(mCanvas);
+            return null;
+        }
+    }
 }
@@ -48,6 +48,11 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * flag that indicates if the data is currently recorded into a display list
+     */
+    protected boolean mRecording = false;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -114,6 +119,21 @@ public abstract class DataRenderer extends Renderer {
         mValuePaint.setTextSize(set.getValueTextSize());
     }
 
+    /**
+     * Lets the renderer know that the following drawData(...) calls are recorded into a display
+     * list. Renderers that use intermediate bitmaps should then draw directly onto the provided
+     * canvas, so that nothing is rasterised in software.
+     *
+     * @param enabled
+     */
+    public void setRecordingEnabled(boolean enabled) {
+        mRecording = enabled;
+    }
+
+    public boolean isRecordingEnabled() {
+        return mRecording;
+    }
+
     /**
      * Initializes the buffers used for rendering with a new size. Since this
      * method performs memory allocations, it should only be called if
@@ -121,6 +141,39 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void initBuffers();
 
+    /**
+     * Called when the entries of the given DataSet were inserted, changed or removed while the
+     * data stayed the same. Renderers holding buffers per DataSet only need to update the buffer
+     * of that DataSet, the default initializes all buffers.
+     *
+     * @param set
+     */
+    public void onEntriesChanged(IDataSet set) {
+        initBuffers();
+    }
+
+    /**
+     * Returns the number of bytes this renderer holds in caches, bitmaps or buffers of the given
+     * priority of the MemoryBudgetManager.
+     *
+     * @param priority
+     * @return
+     */
+    public long getMemorySize(int priority) {
+        return 0;
+    }
+
+    /**
+     * Releases the caches, bitmaps or buffers of the given priority of the MemoryBudgetManager,
+     * they have to be created again on demand when drawing.
+     *
+     * @param priority
+     * @return the number of bytes released
+     */
+    public long trimMemory(int priority) {
+        return 0;
+    }
+
     /**
      * Draws the actual data in form of lines, bars, ... depending on Renderer subclass.
      *
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.buffer.HorizontalBarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.StackedBarDataSet;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
@@ -38,16 +39,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     }
 
     @Override
-    public void initBuffers() {
-
-        BarData barData = mChart.getBarData();
-        mBarBuffers = new HorizontalBarBuffer[barData.getDataSetCount()];
-
-        for (int i = 0; i < mBarBuffers.length; i++) {
-            IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
-        }
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new HorizontalBarBuffer(size, dataSetCount, containsStacks);
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
@@ -79,9 +72,13 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                  i < count;
                  i++) {
 
-                BarEntry e = dataSet.getEntryForIndex(i);
-
-                x = e.getX();
+                // read the x-value directly from flat stacked data sets instead of creating an entry
+                if (dataSet instanceof StackedBarDataSet) {
+                    x = ((StackedBarDataSet) dataSet).getXValue(i);
+                } else {
+                    BarEntry e = dataSet.getEntryForIndex(i);
+                    x = e.getX();
+                }
 
                 mBarShadowRectBuffer.top = x - barWidthHalf;
                 mBarShadowRectBuffer.bottom = x + barWidthHalf;
@@ -112,7 +109,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
         trans.pointValuesToPixel(buffer.buffer);
 
-        final boolean isSingleColor = dataSet.getColors().size() == 1;
+        final boolean isSingleColor = dataSet.isSingleColor();
 
         if (isSingleColor) {
             mRenderPaint.setColor(dataSet.getColor());
@@ -129,7 +126,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(getBarColorIndex(dataSet, j)));
             }
 
             c.drawRect(buffer.buffer[j], buffer.buffer[j + 1], buffer.buffer[j + 2],
@@ -144,6 +141,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
     @Override
     public void drawValues(Canvas c) {
+
+        if (mBarBuffers == null)
+            initBuffers();
+
         // if values are drawn
         if (isDrawingValuesAllowed(mChart)) {
 
@@ -237,6 +238,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     }
 
                     // if each value of a potential stack should be drawn
+                } else if (dataSet instanceof StackedBarDataSet) {
+
+                    drawStackedValues(c, (StackedBarDataSet) dataSet, i, buffer, valueOffsetPlus,
+                            halfTextHeight, drawValueAboveBar, isInverted);
+
                 } else {
 
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -308,12 +314,20 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
 
                         } else {
 
-                            float[] transformed = new float[vals.length * 2];
+                            final int count = vals.length * 2;
+
+                            if (mStackValuesBuffer.length < count) {
+                                mStackValuesBuffer = new float[count];
+                            }
+                            float[] transformed = mStackValuesBuffer;
 
                             float posY = 0f;
                             float negY = -entry.getNegativeSum();
 
-                            for (int k = 0, idx = 0; k < transformed.length; k += 2, idx++) {
+                            for (int k = 0, idx = 0; k < count; k += 2, idx++) {
+
+                                // the buffer is reused
+                                transformed[k + 1] = 0f;
 
                                 float value = vals[idx];
                                 float y;
@@ -332,9 +346,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                 transformed[k] = y * phaseY;
                             }
 
-                            trans.pointValuesToPixel(transformed);
+                            trans.pointValuesToPixel(transformed, 0, count / 2);
 
-                            for (int k = 0; k < transformed.length; k += 2) {
+                            for (int k = 0; k < count; k += 2) {
 
                                 final float val = vals[k / 2];
                                 String formattedValue = formatter.getFormattedValue(val,
@@ -396,6 +410,76 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         }
     }
 
+    /**
+     * Draws the values of the stack segments of a StackedBarDataSet from its flat stack arrays,
+     * without creating a BarEntry per bar.
+     *
+     * @param c
+     * @param dataSet
+     * @param dataSetIndex
+     * @param buffer            the fed buffer of the DataSet
+     * @param valueOffsetPlus
+     * @param halfTextHeight
+     * @param drawValueAboveBar
+     * @param isInverted
+     */
+    protected void drawStackedValues(Canvas c, StackedBarDataSet dataSet, int dataSetIndex, BarBuffer buffer,
+                                     float valueOffsetPlus, float halfTextHeight, boolean drawValueAboveBar,
+                                     boolean isInverted) {
+
+        if (!dataSet.isDrawValuesEnabled())
+            return;
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+        IValueFormatter formatter = dataSet.getValueFormatter();
+
+        final int stackSize = dataSet.getStackSize();
+
+        for (int index = 0, bufferIndex = 0; index < dataSet.getEntryCount() * mAnimator.getPhaseX();
+             index++, bufferIndex += 4 * stackSize) {
+
+            float y = (buffer.buffer[bufferIndex + 1] + buffer.buffer[bufferIndex + 3]) / 2f;
+
+            if (!mViewPortHandler.isInBoundsTop(y))
+                break;
+
+            if (!mViewPortHandler.isInBoundsBottom(y))
+                continue;
+
+            mStackedValueEntry.setX(dataSet.getXValue(index));
+            mStackedValueEntry.setY(dataSet.getSum(index));
+
+            float[] transformed = getStackedValuePositions(dataSet, index, trans, true);
+            boolean hasPositive = dataSet.getPositiveSum(index) > 0f;
+            int color = dataSet.getValueTextColor(index);
+
+            for (int k = 0; k < stackSize; k++) {
+
+                final float val = dataSet.getStackValue(index, k);
+                String formattedValue = formatter.getFormattedValue(val,
+                        mStackedValueEntry, dataSetIndex, mViewPortHandler);
+
+                // calculate the correct offset depending on the draw position of the value
+                float valueTextWidth = Utils.calcTextWidth(mValuePaint, formattedValue);
+                float posOffset = (drawValueAboveBar ? valueOffsetPlus : -(valueTextWidth + valueOffsetPlus));
+                float negOffset = (drawValueAboveBar ? -(valueTextWidth + valueOffsetPlus) : valueOffsetPlus);
+
+                if (isInverted) {
+                    posOffset = -posOffset - valueTextWidth;
+                    negOffset = -negOffset - valueTextWidth;
+                }
+
+                final boolean drawBelow = (val == 0.0f && hasPositive) || val < 0.0f;
+                float x = transformed[k * 2] + (drawBelow ? negOffset : posOffset);
+
+                if (!mViewPortHandler.isInBoundsX(x))
+                    continue;
+
+                drawValue(c, formattedValue, x, y + halfTextHeight, color);
+            }
+        }
+    }
+
     protected void drawValue(Canvas c, String valueText, float x, float y, int color) {
         mValuePaint.setColor(color);
         c.drawText(valueText, x, y, mValuePaint);
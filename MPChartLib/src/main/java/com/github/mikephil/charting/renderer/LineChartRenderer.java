@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.renderer;
 
+import android.annotation.TargetApi;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -9,9 +10,13 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.SharedXLineDataSet;
+import com.github.mikephil.charting.data.SharedXValues;
+import com.github.mikephil.charting.data.UniformLineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -19,11 +24,13 @@ import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
@@ -73,6 +80,21 @@ public class LineChartRenderer extends LineRadarRenderer {
     @Override
     public void drawData(Canvas c) {
 
+        // when recording into a display list, draw everything directly onto the recording canvas
+        if (mRecording) {
+
+            Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
+
+            try {
+                drawDataSets(c);
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+
+            return;
+        }
+
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
@@ -90,15 +112,314 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mDrawBitmap.get().eraseColor(Color.TRANSPARENT);
 
+        drawDataSets(c);
+
+        c.drawBitmap(mDrawBitmap.get(), 0, 0, mRenderPaint);
+    }
+
+    /**
+     * the x-columns whose SharedXLineDataSets have already been drawn in the current pass
+     */
+    protected List<SharedXValues> mDrawnSharedXValues = new ArrayList<>();
+
+    protected void drawDataSets(Canvas c) {
+
         LineData lineData = mChart.getLineData();
 
-        for (ILineDataSet set : lineData.getDataSets()) {
+        mDrawnSharedXValues.clear();
+
+        List<ILineDataSet> dataSets = lineData.getDataSets();
 
-            if (set.isVisible())
+        for (int i = 0; i < dataSets.size(); i++) {
+
+            ILineDataSet set = dataSets.get(i);
+
+            if (!set.isVisible())
+                continue;
+
+            if (isSharedXFusable(set)) {
+
+                SharedXValues xValues = ((SharedXLineDataSet) set).getSharedXValues();
+
+                // draw all DataSets of the same x-column together, at the position of the first one
+                if (!mDrawnSharedXValues.contains(xValues)) {
+                    mDrawnSharedXValues.add(xValues);
+                    drawSharedX(c, lineData, xValues);
+                }
+
+            } else if (isUniformFusable(set)) {
+                drawUniform(c, (UniformLineDataSet) set);
+            } else {
                 drawDataSet(c, set);
+            }
         }
+    }
 
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, mRenderPaint);
+    /**
+     * Returns true if the given DataSet can be drawn together with the other DataSets of its
+     * shared x-column by drawSharedX(...). This is the case for SharedXLineDataSets drawn with
+     * linear or stepped lines in a single color without fill.
+     *
+     * @param set
+     * @return
+     */
+    protected boolean isSharedXFusable(ILineDataSet set) {
+        return set instanceof SharedXLineDataSet && isColumnDrawable(set);
+    }
+
+    /**
+     * Returns true if the given DataSet is a UniformLineDataSet that can be drawn directly from
+     * its y-column by drawUniform(...), with the same restrictions as for SharedXLineDataSets.
+     *
+     * @param set
+     * @return
+     */
+    protected boolean isUniformFusable(ILineDataSet set) {
+        return set instanceof UniformLineDataSet && isColumnDrawable(set);
+    }
+
+    /**
+     * Returns true if the DataSet is drawn with linear or stepped lines in a single color without
+     * fill, the lines can then be drawn directly from a column of y-values.
+     */
+    private boolean isColumnDrawable(ILineDataSet set) {
+
+        LineDataSet.Mode mode = set.getMode();
+
+        return (mode == LineDataSet.Mode.LINEAR || mode == LineDataSet.Mode.STEPPED)
+                && set.isSingleColor()
+                && !set.isDrawFilledEnabled();
+    }
+
+    /**
+     * buffer for the x-pixel positions of the visible x-values of a shared x-column, one per
+     * axis dependency
+     */
+    protected float[][] mSharedXPixelBuffers = new float[][]{new float[0], new float[0]};
+
+    /**
+     * flags indicating which of the x-pixel buffers are valid in the current group
+     */
+    private boolean[] mSharedXPixelsValid = new boolean[2];
+
+    /**
+     * buffer for the x-values handed to the transformer
+     */
+    private float[] mSharedXValueBuffer = new float[0];
+
+    private float[] mSharedXLineBuffer = new float[0];
+
+    private float[] mSharedYScaleBuffer = new float[4];
+
+    /**
+     * scale and offset of the linear y-value to pixel mapping, see calcColumnYMapping(...)
+     */
+    private float mColumnScaleY;
+    private float mColumnOffsetY;
+
+    /**
+     * buffer for the x-pixel positions of the visible values of a UniformLineDataSet
+     */
+    private float[] mUniformXPixelBuffer = new float[0];
+
+    /**
+     * Draws all visible and fusable SharedXLineDataSets that take their x-values from the given
+     * column. The visible index range and the x-pixel positions are computed once for the whole
+     * group, the y-values of each DataSet are then mapped to pixels with a scale and offset
+     * derived from its transformer.
+     *
+     * @param c
+     * @param lineData
+     * @param xValues
+     */
+    protected void drawSharedX(Canvas c, LineData lineData, SharedXValues xValues) {
+
+        int xCount = xValues.size();
+        if (xCount < 1)
+            return;
+
+        float low = Math.max(mChart.getLowestVisibleX(), xValues.getMin());
+        float high = Math.min(mChart.getHighestVisibleX(), xValues.getMax());
+
+        int min = Math.max(xValues.getIndex(low, DataSet.Rounding.DOWN), 0);
+        int max = Math.max(xValues.getIndex(high, DataSet.Rounding.UP), 0);
+        int last = min + (int) ((max - min) * mAnimator.getPhaseX());
+
+        // the segment leading to the first visible value starts one index earlier
+        int first = min == 0 ? 0 : min - 1;
+        int count = last - first + 1;
+
+        if (mSharedXValueBuffer.length < count * 2)
+            mSharedXValueBuffer = new float[count * 2];
+
+        mSharedXPixelsValid[0] = false;
+        mSharedXPixelsValid[1] = false;
+
+        float phaseY = mAnimator.getPhaseY();
+
+        for (ILineDataSet set : lineData.getDataSets()) {
+
+            if (!set.isVisible() || !isSharedXFusable(set))
+                continue;
+
+            SharedXLineDataSet dataSet = (SharedXLineDataSet) set;
+
+            if (dataSet.getSharedXValues() != xValues)
+                continue;
+
+            int entryCount = dataSet.getEntryCount();
+            if (entryCount < 1 || first >= entryCount)
+                continue;
+
+            Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+            float[] xPixels = getSharedXPixels(xValues, trans, dataSet.getAxisDependency().ordinal(), first, count);
+
+            calcColumnYMapping(dataSet, trans, xValues.get(first), phaseY);
+
+            drawColumnLines(c, dataSet, dataSet.getYValues(), xPixels, first, Math.min(last, entryCount - 1),
+                    mColumnScaleY, mColumnOffsetY);
+        }
+    }
+
+    /**
+     * Draws a linear or stepped UniformLineDataSet directly from its y-column. The visible index
+     * range is calculated in constant time, the x-pixel positions are calculated by the
+     * transformer from the first visible position and the pixel distance of the samples.
+     *
+     * @param c
+     * @param dataSet
+     */
+    protected void drawUniform(Canvas c, UniformLineDataSet dataSet) {
+
+        if (dataSet.getEntryCount() < 1)
+            return;
+
+        mXBounds.set(mChart, dataSet);
+
+        int first = mXBounds.min;
+        int last = mXBounds.min + mXBounds.range;
+        int count = last - first + 1;
+
+        if (mUniformXPixelBuffer.length < count)
+            mUniformXPixelBuffer = new float[count];
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+        trans.generateUniformXPixels(dataSet.getXValue(first), dataSet.getDx(), count, mUniformXPixelBuffer);
+
+        calcColumnYMapping(dataSet, trans, dataSet.getXValue(first), mAnimator.getPhaseY());
+
+        drawColumnLines(c, dataSet, dataSet.getYValues(), mUniformXPixelBuffer, first, last,
+                mColumnScaleY, mColumnOffsetY);
+    }
+
+    /**
+     * Derives scale and offset of the linear value to pixel mapping of the y-axis of the given
+     * DataSet from two transformed points, stores them in mColumnScaleY and mColumnOffsetY.
+     */
+    private void calcColumnYMapping(ILineDataSet dataSet, Transformer trans, float x, float phaseY) {
+
+        float y0 = dataSet.getYMin();
+        float y1 = dataSet.getYMax() > y0 ? dataSet.getYMax() : y0 + 1f;
+
+        mSharedYScaleBuffer[0] = x;
+        mSharedYScaleBuffer[1] = y0;
+        mSharedYScaleBuffer[2] = x;
+        mSharedYScaleBuffer[3] = y1;
+        trans.pointValuesToPixel(mSharedYScaleBuffer);
+
+        mColumnScaleY = (mSharedYScaleBuffer[3] - mSharedYScaleBuffer[1]) / (y1 - y0) * phaseY;
+        mColumnOffsetY = mSharedYScaleBuffer[1] - (mSharedYScaleBuffer[3] - mSharedYScaleBuffer[1]) / (y1 - y0) * y0;
+    }
+
+    /**
+     * Returns the x-pixel positions of the x-values [first, first + count) of the given column,
+     * computing them only once per axis dependency and pass.
+     */
+    private float[] getSharedXPixels(SharedXValues xValues, Transformer trans, int axis, int first, int count) {
+
+        float[] xPixels = mSharedXPixelBuffers[axis];
+        if (mSharedXPixelsValid[axis])
+            return xPixels;
+
+        for (int i = 0; i < count; i++) {
+            mSharedXValueBuffer[i * 2] = xValues.get(first + i);
+            mSharedXValueBuffer[i * 2 + 1] = 0f;
+        }
+
+        trans.pointValuesToPixel(mSharedXValueBuffer);
+
+        if (xPixels.length < count) {
+            xPixels = new float[count];
+            mSharedXPixelBuffers[axis] = xPixels;
+        }
+
+        for (int i = 0; i < count; i++)
+            xPixels[i] = mSharedXValueBuffer[i * 2];
+
+        mSharedXPixelsValid[axis] = true;
+        return xPixels;
+    }
+
+    /**
+     * Draws the lines of a single DataSet from the given y-column from the index first to the
+     * index last, using the precomputed x-pixel positions (starting at first) and the given
+     * y-mapping.
+     */
+    private void drawColumnLines(Canvas c, ILineDataSet dataSet, float[] yValues, float[] xPixels, int first,
+                                 int last, float scaleY, float offsetY) {
+
+        final boolean isDrawSteppedEnabled = dataSet.isDrawSteppedEnabled();
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+
+        int size = Math.max(last - first, 1) * pointsPerEntryPair * 2;
+        if (mSharedXLineBuffer.length < size)
+            mSharedXLineBuffer = new float[size];
+
+        final float[] buffer = mSharedXLineBuffer;
+
+        int j = 0;
+        float prevX = xPixels[0];
+        float prevY = yValues[first] * scaleY + offsetY;
+
+        for (int i = first + 1; i <= last; i++) {
+
+            float x = xPixels[i - first];
+            float y = yValues[i] * scaleY + offsetY;
+
+            // gaps in the data
+            if (!Float.isNaN(prevY) && !Float.isNaN(y)) {
+
+                buffer[j++] = prevX;
+                buffer[j++] = prevY;
+
+                if (isDrawSteppedEnabled) {
+                    buffer[j++] = x;
+                    buffer[j++] = prevY;
+                    buffer[j++] = x;
+                    buffer[j++] = prevY;
+                }
+
+                buffer[j++] = x;
+                buffer[j++] = y;
+            }
+
+            prevX = x;
+            prevY = y;
+        }
+
+        if (j == 0)
+            return;
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeWidth(dataSet.getLineWidth());
+        mRenderPaint.setPathEffect(dataSet.getDashPathEffect());
+        mRenderPaint.setColor(dataSet.getColor());
+
+        // if the data-set is dashed, draw on bitmap-canvas
+        Canvas canvas = dataSet.isDashedLineEnabled() ? mBitmapCanvas : c;
+        canvas.drawLines(buffer, 0, j, mRenderPaint);
+
+        mRenderPaint.setPathEffect(null);
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -319,7 +640,7 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
 
         // more than 1 color
-        if (dataSet.getColors().size() > 1) {
+        if (!dataSet.isSingleColor()) {
 
             if (mLineBuffer.length <= pointsPerEntryPair * 2)
                 mLineBuffer = new float[pointsPerEntryPair * 4];
@@ -433,6 +754,11 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected void drawLinearFill(Canvas c, ILineDataSet dataSet, Transformer trans, XBounds bounds) {
 
+        if (dataSet.isDrawFilledMeshEnabled() && dataSet.getFillDrawable() == null && isDrawVerticesSupported(c)) {
+            drawLinearFillMesh(c, dataSet, trans, bounds);
+            return;
+        }
+
         final Path filled = mGenerateFilledPathBuffer;
 
         final int startingIndex = bounds.min;
@@ -470,6 +796,143 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     }
 
+    /**
+     * number of entries per drawVertices(...) call of the fill mesh, limits the vertex buffer
+     */
+    private static final int FILL_MESH_CHUNK_SIZE = 1024;
+
+    /**
+     * vertex buffer of the fill mesh, grows only
+     */
+    protected float[] mFillMeshBuffer = new float[0];
+
+    /**
+     * Draws the fill of a linear or stepped line as a triangle strip between the line and the
+     * fill-line position. The vertices of a chunk of entries are transformed with a single
+     * mapPoints(...) and drawn with a single drawVertices(...) call.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param bounds
+     */
+    protected void drawLinearFillMesh(Canvas c, ILineDataSet dataSet, Transformer trans, XBounds bounds) {
+
+        final float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+        final float phaseY = mAnimator.getPhaseY();
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+        final int startingIndex = bounds.min;
+        final int endingIndex = bounds.range + bounds.min;
+
+        // up to two pairs of vertices per entry, for the step or for crossing the fill-line
+        final int size = (FILL_MESH_CHUNK_SIZE + 1) * 8;
+
+        if (mFillMeshBuffer.length < size)
+            mFillMeshBuffer = new float[size];
+
+        Paint.Style previous = mRenderPaint.getStyle();
+        int previousColor = mRenderPaint.getColor();
+
+        mRenderPaint.setStyle(Paint.Style.FILL);
+        mRenderPaint.setColor((dataSet.getFillAlpha() << 24) | (dataSet.getFillColor() & 0xffffff));
+
+        // the chunks overlap by one entry, so that they join without a gap
+        for (int start = startingIndex; start < endingIndex; start += FILL_MESH_CHUNK_SIZE) {
+
+            int end = Math.min(start + FILL_MESH_CHUNK_SIZE, endingIndex);
+
+            int count = generateFillMesh(dataSet, start, end, fillMin, phaseY, isDrawSteppedEnabled,
+                    mFillMeshBuffer);
+
+            trans.pointValuesToPixel(mFillMeshBuffer, 0, count / 2);
+
+            c.drawVertices(Canvas.VertexMode.TRIANGLE_STRIP, count, mFillMeshBuffer, 0,
+                    null, 0, null, 0, null, 0, 0, mRenderPaint);
+        }
+
+        mRenderPaint.setColor(previousColor);
+        mRenderPaint.setStyle(previous);
+    }
+
+    /**
+     * Writes the vertices of the triangle strip filling the area between the entries of the given
+     * range and the fill-line into the given buffer: a vertex on the line and one on the
+     * fill-line per x-position. Where the line crosses the fill-line, the strip passes through the
+     * crossing, otherwise its triangles would overlap.
+     *
+     * @return the number of floats written
+     */
+    private int generateFillMesh(ILineDataSet dataSet, int startIndex, int endIndex, float fillMin, float phaseY,
+                                 boolean isDrawSteppedEnabled, float[] vertices) {
+
+        int j = 0;
+        Entry previousEntry = null;
+
+        for (int x = startIndex; x <= endIndex; x++) {
+
+            Entry e = dataSet.getEntryForIndex(x);
+
+            float xValue = e.getX();
+            float yValue = e.getY() * phaseY;
+
+            if (previousEntry != null) {
+
+                float previousY = previousEntry.getY() * phaseY;
+
+                if (isDrawSteppedEnabled) {
+                    j = putVertexPair(vertices, j, xValue, previousY, fillMin);
+                } else if ((previousY - fillMin) * (yValue - fillMin) < 0f) {
+                    float crossing = previousEntry.getX()
+                            + (xValue - previousEntry.getX()) * (fillMin - previousY) / (yValue - previousY);
+                    j = putVertexPair(vertices, j, crossing, fillMin, fillMin);
+                }
+            }
+
+            j = putVertexPair(vertices, j, xValue, yValue, fillMin);
+
+            previousEntry = e;
+        }
+
+        return j;
+    }
+
+    private static int putVertexPair(float[] vertices, int j, float x, float y, float fillMin) {
+        vertices[j++] = x;
+        vertices[j++] = y;
+        vertices[j++] = x;
+        vertices[j++] = fillMin;
+        return j;
+    }
+
+    /**
+     * Returns true if the given canvas can draw vertices, hardware accelerated canvases only
+     * support it from API level 29 on. While recording (e.g. into a Picture), the canvas is
+     * not accelerated, but the recording may be replayed onto an accelerated canvas, which drops
+     * the vertices below API level 29, so the Path fill is used then.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean isDrawVerticesSupported(Canvas c) {
+
+        if (Utils.getSDKInt() >= 29)
+            return true;
+
+        if (mRecording)
+            return false;
+
+        if (Utils.getSDKInt() < 11)
+            return true;
+
+        return !isHardwareAccelerated(c);
+    }
+
+    @TargetApi(11)
+    private static boolean isHardwareAccelerated(Canvas c) {
+        return c.isHardwareAccelerated();
+    }
+
     /**
      * Generates a path that is used for filled drawing.
      *
@@ -546,12 +1009,13 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 float[] positions = trans.generateTransformedValuesLine(dataSet, mAnimator.getPhaseX(), mAnimator
                         .getPhaseY(), mXBounds.min, mXBounds.max);
+                final int count = trans.getTransformedValuesCount();
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -705,6 +1169,8 @@ public class LineChartRenderer extends LineRadarRenderer {
 
             // draw the lines
             drawHighlightLines(c, (float) pix.x, (float) pix.y, set);
+
+            MPPointD.recycleInstance(pix);
         }
     }
 
@@ -744,12 +1210,59 @@ public class LineChartRenderer extends LineRadarRenderer {
         }
     }
 
+    @Override
+    public long getMemorySize(int priority) {
+
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES) {
+
+            long size = 0;
+
+            for (DataSetImageCache cache : mImageCaches.values())
+                size += cache.getMemorySize();
+
+            return size;
+        }
+
+        if (priority == MemoryBudgetManager.PRIORITY_BITMAPS && mDrawBitmap != null)
+            return MemoryBudgetManager.getBitmapSize(mDrawBitmap.get());
+
+        return 0;
+    }
+
+    @Override
+    public long trimMemory(int priority) {
+
+        long size = getMemorySize(priority);
+
+        // the bitmaps are not recycled, they may still be referenced by the last drawn frame
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES) {
+            mImageCaches.clear();
+        } else if (priority == MemoryBudgetManager.PRIORITY_BITMAPS) {
+            mBitmapCanvas = null;
+            mDrawBitmap = null;
+        }
+
+        return size;
+    }
+
     private class DataSetImageCache {
 
         private Path mCirclePathBuffer = new Path();
 
         private Bitmap[] circleBitmaps;
 
+        protected long getMemorySize() {
+
+            long size = 0;
+
+            if (circleBitmaps != null) {
+                for (Bitmap bitmap : circleBitmaps)
+                    size += MemoryBudgetManager.getBitmapSize(bitmap);
+            }
+
+            return size;
+        }
+
         /**
          * Sets up the cache, returns true if a change of cache was required.
          *
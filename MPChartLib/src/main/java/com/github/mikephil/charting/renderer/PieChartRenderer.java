@@ -27,6 +27,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -123,6 +124,21 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawData(Canvas c) {
 
+        // when recording (e.g. for a vector export), draw the slices directly onto the canvas
+        if (mRecording) {
+
+            Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
+
+            try {
+                drawDataSets(c);
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+
+            return;
+        }
+
         int width = (int) mViewPortHandler.getChartWidth();
         int height = (int) mViewPortHandler.getChartHeight();
 
@@ -140,6 +156,11 @@ public class PieChartRenderer extends DataRenderer {
 
         mDrawBitmap.get().eraseColor(Color.TRANSPARENT);
 
+        drawDataSets(c);
+    }
+
+    protected void drawDataSets(Canvas c) {
+
         PieData pieData = mChart.getData();
 
         for (IPieDataSet set : pieData.getDataSets()) {
@@ -633,9 +654,25 @@ public class PieChartRenderer extends DataRenderer {
 
     @Override
     public void drawExtras(Canvas c) {
-        // drawCircles(c);
-        drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        if (mRecording) {
+
+            // the slices were drawn directly onto the canvas, so is the hole
+            Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
+
+            try {
+                drawHole(c);
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+
+        } else {
+            // drawCircles(c);
+            drawHole(c);
+            c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+        }
+
         drawCenterText(c);
     }
 
@@ -759,6 +796,20 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawHighlighted(Canvas c, Highlight[] indices) {
 
+        if (mRecording && mBitmapCanvas != c) {
+
+            Canvas bitmapCanvas = mBitmapCanvas;
+            mBitmapCanvas = c;
+
+            try {
+                drawHighlighted(c, indices);
+            } finally {
+                mBitmapCanvas = bitmapCanvas;
+            }
+
+            return;
+        }
+
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
@@ -1001,6 +1052,29 @@ public class PieChartRenderer extends DataRenderer {
         MPPointF.recycleInstance(center);
     }
 
+    @Override
+    public long getMemorySize(int priority) {
+
+        if (priority == MemoryBudgetManager.PRIORITY_BITMAPS && mDrawBitmap != null)
+            return MemoryBudgetManager.getBitmapSize(mDrawBitmap.get());
+
+        return 0;
+    }
+
+    @Override
+    public long trimMemory(int priority) {
+
+        long size = getMemorySize(priority);
+
+        // the bitmap is not recycled, it may still be referenced by the last drawn frame
+        if (priority == MemoryBudgetManager.PRIORITY_BITMAPS) {
+            mBitmapCanvas = null;
+            mDrawBitmap = null;
+        }
+
+        return size;
+    }
+
     /**
      * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
@@ -1,36 +1,103 @@
 
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.highlight.BinHighlight;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.utils.DensityGrid;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.MemoryBudgetManager;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.List;
+import java.util.WeakHashMap;
 
 public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected ScatterDataProvider mChart;
 
+    /**
+     * the bins and the bitmap of the DataSets drawn in density mode
+     */
+    protected WeakHashMap<IScatterDataSet, DensityLayer> mDensityLayers =
+            new WeakHashMap<IScatterDataSet, DensityLayer>();
+
+    protected Paint mDensityPaint;
+
+    /**
+     * buffer for the values of the value to pixel matrix
+     */
+    protected float[] mMatrixValues = new float[9];
+
+    protected RectF mDensityRect = new RectF();
+
+    protected Path mHexagonPath = new Path();
+
     public ScatterChartRenderer(ScatterDataProvider chart, ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
         mChart = chart;
+
+        // the bins are scaled up without smoothing
+        mDensityPaint = new Paint();
+        mDensityPaint.setFilterBitmap(false);
     }
 
     @Override
     public void initBuffers() {
+
+        for (DensityLayer layer : mDensityLayers.values())
+            layer.reset();
+    }
+
+    @Override
+    public void onEntriesChanged(IDataSet set) {
+
+        // the density grids add appended entries on their own and start over after other changes
+    }
+
+    /**
+     * Bins the entries of the given DataSet again the next time it is drawn in density mode.
+     *
+     * @param set
+     */
+    public void invalidateDensity(IScatterDataSet set) {
+
+        DensityLayer layer = mDensityLayers.get(set);
+
+        if (layer != null)
+            layer.reset();
+    }
+
+    /**
+     * Returns the bins of the given DataSet as of the last time it was drawn in density mode,
+     * null if it was not drawn in density mode yet.
+     *
+     * @param set
+     * @return
+     */
+    public DensityGrid getDensityGrid(IScatterDataSet set) {
+
+        DensityLayer layer = mDensityLayers.get(set);
+        return layer == null ? null : layer.grid;
     }
 
     @Override
@@ -49,6 +116,11 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
+        if (dataSet.getDensityMode() != ScatterDataSet.DensityMode.OFF) {
+            drawDensity(c, dataSet);
+            return;
+        }
+
         ViewPortHandler viewPortHandler = mViewPortHandler;
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
@@ -89,6 +161,186 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * Counts the entries of the DataSet in bins and draws the bins, colored by their count, as a
+     * single bitmap. The bins and the bitmap are only updated if the entries or the viewport
+     * changed.
+     *
+     * @param c
+     * @param dataSet
+     */
+    protected void drawDensity(Canvas c, IScatterDataSet dataSet) {
+
+        DensityLayer layer = mDensityLayers.get(dataSet);
+
+        if (layer == null) {
+            layer = new DensityLayer();
+            mDensityLayers.put(dataSet, layer);
+        }
+
+        DensityGrid grid = layer.grid;
+        RectF content = mViewPortHandler.getContentRect();
+
+        if (content.width() <= 0f || content.height() <= 0f)
+            return;
+
+        mChart.getTransformer(dataSet.getAxisDependency()).getValueToPixelMatrix().getValues(mMatrixValues);
+
+        // only the visible entries are binned
+        mXBounds.set(mChart, dataSet);
+
+        int to = Math.min(mXBounds.min + mXBounds.range + 1, dataSet.getEntryCount());
+
+        boolean changed = grid.update(dataSet, mMatrixValues,
+                content.left, content.top, content.right, content.bottom,
+                dataSet.getDensityMode(), Utils.convertDpToPixel(dataSet.getDensityBinSize()),
+                mAnimator.getPhaseY(), mXBounds.min, to);
+
+        boolean rampChanged = layer.updateRamp(dataSet.getDensityColors());
+
+        if (changed || rampChanged || layer.bitmap == null) {
+
+            if (grid.isHexagonal())
+                renderHexagons(layer, content);
+            else
+                renderCells(layer);
+        }
+
+        int clipRestoreCount = c.save();
+        c.clipRect(content);
+
+        if (grid.isHexagonal()) {
+            c.drawBitmap(layer.bitmap, content.left, content.top, mDensityPaint);
+        } else {
+            mDensityRect.set(content.left, content.top,
+                    content.left + grid.getColumnCount() * grid.getBinSize(),
+                    content.top + grid.getRowCount() * grid.getBinSize());
+            c.drawBitmap(layer.bitmap, null, mDensityRect, mDensityPaint);
+        }
+
+        c.restoreToCount(clipRestoreCount);
+    }
+
+    /**
+     * Writes one pixel per cell into a bitmap of columns * rows pixels, drawn scaled up to the
+     * size of the cells.
+     */
+    protected void renderCells(DensityLayer layer) {
+
+        DensityGrid grid = layer.grid;
+
+        int columns = grid.getColumnCount();
+        int rows = grid.getRowCount();
+        int size = columns * rows;
+
+        if (layer.bitmap == null || layer.bitmap.getWidth() != columns || layer.bitmap.getHeight() != rows) {
+            layer.bitmap = Bitmap.createBitmap(columns, rows, Bitmap.Config.ARGB_8888);
+            layer.canvas = null;
+        }
+
+        if (layer.pixels == null || layer.pixels.length < size)
+            layer.pixels = new int[size];
+
+        int[] pixels = layer.pixels;
+
+        for (int i = 0; i < size; i++) {
+            int count = grid.getCount(i);
+            pixels[i] = count == 0 ? Color.TRANSPARENT : layer.getColor(count, grid.getMaxCount());
+        }
+
+        layer.bitmap.setPixels(pixels, 0, columns, 0, 0, columns, rows);
+    }
+
+    /**
+     * Draws a hexagon per non-empty bin into a bitmap of the size of the content rect.
+     */
+    protected void renderHexagons(DensityLayer layer, RectF content) {
+
+        DensityGrid grid = layer.grid;
+
+        int width = (int) Math.ceil(content.width());
+        int height = (int) Math.ceil(content.height());
+
+        if (layer.bitmap == null || layer.canvas == null
+                || layer.bitmap.getWidth() != width || layer.bitmap.getHeight() != height) {
+            layer.bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            layer.canvas = new Canvas(layer.bitmap);
+        } else {
+            layer.bitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        // slightly larger than the bin, so that neighbouring hexagons leave no gaps
+        float radius = grid.getHexRadius() + 0.5f;
+
+        mHexagonPath.reset();
+
+        for (int i = 0; i < 6; i++) {
+
+            double angle = Math.toRadians(60 * i - 90);
+            float x = (float) (radius * Math.cos(angle));
+            float y = (float) (radius * Math.sin(angle));
+
+            if (i == 0)
+                mHexagonPath.moveTo(x, y);
+            else
+                mHexagonPath.lineTo(x, y);
+        }
+
+        mHexagonPath.close();
+
+        Canvas canvas = layer.canvas;
+        mDensityPaint.setStyle(Paint.Style.FILL);
+
+        for (int i = 0; i < grid.getBinCount(); i++) {
+
+            int count = grid.getCount(i);
+
+            if (count == 0)
+                continue;
+
+            grid.getBinCenter(i, mPixelBuffer);
+            mDensityPaint.setColor(layer.getColor(count, grid.getMaxCount()));
+
+            canvas.save();
+            canvas.translate(mPixelBuffer[0] - content.left, mPixelBuffer[1] - content.top);
+            canvas.drawPath(mHexagonPath, mDensityPaint);
+            canvas.restore();
+        }
+
+        // the alpha of the paint applies to the bitmaps drawn with it
+        mDensityPaint.setColor(Color.BLACK);
+    }
+
+    @Override
+    public long getMemorySize(int priority) {
+
+        if (priority != MemoryBudgetManager.PRIORITY_CACHES)
+            return 0;
+
+        long size = 0;
+
+        for (DensityLayer layer : mDensityLayers.values())
+            size += MemoryBudgetManager.getBitmapSize(layer.bitmap);
+
+        return size;
+    }
+
+    @Override
+    public long trimMemory(int priority) {
+
+        long size = getMemorySize(priority);
+
+        // the bins are kept, the bitmaps are rendered from them again
+        if (priority == MemoryBudgetManager.PRIORITY_CACHES) {
+            for (DensityLayer layer : mDensityLayers.values()) {
+                layer.bitmap = null;
+                layer.canvas = null;
+            }
+        }
+
+        return size;
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -101,7 +353,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 IScatterDataSet dataSet = dataSets.get(i);
 
-                if (!shouldDrawValues(dataSet))
+                if (!shouldDrawValues(dataSet) || dataSet.getDensityMode() != ScatterDataSet.DensityMode.OFF)
                     continue;
 
                 // apply the text-styling defined by the DataSet
@@ -109,9 +361,11 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesScatter(dataSet,
-                                mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+                float[] positions = trans.generateTransformedValuesScatter(dataSet,
+                        mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                final int count = trans.getTransformedValuesCount();
 
                 float shapeSize = Utils.convertDpToPixel(dataSet.getScatterShapeSize());
 
@@ -119,7 +373,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < count; j += 2) {
 
                     if (!mViewPortHandler.isInBoundsRight(positions[j]))
                         break;
@@ -177,6 +431,11 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
+            if (high instanceof BinHighlight) {
+                drawBinHighlight(c, (BinHighlight) high, set);
+                continue;
+            }
+
             final Entry e = set.getEntryForXValue(high.getX(), high.getY());
 
             if (!isInBoundsX(e, set))
@@ -189,6 +448,120 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
             // draw the lines
             drawHighlightLines(c, (float) pix.x, (float) pix.y, set);
+
+            MPPointD.recycleInstance(pix);
+        }
+    }
+
+    /**
+     * Draws the highlight lines through the center of the bin the mean values of the
+     * highlighted bin fall into, so that the highlight follows the bins while zooming.
+     *
+     * @param c
+     * @param high
+     * @param set
+     */
+    protected void drawBinHighlight(Canvas c, BinHighlight high, IScatterDataSet set) {
+
+        DensityGrid grid = getDensityGrid(set);
+
+        if (grid == null || set.getDensityMode() == ScatterDataSet.DensityMode.OFF)
+            return;
+
+        mPixelBuffer[0] = high.getX();
+        mPixelBuffer[1] = high.getY() * mAnimator.getPhaseY();
+
+        mChart.getTransformer(set.getAxisDependency()).pointValuesToPixel(mPixelBuffer);
+
+        int bin = grid.getBinIndex(mPixelBuffer[0], mPixelBuffer[1]);
+
+        if (bin < 0)
+            return;
+
+        grid.getBinCenter(bin, mPixelBuffer);
+
+        high.setDraw(mPixelBuffer[0], mPixelBuffer[1]);
+
+        drawHighlightLines(c, mPixelBuffer[0], mPixelBuffer[1], set);
+    }
+
+    /**
+     * The bins of a DataSet drawn in density mode and the bitmap they are rendered into.
+     */
+    protected static class DensityLayer {
+
+        protected final DensityGrid grid = new DensityGrid();
+
+        protected Bitmap bitmap;
+
+        protected Canvas canvas;
+
+        /**
+         * buffer for the pixels of the cells
+         */
+        protected int[] pixels;
+
+        /**
+         * the colors the ramp was calculated from and the interpolated ramp
+         */
+        protected int[] colors;
+        protected int[] ramp = new int[256];
+
+        protected void reset() {
+            grid.reset();
+        }
+
+        /**
+         * Interpolates the ramp if the given colors differ from the current ones.
+         *
+         * @param colors
+         * @return true if the ramp changed
+         */
+        protected boolean updateRamp(int[] colors) {
+
+            if (colors == this.colors)
+                return false;
+
+            this.colors = colors;
+
+            int last = ramp.length - 1;
+
+            for (int i = 0; i <= last; i++) {
+
+                float position = colors.length == 1 ? 0f : (float) i / last * (colors.length - 1);
+                int index = Math.min((int) position, colors.length - 1);
+                int next = Math.min(index + 1, colors.length - 1);
+                float fraction = position - index;
+
+                ramp[i] = interpolate(colors[index], colors[next], fraction);
+            }
+
+            return true;
+        }
+
+        private static int interpolate(int from, int to, float fraction) {
+            return Color.argb(
+                    (int) (Color.alpha(from) + (Color.alpha(to) - Color.alpha(from)) * fraction),
+                    (int) (Color.red(from) + (Color.red(to) - Color.red(from)) * fraction),
+                    (int) (Color.green(from) + (Color.green(to) - Color.green(from)) * fraction),
+                    (int) (Color.blue(from) + (Color.blue(to) - Color.blue(from)) * fraction));
+        }
+
+        /**
+         * Returns the color of the given count, the counts are scaled logarithmically so that
+         * sparse bins stay visible next to dense ones.
+         *
+         * @param count
+         * @param maxCount
+         * @return
+         */
+        protected int getColor(int count, int maxCount) {
+
+            if (maxCount <= 1)
+                return ramp[ramp.length - 1];
+
+            float fraction = (float) (Math.log(count) / Math.log(maxCount));
+            return ramp[Math.min((int) (fraction * (ramp.length - 1)), ramp.length - 1)];
         }
     }
 }
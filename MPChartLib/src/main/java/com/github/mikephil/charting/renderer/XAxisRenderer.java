@@ -172,6 +172,11 @@ public class XAxisRenderer extends AxisRenderer {
         }
     }
 
+    /**
+     * buffer for the positions of the labels, only grows
+     */
+    protected float[] mLabelPositionsBuffer = new float[2];
+
     /**
      * draws the x-labels on the specified y-position
      *
@@ -182,11 +187,18 @@ public class XAxisRenderer extends AxisRenderer {
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
         boolean centeringEnabled = mXAxis.isCenterAxisLabelsEnabled();
 
-        float[] positions = new float[mXAxis.mEntryCount * 2];
+        final int count = mXAxis.mEntryCount * 2;
 
-        for (int i = 0; i < positions.length; i += 2) {
+        if (mLabelPositionsBuffer.length < count) {
+            mLabelPositionsBuffer = new float[count];
+        }
+        float[] positions = mLabelPositionsBuffer;
+
+        for (int i = 0; i < count; i += 2) {
+
+            // only fill x values, the buffer is reused
+            positions[i + 1] = 0f;
 
-            // only fill x values
             if (centeringEnabled) {
                 positions[i] = mXAxis.mCenteredEntries[i / 2];
             } else {
@@ -194,9 +206,9 @@ public class XAxisRenderer extends AxisRenderer {
             }
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, count / 2);
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < count; i += 2) {
 
             float x = positions[i];
 
@@ -241,24 +253,26 @@ public class XAxisRenderer extends AxisRenderer {
         int clipRestoreCount = c.save();
         c.clipRect(getGridClippingRect());
 
-        if(mRenderGridLinesBuffer.length != mAxis.mEntryCount * 2){
-            mRenderGridLinesBuffer = new float[mXAxis.mEntryCount * 2];
+        final int count = mXAxis.mEntryCount * 2;
+
+        if (mRenderGridLinesBuffer.length < count) {
+            mRenderGridLinesBuffer = new float[count];
         }
         float[] positions = mRenderGridLinesBuffer;
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < count; i += 2) {
             positions[i] = mXAxis.mEntries[i / 2];
             positions[i + 1] = mXAxis.mEntries[i / 2];
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, count / 2);
 
         setupGridPaint();
 
         Path gridLinePath = mRenderGridLinesPath;
         gridLinePath.reset();
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < count; i += 2) {
 
             drawGridLine(c, positions[i], positions[i + 1], gridLinePath);
         }
@@ -136,11 +136,18 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
         boolean centeringEnabled = mXAxis.isCenterAxisLabelsEnabled();
 
-        float[] positions = new float[mXAxis.mEntryCount * 2];
+        final int count = mXAxis.mEntryCount * 2;
 
-        for (int i = 0; i < positions.length; i += 2) {
+        if (mLabelPositionsBuffer.length < count) {
+            mLabelPositionsBuffer = new float[count];
+        }
+        float[] positions = mLabelPositionsBuffer;
+
+        for (int i = 0; i < count; i += 2) {
+
+            // only fill x values, the buffer is reused
+            positions[i] = 0f;
 
-            // only fill x values
             if (centeringEnabled) {
                 positions[i + 1] = mXAxis.mCenteredEntries[i / 2];
             } else {
@@ -148,9 +155,9 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
             }
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, count / 2);
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < count; i += 2) {
 
             float y = positions[i + 1];
 
@@ -237,6 +237,8 @@ public class YAxisRenderer extends AxisRenderer {
         zeroLinePath.moveTo(mViewPortHandler.contentLeft(), (float) pos.y);
         zeroLinePath.lineTo(mViewPortHandler.contentRight(), (float) pos.y);
 
+        MPPointD.recycleInstance(pos);
+
         // draw a path because lines don't support dashing on lower android versions
         c.drawPath(zeroLinePath, mZeroLinePaint);
 
@@ -205,6 +205,8 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         zeroLinePath.moveTo((float) pos.x - 1, mViewPortHandler.contentTop());
         zeroLinePath.lineTo((float) pos.x - 1, mViewPortHandler.contentBottom());
 
+        MPPointD.recycleInstance(pos);
+
         // draw a path because lines don't support dashing on lower android versions
         c.drawPath(zeroLinePath, mZeroLinePaint);
 
@@ -0,0 +1,63 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.graphics.Canvas;
+
+/**
+ * Backend that sits between the DataRenderer and the platform canvas of the chart. Instead of
+ * drawing the data directly onto the canvas of the view each frame, the renderer draws onto the
+ * canvas returned by beginRecording(...). The recorded drawing commands can then be replayed
+ * (multiple times, with a different matrix applied to the target canvas) via draw(...).
+ */
+public interface ChartCanvas {
+
+    /**
+     * Discards the previous recording and returns the canvas all drawing commands of the new
+     * recording should be issued on.
+     *
+     * @param width  width of the recording in pixels
+     * @param height height of the recording in pixels
+     * @return
+     */
+    Canvas beginRecording(int width, int height);
+
+    /**
+     * Finishes the recording started with beginRecording(...).
+     */
+    void endRecording();
+
+    /**
+     * Returns true if there is a finished recording that can be drawn.
+     *
+     * @return
+     */
+    boolean hasRecording();
+
+    /**
+     * Replays the recorded drawing commands on the given canvas, respecting its current matrix and
+     * clip.
+     *
+     * @param canvas
+     */
+    void draw(Canvas canvas);
+
+    /**
+     * Returns true if the recording can be replayed on the given canvas.
+     *
+     * @param canvas
+     * @return
+     */
+    boolean canDrawOn(Canvas canvas);
+
+    /**
+     * Releases the recording and all resources held by it.
+     */
+    void release();
+
+    /**
+     * Returns an estimate of the number of bytes held by the recording, 0 if the backend cannot
+     * tell.
+     *
+     * @return
+     */
+    long getMemorySize();
+}
@@ -0,0 +1,237 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.renderer.DataRenderer;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.Arrays;
+
+/**
+ * Caches the data layer of a chart (everything drawn by DataRenderer.drawData(...)) in a
+ * ChartCanvas recording. As long as data, animation phases, axis ranges and zoom stay the same,
+ * the recording is replayed instead of drawing the data again. When the chart is only panned, the
+ * recording is replayed with a translation, which is why the data is recorded with a guard band
+ * around the visible content area.
+ */
+public class DataLayerCache {
+
+    /**
+     * the backend holding the recorded data layer
+     */
+    protected ChartCanvas mBackend;
+
+    /**
+     * size of the guard band recorded around the content rect, in percent of the content size
+     */
+    protected float mGuardBandPercent = 0.5f;
+
+    /**
+     * flag that indicates if the current recording can still be used
+     */
+    protected boolean mValid = false;
+
+    /**
+     * the guard band (in pixels) of the current recording
+     */
+    protected float mRecordedBandX, mRecordedBandY;
+
+    protected float[] mRecordedTouch = new float[9];
+    protected float[] mRecordedTransformers = new float[0];
+    protected float mRecordedPhaseX, mRecordedPhaseY;
+    protected float mRecordedWidth, mRecordedHeight;
+
+    private float[] mTouchBuffer = new float[9];
+    private float[] mTransformerBuffer = new float[0];
+    private RectF mContentRectBuffer = new RectF();
+
+    public DataLayerCache(ChartCanvas backend) {
+        this.mBackend = backend;
+    }
+
+    /**
+     * Draws the data layer onto the given canvas, either by replaying the recording or by
+     * recording the data again first.
+     *
+     * @param c
+     * @param renderer
+     * @param viewPortHandler
+     * @param animator
+     * @param transformers    all transformers the renderer might use
+     */
+    public void draw(Canvas c, DataRenderer renderer, ViewPortHandler viewPortHandler,
+                     ChartAnimator animator, Transformer... transformers) {
+
+        // vector canvases need the actual drawing commands, recordings cannot be replayed on them
+        if (c instanceof VectorCanvas || !mBackend.canDrawOn(c)) {
+            renderer.drawData(c);
+            return;
+        }
+
+        snapshotTransformers(transformers);
+        viewPortHandler.getMatrixTouch().getValues(mTouchBuffer);
+
+        if (!isReusable(viewPortHandler, animator, transformers))
+            record(renderer, viewPortHandler, animator);
+
+        float dx = mTouchBuffer[Matrix.MTRANS_X] - mRecordedTouch[Matrix.MTRANS_X];
+        float dy = (mTouchBuffer[Matrix.MTRANS_Y] - mRecordedTouch[Matrix.MTRANS_Y])
+                * getOffsetScaleY(transformers[0]);
+
+        if (dx == 0f && dy == 0f) {
+            mBackend.draw(c);
+        } else {
+            int saveCount = c.save();
+            c.translate(dx, dy);
+            mBackend.draw(c);
+            c.restoreToCount(saveCount);
+        }
+    }
+
+    /**
+     * Marks the current recording as outdated, e.g. because the data or its styling changed.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Releases the recording.
+     */
+    public void release() {
+        mValid = false;
+        mBackend.release();
+    }
+
+    /**
+     * Returns an estimate of the number of bytes held by the recording, see
+     * ChartCanvas.getMemorySize().
+     *
+     * @return
+     */
+    public long getMemorySize() {
+        return mBackend.getMemorySize();
+    }
+
+    /**
+     * Sets the size of the guard band that is recorded around the visible content area, in
+     * percent of the content size (0 = no band). The larger the band, the further the chart can
+     * be panned before the data needs to be recorded again. Default: 0.5f
+     *
+     * @param percent
+     */
+    public void setGuardBandPercent(float percent) {
+        mGuardBandPercent = Math.max(0f, percent);
+        mValid = false;
+    }
+
+    public float getGuardBandPercent() {
+        return mGuardBandPercent;
+    }
+
+    public ChartCanvas getBackend() {
+        return mBackend;
+    }
+
+    protected boolean isReusable(ViewPortHandler viewPortHandler, ChartAnimator animator,
+                                 Transformer[] transformers) {
+
+        // data transitions change the entries every frame
+        if (!mValid || !mBackend.hasRecording() || animator.isTransitionRunning())
+            return false;
+
+        if (mRecordedWidth != viewPortHandler.getChartWidth()
+                || mRecordedHeight != viewPortHandler.getChartHeight()
+                || mRecordedPhaseX != animator.getPhaseX()
+                || mRecordedPhaseY != animator.getPhaseY())
+            return false;
+
+        if (!Arrays.equals(mRecordedTransformers, mTransformerBuffer))
+            return false;
+
+        // scale and skew must be unchanged, only a translation can be replayed
+        for (int i = 0; i < 9; i++) {
+            if (i != Matrix.MTRANS_X && i != Matrix.MTRANS_Y && mTouchBuffer[i] != mRecordedTouch[i])
+                return false;
+        }
+
+        float dx = mTouchBuffer[Matrix.MTRANS_X] - mRecordedTouch[Matrix.MTRANS_X];
+        float dy = mTouchBuffer[Matrix.MTRANS_Y] - mRecordedTouch[Matrix.MTRANS_Y];
+
+        // inverted and non-inverted axes move in opposite directions vertically
+        if (dy != 0f) {
+            float scaleY = getOffsetScaleY(transformers[0]);
+            for (Transformer t : transformers) {
+                if (getOffsetScaleY(t) != scaleY)
+                    return false;
+            }
+        }
+
+        return Math.abs(dx) <= mRecordedBandX && Math.abs(dy) <= mRecordedBandY;
+    }
+
+    protected void record(DataRenderer renderer, ViewPortHandler viewPortHandler, ChartAnimator animator) {
+
+        RectF content = viewPortHandler.getContentRect();
+
+        mRecordedBandX = content.width() * mGuardBandPercent;
+        mRecordedBandY = content.height() * mGuardBandPercent;
+
+        // temporarily extend the content rect so that the renderers do not cull the guard band
+        mContentRectBuffer.set(content);
+        content.set(content.left - mRecordedBandX, content.top - mRecordedBandY,
+                content.right + mRecordedBandX, content.bottom + mRecordedBandY);
+
+        Canvas canvas = mBackend.beginRecording((int) viewPortHandler.getChartWidth(),
+                (int) viewPortHandler.getChartHeight());
+
+        renderer.setRecordingEnabled(true);
+
+        try {
+            renderer.drawData(canvas);
+        } finally {
+            renderer.setRecordingEnabled(false);
+            content.set(mContentRectBuffer);
+            mBackend.endRecording();
+        }
+
+        System.arraycopy(mTouchBuffer, 0, mRecordedTouch, 0, 9);
+
+        if (mRecordedTransformers.length != mTransformerBuffer.length)
+            mRecordedTransformers = new float[mTransformerBuffer.length];
+        System.arraycopy(mTransformerBuffer, 0, mRecordedTransformers, 0, mTransformerBuffer.length);
+
+        mRecordedPhaseX = animator.getPhaseX();
+        mRecordedPhaseY = animator.getPhaseY();
+        mRecordedWidth = viewPortHandler.getChartWidth();
+        mRecordedHeight = viewPortHandler.getChartHeight();
+
+        mValid = true;
+    }
+
+    private float[] mValuesBuffer = new float[9];
+
+    private void snapshotTransformers(Transformer[] transformers) {
+
+        int size = transformers.length * 18;
+
+        if (mTransformerBuffer.length != size)
+            mTransformerBuffer = new float[size];
+
+        for (int i = 0; i < transformers.length; i++) {
+            transformers[i].getValueMatrix().getValues(mValuesBuffer);
+            System.arraycopy(mValuesBuffer, 0, mTransformerBuffer, i * 18, 9);
+            transformers[i].getOffsetMatrix().getValues(mValuesBuffer);
+            System.arraycopy(mValuesBuffer, 0, mTransformerBuffer, i * 18 + 9, 9);
+        }
+    }
+
+    private float getOffsetScaleY(Transformer transformer) {
+        transformer.getOffsetMatrix().getValues(mValuesBuffer);
+        return mValuesBuffer[Matrix.MSCALE_Y];
+    }
+}
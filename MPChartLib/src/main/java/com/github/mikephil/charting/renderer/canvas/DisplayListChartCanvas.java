@@ -0,0 +1,83 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import android.os.Build;
+
+/**
+ * ChartCanvas that records the drawing commands into a display list (Picture). Replaying the
+ * display list does not rasterise anything in software, the commands are issued directly on the
+ * (hardware accelerated) canvas of the chart.
+ */
+public class DisplayListChartCanvas implements ChartCanvas {
+
+    /**
+     * the display list holding the recorded commands
+     */
+    protected Picture mPicture;
+
+    protected boolean mRecording = false;
+    protected boolean mHasRecording = false;
+
+    @Override
+    public Canvas beginRecording(int width, int height) {
+
+        if (mPicture == null)
+            mPicture = new Picture();
+
+        mRecording = true;
+        mHasRecording = false;
+
+        return mPicture.beginRecording(width, height);
+    }
+
+    @Override
+    public void endRecording() {
+
+        if (!mRecording)
+            return;
+
+        mPicture.endRecording();
+        mRecording = false;
+        mHasRecording = true;
+    }
+
+    @Override
+    public boolean hasRecording() {
+        return mHasRecording;
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+
+        if (mHasRecording)
+            canvas.drawPicture(mPicture);
+    }
+
+    @Override
+    public boolean canDrawOn(Canvas canvas) {
+        // pictures can only be drawn on hardware accelerated canvases since API level 23
+        return Build.VERSION.SDK_INT >= 23 || !canvas.isHardwareAccelerated();
+    }
+
+    @Override
+    public void release() {
+
+        if (mRecording)
+            mPicture.endRecording();
+
+        mPicture = null;
+        mRecording = false;
+        mHasRecording = false;
+    }
+
+    /**
+     * The size of a Picture cannot be queried, its memory is not counted.
+     *
+     * @return 0
+     */
+    @Override
+    public long getMemorySize() {
+        return 0;
+    }
+}
@@ -0,0 +1,700 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.WeakHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * VectorCanvas writing a single page PDF document. The drawing commands are written into the
+ * content stream of the page as they are issued. Everything that has to be known before a PDF
+ * object can be written (the length of the content stream, the fonts and transparencies used) is
+ * written after the content stream as separate objects. A bitmap is written as image object as
+ * soon as it is drawn: the current content stream is ended, the image written and a new content
+ * stream begun (the page contents are the sequence of these streams), so no bitmap is kept.
+ *
+ * Text is written in Helvetica, the fonts of the Paints are not embedded.
+ */
+public class PdfCanvas extends VectorCanvas {
+
+    private static final int OBJ_CATALOG = 1;
+    private static final int OBJ_PAGES = 2;
+    private static final int OBJ_PAGE = 3;
+    private static final int OBJ_CONTENTS = 4;
+    private static final int OBJ_RESOURCES = 5;
+    private static final int OBJ_FONT = 6;
+    private static final int OBJ_FONT_BOLD = 7;
+    private static final int OBJ_FIRST_FREE = 8;
+
+    /**
+     * bezier control point distance approximating a quarter circle
+     */
+    private static final float CIRCLE_KAPPA = 0.5522848f;
+
+    protected final CountingOutputStream mOut;
+
+    /**
+     * builder the current command is assembled in
+     */
+    protected final StringBuilder mBuilder = new StringBuilder(256);
+
+    private byte[] mByteBuffer = new byte[256];
+
+    /**
+     * byte offsets of the objects, indexed by object number
+     */
+    private long[] mObjectOffsets = new long[16];
+
+    private long mContentStart;
+
+    /**
+     * the next free object number
+     */
+    private int mNextObject = OBJ_FIRST_FREE;
+
+    /**
+     * the object numbers of the content streams of the page, in order, each followed by the
+     * object holding its length
+     */
+    private int[] mContentObjects = new int[4];
+    private int mContentCount = 0;
+
+    /**
+     * the transparencies used, each needs a graphics state resource
+     */
+    private final boolean[] mUsedAlphas = new boolean[256];
+
+    /**
+     * the object numbers of the images written, in order of their names
+     */
+    private int[] mImageObjects = new int[4];
+    private int mImageCount = 0;
+
+    /**
+     * the names of the images written, by bitmap, so that a bitmap drawn again (e.g. an icon) is
+     * only written once. The bitmaps are only weakly referenced.
+     */
+    private final WeakHashMap<Bitmap, Integer> mBitmapIndices = new WeakHashMap<>();
+
+    /**
+     * @param stream the stream the document is written to, it is not closed by finish()
+     * @param width  width of the page in pixels (written as points)
+     * @param height height of the page in pixels (written as points)
+     */
+    public PdfCanvas(OutputStream stream, int width, int height) {
+        super(width, height);
+
+        mOut = new CountingOutputStream(new BufferedOutputStream(stream, 8192));
+
+        try {
+            writeStart();
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    protected void writeStart() throws IOException {
+
+        StringBuilder b = begin();
+        // the binary comment marks the file as binary for transfer programs
+        b.append("%PDF-1.4\n%\u00e2\u00e3\u00cf\u00d3\n");
+        write(b);
+
+        beginObject(OBJ_CATALOG);
+        write(begin().append("<</Type/Catalog/Pages ").append(OBJ_PAGES).append(" 0 R>>\n"));
+        endObject();
+
+        beginObject(OBJ_PAGES);
+        write(begin().append("<</Type/Pages/Kids[").append(OBJ_PAGE).append(" 0 R]/Count 1>>\n"));
+        endObject();
+
+        beginObject(OBJ_PAGE);
+        b = begin();
+        b.append("<</Type/Page/Parent ").append(OBJ_PAGES).append(" 0 R/MediaBox[0 0 ")
+                .append(mWidth).append(' ').append(mHeight).append("]/Contents ")
+                .append(OBJ_CONTENTS).append(" 0 R/Resources ").append(OBJ_RESOURCES).append(" 0 R>>\n");
+        write(b);
+        endObject();
+
+        beginContent();
+
+        // flip the y-axis so that the content can be written in view coordinates
+        write(begin().append("1 0 0 -1 0 ").append(mHeight).append(" cm\n"));
+    }
+
+    /**
+     * Begins a new content stream of the page, the graphics state carries over from the previous
+     * one.
+     */
+    private void beginContent() throws IOException {
+
+        int object = mNextObject;
+        mNextObject += 2;
+
+        if (mContentCount == mContentObjects.length)
+            mContentObjects = Arrays.copyOf(mContentObjects, mContentCount * 2);
+
+        mContentObjects[mContentCount++] = object;
+
+        beginObject(object);
+        write(begin().append("<</Length ").append(object + 1).append(" 0 R>>\nstream\n"));
+        mContentStart = mOut.getCount();
+    }
+
+    /**
+     * Ends the current content stream and writes its length.
+     */
+    private void endContent() throws IOException {
+
+        long contentLength = mOut.getCount() - mContentStart;
+        write(begin().append("\nendstream\n"));
+        endObject();
+
+        beginObject(mContentObjects[mContentCount - 1] + 1);
+        write(begin().append(contentLength).append('\n'));
+        endObject();
+    }
+
+    @Override
+    protected void writeEnd() throws IOException {
+
+        endContent();
+
+        beginObject(OBJ_CONTENTS);
+
+        StringBuilder b = begin();
+        b.append('[');
+
+        for (int i = 0; i < mContentCount; i++)
+            b.append(i == 0 ? "" : " ").append(mContentObjects[i]).append(" 0 R");
+
+        b.append("]\n");
+        write(b);
+        endObject();
+
+        writeFont(OBJ_FONT, "Helvetica");
+        writeFont(OBJ_FONT_BOLD, "Helvetica-Bold");
+
+        beginObject(OBJ_RESOURCES);
+
+        b = begin();
+        b.append("<</Font<</F1 ").append(OBJ_FONT).append(" 0 R/F2 ").append(OBJ_FONT_BOLD)
+                .append(" 0 R>>/ExtGState<<");
+
+        for (int alpha = 0; alpha < mUsedAlphas.length; alpha++) {
+
+            if (!mUsedAlphas[alpha])
+                continue;
+
+            b.append("/GA").append(alpha).append("<</ca ");
+            appendNumber(b, alpha / 255f, 3);
+            b.append("/CA ");
+            appendNumber(b, alpha / 255f, 3);
+            b.append(">>");
+        }
+
+        b.append(">>/XObject<<");
+
+        for (int i = 0; i < mImageCount; i++)
+            b.append("/Im").append(i).append(' ').append(mImageObjects[i]).append(" 0 R");
+
+        b.append(">>>>\n");
+        write(b);
+        endObject();
+
+        long xref = mOut.getCount();
+
+        b = begin();
+        b.append("xref\n0 ").append(mNextObject).append("\n0000000000 65535 f \n");
+
+        for (int i = 1; i < mNextObject; i++) {
+
+            String offset = Long.toString(mObjectOffsets[i]);
+
+            for (int j = offset.length(); j < 10; j++)
+                b.append('0');
+
+            b.append(offset).append(" 00000 n \n");
+        }
+
+        b.append("trailer\n<</Size ").append(mNextObject).append("/Root ").append(OBJ_CATALOG)
+                .append(" 0 R>>\nstartxref\n").append(xref).append("\n%%EOF\n");
+        write(b);
+
+        mOut.flush();
+
+        mBitmapIndices.clear();
+    }
+
+    private void writeFont(int object, String name) throws IOException {
+        beginObject(object);
+        write(begin().append("<</Type/Font/Subtype/Type1/BaseFont/").append(name)
+                .append("/Encoding/WinAnsiEncoding>>\n"));
+        endObject();
+    }
+
+    /**
+     * Writes the given bitmap as a deflated image XObject, followed by its alpha channel as soft
+     * mask if it has one. The pixels are converted row by row.
+     *
+     * @return the next free object number
+     */
+    private int writeImage(Bitmap bitmap, int object) throws IOException {
+
+        boolean alpha = bitmap.hasAlpha();
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+
+        beginObject(object);
+
+        StringBuilder b = begin();
+        b.append("<</Type/XObject/Subtype/Image/Width ").append(width).append("/Height ").append(height)
+                .append("/ColorSpace/DeviceRGB/BitsPerComponent 8/Filter/FlateDecode/Length ")
+                .append(object + 1).append(" 0 R");
+
+        if (alpha)
+            b.append("/SMask ").append(object + 2).append(" 0 R");
+
+        b.append(">>\nstream\n");
+        write(b);
+
+        long length = writePixels(bitmap, false);
+
+        write(begin().append("\nendstream\n"));
+        endObject();
+
+        beginObject(object + 1);
+        write(begin().append(length).append('\n'));
+        endObject();
+
+        if (!alpha)
+            return object + 2;
+
+        beginObject(object + 2);
+
+        b = begin();
+        b.append("<</Type/XObject/Subtype/Image/Width ").append(width).append("/Height ").append(height)
+                .append("/ColorSpace/DeviceGray/BitsPerComponent 8/Filter/FlateDecode/Length ")
+                .append(object + 3).append(" 0 R>>\nstream\n");
+        write(b);
+
+        length = writePixels(bitmap, true);
+
+        write(begin().append("\nendstream\n"));
+        endObject();
+
+        beginObject(object + 3);
+        write(begin().append(length).append('\n'));
+        endObject();
+
+        return object + 4;
+    }
+
+    /**
+     * Deflates the rgb or alpha channel of the given bitmap into the document.
+     *
+     * @return the number of bytes written
+     */
+    private long writePixels(Bitmap bitmap, boolean alpha) throws IOException {
+
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+
+        int[] row = new int[width];
+        byte[] bytes = new byte[alpha ? width : width * 3];
+
+        long start = mOut.getCount();
+
+        Deflater deflater = new Deflater();
+        DeflaterOutputStream deflated = new DeflaterOutputStream(mOut, deflater, 8192);
+
+        try {
+            for (int y = 0; y < height; y++) {
+
+                bitmap.getPixels(row, 0, width, 0, y, width, 1);
+
+                if (alpha) {
+                    for (int x = 0; x < width; x++)
+                        bytes[x] = (byte) (row[x] >>> 24);
+                } else {
+                    for (int x = 0, j = 0; x < width; x++) {
+                        int color = row[x];
+                        bytes[j++] = (byte) (color >> 16);
+                        bytes[j++] = (byte) (color >> 8);
+                        bytes[j++] = (byte) color;
+                    }
+                }
+
+                deflated.write(bytes);
+            }
+
+            // finish, but do not close the document stream
+            deflated.finish();
+        } finally {
+            deflater.end();
+        }
+
+        return mOut.getCount() - start;
+    }
+
+    @Override
+    protected void writePolyline(float[] points, int count, boolean closed, boolean fill,
+                                 boolean stroke, Paint paint) throws IOException {
+
+        if (count < 2)
+            return;
+
+        StringBuilder b = begin();
+        b.append("q ");
+        appendStyle(b, fill, stroke, paint);
+
+        for (int i = 0; i < count; i++) {
+            appendNumber(b, points[i * 2]);
+            b.append(' ');
+            appendNumber(b, points[i * 2 + 1]);
+            b.append(i == 0 ? " m " : " l ");
+        }
+
+        appendPaintOperator(b, closed, fill, stroke);
+        b.append(" Q\n");
+        write(b);
+    }
+
+    @Override
+    protected void writeRect(float left, float top, float right, float bottom,
+                             boolean fill, boolean stroke, Paint paint) throws IOException {
+
+        StringBuilder b = begin();
+        b.append("q ");
+        appendStyle(b, fill, stroke, paint);
+        appendNumber(b, left);
+        b.append(' ');
+        appendNumber(b, top);
+        b.append(' ');
+        appendNumber(b, right - left);
+        b.append(' ');
+        appendNumber(b, bottom - top);
+        b.append(" re ");
+        appendPaintOperator(b, false, fill, stroke);
+        b.append(" Q\n");
+        write(b);
+    }
+
+    @Override
+    protected void writeCircle(float cx, float cy, float radius,
+                               boolean fill, boolean stroke, Paint paint) throws IOException {
+
+        float k = radius * CIRCLE_KAPPA;
+
+        StringBuilder b = begin();
+        b.append("q ");
+        appendStyle(b, fill, stroke, paint);
+
+        appendPoint(b, cx + radius, cy);
+        b.append("m ");
+        appendCurve(b, cx + radius, cy + k, cx + k, cy + radius, cx, cy + radius);
+        appendCurve(b, cx - k, cy + radius, cx - radius, cy + k, cx - radius, cy);
+        appendCurve(b, cx - radius, cy - k, cx - k, cy - radius, cx, cy - radius);
+        appendCurve(b, cx + k, cy - radius, cx + radius, cy - k, cx + radius, cy);
+
+        appendPaintOperator(b, true, fill, stroke);
+        b.append(" Q\n");
+        write(b);
+    }
+
+    @Override
+    protected void writeText(String text, float x, float y, Paint paint) throws IOException {
+
+        switch (paint.getTextAlign()) {
+            case CENTER:
+                x -= paint.measureText(text) / 2f;
+                break;
+            case RIGHT:
+                x -= paint.measureText(text);
+                break;
+            default:
+                break;
+        }
+
+        boolean bold = paint.getTypeface() != null && paint.getTypeface().isBold();
+
+        StringBuilder b = begin();
+        b.append("q ");
+        appendAlpha(b, paint.getColor());
+        appendColor(b, paint.getColor(), "rg ");
+        b.append("BT /").append(bold ? "F2 " : "F1 ");
+        appendNumber(b, paint.getTextSize());
+        // the text matrix flips the glyphs back upright
+        b.append(" Tf 1 0 0 -1 ");
+        appendPoint(b, x, y);
+        b.append("Tm (");
+        appendEscaped(b, text);
+        b.append(") Tj ET Q\n");
+        write(b);
+    }
+
+    @Override
+    protected void writeBitmap(Bitmap bitmap, float left, float top, Paint paint) throws IOException {
+
+        Integer index = mBitmapIndices.get(bitmap);
+
+        if (index == null) {
+
+            index = mImageCount;
+
+            if (mImageCount == mImageObjects.length)
+                mImageObjects = Arrays.copyOf(mImageObjects, mImageCount * 2);
+
+            // images cannot be written inside of a content stream, continue in a new one
+            endContent();
+
+            mImageObjects[mImageCount++] = mNextObject;
+            mNextObject = writeImage(bitmap, mNextObject);
+
+            beginContent();
+
+            mBitmapIndices.put(bitmap, index);
+        }
+
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+
+        StringBuilder b = begin();
+        b.append("q ");
+
+        if (paint != null)
+            appendAlpha(b, Color.argb(paint.getAlpha(), 0, 0, 0));
+
+        // images are drawn into the unit square with their first row at the top
+        b.append(width).append(" 0 0 ").append(-height).append(' ');
+        appendPoint(b, left, top + height);
+        b.append("cm /Im").append(index).append(" Do Q\n");
+        write(b);
+    }
+
+    @Override
+    protected void openTransformGroup(float a, float b, float c, float d, float e, float f)
+            throws IOException {
+
+        StringBuilder builder = begin();
+        builder.append("q ");
+        appendNumber(builder, a, 5);
+        builder.append(' ');
+        appendNumber(builder, b, 5);
+        builder.append(' ');
+        appendNumber(builder, c, 5);
+        builder.append(' ');
+        appendNumber(builder, d, 5);
+        builder.append(' ');
+        appendPoint(builder, e, f);
+        builder.append("cm\n");
+        write(builder);
+    }
+
+    @Override
+    protected void openClipGroup(float[] points, int count) throws IOException {
+
+        StringBuilder b = begin();
+        b.append("q ");
+
+        for (int i = 0; i < count; i++) {
+            appendPoint(b, points[i * 2], points[i * 2 + 1]);
+            b.append(i == 0 ? "m " : "l ");
+        }
+
+        b.append("h W n\n");
+        write(b);
+    }
+
+    @Override
+    protected void closeGroups(int count) throws IOException {
+
+        StringBuilder b = begin();
+
+        for (int i = 0; i < count; i++)
+            b.append("Q\n");
+
+        write(b);
+    }
+
+    private void appendStyle(StringBuilder b, boolean fill, boolean stroke, Paint paint) {
+
+        int color = paint.getColor();
+
+        appendAlpha(b, color);
+
+        if (fill)
+            appendColor(b, color, "rg ");
+
+        if (!stroke)
+            return;
+
+        appendColor(b, color, "RG ");
+
+        // a width of 0 is a hairline on Android
+        appendNumber(b, paint.getStrokeWidth() > 0f ? paint.getStrokeWidth() : 1f);
+        b.append(" w ");
+
+        switch (paint.getStrokeCap()) {
+            case ROUND:
+                b.append("1 J ");
+                break;
+            case SQUARE:
+                b.append("2 J ");
+                break;
+            default:
+                break;
+        }
+
+        switch (paint.getStrokeJoin()) {
+            case ROUND:
+                b.append("1 j ");
+                break;
+            case BEVEL:
+                b.append("2 j ");
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void appendAlpha(StringBuilder b, int color) {
+
+        int alpha = Color.alpha(color);
+
+        if (alpha == 255)
+            return;
+
+        mUsedAlphas[alpha] = true;
+        b.append("/GA").append(alpha).append(" gs ");
+    }
+
+    private static void appendColor(StringBuilder b, int color, String operator) {
+        appendNumber(b, Color.red(color) / 255f, 3);
+        b.append(' ');
+        appendNumber(b, Color.green(color) / 255f, 3);
+        b.append(' ');
+        appendNumber(b, Color.blue(color) / 255f, 3);
+        b.append(' ').append(operator);
+    }
+
+    private static void appendPaintOperator(StringBuilder b, boolean closed, boolean fill, boolean stroke) {
+
+        if (fill && stroke)
+            b.append(closed ? "b" : "B");
+        else if (fill)
+            b.append("f");
+        else if (stroke)
+            b.append(closed ? "s" : "S");
+        else
+            b.append("n");
+    }
+
+    private static void appendPoint(StringBuilder b, float x, float y) {
+        appendNumber(b, x);
+        b.append(' ');
+        appendNumber(b, y);
+        b.append(' ');
+    }
+
+    private static void appendCurve(StringBuilder b, float x1, float y1, float x2, float y2,
+                                    float x3, float y3) {
+        appendPoint(b, x1, y1);
+        appendPoint(b, x2, y2);
+        appendPoint(b, x3, y3);
+        b.append("c ");
+    }
+
+    /**
+     * Appends the given text as content of a PDF string. Characters are written as WinAnsi
+     * (which matches Latin-1 above 0xa0), characters that cannot be encoded are replaced by '?'.
+     */
+    private static void appendEscaped(StringBuilder b, String text) {
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char c = text.charAt(i);
+
+            if (c == '(' || c == ')' || c == '\\') {
+                b.append('\\').append(c);
+            } else if (c >= 0x20 && c < 0x7f) {
+                b.append(c);
+            } else if (c >= 0xa0 && c <= 0xff) {
+                b.append('\\').append(Integer.toOctalString(c));
+            } else if (c >= 0x20) {
+                b.append('?');
+            }
+        }
+    }
+
+    private StringBuilder begin() {
+        mBuilder.setLength(0);
+        return mBuilder;
+    }
+
+    /**
+     * Writes the given (single byte) characters to the document.
+     */
+    private void write(StringBuilder builder) throws IOException {
+
+        int length = builder.length();
+
+        if (mByteBuffer.length < length)
+            mByteBuffer = new byte[Math.max(length, mByteBuffer.length * 2)];
+
+        for (int i = 0; i < length; i++)
+            mByteBuffer[i] = (byte) builder.charAt(i);
+
+        mOut.write(mByteBuffer, 0, length);
+    }
+
+    private void beginObject(int object) throws IOException {
+
+        if (object >= mObjectOffsets.length)
+            mObjectOffsets = Arrays.copyOf(mObjectOffsets, Math.max(object + 1, mObjectOffsets.length * 2));
+
+        mObjectOffsets[object] = mOut.getCount();
+        write(begin().append(object).append(" 0 obj\n"));
+    }
+
+    private void endObject() throws IOException {
+        write(begin().append("endobj\n"));
+    }
+
+    /**
+     * Keeps track of the number of bytes written, needed for the cross-reference table.
+     */
+    protected static class CountingOutputStream extends FilterOutputStream {
+
+        private long mCount = 0;
+
+        public CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            mCount++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            mCount += len;
+        }
+
+        public long getCount() {
+            return mCount;
+        }
+    }
+}
@@ -0,0 +1,871 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.annotation.SuppressLint;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.NinePatch;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.Picture;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Region;
+import android.os.Build;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ChartCanvas that records the drawing commands issued by the renderers as a plain list of
+ * operations. The operations can be inspected (e.g. in unit tests running on the JVM) and replayed
+ * onto any other canvas. Drawing methods that cannot be recorded (pictures, nine-patches, bitmap
+ * meshes, regions and positioned text) throw an UnsupportedOperationException instead of being
+ * dropped from the recording.
+ */
+public class RecordingChartCanvas implements ChartCanvas {
+
+    /**
+     * the types of drawing operations that are recorded
+     */
+    public enum OpType {
+        LINES, LINE, RECT, PATH, CIRCLE, BITMAP, TEXT, SAVE, RESTORE, TRANSLATE, CLIP_RECT,
+        VERTICES, BITMAP_RECT, BITMAP_MATRIX, ROUND_RECT, ARC, OVAL, POINTS, COLOR, PAINT,
+        TEXT_ON_PATH, SAVE_LAYER, SCALE, ROTATE, SKEW, CONCAT, SET_MATRIX, CLIP_PATH,
+        CLIP_OUT_RECT, CLIP_OUT_PATH
+    }
+
+    /**
+     * A single recorded drawing operation.
+     */
+    public static class Op {
+
+        public final OpType type;
+
+        /**
+         * the numeric arguments of the operation, e.g. coordinates
+         */
+        public final float[] args;
+
+        /**
+         * copy of the paint used for the operation, null for state operations
+         */
+        public final Paint paint;
+
+        /**
+         * the Path, Bitmap or text of the operation, if any
+         */
+        public final Object payload;
+
+        public Op(OpType type, float[] args, Paint paint, Object payload) {
+            this.type = type;
+            this.args = args;
+            this.paint = paint;
+            this.payload = payload;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + Arrays.toString(args) + (payload instanceof String ? " " + payload : "");
+        }
+    }
+
+    /**
+     * The arrays and the mode of a recorded drawVertices(...) call, the args of the operation hold
+     * the vertices.
+     */
+    public static class Vertices {
+
+        public final Canvas.VertexMode mode;
+        public final float[] texs;
+        public final int[] colors;
+        public final short[] indices;
+
+        public Vertices(Canvas.VertexMode mode, float[] texs, int[] colors, short[] indices) {
+            this.mode = mode;
+            this.texs = texs;
+            this.colors = colors;
+            this.indices = indices;
+        }
+    }
+
+    /**
+     * estimated sizes in bytes of an operation, a copied Paint and a copied Path (native objects
+     * included)
+     */
+    private static final int OP_SIZE = 40;
+    private static final int PAINT_SIZE = 160;
+    private static final int PATH_SIZE = 128;
+
+    protected List<Op> mOps = new ArrayList<Op>();
+
+    /**
+     * estimated size of the recorded operations in bytes
+     */
+    protected long mMemorySize = 0;
+
+    protected RecordingCanvas mCanvas = new RecordingCanvas();
+
+    protected boolean mRecording = false;
+    protected boolean mHasRecording = false;
+
+    @Override
+    public Canvas beginRecording(int width, int height) {
+        mOps.clear();
+        mMemorySize = 0;
+        mRecording = true;
+        mHasRecording = false;
+        return mCanvas;
+    }
+
+    @Override
+    public void endRecording() {
+
+        if (!mRecording)
+            return;
+
+        mRecording = false;
+        mHasRecording = true;
+    }
+
+    @Override
+    public boolean hasRecording() {
+        return mHasRecording;
+    }
+
+    @Override
+    public boolean canDrawOn(Canvas canvas) {
+        return true;
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+
+        if (!mHasRecording)
+            return;
+
+        for (int i = 0; i < mOps.size(); i++)
+            replay(mOps.get(i), canvas);
+    }
+
+    @Override
+    public void release() {
+        mOps.clear();
+        mMemorySize = 0;
+        mRecording = false;
+        mHasRecording = false;
+    }
+
+    /**
+     * Returns an estimate of the memory held by the recorded operations: their arguments and
+     * copies of paints and paths. Bitmaps are only referenced and not counted.
+     *
+     * @return
+     */
+    @Override
+    public long getMemorySize() {
+        return mMemorySize;
+    }
+
+    /**
+     * Returns all operations of the current (or last) recording.
+     *
+     * @return
+     */
+    public List<Op> getOps() {
+        return mOps;
+    }
+
+    /**
+     * Returns the number of recorded operations of the given type.
+     *
+     * @param type
+     * @return
+     */
+    public int getOpCount(OpType type) {
+
+        int count = 0;
+
+        for (int i = 0; i < mOps.size(); i++) {
+            if (mOps.get(i).type == type)
+                count++;
+        }
+
+        return count;
+    }
+
+    protected void replay(Op op, Canvas c) {
+
+        float[] a = op.args;
+
+        switch (op.type) {
+            case LINES:
+                c.drawLines(a, op.paint);
+                break;
+            case LINE:
+                c.drawLine(a[0], a[1], a[2], a[3], op.paint);
+                break;
+            case RECT:
+                c.drawRect(a[0], a[1], a[2], a[3], op.paint);
+                break;
+            case PATH:
+                c.drawPath((Path) op.payload, op.paint);
+                break;
+            case CIRCLE:
+                c.drawCircle(a[0], a[1], a[2], op.paint);
+                break;
+            case BITMAP:
+                c.drawBitmap((Bitmap) op.payload, a[0], a[1], op.paint);
+                break;
+            case TEXT:
+                c.drawText((String) op.payload, a[0], a[1], op.paint);
+                break;
+            case SAVE:
+                c.save();
+                break;
+            case RESTORE:
+                c.restore();
+                break;
+            case TRANSLATE:
+                c.translate(a[0], a[1]);
+                break;
+            case CLIP_RECT:
+                if (op.payload instanceof Region.Op)
+                    c.clipRect(a[0], a[1], a[2], a[3], (Region.Op) op.payload);
+                else
+                    c.clipRect(a[0], a[1], a[2], a[3]);
+                break;
+            case VERTICES:
+                Vertices v = (Vertices) op.payload;
+                c.drawVertices(v.mode, a.length, a, 0, v.texs, 0, v.colors, 0, v.indices, 0,
+                        v.indices == null ? 0 : v.indices.length, op.paint);
+                break;
+            case BITMAP_RECT:
+                Rect src = null;
+
+                if (!Float.isNaN(a[0])) {
+                    src = new Rect();
+                    src.set((int) a[0], (int) a[1], (int) a[2], (int) a[3]);
+                }
+
+                c.drawBitmap((Bitmap) op.payload, src, rect(a, 4), op.paint);
+                break;
+            case BITMAP_MATRIX:
+                Matrix matrix = new Matrix();
+                matrix.setValues(a);
+                c.drawBitmap((Bitmap) op.payload, matrix, op.paint);
+                break;
+            case ROUND_RECT:
+                c.drawRoundRect(rect(a, 0), a[4], a[5], op.paint);
+                break;
+            case ARC:
+                c.drawArc(rect(a, 0), a[4], a[5], a[6] != 0f, op.paint);
+                break;
+            case OVAL:
+                c.drawOval(rect(a, 0), op.paint);
+                break;
+            case POINTS:
+                c.drawPoints(a, op.paint);
+                break;
+            case COLOR:
+                if (op.payload instanceof PorterDuff.Mode)
+                    c.drawColor(Float.floatToRawIntBits(a[0]), (PorterDuff.Mode) op.payload);
+                else
+                    c.drawColor(Float.floatToRawIntBits(a[0]));
+                break;
+            case PAINT:
+                c.drawPaint(op.paint);
+                break;
+            case TEXT_ON_PATH:
+                Object[] textOnPath = (Object[]) op.payload;
+                c.drawTextOnPath((String) textOnPath[0], (Path) textOnPath[1], a[0], a[1], op.paint);
+                break;
+            case SAVE_LAYER:
+                RectF bounds = Float.isNaN(a[0]) ? null : rect(a, 0);
+                saveLayer(c, bounds, op.paint);
+                break;
+            case SCALE:
+                c.scale(a[0], a[1]);
+                break;
+            case ROTATE:
+                c.rotate(a[0]);
+                break;
+            case SKEW:
+                c.skew(a[0], a[1]);
+                break;
+            case CONCAT:
+            case SET_MATRIX:
+                Matrix m = null;
+
+                if (a.length == 9) {
+                    m = new Matrix();
+                    m.setValues(a);
+                }
+
+                if (op.type == OpType.CONCAT)
+                    c.concat(m);
+                else
+                    c.setMatrix(m);
+                break;
+            case CLIP_PATH:
+                if (op.payload instanceof Object[]) {
+                    Object[] clip = (Object[]) op.payload;
+                    c.clipPath((Path) clip[0], (Region.Op) clip[1]);
+                } else {
+                    c.clipPath((Path) op.payload);
+                }
+                break;
+            case CLIP_OUT_RECT:
+                clipOutRect(c, a[0], a[1], a[2], a[3]);
+                break;
+            case CLIP_OUT_PATH:
+                clipOutPath(c, (Path) op.payload);
+                break;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void saveLayer(Canvas c, RectF bounds, Paint paint) {
+        c.saveLayer(bounds, paint, Canvas.ALL_SAVE_FLAG);
+    }
+
+    @SuppressLint("NewApi")
+    @SuppressWarnings("deprecation")
+    private static void clipOutRect(Canvas c, float left, float top, float right, float bottom) {
+        if (Build.VERSION.SDK_INT >= 26)
+            c.clipOutRect(left, top, right, bottom);
+        else
+            c.clipRect(left, top, right, bottom, Region.Op.DIFFERENCE);
+    }
+
+    @SuppressLint("NewApi")
+    @SuppressWarnings("deprecation")
+    private static void clipOutPath(Canvas c, Path path) {
+        if (Build.VERSION.SDK_INT >= 26)
+            c.clipOutPath(path);
+        else
+            c.clipPath(path, Region.Op.DIFFERENCE);
+    }
+
+    private static RectF rect(float[] args, int offset) {
+
+        RectF rect = new RectF();
+        rect.left = args[offset];
+        rect.top = args[offset + 1];
+        rect.right = args[offset + 2];
+        rect.bottom = args[offset + 3];
+        return rect;
+    }
+
+    private static float[] copy(float[] values, int offset, int count) {
+        return values == null ? null : Arrays.copyOfRange(values, offset, offset + count);
+    }
+
+    private static float[] values(Matrix matrix) {
+
+        if (matrix == null)
+            return new float[0];
+
+        float[] values = new float[9];
+        matrix.getValues(values);
+        return values;
+    }
+
+    private static UnsupportedOperationException unsupported(String operation) {
+        return new UnsupportedOperationException(operation + " cannot be recorded by the RecordingChartCanvas.");
+    }
+
+    private void record(OpType type, float[] args, Paint paint, Object payload) {
+        mOps.add(new Op(type, args, paint == null ? null : new Paint(paint), payload));
+        mMemorySize += OP_SIZE + args.length * 4 + (paint == null ? 0 : PAINT_SIZE)
+                + getPayloadSize(payload);
+    }
+
+    private static long getPayloadSize(Object payload) {
+
+        if (payload instanceof Path)
+            return PATH_SIZE;
+
+        if (payload instanceof String)
+            return ((String) payload).length() * 2;
+
+        if (payload instanceof Vertices) {
+            Vertices v = (Vertices) payload;
+            return (v.texs == null ? 0 : v.texs.length * 4)
+                    + (v.colors == null ? 0 : v.colors.length * 4)
+                    + (v.indices == null ? 0 : v.indices.length * 2);
+        }
+
+        if (payload instanceof Object[]) {
+
+            long size = 0;
+
+            for (Object o : (Object[]) payload)
+                size += getPayloadSize(o);
+
+            return size;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Canvas that does not draw anything but records all supported operations.
+     */
+    protected class RecordingCanvas extends Canvas {
+
+        private int mSaveCount = 1;
+
+        @Override
+        public void drawLines(float[] pts, int offset, int count, Paint paint) {
+            record(OpType.LINES, Arrays.copyOfRange(pts, offset, offset + count), paint, null);
+        }
+
+        @Override
+        public void drawLines(float[] pts, Paint paint) {
+            drawLines(pts, 0, pts.length, paint);
+        }
+
+        @Override
+        public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+            record(OpType.LINE, new float[]{startX, startY, stopX, stopY}, paint, null);
+        }
+
+        @Override
+        public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+            record(OpType.RECT, new float[]{left, top, right, bottom}, paint, null);
+        }
+
+        @Override
+        public void drawRect(RectF rect, Paint paint) {
+            drawRect(rect.left, rect.top, rect.right, rect.bottom, paint);
+        }
+
+        @Override
+        public void drawPath(Path path, Paint paint) {
+            record(OpType.PATH, new float[0], paint, new Path(path));
+        }
+
+        @Override
+        public void drawCircle(float cx, float cy, float radius, Paint paint) {
+            record(OpType.CIRCLE, new float[]{cx, cy, radius}, paint, null);
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+            record(OpType.BITMAP, new float[]{left, top}, paint, bitmap);
+        }
+
+        @Override
+        public void drawText(String text, float x, float y, Paint paint) {
+            record(OpType.TEXT, new float[]{x, y}, paint, text);
+        }
+
+        @Override
+        public int save() {
+            record(OpType.SAVE, new float[0], null, null);
+            return mSaveCount++;
+        }
+
+        @Override
+        public void restore() {
+            record(OpType.RESTORE, new float[0], null, null);
+            mSaveCount--;
+        }
+
+        @Override
+        public void restoreToCount(int saveCount) {
+            while (mSaveCount > saveCount && mSaveCount > 1)
+                restore();
+        }
+
+        @Override
+        public int getSaveCount() {
+            return mSaveCount;
+        }
+
+        @Override
+        public void translate(float dx, float dy) {
+            record(OpType.TRANSLATE, new float[]{dx, dy}, null, null);
+        }
+
+        @Override
+        public boolean clipRect(float left, float top, float right, float bottom) {
+            record(OpType.CLIP_RECT, new float[]{left, top, right, bottom}, null, null);
+            return true;
+        }
+
+        @Override
+        public boolean clipRect(RectF rect) {
+            return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+        }
+
+        @Override
+        public boolean clipRect(Rect rect) {
+            return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+        }
+
+        @Override
+        public boolean clipRect(int left, int top, int right, int bottom) {
+            return clipRect((float) left, (float) top, (float) right, (float) bottom);
+        }
+
+        @Override
+        public boolean clipRect(float left, float top, float right, float bottom, Region.Op op) {
+            record(OpType.CLIP_RECT, new float[]{left, top, right, bottom}, null, op);
+            return true;
+        }
+
+        @Override
+        public boolean clipRect(RectF rect, Region.Op op) {
+            return clipRect(rect.left, rect.top, rect.right, rect.bottom, op);
+        }
+
+        @Override
+        public boolean clipRect(Rect rect, Region.Op op) {
+            return clipRect(rect.left, rect.top, rect.right, rect.bottom, op);
+        }
+
+        @Override
+        public boolean clipOutRect(float left, float top, float right, float bottom) {
+            record(OpType.CLIP_OUT_RECT, new float[]{left, top, right, bottom}, null, null);
+            return true;
+        }
+
+        @Override
+        public boolean clipOutRect(RectF rect) {
+            return clipOutRect(rect.left, rect.top, rect.right, rect.bottom);
+        }
+
+        @Override
+        public boolean clipOutRect(Rect rect) {
+            return clipOutRect(rect.left, rect.top, rect.right, rect.bottom);
+        }
+
+        @Override
+        public boolean clipOutRect(int left, int top, int right, int bottom) {
+            return clipOutRect((float) left, (float) top, (float) right, (float) bottom);
+        }
+
+        @Override
+        public boolean clipPath(Path path) {
+            record(OpType.CLIP_PATH, new float[0], null, new Path(path));
+            return true;
+        }
+
+        @Override
+        public boolean clipPath(Path path, Region.Op op) {
+            record(OpType.CLIP_PATH, new float[0], null, new Object[]{new Path(path), op});
+            return true;
+        }
+
+        @Override
+        public boolean clipOutPath(Path path) {
+            record(OpType.CLIP_OUT_PATH, new float[0], null, new Path(path));
+            return true;
+        }
+
+        @Override
+        public boolean clipRegion(Region region, Region.Op op) {
+            throw unsupported("clipRegion");
+        }
+
+        @Override
+        public boolean clipRegion(Region region) {
+            throw unsupported("clipRegion");
+        }
+
+        @Override
+        public int save(int saveFlags) {
+            return save();
+        }
+
+        @Override
+        public int saveLayer(float left, float top, float right, float bottom, Paint paint) {
+            record(OpType.SAVE_LAYER, new float[]{left, top, right, bottom}, paint, null);
+            return mSaveCount++;
+        }
+
+        @Override
+        public int saveLayer(float left, float top, float right, float bottom, Paint paint, int saveFlags) {
+            return saveLayer(left, top, right, bottom, paint);
+        }
+
+        @Override
+        public int saveLayer(RectF bounds, Paint paint) {
+
+            if (bounds == null)
+                return saveLayer(Float.NaN, Float.NaN, Float.NaN, Float.NaN, paint);
+
+            return saveLayer(bounds.left, bounds.top, bounds.right, bounds.bottom, paint);
+        }
+
+        @Override
+        public int saveLayer(RectF bounds, Paint paint, int saveFlags) {
+            return saveLayer(bounds, paint);
+        }
+
+        @Override
+        public int saveLayerAlpha(float left, float top, float right, float bottom, int alpha) {
+
+            Paint paint = new Paint();
+            paint.setAlpha(alpha);
+
+            return saveLayer(left, top, right, bottom, paint);
+        }
+
+        @Override
+        public int saveLayerAlpha(float left, float top, float right, float bottom, int alpha, int saveFlags) {
+            return saveLayerAlpha(left, top, right, bottom, alpha);
+        }
+
+        @Override
+        public int saveLayerAlpha(RectF bounds, int alpha) {
+
+            if (bounds == null)
+                return saveLayerAlpha(Float.NaN, Float.NaN, Float.NaN, Float.NaN, alpha);
+
+            return saveLayerAlpha(bounds.left, bounds.top, bounds.right, bounds.bottom, alpha);
+        }
+
+        @Override
+        public int saveLayerAlpha(RectF bounds, int alpha, int saveFlags) {
+            return saveLayerAlpha(bounds, alpha);
+        }
+
+        @Override
+        public void scale(float sx, float sy) {
+            record(OpType.SCALE, new float[]{sx, sy}, null, null);
+        }
+
+        @Override
+        public void rotate(float degrees) {
+            record(OpType.ROTATE, new float[]{degrees}, null, null);
+        }
+
+        @Override
+        public void skew(float sx, float sy) {
+            record(OpType.SKEW, new float[]{sx, sy}, null, null);
+        }
+
+        @Override
+        public void concat(Matrix matrix) {
+            record(OpType.CONCAT, values(matrix), null, null);
+        }
+
+        @Override
+        public void setMatrix(Matrix matrix) {
+            record(OpType.SET_MATRIX, values(matrix), null, null);
+        }
+
+        @Override
+        public void drawVertices(VertexMode mode, int vertexCount, float[] verts, int vertOffset,
+                                 float[] texs, int texOffset, int[] colors, int colorOffset,
+                                 short[] indices, int indexOffset, int indexCount, Paint paint) {
+
+            int[] colorsCopy = colors == null ? null
+                    : Arrays.copyOfRange(colors, colorOffset, colorOffset + vertexCount / 2);
+            short[] indicesCopy = indices == null ? null
+                    : Arrays.copyOfRange(indices, indexOffset, indexOffset + indexCount);
+
+            record(OpType.VERTICES, copy(verts, vertOffset, vertexCount), paint,
+                    new Vertices(mode, copy(texs, texOffset, vertexCount), colorsCopy, indicesCopy));
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, Rect src, RectF dst, Paint paint) {
+
+            float[] args = new float[]{Float.NaN, Float.NaN, Float.NaN, Float.NaN,
+                    dst.left, dst.top, dst.right, dst.bottom};
+
+            if (src != null) {
+                args[0] = src.left;
+                args[1] = src.top;
+                args[2] = src.right;
+                args[3] = src.bottom;
+            }
+
+            record(OpType.BITMAP_RECT, args, paint, bitmap);
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, Rect src, Rect dst, Paint paint) {
+            drawBitmap(bitmap, src, new RectF(dst.left, dst.top, dst.right, dst.bottom), paint);
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, Matrix matrix, Paint paint) {
+            record(OpType.BITMAP_MATRIX, values(matrix), paint, bitmap);
+        }
+
+        @Override
+        public void drawBitmap(int[] colors, int offset, int stride, float x, float y, int width,
+                               int height, boolean hasAlpha, Paint paint) {
+            throw unsupported("drawBitmap(int[], ...)");
+        }
+
+        @Override
+        public void drawBitmap(int[] colors, int offset, int stride, int x, int y, int width,
+                               int height, boolean hasAlpha, Paint paint) {
+            throw unsupported("drawBitmap(int[], ...)");
+        }
+
+        @Override
+        public void drawBitmapMesh(Bitmap bitmap, int meshWidth, int meshHeight, float[] verts,
+                                   int vertOffset, int[] colors, int colorOffset, Paint paint) {
+            throw unsupported("drawBitmapMesh");
+        }
+
+        @Override
+        public void drawRect(Rect r, Paint paint) {
+            drawRect(r.left, r.top, r.right, r.bottom, paint);
+        }
+
+        @Override
+        public void drawRoundRect(float left, float top, float right, float bottom, float rx, float ry, Paint paint) {
+            record(OpType.ROUND_RECT, new float[]{left, top, right, bottom, rx, ry}, paint, null);
+        }
+
+        @Override
+        public void drawRoundRect(RectF rect, float rx, float ry, Paint paint) {
+            drawRoundRect(rect.left, rect.top, rect.right, rect.bottom, rx, ry, paint);
+        }
+
+        @Override
+        public void drawArc(float left, float top, float right, float bottom, float startAngle,
+                            float sweepAngle, boolean useCenter, Paint paint) {
+            record(OpType.ARC, new float[]{left, top, right, bottom, startAngle, sweepAngle,
+                    useCenter ? 1f : 0f}, paint, null);
+        }
+
+        @Override
+        public void drawArc(RectF oval, float startAngle, float sweepAngle, boolean useCenter, Paint paint) {
+            drawArc(oval.left, oval.top, oval.right, oval.bottom, startAngle, sweepAngle, useCenter, paint);
+        }
+
+        @Override
+        public void drawOval(float left, float top, float right, float bottom, Paint paint) {
+            record(OpType.OVAL, new float[]{left, top, right, bottom}, paint, null);
+        }
+
+        @Override
+        public void drawOval(RectF oval, Paint paint) {
+            drawOval(oval.left, oval.top, oval.right, oval.bottom, paint);
+        }
+
+        @Override
+        public void drawPoint(float x, float y, Paint paint) {
+            record(OpType.POINTS, new float[]{x, y}, paint, null);
+        }
+
+        @Override
+        public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+            record(OpType.POINTS, copy(pts, offset, count), paint, null);
+        }
+
+        @Override
+        public void drawPoints(float[] pts, Paint paint) {
+            drawPoints(pts, 0, pts.length, paint);
+        }
+
+        @Override
+        public void drawColor(int color) {
+            record(OpType.COLOR, new float[]{Float.intBitsToFloat(color)}, null, null);
+        }
+
+        @Override
+        public void drawColor(int color, PorterDuff.Mode mode) {
+            record(OpType.COLOR, new float[]{Float.intBitsToFloat(color)}, null, mode);
+        }
+
+        @Override
+        public void drawARGB(int a, int r, int g, int b) {
+            drawColor((a << 24) | (r << 16) | (g << 8) | b);
+        }
+
+        @Override
+        public void drawRGB(int r, int g, int b) {
+            drawARGB(0xFF, r, g, b);
+        }
+
+        @Override
+        public void drawPaint(Paint paint) {
+            record(OpType.PAINT, new float[0], paint, null);
+        }
+
+        @Override
+        public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+            drawText(new String(text, index, count), x, y, paint);
+        }
+
+        @Override
+        public void drawText(String text, int start, int end, float x, float y, Paint paint) {
+            drawText(text.substring(start, end), x, y, paint);
+        }
+
+        @Override
+        public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+            drawText(text.subSequence(start, end).toString(), x, y, paint);
+        }
+
+        @Override
+        public void drawTextRun(char[] text, int index, int count, int contextIndex, int contextCount,
+                                float x, float y, boolean isRtl, Paint paint) {
+            drawText(text, index, count, x, y, paint);
+        }
+
+        @Override
+        public void drawTextRun(CharSequence text, int start, int end, int contextStart, int contextEnd,
+                                float x, float y, boolean isRtl, Paint paint) {
+            drawText(text, start, end, x, y, paint);
+        }
+
+        @Override
+        public void drawTextOnPath(String text, Path path, float hOffset, float vOffset, Paint paint) {
+            record(OpType.TEXT_ON_PATH, new float[]{hOffset, vOffset}, paint, new Object[]{text, new Path(path)});
+        }
+
+        @Override
+        public void drawTextOnPath(char[] text, int index, int count, Path path, float hOffset,
+                                   float vOffset, Paint paint) {
+            drawTextOnPath(new String(text, index, count), path, hOffset, vOffset, paint);
+        }
+
+        @Override
+        public void drawPosText(char[] text, int index, int count, float[] pos, Paint paint) {
+            throw unsupported("drawPosText");
+        }
+
+        @Override
+        public void drawPosText(String text, float[] pos, Paint paint) {
+            throw unsupported("drawPosText");
+        }
+
+        @Override
+        public void drawPicture(Picture picture) {
+            throw unsupported("drawPicture");
+        }
+
+        @Override
+        public void drawPicture(Picture picture, RectF dst) {
+            throw unsupported("drawPicture");
+        }
+
+        @Override
+        public void drawPicture(Picture picture, Rect dst) {
+            throw unsupported("drawPicture");
+        }
+
+        @Override
+        public void drawPatch(NinePatch patch, Rect dst, Paint paint) {
+            throw unsupported("drawPatch");
+        }
+
+        @Override
+        public void drawPatch(NinePatch patch, RectF dst, Paint paint) {
+            throw unsupported("drawPatch");
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.util.Base64;
+import android.util.Base64OutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.IdentityHashMap;
+
+/**
+ * VectorCanvas writing an SVG document. Every drawing command is written as one element as soon
+ * as it is issued, bitmaps are embedded as PNG once and referenced by every further draw.
+ */
+public class SvgCanvas extends VectorCanvas {
+
+    protected final Writer mWriter;
+
+    /**
+     * builder the current element is assembled in
+     */
+    protected final StringBuilder mBuilder = new StringBuilder(256);
+
+    /**
+     * ids of the bitmaps already embedded in the document
+     */
+    private final IdentityHashMap<Bitmap, String> mBitmapIds = new IdentityHashMap<>();
+
+    private int mNextClipId = 0;
+
+    /**
+     * @param stream the stream the document is written to, it is not closed by finish()
+     * @param width  width of the document in pixels
+     * @param height height of the document in pixels
+     */
+    public SvgCanvas(OutputStream stream, int width, int height) {
+        super(width, height);
+
+        mWriter = new BufferedWriter(new OutputStreamWriter(stream, Charset.forName("UTF-8")), 8192);
+
+        try {
+            writeStart();
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    protected void writeStart() throws IOException {
+
+        StringBuilder b = begin();
+        b.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        b.append("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\"");
+        b.append(" width=\"").append(mWidth).append("\" height=\"").append(mHeight).append('"');
+        b.append(" viewBox=\"0 0 ").append(mWidth).append(' ').append(mHeight).append("\">\n");
+        flush(b);
+    }
+
+    @Override
+    protected void writeEnd() throws IOException {
+        mWriter.write("</svg>\n");
+        mWriter.flush();
+        mBitmapIds.clear();
+    }
+
+    @Override
+    protected void writePolyline(float[] points, int count, boolean closed, boolean fill,
+                                 boolean stroke, Paint paint) throws IOException {
+
+        if (count < 2)
+            return;
+
+        StringBuilder b = begin();
+        b.append("<path d=\"");
+        appendPathData(b, points, count, closed);
+        b.append('"');
+        appendStyle(b, fill, stroke, paint);
+        b.append("/>\n");
+        flush(b);
+    }
+
+    @Override
+    protected void writeRect(float left, float top, float right, float bottom,
+                             boolean fill, boolean stroke, Paint paint) throws IOException {
+
+        StringBuilder b = begin();
+        b.append("<rect x=\"");
+        appendNumber(b, Math.min(left, right));
+        b.append("\" y=\"");
+        appendNumber(b, Math.min(top, bottom));
+        b.append("\" width=\"");
+        appendNumber(b, Math.abs(right - left));
+        b.append("\" height=\"");
+        appendNumber(b, Math.abs(bottom - top));
+        b.append('"');
+        appendStyle(b, fill, stroke, paint);
+        b.append("/>\n");
+        flush(b);
+    }
+
+    @Override
+    protected void writeCircle(float cx, float cy, float radius,
+                               boolean fill, boolean stroke, Paint paint) throws IOException {
+
+        StringBuilder b = begin();
+        b.append("<circle cx=\"");
+        appendNumber(b, cx);
+        b.append("\" cy=\"");
+        appendNumber(b, cy);
+        b.append("\" r=\"");
+        appendNumber(b, radius);
+        b.append('"');
+        appendStyle(b, fill, stroke, paint);
+        b.append("/>\n");
+        flush(b);
+    }
+
+    @Override
+    protected void writeText(String text, float x, float y, Paint paint) throws IOException {
+
+        StringBuilder b = begin();
+        b.append("<text x=\"");
+        appendNumber(b, x);
+        b.append("\" y=\"");
+        appendNumber(b, y);
+        b.append("\" font-family=\"sans-serif\" font-size=\"");
+        appendNumber(b, paint.getTextSize());
+        b.append('"');
+
+        switch (paint.getTextAlign()) {
+            case CENTER:
+                b.append(" text-anchor=\"middle\"");
+                break;
+            case RIGHT:
+                b.append(" text-anchor=\"end\"");
+                break;
+            default:
+                break;
+        }
+
+        if (paint.getTypeface() != null && paint.getTypeface().isBold())
+            b.append(" font-weight=\"bold\"");
+
+        appendColor(b, "fill", paint.getColor());
+        b.append('>');
+        appendEscaped(b, text);
+        b.append("</text>\n");
+        flush(b);
+    }
+
+    @Override
+    protected void writeBitmap(Bitmap bitmap, float left, float top, Paint paint) throws IOException {
+
+        String id = mBitmapIds.get(bitmap);
+
+        if (id == null) {
+
+            id = "img" + mBitmapIds.size();
+            mBitmapIds.put(bitmap, id);
+
+            StringBuilder b = begin();
+            b.append("<defs><image id=\"").append(id).append("\" width=\"").append(bitmap.getWidth())
+                    .append("\" height=\"").append(bitmap.getHeight())
+                    .append("\" xlink:href=\"data:image/png;base64,");
+            flush(b);
+
+            // stream the image through the base64 encoder straight into the document
+            Base64OutputStream base64 = new Base64OutputStream(new WriterOutputStream(mWriter),
+                    Base64.NO_WRAP);
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, base64);
+            base64.close();
+
+            mWriter.write("\"/></defs>\n");
+        }
+
+        StringBuilder b = begin();
+        b.append("<use xlink:href=\"#").append(id).append("\" x=\"");
+        appendNumber(b, left);
+        b.append("\" y=\"");
+        appendNumber(b, top);
+        b.append('"');
+
+        if (paint != null && paint.getAlpha() < 255) {
+            b.append(" opacity=\"");
+            appendNumber(b, paint.getAlpha() / 255f, 3);
+            b.append('"');
+        }
+
+        b.append("/>\n");
+        flush(b);
+    }
+
+    @Override
+    protected void openTransformGroup(float a, float b, float c, float d, float e, float f)
+            throws IOException {
+
+        StringBuilder builder = begin();
+        builder.append("<g transform=\"matrix(");
+        appendNumber(builder, a, 5);
+        builder.append(' ');
+        appendNumber(builder, b, 5);
+        builder.append(' ');
+        appendNumber(builder, c, 5);
+        builder.append(' ');
+        appendNumber(builder, d, 5);
+        builder.append(' ');
+        appendNumber(builder, e);
+        builder.append(' ');
+        appendNumber(builder, f);
+        builder.append(")\">\n");
+        flush(builder);
+    }
+
+    @Override
+    protected void openClipGroup(float[] points, int count) throws IOException {
+
+        String id = "clip" + mNextClipId++;
+
+        StringBuilder b = begin();
+        b.append("<clipPath id=\"").append(id).append("\"><path d=\"");
+        appendPathData(b, points, count, true);
+        b.append("\"/></clipPath>\n<g clip-path=\"url(#").append(id).append(")\">\n");
+        flush(b);
+    }
+
+    @Override
+    protected void closeGroups(int count) throws IOException {
+        for (int i = 0; i < count; i++)
+            mWriter.write("</g>\n");
+    }
+
+    private StringBuilder begin() {
+        mBuilder.setLength(0);
+        return mBuilder;
+    }
+
+    private void flush(StringBuilder builder) throws IOException {
+        mWriter.append(builder);
+    }
+
+    private static void appendPathData(StringBuilder b, float[] points, int count, boolean closed) {
+
+        for (int i = 0; i < count; i++) {
+
+            b.append(i == 0 ? 'M' : 'L');
+            appendNumber(b, points[i * 2]);
+            b.append(' ');
+            appendNumber(b, points[i * 2 + 1]);
+        }
+
+        if (closed)
+            b.append('Z');
+    }
+
+    private static void appendStyle(StringBuilder b, boolean fill, boolean stroke, Paint paint) {
+
+        if (fill)
+            appendColor(b, "fill", paint.getColor());
+        else
+            b.append(" fill=\"none\"");
+
+        if (!stroke)
+            return;
+
+        appendColor(b, "stroke", paint.getColor());
+
+        b.append(" stroke-width=\"");
+        // a width of 0 is a hairline on Android
+        appendNumber(b, paint.getStrokeWidth() > 0f ? paint.getStrokeWidth() : 1f);
+        b.append('"');
+
+        switch (paint.getStrokeCap()) {
+            case ROUND:
+                b.append(" stroke-linecap=\"round\"");
+                break;
+            case SQUARE:
+                b.append(" stroke-linecap=\"square\"");
+                break;
+            default:
+                break;
+        }
+
+        switch (paint.getStrokeJoin()) {
+            case ROUND:
+                b.append(" stroke-linejoin=\"round\"");
+                break;
+            case BEVEL:
+                b.append(" stroke-linejoin=\"bevel\"");
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static void appendColor(StringBuilder b, String attribute, int color) {
+
+        b.append(' ').append(attribute).append("=\"");
+        appendHexColor(b, color);
+        b.append('"');
+
+        int alpha = Color.alpha(color);
+
+        if (alpha < 255) {
+            b.append(' ').append(attribute).append("-opacity=\"");
+            appendNumber(b, alpha / 255f, 3);
+            b.append('"');
+        }
+    }
+
+    private static void appendEscaped(StringBuilder b, String text) {
+
+        for (int i = 0; i < text.length(); i++) {
+
+            char c = text.charAt(i);
+
+            switch (c) {
+                case '<':
+                    b.append("&lt;");
+                    break;
+                case '>':
+                    b.append("&gt;");
+                    break;
+                case '&':
+                    b.append("&amp;");
+                    break;
+                case '"':
+                    b.append("&quot;");
+                    break;
+                default:
+                    // control characters are not allowed in XML
+                    if (c >= 0x20 || c == '\t')
+                        b.append(c);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Passes the (ASCII) output of the base64 encoder on to the writer, closing it does not close
+     * the writer.
+     */
+    private static class WriterOutputStream extends OutputStream {
+
+        private final Writer mWriter;
+
+        WriterOutputStream(Writer writer) {
+            mWriter = writer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            mWriter.write(b & 0xff);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            for (int i = off; i < off + len; i++)
+                mWriter.write(b[i] & 0xff);
+        }
+    }
+}
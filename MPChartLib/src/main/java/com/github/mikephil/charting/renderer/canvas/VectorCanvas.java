@@ -0,0 +1,761 @@
+package com.github.mikephil.charting.renderer.canvas;
+
+import android.annotation.TargetApi;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Path;
+import android.graphics.PathMeasure;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.Region;
+import android.os.Build;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Canvas that does not rasterise anything, but translates the drawing commands of the chart
+ * renderers into the commands of a vector format and streams them out as they are issued. Only
+ * the current command is held in memory, the size of the document does not matter.
+ *
+ * Only the subset of the Canvas API used by the chart renderers is supported: lines, rects,
+ * circles, paths (flattened into polygons), text, bitmaps, save / restore, translate / scale /
+ * rotate and rect / path clipping. Paints are reduced to their color, stroke width and cap,
+ * shaders and path effects (e.g. dashes) are ignored.
+ *
+ * Implementations only write the actual format, see SvgCanvas and PdfCanvas. The document is
+ * completed by finish(), the canvas cannot be used afterwards.
+ */
+public abstract class VectorCanvas extends Canvas {
+
+    protected final int mWidth;
+    protected final int mHeight;
+
+    /**
+     * points closer to the previous point of a polyline than this (in pixels) are dropped
+     */
+    protected float mDecimationTolerance = 0f;
+
+    /**
+     * maximum deviation in pixels when curves of paths are flattened into polylines
+     */
+    protected float mFlatteningTolerance = 0.5f;
+
+    /**
+     * buffer the current polyline is collected in (x, y pairs)
+     */
+    protected float[] mPoints = new float[128];
+
+    /**
+     * number of groups opened (by transformations or clips) at every save level, index 0 holds the
+     * groups opened before the first save
+     */
+    private int[] mGroupCounts = new int[16];
+
+    private int mSaveCount = 1;
+
+    private final PathMeasure mPathMeasure = new PathMeasure();
+    private final float[] mPosBuffer = new float[2];
+
+    /**
+     * the first error that occurred while writing, Canvas methods cannot throw
+     */
+    protected IOException mError;
+
+    private boolean mFinished = false;
+
+    protected VectorCanvas(int width, int height) {
+
+        if (width <= 0 || height <= 0)
+            throw new IllegalArgumentException("width and height must be greater than 0");
+
+        mWidth = width;
+        mHeight = height;
+    }
+
+    /**
+     * Sets the distance in pixels below which consecutive points of lines and paths are merged,
+     * which keeps the documents of dense data small without visible difference. Default: 0 (off)
+     *
+     * @param tolerance
+     */
+    public void setDecimationTolerance(float tolerance) {
+        mDecimationTolerance = Math.max(tolerance, 0f);
+    }
+
+    public float getDecimationTolerance() {
+        return mDecimationTolerance;
+    }
+
+    /**
+     * Sets the maximum deviation in pixels allowed when curves are flattened. Default: 0.5
+     *
+     * @param tolerance
+     */
+    public void setFlatteningTolerance(float tolerance) {
+        mFlatteningTolerance = Math.max(tolerance, 0.05f);
+    }
+
+    public float getFlatteningTolerance() {
+        return mFlatteningTolerance;
+    }
+
+    /**
+     * Closes all open groups, completes the document and flushes it to the stream. The stream is
+     * not closed.
+     *
+     * @throws IOException if writing the document failed at any point
+     */
+    public void finish() throws IOException {
+
+        if (mFinished)
+            return;
+
+        restoreToCount(1);
+
+        try {
+            closeGroups(mGroupCounts[0]);
+            mGroupCounts[0] = 0;
+            writeEnd();
+        } catch (IOException e) {
+            onError(e);
+        }
+
+        mFinished = true;
+
+        if (mError != null)
+            throw mError;
+    }
+
+    protected void onError(IOException e) {
+        if (mError == null)
+            mError = e;
+    }
+
+    /**
+     * Writes the start of the document, must be called by the constructor of the implementation.
+     *
+     * @throws IOException
+     */
+    protected abstract void writeStart() throws IOException;
+
+    /**
+     * Completes the document.
+     *
+     * @throws IOException
+     */
+    protected abstract void writeEnd() throws IOException;
+
+    /**
+     * Writes a polyline or polygon.
+     *
+     * @param points x, y pairs
+     * @param count  number of points
+     * @param closed
+     * @param fill
+     * @param stroke
+     * @param paint
+     * @throws IOException
+     */
+    protected abstract void writePolyline(float[] points, int count, boolean closed, boolean fill,
+                                          boolean stroke, Paint paint) throws IOException;
+
+    protected abstract void writeRect(float left, float top, float right, float bottom,
+                                      boolean fill, boolean stroke, Paint paint) throws IOException;
+
+    protected abstract void writeCircle(float cx, float cy, float radius,
+                                        boolean fill, boolean stroke, Paint paint) throws IOException;
+
+    protected abstract void writeText(String text, float x, float y, Paint paint) throws IOException;
+
+    protected abstract void writeBitmap(Bitmap bitmap, float left, float top, Paint paint) throws IOException;
+
+    /**
+     * Opens a group with the given transformation applied (x' = a * x + c * y + e,
+     * y' = b * x + d * y + f), that is closed by closeGroups(...).
+     *
+     * @throws IOException
+     */
+    protected abstract void openTransformGroup(float a, float b, float c, float d, float e, float f)
+            throws IOException;
+
+    /**
+     * Opens a group clipped to the given polygon, that is closed by closeGroups(...).
+     *
+     * @param points x, y pairs
+     * @param count  number of points
+     * @throws IOException
+     */
+    protected abstract void openClipGroup(float[] points, int count) throws IOException;
+
+    protected abstract void closeGroups(int count) throws IOException;
+
+    @Override
+    public int getWidth() {
+        return mWidth;
+    }
+
+    @Override
+    public int getHeight() {
+        return mHeight;
+    }
+
+    @Override
+    public boolean isHardwareAccelerated() {
+        return false;
+    }
+
+    @Override
+    public int save() {
+
+        if (mSaveCount == mGroupCounts.length)
+            mGroupCounts = Arrays.copyOf(mGroupCounts, mGroupCounts.length * 2);
+
+        mGroupCounts[mSaveCount] = 0;
+        return mSaveCount++;
+    }
+
+    @Override
+    public int save(int saveFlags) {
+        return save();
+    }
+
+    @Override
+    public void restore() {
+
+        if (mSaveCount <= 1)
+            throw new IllegalStateException("Underflow in restore - more restores than saves");
+
+        mSaveCount--;
+
+        try {
+            closeGroups(mGroupCounts[mSaveCount]);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+
+        if (saveCount < 1)
+            throw new IllegalArgumentException("Underflow in restoreToCount - more restores than saves");
+
+        while (mSaveCount > saveCount)
+            restore();
+    }
+
+    @Override
+    public int getSaveCount() {
+        return mSaveCount;
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        if (dx != 0f || dy != 0f)
+            transform(1f, 0f, 0f, 1f, dx, dy);
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        if (sx != 1f || sy != 1f)
+            transform(sx, 0f, 0f, sy, 0f, 0f);
+    }
+
+    @Override
+    public void rotate(float degrees) {
+
+        if (degrees == 0f)
+            return;
+
+        double radians = Math.toRadians(degrees);
+        float cos = (float) Math.cos(radians);
+        float sin = (float) Math.sin(radians);
+
+        transform(cos, sin, -sin, cos, 0f, 0f);
+    }
+
+    private void transform(float a, float b, float c, float d, float e, float f) {
+
+        try {
+            openTransformGroup(a, b, c, d, e, f);
+            mGroupCounts[mSaveCount - 1]++;
+        } catch (IOException ex) {
+            onError(ex);
+        }
+    }
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom) {
+
+        ensurePointCapacity(4);
+
+        float[] points = mPoints;
+        points[0] = left;
+        points[1] = top;
+        points[2] = right;
+        points[3] = top;
+        points[4] = right;
+        points[5] = bottom;
+        points[6] = left;
+        points[7] = bottom;
+
+        clipPolygon(points, 4);
+        return right > left && bottom > top;
+    }
+
+    @Override
+    public boolean clipRect(RectF rect) {
+        return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+    }
+
+    @Override
+    public boolean clipRect(Rect rect) {
+        return clipRect(rect.left, rect.top, rect.right, rect.bottom);
+    }
+
+    @Override
+    public boolean clipRect(float left, float top, float right, float bottom, Region.Op op) {
+        return clipRect(left, top, right, bottom);
+    }
+
+    @Override
+    public boolean clipRect(RectF rect, Region.Op op) {
+        return clipRect(rect);
+    }
+
+    /**
+     * Clips to the outline of the given path. Paths with multiple contours are clipped to their
+     * first contour.
+     *
+     * @param path
+     * @return
+     */
+    @Override
+    public boolean clipPath(Path path) {
+
+        final int[] count = new int[1];
+
+        flattenPath(path, new ContourCallback() {
+            @Override
+            public void onContour(float[] points, int pointCount, boolean closed) {
+                if (count[0]++ == 0)
+                    clipPolygon(points, pointCount);
+            }
+        });
+
+        return count[0] > 0;
+    }
+
+    @Override
+    public boolean clipPath(Path path, Region.Op op) {
+        return clipPath(path);
+    }
+
+    private void clipPolygon(float[] points, int count) {
+
+        try {
+            openClipGroup(points, count);
+            mGroupCounts[mSaveCount - 1]++;
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawColor(int color) {
+
+        Paint paint = obtainColorPaint(color);
+
+        try {
+            writeRect(0f, 0f, mWidth, mHeight, true, false, paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawColor(int color, PorterDuff.Mode mode) {
+        drawColor(color);
+    }
+
+    private Paint mColorPaint;
+
+    private Paint obtainColorPaint(int color) {
+
+        if (mColorPaint == null)
+            mColorPaint = new Paint();
+
+        mColorPaint.setColor(color);
+        return mColorPaint;
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+
+        float[] points = mPoints;
+        points[0] = startX;
+        points[1] = startY;
+        points[2] = stopX;
+        points[3] = stopY;
+
+        try {
+            writePolyline(points, 2, false, false, true, paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    /**
+     * Segments that start where the previous one ended are joined into a single polyline, so that
+     * the line of a DataSet ends up as one element instead of one element per segment.
+     */
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+
+        int end = offset + (count / 4) * 4;
+        int pointCount = 0;
+
+        // end of the previous segment, the last point of the polyline can differ when decimating
+        float lastX = 0f;
+        float lastY = 0f;
+
+        for (int i = offset; i < end; i += 4) {
+
+            float x1 = pts[i];
+            float y1 = pts[i + 1];
+
+            if (pointCount > 0 && (x1 != lastX || y1 != lastY)) {
+
+                // the previous polyline has to end exactly at its last segment
+                mPoints[pointCount * 2 - 2] = lastX;
+                mPoints[pointCount * 2 - 1] = lastY;
+
+                flushLine(pointCount, paint);
+                pointCount = 0;
+            }
+
+            if (pointCount == 0)
+                pointCount = addPoint(pointCount, x1, y1, false);
+
+            lastX = pts[i + 2];
+            lastY = pts[i + 3];
+
+            pointCount = addPoint(pointCount, lastX, lastY, i + 4 >= end);
+        }
+
+        if (pointCount > 0)
+            flushLine(pointCount, paint);
+    }
+
+    private void flushLine(int pointCount, Paint paint) {
+
+        try {
+            writePolyline(mPoints, pointCount, false, false, true, paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    /**
+     * Appends a point to the polyline in mPoints, dropping it if it is closer than the
+     * decimation tolerance to the previous point (unless force is set).
+     *
+     * @return the new number of points
+     */
+    private int addPoint(int pointCount, float x, float y, boolean force) {
+
+        if (pointCount > 0 && mDecimationTolerance > 0f) {
+
+            float dx = x - mPoints[pointCount * 2 - 2];
+            float dy = y - mPoints[pointCount * 2 - 1];
+
+            if (dx * dx + dy * dy < mDecimationTolerance * mDecimationTolerance) {
+
+                // keep the end point of the line, replacing the previous point
+                if (force && pointCount > 1) {
+                    mPoints[pointCount * 2 - 2] = x;
+                    mPoints[pointCount * 2 - 1] = y;
+                }
+
+                return pointCount;
+            }
+        }
+
+        ensurePointCapacity(pointCount + 1);
+
+        mPoints[pointCount * 2] = x;
+        mPoints[pointCount * 2 + 1] = y;
+
+        return pointCount + 1;
+    }
+
+    private void ensurePointCapacity(int pointCount) {
+        if (pointCount * 2 > mPoints.length)
+            mPoints = Arrays.copyOf(mPoints, Math.max(pointCount * 2, mPoints.length * 2));
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+
+        try {
+            writeRect(left, top, right, bottom, isFill(paint), isStroke(paint), paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawRect(RectF rect, Paint paint) {
+        drawRect(rect.left, rect.top, rect.right, rect.bottom, paint);
+    }
+
+    @Override
+    public void drawRect(Rect r, Paint paint) {
+        drawRect(r.left, r.top, r.right, r.bottom, paint);
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+
+        try {
+            writeCircle(cx, cy, radius, isFill(paint), isStroke(paint), paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawPath(Path path, final Paint paint) {
+
+        final boolean fill = isFill(paint);
+        final boolean stroke = isStroke(paint);
+
+        flattenPath(path, new ContourCallback() {
+            @Override
+            public void onContour(float[] points, int pointCount, boolean closed) {
+
+                try {
+                    writePolyline(points, pointCount, closed, fill, stroke, paint);
+                } catch (IOException e) {
+                    onError(e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+
+        try {
+            writeBitmap(bitmap, left, top, paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, Paint paint) {
+
+        if (text == null || text.length() == 0)
+            return;
+
+        try {
+            writeText(text, x, y, paint);
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void drawText(String text, int start, int end, float x, float y, Paint paint) {
+        drawText(text.substring(start, end), x, y, paint);
+    }
+
+    @Override
+    public void drawText(CharSequence text, int start, int end, float x, float y, Paint paint) {
+        drawText(text.subSequence(start, end).toString(), x, y, paint);
+    }
+
+    @Override
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+        drawText(new String(text, index, count), x, y, paint);
+    }
+
+    /**
+     * Receives the flattened contours of a path.
+     */
+    protected interface ContourCallback {
+
+        void onContour(float[] points, int pointCount, boolean closed);
+    }
+
+    /**
+     * Flattens the given path into polylines, one per contour.
+     *
+     * @param path
+     * @param callback
+     */
+    protected void flattenPath(Path path, ContourCallback callback) {
+
+        if (Build.VERSION.SDK_INT >= 26)
+            flattenPathApproximate(path, callback);
+        else
+            flattenPathMeasure(path, callback);
+    }
+
+    /**
+     * Flattens the path with Path.approximate(...), which keeps the vertices of straight segments
+     * and only subdivides curves.
+     */
+    @TargetApi(26)
+    private void flattenPathApproximate(Path path, ContourCallback callback) {
+
+        // (fraction, x, y) triples, a repeated fraction marks the start of a new contour
+        float[] approximation = path.approximate(mFlatteningTolerance);
+
+        int pointCount = 0;
+        float lastFraction = -1f;
+
+        for (int i = 0; i < approximation.length; i += 3) {
+
+            float fraction = approximation[i];
+
+            if (fraction == lastFraction && pointCount > 0) {
+                emitContour(pointCount, callback);
+                pointCount = 0;
+            }
+
+            pointCount = addPoint(pointCount, approximation[i + 1], approximation[i + 2],
+                    i + 3 >= approximation.length || approximation[i + 3] == fraction);
+            lastFraction = fraction;
+        }
+
+        if (pointCount > 0)
+            emitContour(pointCount, callback);
+    }
+
+    private void emitContour(int pointCount, ContourCallback callback) {
+
+        // a contour that ends where it starts is closed
+        boolean closed = pointCount > 2
+                && mPoints[0] == mPoints[pointCount * 2 - 2]
+                && mPoints[1] == mPoints[pointCount * 2 - 1];
+
+        callback.onContour(mPoints, closed ? pointCount - 1 : pointCount, closed);
+    }
+
+    /**
+     * Flattens the path by sampling every contour with a PathMeasure in steps of the flattening
+     * tolerance.
+     */
+    private void flattenPathMeasure(Path path, ContourCallback callback) {
+
+        PathMeasure measure = mPathMeasure;
+        measure.setPath(path, false);
+
+        float step = Math.max(mFlatteningTolerance * 4f, 1f);
+
+        do {
+
+            float length = measure.getLength();
+            if (length <= 0f)
+                continue;
+
+            int pointCount = 0;
+
+            for (float distance = 0f; ; distance += step) {
+
+                boolean last = distance >= length;
+                measure.getPosTan(last ? length : distance, mPosBuffer, null);
+
+                pointCount = addPoint(pointCount, mPosBuffer[0], mPosBuffer[1], last);
+
+                if (last)
+                    break;
+            }
+
+            callback.onContour(mPoints, pointCount, measure.isClosed());
+
+        } while (measure.nextContour());
+    }
+
+    protected static boolean isFill(Paint paint) {
+        return paint.getStyle() != Paint.Style.STROKE;
+    }
+
+    protected static boolean isStroke(Paint paint) {
+        return paint.getStyle() != Paint.Style.FILL;
+    }
+
+    /**
+     * Appends the given number with at most the given number of decimals, without going through
+     * the (slow and locale dependent) String.format(...).
+     *
+     * @param builder
+     * @param value
+     * @param decimals 0-6
+     */
+    protected static void appendNumber(StringBuilder builder, double value, int decimals) {
+
+        if (Double.isNaN(value) || Double.isInfinite(value))
+            value = 0.0;
+
+        long factor = 1;
+        for (int i = 0; i < decimals; i++)
+            factor *= 10;
+
+        long scaled = Math.round(value * factor);
+
+        if (scaled < 0) {
+            builder.append('-');
+            scaled = -scaled;
+        }
+
+        builder.append(scaled / factor);
+
+        long fraction = scaled % factor;
+        if (fraction == 0)
+            return;
+
+        builder.append('.');
+
+        for (long f = factor / 10; f > fraction; f /= 10)
+            builder.append('0');
+
+        while (fraction % 10 == 0)
+            fraction /= 10;
+
+        builder.append(fraction);
+    }
+
+    protected static void appendNumber(StringBuilder builder, float value) {
+        appendNumber(builder, value, 2);
+    }
+
+    /**
+     * Appends the rgb part of the given color as #rrggbb.
+     *
+     * @param builder
+     * @param color
+     */
+    protected static void appendHexColor(StringBuilder builder, int color) {
+
+        builder.append('#');
+
+        for (int shift = 20; shift >= 0; shift -= 4)
+            builder.append(Character.forDigit((color >> shift) & 0xf, 16));
+    }
+
+    protected static float getAlpha(Paint paint) {
+        return Color.alpha(paint.getColor()) / 255f;
+    }
+}
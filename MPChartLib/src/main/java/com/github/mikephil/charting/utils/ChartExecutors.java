@@ -0,0 +1,95 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The thread pools shared by everything in the library that works in the background: a pool
+ * sized to the number of available cores for computations (parallel rendering, batch export,
+ * bounds calculation, density binning) and a single thread for I/O (prefetching pages). The
+ * threads are daemon threads and created on first use.
+ *
+ * Tasks running on the compute pool must not wait for other tasks of the compute pool, all
+ * threads could end up waiting. Code that splits its work into parallel tasks checks
+ * isComputeThread() and does the work sequentially when it already runs on the pool.
+ */
+public final class ChartExecutors {
+
+    private static ExecutorService sComputeExecutor;
+
+    private static ExecutorService sIoExecutor;
+
+    private ChartExecutors() {
+    }
+
+    /**
+     * Returns the pool for computations, sized to the number of available cores.
+     *
+     * @return
+     */
+    public static synchronized ExecutorService getComputeExecutor() {
+
+        if (sComputeExecutor == null) {
+            sComputeExecutor = Executors.newFixedThreadPool(getComputeThreadCount(), new ThreadFactory() {
+
+                private int mCount = 0;
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new ComputeThread(r, "MPAndroidChart-compute-" + mCount++);
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+
+        return sComputeExecutor;
+    }
+
+    /**
+     * Returns the single thread for I/O, tasks are executed in order.
+     *
+     * @return
+     */
+    public static synchronized ExecutorService getIoExecutor() {
+
+        if (sIoExecutor == null) {
+            sIoExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "MPAndroidChart-io");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+
+        return sIoExecutor;
+    }
+
+    /**
+     * Returns the number of threads of the compute pool.
+     *
+     * @return
+     */
+    public static int getComputeThreadCount() {
+        return Math.max(Runtime.getRuntime().availableProcessors(), 1);
+    }
+
+    /**
+     * Returns true if the calling thread belongs to the compute pool.
+     *
+     * @return
+     */
+    public static boolean isComputeThread() {
+        return Thread.currentThread() instanceof ComputeThread;
+    }
+
+    private static class ComputeThread extends Thread {
+
+        ComputeThread(Runnable target, String name) {
+            super(target, name);
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package com.github.mikephil.charting.utils;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Counts the entries of a ScatterDataSet in bins of a fixed pixel size covering the content rect,
+ * either square cells or hexagons (pointy top, odd rows shifted by half a hexagon). For every bin
+ * the number of entries and the sums of their values are kept, so the mean values of a bin are
+ * available for highlighting.
+ *
+ * Only the given index range of entries is binned, e.g. the visible one. The entries are binned in
+ * a single pass, large ranges are split into chunks that are binned in parallel into separate
+ * arrays and merged afterwards. As long as the matrix, the content rect, the bin layout and the
+ * start of the range do not change, entries appended to the range are added to the existing bins
+ * without binning the others again.
+ */
+public class DensityGrid {
+
+    /**
+     * ranges with at least this many entries are binned in parallel
+     */
+    private static final int PARALLEL_THRESHOLD = 50000;
+
+    private static final float SQRT3 = (float) Math.sqrt(3.0);
+
+    private int mColumns;
+    private int mRows;
+
+    private int[] mCounts = new int[0];
+    private double[] mSumX = new double[0];
+    private double[] mSumY = new double[0];
+
+    private int mMaxCount = 0;
+
+    private boolean mHexagonal;
+
+    /**
+     * width of a bin in pixels, the radius of a hexagon is mBinSize / sqrt(3)
+     */
+    private float mBinSize;
+    private float mHexRadius;
+
+    private float mLeft;
+    private float mTop;
+    private float mWidth;
+    private float mHeight;
+
+    /**
+     * the affine part of the value to pixel matrix the bins were calculated with
+     */
+    private final float[] mMatrix = new float[6];
+
+    private float mPhaseY;
+
+    private IScatterDataSet mDataSet;
+
+    /**
+     * the index range of the entries binned so far (to exclusive) and the values of the last one,
+     * an append is only assumed if the last binned entry did not change
+     */
+    private int mBinnedFrom = 0;
+    private int mBinnedTo = 0;
+    private float mLastX;
+    private float mLastY;
+
+    /**
+     * the arrays of the parallel chunks, reused between updates
+     */
+    private List<Chunk> mChunks = new ArrayList<Chunk>();
+
+    /**
+     * Brings the bins up to date with the given range of entries and transformation. The bins
+     * are calculated again if anything but the end of the range changed, otherwise only the
+     * entries appended since the last update are added.
+     *
+     * @param set
+     * @param matrix     the values of the value to pixel matrix (see Matrix.getValues(...))
+     * @param left       the content rect
+     * @param top
+     * @param right
+     * @param bottom
+     * @param mode       GRID or HEXAGON
+     * @param binSize    the width of a bin in pixels
+     * @param phaseY
+     * @param from       the index of the first entry to bin, e.g. the first visible one
+     * @param to         the index after the last entry to bin
+     * @return true if the bins changed
+     */
+    public boolean update(IScatterDataSet set, float[] matrix, float left, float top, float right, float bottom,
+                          ScatterDataSet.DensityMode mode, float binSize, float phaseY, int from, int to) {
+
+        to = Math.max(to, from);
+
+        boolean hexagonal = mode == ScatterDataSet.DensityMode.HEXAGON;
+
+        boolean layoutChanged = set != mDataSet || hexagonal != mHexagonal || binSize != mBinSize
+                || left != mLeft || top != mTop || right - left != mWidth || bottom - top != mHeight
+                || phaseY != mPhaseY || !isSameMatrix(matrix);
+
+        if (layoutChanged) {
+
+            mDataSet = set;
+            mHexagonal = hexagonal;
+            mPhaseY = phaseY;
+            System.arraycopy(matrix, 0, mMatrix, 0, 6);
+            setLayout(left, top, right - left, bottom - top, binSize);
+
+        } else if (from == mBinnedFrom && to == mBinnedTo && isLastEntryUnchanged(set)) {
+            return false;
+
+        } else if (from != mBinnedFrom || to < mBinnedTo || !isLastEntryUnchanged(set)) {
+            clear();
+        }
+
+        if (mBinnedTo == mBinnedFrom)
+            mBinnedFrom = mBinnedTo = from;
+
+        bin(set, mBinnedTo, to);
+
+        mBinnedTo = to;
+
+        if (to > from) {
+            Entry e = set.getEntryForIndex(to - 1);
+            mLastX = e.getX();
+            mLastY = e.getY();
+        }
+
+        return true;
+    }
+
+    /**
+     * Forgets all bins, the next update calculates them again.
+     */
+    public void reset() {
+        mDataSet = null;
+        clear();
+    }
+
+    private boolean isSameMatrix(float[] matrix) {
+
+        for (int i = 0; i < 6; i++) {
+            if (matrix[i] != mMatrix[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private boolean isLastEntryUnchanged(IScatterDataSet set) {
+
+        if (mBinnedTo == mBinnedFrom)
+            return true;
+
+        if (mBinnedTo > set.getEntryCount())
+            return false;
+
+        Entry e = set.getEntryForIndex(mBinnedTo - 1);
+        return e.getX() == mLastX && e.getY() == mLastY;
+    }
+
+    private void setLayout(float left, float top, float width, float height, float binSize) {
+
+        mLeft = left;
+        mTop = top;
+        mWidth = width;
+        mHeight = height;
+        mBinSize = binSize;
+        mHexRadius = binSize / SQRT3;
+
+        if (mHexagonal) {
+            mColumns = (int) Math.ceil(width / binSize) + 1;
+            mRows = (int) Math.ceil(height / (1.5f * mHexRadius)) + 1;
+        } else {
+            mColumns = Math.max((int) Math.ceil(width / binSize), 1);
+            mRows = Math.max((int) Math.ceil(height / binSize), 1);
+        }
+
+        int size = mColumns * mRows;
+
+        if (mCounts.length < size) {
+            mCounts = new int[size];
+            mSumX = new double[size];
+            mSumY = new double[size];
+        }
+
+        clear();
+    }
+
+    private void clear() {
+
+        int size = mColumns * mRows;
+
+        Arrays.fill(mCounts, 0, size, 0);
+        Arrays.fill(mSumX, 0, size, 0.0);
+        Arrays.fill(mSumY, 0, size, 0.0);
+
+        mMaxCount = 0;
+        mBinnedFrom = 0;
+        mBinnedTo = 0;
+    }
+
+    /**
+     * Adds the entries of the given range to the bins.
+     */
+    private void bin(final IScatterDataSet set, int from, int to) {
+
+        int count = to - from;
+
+        if (count <= 0)
+            return;
+
+        int threads = Math.min(ChartExecutors.getComputeThreadCount(), 4);
+
+        if (count < PARALLEL_THRESHOLD || threads < 2 || ChartExecutors.isComputeThread()) {
+            binRange(set, from, to, mCounts, mSumX, mSumY);
+            updateMaxCount();
+            return;
+        }
+
+        int size = mColumns * mRows;
+        int chunkSize = (count + threads - 1) / threads;
+
+        List<Future<?>> futures = new ArrayList<Future<?>>(threads);
+
+        for (int i = 0; i < threads; i++) {
+
+            if (mChunks.size() == i)
+                mChunks.add(new Chunk());
+
+            final Chunk chunk = mChunks.get(i);
+            chunk.prepare(size);
+
+            final int chunkFrom = from + i * chunkSize;
+            final int chunkTo = Math.min(chunkFrom + chunkSize, to);
+
+            futures.add(ChartExecutors.getComputeExecutor().submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    binRange(set, chunkFrom, chunkTo, chunk.counts, chunk.sumX, chunk.sumY);
+                    return null;
+                }
+            }));
+        }
+
+        for (Future<?> future : futures)
+            await(future);
+
+        for (int i = 0; i < threads; i++) {
+
+            Chunk chunk = mChunks.get(i);
+
+            for (int bin = 0; bin < size; bin++) {
+
+                if (chunk.counts[bin] == 0)
+                    continue;
+
+                mCounts[bin] += chunk.counts[bin];
+                mSumX[bin] += chunk.sumX[bin];
+                mSumY[bin] += chunk.sumY[bin];
+            }
+        }
+
+        updateMaxCount();
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while binning entries", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Binning entries failed", e.getCause());
+        }
+    }
+
+    /**
+     * Bins the entries of the given range into the given arrays, only reads the layout of the grid
+     * so it can run on several threads at once.
+     */
+    private void binRange(IScatterDataSet set, int from, int to, int[] counts, double[] sumX, double[] sumY) {
+
+        final float[] m = mMatrix;
+
+        for (int i = from; i < to; i++) {
+
+            Entry e = set.getEntryForIndex(i);
+
+            float x = e.getX();
+            float y = e.getY() * mPhaseY;
+
+            float px = m[0] * x + m[1] * y + m[2] - mLeft;
+            float py = m[3] * x + m[4] * y + m[5] - mTop;
+
+            // also skips NaN
+            if (!(px >= 0f && px < mWidth && py >= 0f && py < mHeight))
+                continue;
+
+            int bin = getBinIndexRelative(px, py);
+
+            counts[bin]++;
+            sumX[bin] += e.getX();
+            sumY[bin] += e.getY();
+        }
+    }
+
+    private void updateMaxCount() {
+
+        int max = 0;
+        int size = mColumns * mRows;
+
+        for (int i = 0; i < size; i++) {
+            if (mCounts[i] > max)
+                max = mCounts[i];
+        }
+
+        mMaxCount = max;
+    }
+
+    /**
+     * Returns the bin of the given pixel position relative to the top left of the content rect.
+     */
+    private int getBinIndexRelative(float px, float py) {
+
+        int column;
+        int row;
+
+        if (mHexagonal) {
+
+            // axial coordinates, rounded to the closest hexagon in cube coordinates
+            float q = (SQRT3 / 3f * px - py / 3f) / mHexRadius;
+            float r = (2f / 3f * py) / mHexRadius;
+            float s = -q - r;
+
+            int rq = Math.round(q);
+            int rr = Math.round(r);
+            int rs = Math.round(s);
+
+            float dq = Math.abs(rq - q);
+            float dr = Math.abs(rr - r);
+            float ds = Math.abs(rs - s);
+
+            if (dq > dr && dq > ds)
+                rq = -rr - rs;
+            else if (dr > ds)
+                rr = -rq - rs;
+
+            row = rr;
+            column = rq + (rr - (rr & 1)) / 2;
+
+        } else {
+            column = (int) (px / mBinSize);
+            row = (int) (py / mBinSize);
+        }
+
+        column = Math.min(Math.max(column, 0), mColumns - 1);
+        row = Math.min(Math.max(row, 0), mRows - 1);
+
+        return row * mColumns + column;
+    }
+
+    /**
+     * Returns the bin at the given pixel position, -1 if it is outside of the content rect.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    public int getBinIndex(float x, float y) {
+
+        float px = x - mLeft;
+        float py = y - mTop;
+
+        if (mColumns == 0 || !(px >= 0f && px < mWidth && py >= 0f && py < mHeight))
+            return -1;
+
+        return getBinIndexRelative(px, py);
+    }
+
+    /**
+     * Writes the pixel position of the center of the given bin into the given array.
+     *
+     * @param bin
+     * @param out
+     */
+    public void getBinCenter(int bin, float[] out) {
+
+        int column = bin % mColumns;
+        int row = bin / mColumns;
+
+        if (mHexagonal) {
+            out[0] = mLeft + mBinSize * (column + 0.5f * (row & 1));
+            out[1] = mTop + 1.5f * mHexRadius * row;
+        } else {
+            out[0] = mLeft + mBinSize * (column + 0.5f);
+            out[1] = mTop + mBinSize * (row + 0.5f);
+        }
+    }
+
+    public int getColumnCount() {
+        return mColumns;
+    }
+
+    public int getRowCount() {
+        return mRows;
+    }
+
+    /**
+     * Returns the number of bins, columns * rows.
+     *
+     * @return
+     */
+    public int getBinCount() {
+        return mColumns * mRows;
+    }
+
+    public boolean isHexagonal() {
+        return mHexagonal;
+    }
+
+    /**
+     * Returns the width of a bin in pixels.
+     *
+     * @return
+     */
+    public float getBinSize() {
+        return mBinSize;
+    }
+
+    /**
+     * Returns the radius of a hexagon in pixels.
+     *
+     * @return
+     */
+    public float getHexRadius() {
+        return mHexRadius;
+    }
+
+    public int getCount(int bin) {
+        return mCounts[bin];
+    }
+
+    /**
+     * Returns the highest count of all bins.
+     *
+     * @return
+     */
+    public int getMaxCount() {
+        return mMaxCount;
+    }
+
+    /**
+     * Returns the mean x-value of the entries in the given bin.
+     *
+     * @param bin
+     * @return
+     */
+    public float getMeanX(int bin) {
+        return mCounts[bin] == 0 ? Float.NaN : (float) (mSumX[bin] / mCounts[bin]);
+    }
+
+    /**
+     * Returns the mean y-value of the entries in the given bin.
+     *
+     * @param bin
+     * @return
+     */
+    public float getMeanY(int bin) {
+        return mCounts[bin] == 0 ? Float.NaN : (float) (mSumY[bin] / mCounts[bin]);
+    }
+
+    /**
+     * Returns the number of entries binned by the last update.
+     *
+     * @return
+     */
+    public int getBinnedEntryCount() {
+        return mBinnedTo - mBinnedFrom;
+    }
+
+    private static class Chunk {
+
+        int[] counts = new int[0];
+        double[] sumX = new double[0];
+        double[] sumY = new double[0];
+
+        void prepare(int size) {
+
+            if (counts.length < size) {
+                counts = new int[size];
+                sumX = new double[size];
+                sumY = new double[size];
+            } else {
+                Arrays.fill(counts, 0, size, 0);
+                Arrays.fill(sumX, 0, size, 0.0);
+                Arrays.fill(sumY, 0, size, 0.0);
+            }
+        }
+    }
+}
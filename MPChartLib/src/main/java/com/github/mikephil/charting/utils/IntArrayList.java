@@ -0,0 +1,161 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List of ints backed by a primitive int array. It implements List<Integer> for compatibility,
+ * performance critical code should use the primitive accessors getInt(...) and addInt(...) which
+ * do not box.
+ */
+public class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+
+    /**
+     * the values, only the first mSize are valid
+     */
+    protected int[] mValues;
+
+    /**
+     * number of values in the list
+     */
+    protected int mSize;
+
+    public IntArrayList() {
+        this(4);
+    }
+
+    public IntArrayList(int capacity) {
+        mValues = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Creates a list containing a copy of the given values.
+     *
+     * @param values
+     */
+    public IntArrayList(int[] values) {
+        mValues = Arrays.copyOf(values, Math.max(values.length, 1));
+        mSize = values.length;
+    }
+
+    /**
+     * Creates a list containing the given values.
+     *
+     * @param values
+     */
+    public IntArrayList(Collection<Integer> values) {
+        this(values.size());
+        for (Integer value : values)
+            addInt(value);
+    }
+
+    /**
+     * Returns the value at the given index without boxing.
+     *
+     * @param index
+     * @return
+     */
+    public int getInt(int index) {
+        if (index >= mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+        return mValues[index];
+    }
+
+    /**
+     * Replaces the value at the given index without boxing.
+     *
+     * @param index
+     * @param value
+     * @return the previous value
+     */
+    public int setInt(int index, int value) {
+        int previous = getInt(index);
+        mValues[index] = value;
+        return previous;
+    }
+
+    /**
+     * Appends the given value without boxing.
+     *
+     * @param value
+     */
+    public void addInt(int value) {
+        ensureCapacity(mSize + 1);
+        mValues[mSize++] = value;
+        modCount++;
+    }
+
+    /**
+     * Removes all values from the given size on.
+     *
+     * @param size
+     */
+    public void truncate(int size) {
+
+        if (size < 0 || size > mSize)
+            throw new IndexOutOfBoundsException("Size: " + size + ", Size: " + mSize);
+
+        mSize = size;
+        modCount++;
+    }
+
+    /**
+     * Returns a copy of the values as an int array.
+     *
+     * @return
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(mValues, mSize);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(int index, Integer value) {
+        return setInt(index, value);
+    }
+
+    @Override
+    public void add(int index, Integer value) {
+
+        if (index < 0 || index > mSize)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+
+        ensureCapacity(mSize + 1);
+        System.arraycopy(mValues, index, mValues, index + 1, mSize - index);
+        mValues[index] = value;
+        mSize++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+
+        int previous = getInt(index);
+        System.arraycopy(mValues, index + 1, mValues, index, mSize - index - 1);
+        mSize--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        mSize = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > mValues.length)
+            mValues = Arrays.copyOf(mValues, Math.max(capacity, mValues.length * 2));
+    }
+}
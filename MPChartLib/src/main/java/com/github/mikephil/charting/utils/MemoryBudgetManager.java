@@ -0,0 +1,311 @@
+package com.github.mikephil.charting.utils;
+
+import android.annotation.TargetApi;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+
+import com.github.mikephil.charting.charts.Chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps track of the memory held by the charts of the process: recorded layers and image caches,
+ * drawing bitmaps, render buffers and the reserves of the object pools. The memory is released in
+ * this order when the system asks the app to trim its memory, or when the total exceeds the
+ * budget set with setBudget(...). Everything that is released is created again when the charts
+ * draw the next time, trimming does not redraw them.
+ *
+ * Charts register themselves while they are attached to a window and report each drawn frame,
+ * after which the budget is checked. The bitmaps and buffers of the chart that was just drawn are
+ * kept, it would allocate them again with its next frame. If the charts need more than the budget
+ * to draw, the budget stays exceeded: after a frame exceeded it, it is only checked again after a
+ * frame once the charts hold more memory than at that point, so that charts drawing continuously
+ * do not release and reallocate their memory with every frame. The manager is only used on the UI
+ * thread.
+ */
+public class MemoryBudgetManager {
+
+    /**
+     * recorded data layers, image caches and layer bitmaps, cheap to rebuild
+     */
+    public static final int PRIORITY_CACHES = 0;
+
+    /**
+     * bitmaps the renderers draw into
+     */
+    public static final int PRIORITY_BITMAPS = 1;
+
+    /**
+     * buffers holding the transformed positions of the entries
+     */
+    public static final int PRIORITY_BUFFERS = 2;
+
+    /**
+     * reserves of the object pools
+     */
+    public static final int PRIORITY_POOLS = 3;
+
+    /**
+     * estimated size of a pooled object in bytes
+     */
+    private static final int POOLED_OBJECT_SIZE = 32;
+
+    private static MemoryBudgetManager sInstance;
+
+    public static synchronized MemoryBudgetManager getInstance() {
+
+        if (sInstance == null)
+            sInstance = new MemoryBudgetManager();
+
+        return sInstance;
+    }
+
+    private final WeakHashMap<Chart<?>, Boolean> mCharts = new WeakHashMap<Chart<?>, Boolean>();
+
+    private final List<Chart<?>> mChartsBuffer = new ArrayList<Chart<?>>();
+
+    private long mBudget = Long.MAX_VALUE;
+
+    /**
+     * the total size that exceeded the budget after the last drawn frame, 0 if within the budget
+     */
+    private long mExceededSize = 0;
+
+    private boolean mCallbacksRegistered = false;
+
+    private MemoryBudgetManager() {
+    }
+
+    /**
+     * Starts tracking the given chart and, with the first chart, registers for the memory
+     * callbacks of the application.
+     *
+     * @param chart
+     */
+    public void register(Chart<?> chart) {
+
+        mCharts.put(chart, Boolean.TRUE);
+
+        if (!mCallbacksRegistered && android.os.Build.VERSION.SDK_INT >= 14) {
+
+            Context context = chart.getContext().getApplicationContext();
+
+            if (context != null) {
+                context.registerComponentCallbacks(new TrimCallbacks(this));
+                mCallbacksRegistered = true;
+            }
+        }
+
+        checkBudget();
+    }
+
+    public void unregister(Chart<?> chart) {
+        mCharts.remove(chart);
+    }
+
+    /**
+     * Sets the number of bytes the charts may hold before caches and buffers are released, in
+     * priority order. Default: no budget
+     *
+     * @param bytes
+     */
+    public void setBudget(long bytes) {
+        mBudget = bytes;
+        checkBudget();
+    }
+
+    public long getBudget() {
+        return mBudget;
+    }
+
+    /**
+     * Returns the number of bytes held in the given priority, by all tracked charts.
+     *
+     * @param priority one of the PRIORITY_... constants
+     * @return
+     */
+    public long getMemorySize(int priority) {
+
+        if (priority == PRIORITY_POOLS)
+            return (long) ObjectPool.getTotalPoolCapacity() * POOLED_OBJECT_SIZE;
+
+        long size = 0;
+
+        for (Chart<?> chart : getCharts())
+            size += chart.getMemorySize(priority);
+
+        return size;
+    }
+
+    /**
+     * Returns the total number of bytes held by all tracked charts and the object pools.
+     *
+     * @return
+     */
+    public long getMemorySize() {
+
+        long size = 0;
+
+        for (int priority = PRIORITY_CACHES; priority <= PRIORITY_POOLS; priority++)
+            size += getMemorySize(priority);
+
+        return size;
+    }
+
+    /**
+     * Releases the memory of all priorities up to the given one.
+     *
+     * @param maxPriority
+     * @return the number of bytes released
+     */
+    public long trim(int maxPriority) {
+
+        long released = 0;
+
+        for (int priority = PRIORITY_CACHES; priority <= maxPriority; priority++)
+            released += trimPriority(priority, null);
+
+        return released;
+    }
+
+    /**
+     * Called by the charts after each frame, the renderers may have allocated caches, bitmaps or
+     * buffers while drawing it. Charts that are not tracked (e.g. drawn off-screen on another
+     * thread) are ignored.
+     *
+     * @param chart
+     */
+    public void onFrameDrawn(Chart<?> chart) {
+
+        if (mBudget == Long.MAX_VALUE || !mCharts.containsKey(chart))
+            return;
+
+        long size = getMemorySize();
+
+        if (size <= mBudget) {
+            mExceededSize = 0;
+            return;
+        }
+
+        // nothing was allocated since the budget was exceeded the last time
+        if (size <= mExceededSize)
+            return;
+
+        mExceededSize = size;
+        trimToBudget(size, chart);
+    }
+
+    /**
+     * Releases memory in priority order until the total is within the budget.
+     */
+    public void checkBudget() {
+
+        if (mBudget == Long.MAX_VALUE)
+            return;
+
+        mExceededSize = 0;
+        trimToBudget(getMemorySize(), null);
+    }
+
+    /**
+     * Releases memory in priority order until the given total is within the budget, without the
+     * bitmaps and buffers of the given chart.
+     */
+    private void trimToBudget(long size, Chart<?> drawnChart) {
+
+        for (int priority = PRIORITY_CACHES; priority <= PRIORITY_POOLS && size > mBudget; priority++)
+            size -= trimPriority(priority, drawnChart);
+    }
+
+    private long trimPriority(int priority, Chart<?> drawnChart) {
+
+        if (priority == PRIORITY_POOLS) {
+            long size = getMemorySize(PRIORITY_POOLS);
+            ObjectPool.trimAll();
+            return size - getMemorySize(PRIORITY_POOLS);
+        }
+
+        long released = 0;
+
+        for (Chart<?> chart : getCharts()) {
+
+            if (chart == drawnChart && priority >= PRIORITY_BITMAPS)
+                continue;
+
+            released += chart.trimMemory(priority);
+        }
+
+        return released;
+    }
+
+    /**
+     * Returns a snapshot of the tracked charts.
+     */
+    private List<Chart<?>> getCharts() {
+        mChartsBuffer.clear();
+        mChartsBuffer.addAll(mCharts.keySet());
+        return mChartsBuffer;
+    }
+
+    /**
+     * Releases memory according to the given level of ComponentCallbacks2.onTrimMemory(...): the
+     * caches while the app is running and memory gets tight, more the tighter it gets, and
+     * everything once the UI is hidden.
+     *
+     * @param level
+     */
+    public void onTrimMemory(int level) {
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+            trim(PRIORITY_POOLS);
+        else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL)
+            trim(PRIORITY_BUFFERS);
+        else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+            trim(PRIORITY_BITMAPS);
+        else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE)
+            trim(PRIORITY_CACHES);
+    }
+
+    /**
+     * Returns the number of bytes used by the pixels of the given bitmap, 0 if it is null or
+     * recycled.
+     *
+     * @param bitmap
+     * @return
+     */
+    public static long getBitmapSize(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled())
+            return 0;
+
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+
+    @TargetApi(14)
+    private static class TrimCallbacks implements ComponentCallbacks2 {
+
+        private final MemoryBudgetManager mManager;
+
+        TrimCallbacks(MemoryBudgetManager manager) {
+            mManager = manager;
+        }
+
+        @Override
+        public void onTrimMemory(int level) {
+            mManager.onTrimMemory(level);
+        }
+
+        @Override
+        public void onLowMemory() {
+            mManager.trim(PRIORITY_POOLS);
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.utils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -19,7 +20,13 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
 
     private static int ids = 0;
 
+    /**
+     * all pools created, for trimming them together
+     */
+    private static final List<ObjectPool> sPools = new ArrayList<ObjectPool>();
+
     private int poolId;
+    private int initialCapacity;
     private int desiredCapacity;
     private Object[] objects;
     private int objectsPointer;
@@ -48,6 +55,8 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         result.poolId = ids;
         ids++;
 
+        sPools.add(result);
+
         return result;
     }
 
@@ -55,6 +64,7 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         if(withCapacity <= 0){
             throw new IllegalArgumentException("Object Pool must be instantiated with a capacity greater than 0!");
         }
+        this.initialCapacity = withCapacity;
         this.desiredCapacity = withCapacity;
         this.objects = new Object[this.desiredCapacity];
         this.objectsPointer = 0;
@@ -197,6 +207,45 @@ public class ObjectPool<T extends ObjectPool.Poolable> {
         return this.objects.length;
     }
 
+    /**
+     * Shrinks the pool to its initial capacity and drops the pooled objects that are not needed
+     * to serve the next get() without refilling. Objects are created again on demand.
+     */
+    public synchronized void trim(){
+        int keep = Math.min(getPoolCount(), Math.max(1, (int) (initialCapacity * replenishPercentage)));
+
+        Object[] temp = new Object[initialCapacity];
+        for(int i = 0 ; i < keep ; i++){
+            temp[i] = this.objects[i];
+        }
+
+        this.objects = temp;
+        this.desiredCapacity = initialCapacity;
+        this.objectsPointer = keep - 1;
+    }
+
+    /**
+     * Trims all pools.
+     */
+    public static synchronized void trimAll(){
+        for(ObjectPool pool : sPools){
+            pool.trim();
+        }
+    }
+
+    /**
+     * Returns the sum of the capacities of all pools.
+     *
+     * @return
+     */
+    public static synchronized int getTotalPoolCapacity(){
+        int capacity = 0;
+        for(ObjectPool pool : sPools){
+            capacity += pool.getPoolCapacity();
+        }
+        return capacity;
+    }
+
     /**
      * Returns the number of objects remaining in the pool, for diagnostic purposes.
      *
@@ -86,12 +86,33 @@ public class Transformer {
         }
     }
 
+    /**
+     * number of valid values in the array returned by the last generateTransformedValues...()
+     * call, the arrays only grow and may be longer
+     */
+    protected int mTransformedValuesCount = 0;
+
+    /**
+     * Returns the number of valid values (two per entry) in the array returned by the last call
+     * of one of the generateTransformedValues...() methods. The arrays are reused and only grow,
+     * so they can be longer than that.
+     *
+     * @return
+     */
+    public int getTransformedValuesCount() {
+        return mTransformedValuesCount;
+    }
+
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
 
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the SCATTERCHART.
      *
+     * The returned array is reused by the next call and only grows, it can be longer than the
+     * transformed values: only the first getTransformedValuesCount() values are valid, an x- and
+     * a y-position for each entry from index from through from + (to - from) * phaseX.
+     *
      * @param data
      * @return
      */
@@ -100,7 +121,7 @@ public class Transformer {
 
         final int count = (int) ((to - from) * phaseX + 1) * 2;
 
-        if (valuePointsForGenerateTransformedValuesScatter.length != count) {
+        if (valuePointsForGenerateTransformedValuesScatter.length < count) {
             valuePointsForGenerateTransformedValuesScatter = new float[count];
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesScatter;
@@ -118,8 +139,9 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getValueToPixelMatrix().mapPoints(valuePoints, 0, valuePoints, 0, count / 2);
 
+        mTransformedValuesCount = count;
         return valuePoints;
     }
 
@@ -129,6 +151,10 @@ public class Transformer {
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the BUBBLECHART.
      *
+     * The returned array is reused by the next call and only grows, it can be longer than the
+     * transformed values: only the first getTransformedValuesCount() values are valid, an x- and
+     * a y-position for each entry from index from through to.
+     *
      * @param data
      * @return
      */
@@ -136,7 +162,7 @@ public class Transformer {
 
         final int count = (to - from + 1) * 2; // (int) Math.ceil((to - from) * phaseX) * 2;
 
-        if (valuePointsForGenerateTransformedValuesBubble.length != count) {
+        if (valuePointsForGenerateTransformedValuesBubble.length < count) {
             valuePointsForGenerateTransformedValuesBubble = new float[count];
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesBubble;
@@ -154,8 +180,9 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getValueToPixelMatrix().mapPoints(valuePoints, 0, valuePoints, 0, count / 2);
 
+        mTransformedValuesCount = count;
         return valuePoints;
     }
 
@@ -165,6 +192,10 @@ public class Transformer {
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the LINECHART.
      *
+     * The returned array is reused by the next call and only grows, it can be longer than the
+     * transformed values: only the first getTransformedValuesCount() values are valid, an x- and
+     * a y-position for each entry from index min through min + (max - min) * phaseX.
+     *
      * @param data
      * @return
      */
@@ -174,7 +205,7 @@ public class Transformer {
 
         final int count = ((int) ((max - min) * phaseX) + 1) * 2;
 
-        if (valuePointsForGenerateTransformedValuesLine.length != count) {
+        if (valuePointsForGenerateTransformedValuesLine.length < count) {
             valuePointsForGenerateTransformedValuesLine = new float[count];
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
@@ -192,17 +223,64 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getValueToPixelMatrix().mapPoints(valuePoints, 0, valuePoints, 0, count / 2);
 
+        mTransformedValuesCount = count;
         return valuePoints;
     }
 
+    /**
+     * buffer for the first and last x-value of a uniform x-sequence
+     */
+    protected float[] mUniformXBuffer = new float[4];
+
+    /**
+     * Writes the x-pixel positions of count x-values, starting at x and dx apart, into the given
+     * array. The value to pixel mapping of the x-axis is linear, so only the first and the last
+     * position are transformed, the positions in between are calculated from them.
+     *
+     * @param x     the first x-value
+     * @param dx    the distance between two x-values
+     * @param count
+     * @param out   array for at least count x-pixel positions
+     */
+    public void generateUniformXPixels(float x, float dx, int count, float[] out) {
+
+        // the step is derived from the whole span, which is more precise for large x-values
+        int steps = Math.max(count - 1, 1);
+
+        float first;
+        float step;
+
+        // the buffer is shared, renderers may run concurrently (parallel rendering)
+        synchronized (mUniformXBuffer) {
+
+            float[] pts = mUniformXBuffer;
+            pts[0] = x;
+            pts[1] = 0f;
+            pts[2] = x + dx * steps;
+            pts[3] = 0f;
+
+            pointValuesToPixel(pts, 0, 2);
+
+            first = pts[0];
+            step = (pts[2] - pts[0]) / steps;
+        }
+
+        for (int i = 0; i < count; i++)
+            out[i] = first + i * step;
+    }
+
     protected float[] valuePointsForGenerateTransformedValuesCandle = new float[1];
 
     /**
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the CANDLESTICKCHART.
      *
+     * The returned array is reused by the next call and only grows, it can be longer than the
+     * transformed values: only the first getTransformedValuesCount() values are valid, an x- and
+     * a y-position for each entry from index from through from + (to - from) * phaseX.
+     *
      * @param data
      * @return
      */
@@ -211,7 +289,7 @@ public class Transformer {
 
         final int count = (int) ((to - from) * phaseX + 1) * 2;
 
-        if (valuePointsForGenerateTransformedValuesCandle.length != count) {
+        if (valuePointsForGenerateTransformedValuesCandle.length < count) {
             valuePointsForGenerateTransformedValuesCandle = new float[count];
         }
         float[] valuePoints = valuePointsForGenerateTransformedValuesCandle;
@@ -229,8 +307,9 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        getValueToPixelMatrix().mapPoints(valuePoints, 0, valuePoints, 0, count / 2);
 
+        mTransformedValuesCount = count;
         return valuePoints;
     }
 
@@ -272,6 +351,18 @@ public class Transformer {
         mMatrixOffset.mapPoints(pts);
     }
 
+    /**
+     * Transforms the given number of points (x, y pairs), starting at the given array offset, with
+     * all matrices.
+     *
+     * @param pts
+     * @param offset     array offset of the first x-value
+     * @param pointCount
+     */
+    public void pointValuesToPixel(float[] pts, int offset, int pointCount) {
+        getValueToPixelMatrix().mapPoints(pts, offset, pts, offset, pointCount);
+    }
+
     /**
      * Transform a rectangle with all matrices.
      *
@@ -365,17 +456,21 @@ public class Transformer {
     public void pixelsToValue(float[] pixels) {
 
         Matrix tmp = mPixelToValueMatrixBuffer;
-        tmp.reset();
 
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
+        // the matrix buffer is shared, renderers may run concurrently (parallel rendering)
+        synchronized (tmp) {
+            tmp.reset();
+
+            // invert all matrixes to convert back to the original value
+            mMatrixOffset.invert(tmp);
+            tmp.mapPoints(pixels);
 
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
+            mViewPortHandler.getMatrixTouch().invert(tmp);
+            tmp.mapPoints(pixels);
 
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+            mMatrixValueToPx.invert(tmp);
+            tmp.mapPoints(pixels);
+        }
     }
 
     /**
@@ -403,13 +498,15 @@ public class Transformer {
 
     public void getValuesByTouchPoint(float x, float y, MPPointD outputPoint) {
 
-        ptsBuffer[0] = x;
-        ptsBuffer[1] = y;
+        synchronized (ptsBuffer) {
+            ptsBuffer[0] = x;
+            ptsBuffer[1] = y;
 
-        pixelsToValue(ptsBuffer);
+            pixelsToValue(ptsBuffer);
 
-        outputPoint.x = ptsBuffer[0];
-        outputPoint.y = ptsBuffer[1];
+            outputPoint.x = ptsBuffer[0];
+            outputPoint.y = ptsBuffer[1];
+        }
     }
 
     /**
@@ -422,13 +519,17 @@ public class Transformer {
      */
     public MPPointD getPixelForValues(float x, float y) {
 
-        ptsBuffer[0] = x;
-        ptsBuffer[1] = y;
+        double xPx, yPx;
 
-        pointValuesToPixel(ptsBuffer);
+        synchronized (ptsBuffer) {
+            ptsBuffer[0] = x;
+            ptsBuffer[1] = y;
 
-        double xPx = ptsBuffer[0];
-        double yPx = ptsBuffer[1];
+            pointValuesToPixel(ptsBuffer);
+
+            xPx = ptsBuffer[0];
+            yPx = ptsBuffer[1];
+        }
 
         return MPPointD.getInstance(xPx, yPx);
     }
@@ -443,7 +544,18 @@ public class Transformer {
 
     private Matrix mMBuffer1 = new Matrix();
 
+    /**
+     * Returns the concatenation of all matrices. The returned matrix is reused and must not be
+     * modified. While the matrices are frozen (see freezeMatrices()), the matrix of the frozen
+     * frame is returned, which can be used by several threads at once.
+     *
+     * @return
+     */
     public Matrix getValueToPixelMatrix() {
+
+        if (mMatricesFrozen)
+            return mFrozenValueToPx;
+
         mMBuffer1.set(mMatrixValueToPx);
         mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
         mMBuffer1.postConcat(mMatrixOffset);
@@ -453,7 +565,43 @@ public class Transformer {
     private Matrix mMBuffer2 = new Matrix();
 
     public Matrix getPixelToValueMatrix() {
+
+        if (mMatricesFrozen)
+            return mFrozenPxToValue;
+
         getValueToPixelMatrix().invert(mMBuffer2);
         return mMBuffer2;
     }
+
+    /**
+     * the matrices of the frame the transformer is frozen for
+     */
+    private Matrix mFrozenValueToPx = new Matrix();
+    private Matrix mFrozenPxToValue = new Matrix();
+
+    private boolean mMatricesFrozen = false;
+
+    /**
+     * Concatenates the matrices once for the current frame. Until unfreezeMatrices() is called,
+     * getValueToPixelMatrix(), getPixelToValueMatrix() and the transformations based on them
+     * use the concatenated matrices without writing to shared buffers, so renderers can transform
+     * values on several threads at once. Must be called on the thread owning the chart, before the
+     * work is handed over to the other threads.
+     */
+    public void freezeMatrices() {
+
+        mMatricesFrozen = false;
+
+        mFrozenValueToPx.set(getValueToPixelMatrix());
+        mFrozenValueToPx.invert(mFrozenPxToValue);
+
+        mMatricesFrozen = true;
+    }
+
+    /**
+     * Ends the frame started with freezeMatrices(), the matrices are concatenated on demand again.
+     */
+    public void unfreezeMatrices() {
+        mMatricesFrozen = false;
+    }
 }
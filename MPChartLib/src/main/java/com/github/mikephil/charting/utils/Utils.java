@@ -148,7 +148,26 @@ public abstract class Utils {
         return (int) paint.measureText(demoText);
     }
 
-    private static Rect mCalcTextHeightRect = new Rect();
+    /**
+     * Buffers used while measuring and drawing text. They are held per thread, so that charts
+     * can be rendered on multiple threads at the same time (e.g. by the BatchChartRenderer).
+     */
+    private static final class Buffers {
+        final Rect calcTextHeightRect = new Rect();
+        final Paint.FontMetrics fontMetrics = new Paint.FontMetrics();
+        final Rect calcTextSizeRect = new Rect();
+        final Rect drawableBoundsCache = new Rect();
+        final Rect drawTextRectBuffer = new Rect();
+        final Paint.FontMetrics fontMetricsBuffer = new Paint.FontMetrics();
+    }
+
+    private static final ThreadLocal<Buffers> mBuffers = new ThreadLocal<Buffers>() {
+        @Override
+        protected Buffers initialValue() {
+            return new Buffers();
+        }
+    };
+
     /**
      * calculates the approximate height of a text, depending on a demo text
      * avoid repeated calls (e.g. inside drawing methods)
@@ -159,16 +178,14 @@ public abstract class Utils {
      */
     public static int calcTextHeight(Paint paint, String demoText) {
 
-        Rect r = mCalcTextHeightRect;
+        Rect r = mBuffers.get().calcTextHeightRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
         return r.height();
     }
 
-    private static Paint.FontMetrics mFontMetrics = new Paint.FontMetrics();
-
     public static float getLineHeight(Paint paint) {
-        return getLineHeight(paint, mFontMetrics);
+        return getLineHeight(paint, mBuffers.get().fontMetrics);
     }
 
     public static float getLineHeight(Paint paint, Paint.FontMetrics fontMetrics){
@@ -177,7 +194,7 @@ public abstract class Utils {
     }
 
     public static float getLineSpacing(Paint paint) {
-        return getLineSpacing(paint, mFontMetrics);
+        return getLineSpacing(paint, mBuffers.get().fontMetrics);
     }
 
     public static float getLineSpacing(Paint paint, Paint.FontMetrics fontMetrics){
@@ -201,7 +218,6 @@ public abstract class Utils {
         return result;
     }
 
-    private static Rect mCalcTextSizeRect = new Rect();
     /**
      * calculates the approximate size of a text, depending on a demo text
      * avoid repeated calls (e.g. inside drawing methods)
@@ -212,7 +228,7 @@ public abstract class Utils {
      */
     public static void calcTextSize(Paint paint, String demoText, FSize outputFSize) {
 
-        Rect r = mCalcTextSizeRect;
+        Rect r = mBuffers.get().calcTextSizeRect;
         r.set(0,0,0,0);
         paint.getTextBounds(demoText, 0, demoText.length(), r);
         outputFSize.width = r.width();
@@ -525,8 +541,6 @@ public abstract class Utils {
         return angle % 360.f;
     }
 
-    private static Rect mDrawableBoundsCache = new Rect();
-
     public static void drawImage(Canvas canvas,
                                  Drawable drawable,
                                  int x, int y,
@@ -536,12 +550,13 @@ public abstract class Utils {
         drawOffset.x = x - (width / 2);
         drawOffset.y = y - (height / 2);
 
-        drawable.copyBounds(mDrawableBoundsCache);
+        final Rect drawableBounds = mBuffers.get().drawableBoundsCache;
+        drawable.copyBounds(drawableBounds);
         drawable.setBounds(
-                mDrawableBoundsCache.left,
-                mDrawableBoundsCache.top,
-                mDrawableBoundsCache.left + width,
-                mDrawableBoundsCache.top + width);
+                drawableBounds.left,
+                drawableBounds.top,
+                drawableBounds.left + width,
+                drawableBounds.top + width);
 
         int saveId = canvas.save();
         // translate to the correct position and draw
@@ -550,9 +565,6 @@ public abstract class Utils {
         canvas.restoreToCount(saveId);
     }
 
-    private static Rect mDrawTextRectBuffer = new Rect();
-    private static Paint.FontMetrics mFontMetricsBuffer = new Paint.FontMetrics();
-
     public static void drawXAxisValue(Canvas c, String text, float x, float y,
                                       Paint paint,
                                       MPPointF anchor, float angleDegrees) {
@@ -560,16 +572,20 @@ public abstract class Utils {
         float drawOffsetX = 0.f;
         float drawOffsetY = 0.f;
 
-        final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
-        paint.getTextBounds(text, 0, text.length(), mDrawTextRectBuffer);
+        final Buffers buffers = mBuffers.get();
+        final Rect textBounds = buffers.drawTextRectBuffer;
+        final Paint.FontMetrics fontMetrics = buffers.fontMetricsBuffer;
+
+        final float lineHeight = paint.getFontMetrics(fontMetrics);
+        paint.getTextBounds(text, 0, text.length(), textBounds);
 
         // Android sometimes has pre-padding
-        drawOffsetX -= mDrawTextRectBuffer.left;
+        drawOffsetX -= textBounds.left;
 
         // Android does not snap the bounds to line boundaries,
         //  and draws from bottom to top.
         // And we want to normalize it.
-        drawOffsetY += -mFontMetricsBuffer.ascent;
+        drawOffsetY += -fontMetrics.ascent;
 
         // To have a consistent point of reference, we always draw left-aligned
         Paint.Align originalTextAlign = paint.getTextAlign();
@@ -578,7 +594,7 @@ public abstract class Utils {
         if (angleDegrees != 0.f) {
 
             // Move the text drawing rect in a way that it always rotates around its center
-            drawOffsetX -= mDrawTextRectBuffer.width() * 0.5f;
+            drawOffsetX -= textBounds.width() * 0.5f;
             drawOffsetY -= lineHeight * 0.5f;
 
             float translateX = x;
@@ -587,7 +603,7 @@ public abstract class Utils {
             // Move the "outer" rect relative to the anchor, assuming its centered
             if (anchor.x != 0.5f || anchor.y != 0.5f) {
                 final FSize rotatedSize = getSizeOfRotatedRectangleByDegrees(
-                        mDrawTextRectBuffer.width(),
+                        textBounds.width(),
                         lineHeight,
                         angleDegrees);
 
@@ -606,7 +622,7 @@ public abstract class Utils {
         } else {
             if (anchor.x != 0.f || anchor.y != 0.f) {
 
-                drawOffsetX -= mDrawTextRectBuffer.width() * anchor.x;
+                drawOffsetX -= textBounds.width() * anchor.x;
                 drawOffsetY -= lineHeight * anchor.y;
             }
 
@@ -629,13 +645,16 @@ public abstract class Utils {
         float drawWidth;
         float drawHeight;
 
-        final float lineHeight = paint.getFontMetrics(mFontMetricsBuffer);
+        final Buffers buffers = mBuffers.get();
+        final Rect textBounds = buffers.drawTextRectBuffer;
+
+        final float lineHeight = paint.getFontMetrics(buffers.fontMetricsBuffer);
 
         drawWidth = textLayout.getWidth();
         drawHeight = textLayout.getLineCount() * lineHeight;
 
         // Android sometimes has pre-padding
-        drawOffsetX -= mDrawTextRectBuffer.left;
+        drawOffsetX -= textBounds.left;
 
         // Android does not snap the bounds to line boundaries,
         //  and draws from bottom to top.
@@ -0,0 +1,431 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.CompressedEntryPageSource;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PagedLineDataSet;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.data.StackedBarDataSet;
+import com.github.mikephil.charting.data.UniformLineDataSet;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.highlight.BarHighlighter;
+import com.github.mikephil.charting.highlight.ChartHighlighter;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.renderer.BarChartRenderer;
+import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import junit.framework.Assert;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Makes sure that drawing frames does not allocate once the buffers have grown to the needed
+ * size, e.g. while the visible range changes during scrolling and zooming.
+ */
+public class AllocationTest {
+
+    private static final int ENTRY_COUNT = 500;
+
+    private static final int FRAMES = 1000;
+
+    private static final int ROUNDS = 5;
+
+    /**
+     * bytes the measurement itself may allocate, far less than a single buffer of a frame
+     */
+    private static final long TOLERANCE = 256;
+
+    @Test
+    public void testTransformedValues() {
+
+        com.sun.management.ThreadMXBean bean = getAllocationBean();
+
+        List<Entry> values = new ArrayList<>();
+        List<Entry> scatterValues = new ArrayList<>();
+        List<BubbleEntry> bubbleValues = new ArrayList<>();
+        List<CandleEntry> candleValues = new ArrayList<>();
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            values.add(new Entry(i, i % 17));
+            scatterValues.add(new Entry(i, i % 13));
+            bubbleValues.add(new BubbleEntry(i, i % 11, 5f));
+            candleValues.add(new CandleEntry(i, 10f, 2f, 4f, 8f));
+        }
+
+        LineDataSet line = new LineDataSet(values, "");
+        ScatterDataSet scatter = new ScatterDataSet(scatterValues, "");
+        BubbleDataSet bubble = new BubbleDataSet(bubbleValues, "");
+        CandleDataSet candle = new CandleDataSet(candleValues, "");
+
+        Transformer trans = new Transformer(new ViewPortHandler());
+
+        // the first frame shows everything, the buffers grow to their final size
+        transformFrame(trans, line, scatter, bubble, candle, 0, ENTRY_COUNT - 1);
+
+        Assert.assertEquals(ENTRY_COUNT * 2, trans.getTransformedValuesCount());
+
+        // the first rounds may allocate while the code gets compiled, the smallest round counts
+        long allocated = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+
+            long start = getAllocatedBytes(bean);
+
+            for (int i = 0; i < FRAMES; i++)
+                transformFrame(trans, line, scatter, bubble, candle, i % 100, ENTRY_COUNT - 1 - i % 200);
+
+            allocated = Math.min(allocated, getAllocatedBytes(bean) - start);
+        }
+
+        Assert.assertTrue("steady state frames allocated " + allocated + " bytes", allocated <= TOLERANCE);
+
+        // the count reflects the last call, not the size of the reused buffer
+        trans.generateTransformedValuesLine(line, 1f, 1f, 10, 19);
+        Assert.assertEquals(20, trans.getTransformedValuesCount());
+    }
+
+    @Test
+    public void testRendererFrames() throws Exception {
+
+        com.sun.management.ThreadMXBean bean = getAllocationBean();
+
+        List<Entry> linear = new ArrayList<>();
+        List<Entry> cubic = new ArrayList<>();
+        List<Entry> stepped = new ArrayList<>();
+        List<BarEntry> stacks = new ArrayList<>();
+        StackedBarDataSet stackedColumns = new StackedBarDataSet(3, "");
+        CompressedEntryPageSource pages = new CompressedEntryPageSource(128);
+        float[] samples = new float[ENTRY_COUNT];
+
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            linear.add(new Entry(i, i % 17));
+            cubic.add(new Entry(i, i % 13));
+            stepped.add(new Entry(i, i % 11));
+            stacks.add(new BarEntry(i, new float[]{i % 5, -(i % 3), 2f}));
+            stackedColumns.addStack(i, new float[]{1f, i % 7, -(i % 4)});
+            pages.add(new Entry(i, i % 19));
+            samples[i] = i % 23;
+        }
+
+        LineDataSet linearSet = new LineDataSet(linear, "");
+        linearSet.setDrawFilled(true);
+        LineDataSet cubicSet = new LineDataSet(cubic, "");
+        cubicSet.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+        LineDataSet steppedSet = new LineDataSet(stepped, "");
+        steppedSet.setMode(LineDataSet.Mode.STEPPED);
+        PagedLineDataSet pagedSet = new PagedLineDataSet(pages, "");
+        pagedSet.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+        pagedSet.setDrawFilled(true);
+        UniformLineDataSet uniformSet = new UniformLineDataSet(0f, 1f, samples, "");
+        uniformSet.setMode(LineDataSet.Mode.HORIZONTAL_BEZIER);
+
+        LineData lineData = new LineData(linearSet, cubicSet, steppedSet, pagedSet, uniformSet);
+        BarData barData = new BarData(new BarDataSet(stacks, ""), stackedColumns);
+
+        for (LineDataSet set : new LineDataSet[]{linearSet, cubicSet, steppedSet, pagedSet, uniformSet}) {
+            set.setDrawCircles(false);
+            set.setDrawValues(false);
+        }
+
+        // the DataSets creating their entries on demand also draw their values per entry
+        pagedSet.setDrawValues(true);
+        uniformSet.setDrawValues(true);
+        lineData.setValueFormatter(new ConstantFormatter());
+
+        barData.setValueFormatter(new ConstantFormatter());
+        barData.setDrawValues(true);
+
+        ViewPortHandler viewPortHandler = new ViewPortHandler();
+        setContentRect(viewPortHandler.getContentRect(), ENTRY_COUNT, 100f);
+
+        ChartAnimator animator = new ChartAnimator();
+        FrameProvider lineChart = new FrameProvider(lineData, viewPortHandler);
+        FrameProvider barChart = new FrameProvider(barData, viewPortHandler);
+
+        LineChartRenderer lineRenderer = new LineChartRenderer(lineChart, animator, viewPortHandler);
+        BarChartRenderer barRenderer = new BarChartRenderer(barChart, animator, viewPortHandler);
+        lineRenderer.setRecordingEnabled(true);
+        barRenderer.initBuffers();
+
+        ChartHighlighter<FrameProvider> lineHighlighter = new ChartHighlighter<>(lineChart);
+        BarHighlighter barHighlighter = new BarHighlighter(barChart);
+
+        Canvas canvas = new Canvas();
+        Highlight[] highlights = new Highlight[1];
+
+        // the first frame shows everything, the buffers grow to their final size
+        drawFrame(canvas, lineRenderer, barRenderer, lineHighlighter, barHighlighter, highlights,
+                lineChart, barChart, 0, ENTRY_COUNT - 1, ENTRY_COUNT / 2);
+
+        long allocated = Long.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+
+            long start = getAllocatedBytes(bean);
+
+            // panning and zooming change the visible range, scrubbing the touched entry
+            for (int i = 0; i < FRAMES; i++)
+                drawFrame(canvas, lineRenderer, barRenderer, lineHighlighter, barHighlighter,
+                        highlights, lineChart, barChart, i % 100, ENTRY_COUNT - 1 - i % 200, i % ENTRY_COUNT);
+
+            allocated = Math.min(allocated, getAllocatedBytes(bean) - start);
+        }
+
+        Assert.assertTrue("steady state frames allocated " + allocated + " bytes", allocated <= TOLERANCE);
+    }
+
+    private static void drawFrame(Canvas c, LineChartRenderer lineRenderer, BarChartRenderer barRenderer,
+                                  ChartHighlighter<FrameProvider> lineHighlighter,
+                                  BarHighlighter barHighlighter, Highlight[] highlights,
+                                  FrameProvider lineChart, FrameProvider barChart,
+                                  float lowestVisibleX, float highestVisibleX, float touchX) {
+
+        lineChart.setVisibleRange(lowestVisibleX, highestVisibleX);
+        barChart.setVisibleRange(lowestVisibleX, highestVisibleX);
+
+        lineRenderer.drawData(c);
+        lineRenderer.drawValues(c);
+
+        highlights[0] = lineHighlighter.getHighlight(touchX, 5f);
+        if (highlights[0] != null)
+            lineRenderer.drawHighlighted(c, highlights);
+
+        barRenderer.drawData(c);
+        barRenderer.drawValues(c);
+
+        highlights[0] = barHighlighter.getHighlight(touchX, 1f);
+        if (highlights[0] != null)
+            barRenderer.drawHighlighted(c, highlights);
+    }
+
+    /**
+     * Sets the content rect without RectF.set(...), which is not available in unit tests.
+     */
+    private static void setContentRect(RectF rect, float width, float height) {
+        rect.left = 0f;
+        rect.top = 0f;
+        rect.right = width;
+        rect.bottom = height;
+    }
+
+    /**
+     * Formats all values to the same label, formatting is up to the app and not measured.
+     */
+    private static class ConstantFormatter implements IValueFormatter {
+
+        @Override
+        public String getFormattedValue(float value, Entry entry, int dataSetIndex,
+                                        ViewPortHandler viewPortHandler) {
+            return "value";
+        }
+    }
+
+    /**
+     * Line and bar chart without a view, the matrices of the transformers are identities, so
+     * values and pixels are the same.
+     */
+    private static class FrameProvider implements LineDataProvider, BarDataProvider {
+
+        private final BarLineScatterCandleBubbleData<?> mData;
+
+        private final Transformer mTransformer;
+
+        private final YAxis mAxis = new YAxis(YAxis.AxisDependency.LEFT);
+
+        private final MPPointF mCenter = MPPointF.getInstance(0f, 0f);
+
+        private final ViewPortHandler mViewPortHandler;
+
+        private float mLowestVisibleX;
+        private float mHighestVisibleX;
+
+        FrameProvider(BarLineScatterCandleBubbleData<?> data, ViewPortHandler viewPortHandler) {
+            mData = data;
+            mViewPortHandler = viewPortHandler;
+            mTransformer = new Transformer(viewPortHandler);
+        }
+
+        void setVisibleRange(float lowestVisibleX, float highestVisibleX) {
+            mLowestVisibleX = lowestVisibleX;
+            mHighestVisibleX = highestVisibleX;
+        }
+
+        @Override
+        public Transformer getTransformer(YAxis.AxisDependency axis) {
+            return mTransformer;
+        }
+
+        @Override
+        public boolean isInverted(YAxis.AxisDependency axis) {
+            return false;
+        }
+
+        @Override
+        public float getLowestVisibleX() {
+            return mLowestVisibleX;
+        }
+
+        @Override
+        public float getHighestVisibleX() {
+            return mHighestVisibleX;
+        }
+
+        @Override
+        public BarLineScatterCandleBubbleData getData() {
+            return mData;
+        }
+
+        @Override
+        public LineData getLineData() {
+            return (LineData) mData;
+        }
+
+        @Override
+        public BarData getBarData() {
+            return (BarData) mData;
+        }
+
+        @Override
+        public YAxis getAxis(YAxis.AxisDependency dependency) {
+            return mAxis;
+        }
+
+        @Override
+        public boolean isDrawBarShadowEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDrawValueAboveBarEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isHighlightFullBarEnabled() {
+            return false;
+        }
+
+        @Override
+        public float getXChartMin() {
+            return mData.getXMin();
+        }
+
+        @Override
+        public float getXChartMax() {
+            return mData.getXMax();
+        }
+
+        @Override
+        public float getXRange() {
+            return mData.getXMax() - mData.getXMin();
+        }
+
+        @Override
+        public float getYChartMin() {
+            return mData.getYMin();
+        }
+
+        @Override
+        public float getYChartMax() {
+            return mData.getYMax();
+        }
+
+        @Override
+        public float getMaxHighlightDistance() {
+            return Float.MAX_VALUE;
+        }
+
+        @Override
+        public int getWidth() {
+            return (int) mViewPortHandler.getContentRect().right;
+        }
+
+        @Override
+        public int getHeight() {
+            return (int) mViewPortHandler.getContentRect().bottom;
+        }
+
+        @Override
+        public MPPointF getCenterOfView() {
+            return mCenter;
+        }
+
+        @Override
+        public MPPointF getCenterOffsets() {
+            return mCenter;
+        }
+
+        @Override
+        public RectF getContentRect() {
+            return mViewPortHandler.getContentRect();
+        }
+
+        @Override
+        public IValueFormatter getDefaultValueFormatter() {
+            return null;
+        }
+
+        @Override
+        public int getMaxVisibleCount() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static void transformFrame(Transformer trans, LineDataSet line, ScatterDataSet scatter,
+                                       BubbleDataSet bubble, CandleDataSet candle, int from, int to) {
+
+        trans.generateTransformedValuesLine(line, 1f, 1f, from, to);
+        trans.generateTransformedValuesScatter(scatter, 1f, 1f, from, to);
+        trans.generateTransformedValuesBubble(bubble, 1f, from, to);
+        trans.generateTransformedValuesCandle(candle, 1f, 1f, from, to);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     */
+    private static long getAllocatedBytes(com.sun.management.ThreadMXBean bean) {
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the bean measuring the allocations, skips the test if the JVM can't tell.
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+
+        Assume.assumeTrue(sunBean.isThreadAllocatedMemorySupported()
+                && sunBean.isThreadAllocatedMemoryEnabled());
+
+        return sunBean;
+    }
+}
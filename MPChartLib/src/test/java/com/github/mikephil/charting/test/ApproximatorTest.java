@@ -2,6 +2,10 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.filter.Approximator;
+import com.github.mikephil.charting.data.filter.DouglasPeuckerSimplifier;
+import com.github.mikephil.charting.data.filter.IncrementalSimplifier;
+import com.github.mikephil.charting.data.filter.VisvalingamSimplifier;
+import com.github.mikephil.charting.utils.IntArrayList;
 
 import org.junit.Test;
 
@@ -9,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 07/06/16.
@@ -40,4 +45,110 @@ public class ApproximatorTest {
 
         assertEquals(18, reduced.length);
     }
+
+    @Test
+    public void testDouglasPeuckerSimplifier() {
+
+        // a straight line with a single spike
+        float[] points = new float[]{
+                0, 0,
+                1, 0.1f,
+                2, 0,
+                3, 10,
+                4, 0,
+                5, 0.1f,
+                6, 0};
+
+        IntArrayList kept = new IntArrayList();
+        DouglasPeuckerSimplifier simplifier = new DouglasPeuckerSimplifier();
+
+        simplifier.simplify(points, 0, 7, 1f, kept);
+
+        assertEquals(5, kept.size());
+        assertEquals(0, kept.getInt(0));
+        assertEquals(2, kept.getInt(1));
+        assertEquals(3, kept.getInt(2));
+        assertEquals(4, kept.getInt(3));
+        assertEquals(6, kept.getInt(4));
+
+        // a sub-range, indices are absolute
+        kept.clear();
+        simplifier.simplify(points, 4, 7, 1f, kept);
+
+        assertEquals(2, kept.size());
+        assertEquals(4, kept.getInt(0));
+        assertEquals(6, kept.getInt(1));
+
+        // deep inputs do not overflow the stack
+        int count = 200000;
+        float[] zigzag = new float[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            zigzag[i * 2] = i;
+            zigzag[i * 2 + 1] = i * i * 0.0001f;
+        }
+
+        kept.clear();
+        simplifier.simplify(zigzag, 0, count, 0.01f, kept);
+
+        assertTrue(kept.size() > 2);
+        assertEquals(0, kept.getInt(0));
+        assertEquals(count - 1, kept.getInt(kept.size() - 1));
+    }
+
+    @Test
+    public void testVisvalingamSimplifier() {
+
+        float[] points = new float[]{
+                0, 0,
+                1, 0.1f,
+                2, 0,
+                3, 10,
+                4, 0,
+                5, 0.1f,
+                6, 0};
+
+        IntArrayList kept = new IntArrayList();
+        new VisvalingamSimplifier().simplify(points, 0, 7, 1f, kept);
+
+        // the small bumps are dropped, the spike and the points carrying it are kept
+        assertEquals(5, kept.size());
+        assertEquals(0, kept.getInt(0));
+        assertEquals(2, kept.getInt(1));
+        assertEquals(3, kept.getInt(2));
+        assertEquals(4, kept.getInt(3));
+        assertEquals(6, kept.getInt(4));
+
+        kept.clear();
+        new VisvalingamSimplifier().simplify(points, 0, 7, 100f, kept);
+
+        assertEquals(2, kept.size());
+    }
+
+    @Test
+    public void testIncrementalSimplifier() {
+
+        float[] points = new float[20];
+
+        for (int i = 0; i < 10; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = i < 5 ? 0 : (i - 4) * 10;
+        }
+
+        IncrementalSimplifier simplifier = new IncrementalSimplifier(new DouglasPeuckerSimplifier(), 1f);
+
+        IntArrayList kept = simplifier.update(points, 5);
+
+        assertEquals(2, kept.size());
+        assertEquals(0, kept.getInt(0));
+        assertEquals(4, kept.getInt(1));
+
+        kept = simplifier.update(points, 10);
+
+        assertEquals(3, kept.size());
+        assertEquals(0, kept.getInt(0));
+        assertEquals(4, kept.getInt(1));
+        assertEquals(9, kept.getInt(2));
+        assertEquals(10, simplifier.getPointCount());
+    }
 }
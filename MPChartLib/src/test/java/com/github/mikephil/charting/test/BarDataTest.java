@@ -1,8 +1,11 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.buffer.HorizontalBarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.StackedBarDataSet;
+import com.github.mikephil.charting.highlight.Range;
 
 import org.junit.Test;
 
@@ -10,6 +13,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 06/06/16.
@@ -69,4 +74,104 @@ public class BarDataTest {
         assertEquals(15f, values1.get(1).getX(), 0.01f);
         assertEquals(26f, values2.get(1).getX(), 0.01f);
     }
+
+    @Test
+    public void testStackedBarDataSet() {
+
+        float[][] stacks = new float[][]{
+                {10, -5, 20},
+                {-3, 0, 7},
+                {4, 4, -8}
+        };
+
+        StackedBarDataSet set = new StackedBarDataSet(3, "");
+        for (int i = 0; i < stacks.length; i++)
+            set.addStack(i, stacks[i]);
+
+        assertEquals(3, set.getEntryCount());
+        assertEquals(9, set.getEntryCountStacks());
+        assertEquals(-8f, set.getYMin(), 0.01f);
+        assertEquals(30f, set.getYMax(), 0.01f);
+
+        // the segments have to match the ranges of an equivalent BarEntry
+        for (int i = 0; i < stacks.length; i++) {
+
+            BarEntry entry = new BarEntry(i, stacks[i]);
+            Range[] ranges = entry.getRanges();
+
+            assertEquals(entry.getY(), set.getSum(i), 0.01f);
+
+            for (int k = 0; k < ranges.length; k++) {
+                assertEquals(ranges[k].from, set.getStackFrom(i, k), 0.01f);
+                assertEquals(ranges[k].to, set.getStackTo(i, k), 0.01f);
+            }
+        }
+
+        assertEquals(0, set.getClosestStackIndex(0, 5f));
+        assertEquals(2, set.getClosestStackIndex(0, 15f));
+        assertEquals(1, set.getClosestStackIndex(0, -2f));
+        assertEquals(2, set.getClosestStackIndex(0, 40f));
+
+        BarEntry e = set.getEntryForXValue(1.2f, Float.NaN);
+        assertEquals(1f, e.getX(), 0.01f);
+        assertEquals(3, e.getYVals().length);
+        assertEquals(7f, e.getYVals()[2], 0.01f);
+    }
+
+    @Test
+    public void testStackedBarDataSetRemoval() {
+
+        StackedBarDataSet set = new StackedBarDataSet(2, "");
+        set.addStack(0, new float[]{1, 2});
+        set.addStack(1, new float[]{3, -4});
+        set.addStack(2, new float[]{5, 6});
+        set.addStack(3, new float[]{-7, 8});
+
+        assertEquals(1, set.getEntryIndex(new BarEntry(1, new float[]{3, -4})));
+        assertEquals(-1, set.getEntryIndex(new BarEntry(1, new float[]{3, 4})));
+        assertEquals(2, set.getEntryIndex(new BarEntry(2, 11)));
+
+        assertTrue(set.removeFirst());
+        assertEquals(3, set.getEntryCount());
+        assertEquals(1f, set.getXMin(), 0.01f);
+
+        assertTrue(set.removeLast());
+        assertEquals(2, set.getEntryCount());
+        assertEquals(11f, set.getYMax(), 0.01f);
+        assertEquals(-4f, set.getYMin(), 0.01f);
+
+        assertTrue(new BarData(set).removeEntry(new BarEntry(1, new float[]{3, -4}), 0));
+        assertEquals(1, set.getEntryCount());
+        assertEquals(2f, set.getXValue(0), 0.01f);
+        assertEquals(5f, set.getStackTo(0, 0), 0.01f);
+        assertEquals(11f, set.getStackTo(0, 1), 0.01f);
+
+        assertFalse(set.removeEntry(new BarEntry(1, new float[]{3, -4})));
+    }
+
+    @Test
+    public void testHorizontalStackedFeed() {
+
+        float[][] stacks = new float[][]{
+                {10, -5, 20},
+                {-3, 2, 7}
+        };
+
+        StackedBarDataSet stacked = new StackedBarDataSet(3, "");
+        List<BarEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < stacks.length; i++) {
+            stacked.addStack(i, stacks[i]);
+            entries.add(new BarEntry(i, stacks[i]));
+        }
+
+        HorizontalBarBuffer flat = new HorizontalBarBuffer(stacked.getEntryCountStacks() * 4, 1, true);
+        flat.feed(stacked);
+
+        HorizontalBarBuffer regular = new HorizontalBarBuffer(stacked.getEntryCountStacks() * 4, 1, true);
+        regular.feed(new BarDataSet(entries, ""));
+
+        for (int i = 0; i < regular.buffer.length; i++)
+            assertEquals(regular.buffer[i], flat.buffer[i], 0.01f);
+    }
 }
@@ -0,0 +1,70 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.CompressedEntryPageSource;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PagedLineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class CompressedEntryPageSourceTest {
+
+    @Test
+    public void testCompressedEntryPageSource() throws Exception {
+
+        CompressedEntryPageSource source = new CompressedEntryPageSource(64);
+        List<Entry> entries = new ArrayList<Entry>();
+
+        // regular timestamps with a few irregular ones, smooth values with gaps and jumps
+        for (int i = 0; i < 1000; i++) {
+
+            float x = 1000000f + i * 0.25f + (i % 97 == 0 ? 0.125f : 0f);
+            float y = i % 211 == 0 ? Float.NaN : (float) Math.round(Math.sin(i / 50.0) * 1000) / 10f;
+
+            if (i > 600)
+                y = i * -3.5f;
+
+            entries.add(new Entry(x, y));
+        }
+
+        for (int i = 0; i < 700; i++)
+            source.add(entries.get(i));
+
+        PagedLineDataSet paged = new PagedLineDataSet(source, "");
+
+        assertEquals(700, paged.getEntryCount());
+        assertEquals(11, paged.getPageCount());
+
+        // loads the incomplete last page
+        assertEquals(entries.get(699).getY(), paged.getEntryForIndex(699).getY(), 0f);
+
+        for (int i = 700; i < 1000; i++)
+            source.add(entries.get(i));
+
+        paged.notifySourceChanged();
+
+        assertEquals(1000, paged.getEntryCount());
+        assertEquals(16, paged.getPageCount());
+
+        for (int i = 0; i < 1000; i++) {
+            Entry e = paged.getEntryForIndex(i);
+            assertEquals(entries.get(i).getX(), e.getX(), 0f);
+            assertEquals(Float.floatToIntBits(entries.get(i).getY()), Float.floatToIntBits(e.getY()));
+        }
+
+        LineDataSet reference = new LineDataSet(entries, "");
+
+        assertEquals(reference.getXMin(), paged.getXMin(), 0f);
+        assertEquals(reference.getXMax(), paged.getXMax(), 0f);
+        assertEquals(reference.getYMin(), paged.getYMin(), 0f);
+        assertEquals(reference.getYMax(), paged.getYMax(), 0f);
+
+        assertTrue(source.getCompressedSize() < 1000 * 8 / 2);
+    }
+}
@@ -2,16 +2,26 @@ package com.github.mikephil.charting.test;
 
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.FileEntryPageSource;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.PagedLineDataSet;
 import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.data.SharedXLineDataSet;
+import com.github.mikephil.charting.data.SharedXValues;
+import com.github.mikephil.charting.data.UniformLineDataSet;
 
 import org.junit.Test;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
 
 /**
  * Created by philipp on 31/05/16.
@@ -234,5 +244,392 @@ public class DataSetTest {
         entries = set.getEntriesForXValue(2f);
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
+
+        int[] range = new int[2];
+
+        assertEquals(2, set.getEntryIndexRangeForXValue(4f, range));
+        assertEquals(5, range[0]);
+        assertEquals(6, range[1]);
+
+        assertEquals(2, set.getEntryIndexRangeForXValue(8f, range));
+        assertEquals(10, range[0]);
+        assertEquals(11, range[1]);
+
+        assertEquals(1, set.getEntryIndexRangeForXValue(0f, range));
+        assertEquals(0, range[0]);
+        assertEquals(0, range[1]);
+
+        assertEquals(0, set.getEntryIndexRangeForXValue(3.5f, range));
+    }
+
+    @Test
+    public void testSharedXLineDataSet() {
+
+        SharedXValues xValues = new SharedXValues(new float[]{0, 1, 2, 3, 5, 8});
+
+        SharedXLineDataSet set1 = new SharedXLineDataSet(xValues, new float[]{10, 20, 30, 40, 50, 60}, "");
+        SharedXLineDataSet set2 = new SharedXLineDataSet(xValues, "");
+        set2.addValue(-5);
+        set2.addValue(15);
+        set2.addValue(5);
+
+        assertEquals(6, set1.getEntryCount());
+        assertEquals(3, set2.getEntryCount());
+
+        assertEquals(0f, set1.getXMin(), 0.01f);
+        assertEquals(8f, set1.getXMax(), 0.01f);
+        assertEquals(10f, set1.getYMin(), 0.01f);
+        assertEquals(60f, set1.getYMax(), 0.01f);
+
+        assertEquals(0f, set2.getXMin(), 0.01f);
+        assertEquals(2f, set2.getXMax(), 0.01f);
+        assertEquals(-5f, set2.getYMin(), 0.01f);
+        assertEquals(15f, set2.getYMax(), 0.01f);
+
+        Entry e = set1.getEntryForXValue(4.2f, Float.NaN, DataSet.Rounding.CLOSEST);
+        assertEquals(5f, e.getX(), 0.01f);
+        assertEquals(50f, e.getY(), 0.01f);
+
+        assertEquals(3, set1.getEntryIndex(4.2f, Float.NaN, DataSet.Rounding.DOWN));
+        assertEquals(4, set1.getEntryIndex(4.2f, Float.NaN, DataSet.Rounding.UP));
+
+        // set2 only covers the first three x-values
+        assertEquals(2, set2.getEntryIndex(7f, Float.NaN, DataSet.Rounding.CLOSEST));
+
+        assertEquals(1, set1.getEntriesForXValue(3f).size());
+        assertEquals(0, set1.getEntriesForXValue(4f).size());
+
+        assertEquals(4, set1.getEntryIndex(new Entry(5, 50)));
+        assertEquals(-1, set1.getEntryIndex(new Entry(5, 51)));
+
+        xValues.add(9);
+        assertEquals(6, set1.getEntryCount());
+        assertTrue(set2.addEntry(new Entry(3, 25)));
+        assertEquals(4, set2.getEntryCount());
+        assertEquals(25f, set2.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testSharedXLineDataSetRemoval() {
+
+        SharedXValues xValues = new SharedXValues(new float[]{0, 1, 2, 3, 5, 8});
+
+        SharedXLineDataSet set1 = new SharedXLineDataSet(xValues, new float[]{10, 20, 30, 40, 50, 60}, "");
+        SharedXLineDataSet set2 = new SharedXLineDataSet(xValues, new float[]{-5, 15, 5}, "");
+
+        LineData data = new LineData(set1, set2);
+
+        // removing an entry removes its row from both DataSets
+        assertTrue(set1.removeFirst());
+        assertEquals(5, xValues.size());
+        assertEquals(5, set1.getEntryCount());
+        assertEquals(2, set2.getEntryCount());
+        assertEquals(1f, set1.getXMin(), 0.01f);
+        assertEquals(20f, set1.getYMin(), 0.01f);
+        assertEquals(5f, set2.getYMin(), 0.01f);
+
+        assertTrue(set1.removeLast());
+        assertEquals(4, set1.getEntryCount());
+        assertEquals(5f, set1.getXMax(), 0.01f);
+        assertEquals(50f, set1.getYMax(), 0.01f);
+
+        assertTrue(data.removeEntry(new Entry(2, 5), 1));
+        assertEquals(3, set1.getEntryCount());
+        assertEquals(1, set2.getEntryCount());
+        assertEquals(3f, set1.getEntryForIndex(1).getX(), 0.01f);
+        assertEquals(40f, set1.getEntryForIndex(1).getY(), 0.01f);
+
+        assertFalse(set1.removeEntry(new Entry(2, 30)));
+
+        List<Entry> values = new ArrayList<>();
+        values.add(new Entry(1, 7));
+        values.add(new Entry(3, 9));
+        set2.setValues(values);
+        assertEquals(2, set2.getEntryCount());
+        assertEquals(9f, set2.getYMax(), 0.01f);
+
+        // the entries of getValues() are not reused
+        List<Entry> entries = set1.getValues();
+        assertEquals(1f, entries.get(0).getX(), 0.01f);
+        assertEquals(5f, entries.get(2).getX(), 0.01f);
+
+        // clearing the column clears the y-values, new rows do not pick up the old ones
+        xValues.clear();
+        assertEquals(0, set1.getEntryCount());
+        assertEquals(0, set2.getEntryCount());
+
+        xValues.add(10);
+        assertEquals(0, set1.getEntryCount());
+
+        set1.addValue(70);
+        assertEquals(1, set1.getEntryCount());
+        assertEquals(70f, set1.getYMax(), 0.01f);
+        assertEquals(10f, set1.getXMin(), 0.01f);
+    }
+
+    @Test
+    public void testColors() {
+
+        List<Entry> values = new ArrayList<Entry>();
+        values.add(new Entry(0, 10));
+        values.add(new Entry(1, 20));
+        values.add(new Entry(2, 30));
+
+        ScatterDataSet set = new ScatterDataSet(values, "");
+
+        set.setColors(1, 2);
+        assertFalse(set.isSingleColor());
+        assertEquals(2, set.getColors().size());
+        assertEquals(1, set.getColor(0));
+        assertEquals(2, set.getColor(1));
+        assertEquals(1, set.getColor(2));
+
+        // the returned list is backed by the DataSet
+        set.getColors().add(3);
+        assertEquals(3, set.getColor(2));
+
+        set.setColor(5);
+        assertTrue(set.isSingleColor());
+        assertEquals(5, set.getColor());
+        assertEquals(5, set.getColor(2));
+
+        set.setEntryColors(new int[]{7, 8});
+        assertFalse(set.isSingleColor());
+        assertEquals(7, set.getColor(0));
+        assertEquals(8, set.getColor(1));
+        assertEquals(5, set.getColor(2));
+
+        set.setEntryColors(null);
+        assertTrue(set.isSingleColor());
+    }
+
+    @Test
+    public void testRangeNotifications() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i == 5 ? 100 : i));
+
+        LineDataSet set = new LineDataSet(entries, "");
+
+        assertEquals(0f, set.getYMin(), 0.01f);
+        assertEquals(100f, set.getYMax(), 0.01f);
+
+        // changing a regular entry only widens the bounds
+        entries.get(2).setY(-5);
+        set.notifyEntriesChanged(2, 1);
+        assertEquals(-5f, set.getYMin(), 0.01f);
+        assertEquals(100f, set.getYMax(), 0.01f);
+
+        // changing the maximum shrinks the bounds
+        entries.get(5).setY(5);
+        set.notifyEntriesChanged(5, 1);
+        assertEquals(9f, set.getYMax(), 0.01f);
+
+        // inserting moves the indices of the extremes
+        entries.add(0, new Entry(-1, 3));
+        entries.add(0, new Entry(-2, 50));
+        set.notifyEntriesInserted(0, 2);
+        assertEquals(-2f, set.getXMin(), 0.01f);
+        assertEquals(50f, set.getYMax(), 0.01f);
+
+        entries.get(4).setY(0);
+        set.notifyEntriesChanged(4, 1);
+        assertEquals(0f, set.getYMin(), 0.01f);
+
+        // removing entries that are no extremes keeps the bounds
+        entries.remove(3);
+        entries.remove(3);
+        set.notifyEntriesRemoved(3, 2);
+        assertEquals(-2f, set.getXMin(), 0.01f);
+        assertEquals(9f, set.getXMax(), 0.01f);
+        assertEquals(50f, set.getYMax(), 0.01f);
+
+        entries.remove(0);
+        set.notifyEntriesRemoved(0, 1);
+        assertEquals(-1f, set.getXMin(), 0.01f);
+        assertEquals(9f, set.getYMax(), 0.01f);
+
+        set.addEntryOrdered(new Entry(4.5f, 200));
+        entries.remove(entries.size() - 1);
+        set.notifyEntriesRemoved(entries.size(), 1);
+        assertEquals(8f, set.getXMax(), 0.01f);
+        assertEquals(200f, set.getYMax(), 0.01f);
+    }
+
+    @Test
+    public void testAppendWithoutRescan() {
+
+        final int[] rescans = new int[1];
+
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "") {
+
+            @Override
+            public void calcMinMax() {
+                rescans[0]++;
+                super.calcMinMax();
+            }
+        };
+
+        set.addEntry(new Entry(0, 0));
+        set.calcMinMax();
+        rescans[0] = 0;
+
+        // every appended entry is a new maximum, which is recorded by addEntry(...) before the
+        // insertion is notified
+        for (int i = 1; i <= 100; i++) {
+            set.addEntry(new Entry(i, i));
+            set.notifyEntriesInserted(i, 1);
+        }
+
+        assertEquals(0, rescans[0]);
+        assertEquals(100f, set.getXMax(), 0.01f);
+        assertEquals(100f, set.getYMax(), 0.01f);
+        assertEquals(0f, set.getYMin(), 0.01f);
+    }
+
+    @Test
+    public void testPagedLineDataSet() throws Exception {
+
+        File file = File.createTempFile("paged", ".bin");
+        file.deleteOnExit();
+
+        List<Entry> entries = new ArrayList<Entry>();
+        FileEntryPageSource.Writer writer = new FileEntryPageSource.Writer(file, 7);
+
+        for (int i = 0; i < 100; i++) {
+            Entry e = new Entry(i * 2, (float) Math.sin(i) * 10f);
+            entries.add(e);
+            writer.add(e);
+        }
+
+        writer.close();
+
+        LineDataSet reference = new LineDataSet(entries, "");
+        PagedLineDataSet paged = new PagedLineDataSet(new FileEntryPageSource(file), "");
+        paged.setMaxCacheSize(0);
+
+        assertEquals(100, paged.getEntryCount());
+        assertEquals(15, paged.getPageCount());
+        assertEquals(2, paged.getMaxCachedPages());
+        assertEquals(reference.getXMin(), paged.getXMin(), 0.01f);
+        assertEquals(reference.getXMax(), paged.getXMax(), 0.01f);
+        assertEquals(reference.getYMin(), paged.getYMin(), 0.01f);
+        assertEquals(reference.getYMax(), paged.getYMax(), 0.01f);
+
+        for (float x = -3f; x < 203f; x += 0.5f) {
+            for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+                assertEquals(reference.getEntryIndex(x, Float.NaN, rounding),
+                        paged.getEntryIndex(x, Float.NaN, rounding));
+            }
+        }
+
+        for (int i = 0; i < 100; i++)
+            assertEquals(entries.get(i).getY(), paged.getEntryForIndex(i).getY(), 0f);
+
+        assertTrue(paged.getCachedPageCount() <= 2);
+
+        reference.calcMinMaxY(27f, 121f);
+        paged.calcMinMaxY(27f, 121f);
+        assertEquals(reference.getYMin(), paged.getYMin(), 0.01f);
+        assertEquals(reference.getYMax(), paged.getYMax(), 0.01f);
+        assertEquals(reference.getXMax(), paged.getXMax(), 0.01f);
+
+        // the DataSet is read-only
+        int count = paged.getEntryCount();
+        assertFalse(paged.removeFirst());
+        assertFalse(paged.removeLast());
+        assertFalse(paged.addEntry(new Entry(300f, 1f)));
+        assertFalse(new LineData(paged).removeEntry(paged.getEntryForIndex(0), 0));
+
+        try {
+            paged.clear();
+            fail("clear() cannot report a failure, it must throw");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        assertEquals(count, paged.getEntryCount());
+
+        paged.close();
+    }
+
+    @Test
+    public void testUniformLineDataSet() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        UniformLineDataSet uniform = new UniformLineDataSet(5f, 0.5f, "");
+
+        for (int i = 0; i < 100; i++) {
+            Entry e = new Entry(5f + i * 0.5f, (float) Math.cos(i) * 10f);
+            entries.add(e);
+            uniform.addEntry(e);
+        }
+
+        LineDataSet reference = new LineDataSet(entries, "");
+
+        assertEquals(100, uniform.getEntryCount());
+        assertEquals(reference.getXMin(), uniform.getXMin(), 0.01f);
+        assertEquals(reference.getXMax(), uniform.getXMax(), 0.01f);
+        assertEquals(reference.getYMin(), uniform.getYMin(), 0.01f);
+        assertEquals(reference.getYMax(), uniform.getYMax(), 0.01f);
+
+        for (float x = 3f; x < 57f; x += 0.125f) {
+            for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+                assertEquals(reference.getEntryIndex(x, Float.NaN, rounding),
+                        uniform.getEntryIndex(x, Float.NaN, rounding));
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, uniform.getEntryIndex(entries.get(i)));
+            assertEquals(entries.get(i).getX(), uniform.getEntryForIndex(i).getX(), 0f);
+        }
+
+        int[] range = new int[2];
+        assertEquals(1, uniform.getEntryIndexRangeForXValue(15f, range));
+        assertEquals(20, range[0]);
+        assertEquals(0, uniform.getEntryIndexRangeForXValue(15.25f, range));
+
+        reference.calcMinMaxY(12.3f, 31.1f);
+        uniform.calcMinMaxY(12.3f, 31.1f);
+        assertEquals(reference.getYMin(), uniform.getYMin(), 0.01f);
+        assertEquals(reference.getYMax(), uniform.getYMax(), 0.01f);
+
+        uniform.removeFirst(10);
+
+        assertEquals(90, uniform.getEntryCount());
+        assertEquals(10f, uniform.getX0(), 0f);
+        assertEquals(10f, uniform.getXMin(), 0f);
+        assertEquals(0, uniform.getEntryIndex(entries.get(10)));
+
+        // only the first and the last entry can be removed
+        assertTrue(uniform.removeFirst());
+        assertTrue(uniform.removeEntry(entries.get(99)));
+        assertFalse(uniform.removeEntry(entries.get(99)));
+        assertEquals(88, uniform.getEntryCount());
+        assertEquals(10.5f, uniform.getXMin(), 0f);
+        assertEquals(54f, uniform.getXMax(), 0f);
+
+        try {
+            uniform.removeEntry(entries.get(50));
+            fail("removing an entry in between must not move the following x-values");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        uniform.setValues(entries.subList(20, 40));
+
+        assertEquals(20, uniform.getEntryCount());
+        assertEquals(15f, uniform.getX0(), 0f);
+        assertEquals(0.5f, uniform.getDx(), 0f);
+        assertEquals(entries.get(39).getY(), uniform.getYValue(19), 0f);
+
+        try {
+            uniform.setValues(Arrays.asList(new Entry(0f, 1f), new Entry(1f, 1f), new Entry(3f, 1f)));
+            fail("unevenly spaced entries must be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
     }
 }
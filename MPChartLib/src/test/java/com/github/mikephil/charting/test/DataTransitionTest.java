@@ -0,0 +1,94 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.animation.DataTransition;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.UniformLineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class DataTransitionTest {
+
+    @Test
+    public void testDataTransition() {
+
+        List<Entry> previousEntries = new ArrayList<Entry>();
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 5; i++) {
+            previousEntries.add(new Entry(i, 0));
+            entries.add(new Entry(i, 10));
+        }
+
+        // the new data has one entry more than the previous
+        entries.add(new Entry(5, 20));
+
+        LineData previous = new LineData(new LineDataSet(previousEntries, ""));
+        LineData data = new LineData(new LineDataSet(entries, ""));
+
+        DataTransition transition = new DataTransition(previous, data, null);
+
+        assertTrue(transition.apply(0f));
+        assertEquals(0f, entries.get(0).getY(), 0.01f);
+        assertEquals(20f, entries.get(5).getY(), 0.01f);
+
+        assertTrue(transition.apply(0.5f));
+        assertEquals(5f, entries.get(4).getY(), 0.01f);
+        assertEquals(20f, entries.get(5).getY(), 0.01f);
+
+        transition.finish();
+        assertTrue(transition.isFinished());
+        assertFalse(transition.apply(0.5f));
+
+        for (int i = 0; i < 5; i++)
+            assertEquals(10f, entries.get(i).getY(), 0.01f);
+
+        // more entries than the budget allows end the transition right away
+        transition = new DataTransition(previous, data, null);
+        transition.setMaxEntriesPerFrame(3);
+
+        assertFalse(transition.apply(0f));
+        assertEquals(10f, entries.get(0).getY(), 0.01f);
+    }
+
+    @Test
+    public void testDataTransitionSetTypes() {
+
+        // column DataSets are animated through their y-values
+        UniformLineDataSet previousUniform = new UniformLineDataSet(0f, 1f, new float[]{0, 0, 0}, "");
+        UniformLineDataSet uniform = new UniformLineDataSet(0f, 1f, new float[]{10, 20, 30}, "");
+
+        DataTransition transition = new DataTransition(new LineData(previousUniform), new LineData(uniform), null);
+
+        assertTrue(transition.apply(0.5f));
+        assertEquals(5f, uniform.getYValue(0), 0.01f);
+        assertEquals(15f, uniform.getYValue(2), 0.01f);
+
+        transition.finish();
+        assertEquals(30f, uniform.getYValue(2), 0.01f);
+
+        // stacked bars are drawn from their stack values, they are shown with the final values
+        List<BarEntry> previousBars = new ArrayList<BarEntry>();
+        previousBars.add(new BarEntry(0, new float[]{1, 1}));
+
+        List<BarEntry> bars = new ArrayList<BarEntry>();
+        bars.add(new BarEntry(0, new float[]{4, 6}));
+
+        transition = new DataTransition(new BarData(new BarDataSet(previousBars, "")),
+                new BarData(new BarDataSet(bars, "")), null);
+
+        assertTrue(transition.apply(0.5f));
+        assertEquals(10f, bars.get(0).getY(), 0.01f);
+    }
+}
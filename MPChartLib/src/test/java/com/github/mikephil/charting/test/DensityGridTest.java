@@ -0,0 +1,162 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.utils.DensityGrid;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class DensityGridTest {
+
+    /**
+     * maps values to pixels 1:1
+     */
+    private static final float[] IDENTITY = {1f, 0f, 0f, 0f, 1f, 0f, 0f, 0f, 1f};
+
+    @Test
+    public void testGridBins() {
+
+        List<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(1f, 1f));
+        entries.add(new Entry(3f, 5f));
+        entries.add(new Entry(15f, 15f));
+        entries.add(new Entry(50f, 50f)); // outside
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        DensityGrid grid = new DensityGrid();
+
+        assertTrue(update(grid, set, ScatterDataSet.DensityMode.GRID, set.getEntryCount()));
+        assertFalse(update(grid, set, ScatterDataSet.DensityMode.GRID, set.getEntryCount()));
+
+        assertEquals(2, grid.getColumnCount());
+        assertEquals(2, grid.getRowCount());
+        assertEquals(2, grid.getMaxCount());
+
+        int bin = grid.getBinIndex(2f, 2f);
+        assertEquals(0, bin);
+        assertEquals(2, grid.getCount(bin));
+        assertEquals(2f, grid.getMeanX(bin), 0.0001f);
+        assertEquals(3f, grid.getMeanY(bin), 0.0001f);
+
+        assertEquals(1, grid.getCount(grid.getBinIndex(15f, 15f)));
+        assertEquals(-1, grid.getBinIndex(25f, 5f));
+
+        float[] center = new float[2];
+        grid.getBinCenter(3, center);
+        assertEquals(15f, center[0], 0.0001f);
+        assertEquals(15f, center[1], 0.0001f);
+
+        // appended entries are added to the existing bins
+        set.addEntry(new Entry(60f, 60f));
+        set.addEntry(new Entry(16f, 4f));
+        assertTrue(update(grid, set, ScatterDataSet.DensityMode.GRID, set.getEntryCount()));
+        assertEquals(1, grid.getCount(1));
+        assertEquals(set.getEntryCount(), grid.getBinnedEntryCount());
+
+        // a changed last entry bins everything again
+        set.getEntryForIndex(set.getEntryCount() - 1).setY(14f);
+        assertTrue(update(grid, set, ScatterDataSet.DensityMode.GRID, set.getEntryCount()));
+        assertEquals(0, grid.getCount(1));
+        assertEquals(2, grid.getCount(3));
+    }
+
+    @Test
+    public void testVisibleRangeBins() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++)
+            entries.add(new Entry(i, 5f));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        DensityGrid grid = new DensityGrid();
+
+        // only the entries of the range are binned
+        assertTrue(grid.update(set, IDENTITY, 0f, 0f, 20f, 20f, ScatterDataSet.DensityMode.GRID, 10f, 1f, 5, 15));
+        assertEquals(10, grid.getBinnedEntryCount());
+        assertEquals(5, grid.getCount(0));
+        assertEquals(5, grid.getCount(1));
+
+        // a range growing at its end only bins the additional entries
+        assertTrue(grid.update(set, IDENTITY, 0f, 0f, 20f, 20f, ScatterDataSet.DensityMode.GRID, 10f, 1f, 5, 18));
+        assertEquals(13, grid.getBinnedEntryCount());
+        assertEquals(8, grid.getCount(1));
+
+        // a moved start bins the range again
+        assertTrue(grid.update(set, IDENTITY, 0f, 0f, 20f, 20f, ScatterDataSet.DensityMode.GRID, 10f, 1f, 12, 20));
+        assertEquals(8, grid.getBinnedEntryCount());
+        assertEquals(0, grid.getCount(0));
+        assertEquals(8, grid.getCount(1));
+    }
+
+    @Test
+    public void testHexagonBins() {
+
+        List<Entry> entries = new ArrayList<>();
+        entries.add(new Entry(7f, 0.5f));
+        entries.add(new Entry(8f, 1f));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        DensityGrid grid = new DensityGrid();
+
+        update(grid, set, ScatterDataSet.DensityMode.HEXAGON, set.getEntryCount());
+
+        assertTrue(grid.isHexagonal());
+
+        // the first hexagon of the first row is centered at (0, 0), the second at (10, 0)
+        int bin = grid.getBinIndex(7f, 0.5f);
+        assertEquals(grid.getBinIndex(12f, 0.5f), bin);
+        assertEquals(0, grid.getCount(grid.getBinIndex(3f, 0.5f)));
+        assertEquals(2, grid.getCount(bin));
+
+        float[] center = new float[2];
+        grid.getBinCenter(bin, center);
+        assertEquals(10f, center[0], 0.0001f);
+        assertEquals(0f, center[1], 0.0001f);
+
+        // the second row is shifted by half a hexagon
+        grid.getBinCenter(grid.getBinIndex(5f, 8f), center);
+        assertEquals(5f, center[0], 0.0001f);
+        assertEquals(1.5f * 10f / (float) Math.sqrt(3.0), center[1], 0.0001f);
+    }
+
+    @Test
+    public void testParallelBinning() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 120000; i++)
+            entries.add(new Entry((i * 7) % 20, (i * 13) % 20));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        DensityGrid parallel = new DensityGrid();
+        update(parallel, set, ScatterDataSet.DensityMode.GRID, set.getEntryCount());
+
+        // small increments are binned sequentially
+        DensityGrid sequential = new DensityGrid();
+
+        for (int count = 0; count <= set.getEntryCount(); count += 10000)
+            update(sequential, set, ScatterDataSet.DensityMode.GRID, count);
+
+        int total = 0;
+
+        for (int bin = 0; bin < parallel.getBinCount(); bin++) {
+            assertEquals(sequential.getCount(bin), parallel.getCount(bin));
+            total += parallel.getCount(bin);
+        }
+
+        assertEquals(set.getEntryCount(), total);
+    }
+
+    private static boolean update(DensityGrid grid, ScatterDataSet set, ScatterDataSet.DensityMode mode, int count) {
+        return grid.update(set, IDENTITY, 0f, 0f, 20f, 20f, mode, 10f, 1f, 0, count);
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.highlight.HighlightBuffer;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class HighlightBufferTest {
+
+    @Test
+    public void testObtain() {
+
+        HighlightBuffer buffer = new HighlightBuffer();
+        Highlight candidate = new Highlight(Float.NaN, Float.NaN, 0f, 0f, 0, null);
+
+        assertNull(buffer.obtain(null));
+
+        Highlight first = buffer.obtain(candidate.set(1f, 2f, 10f, 20f, 0, -1, null));
+        assertNotSame(candidate, first);
+        assertEquals(1f, first.getX());
+
+        // the same values return the same instance
+        assertSame(first, buffer.obtain(candidate.set(1f, 2f, 10f, 20f, 0, -1, null)));
+
+        // other values are copied into the other instance, the previous one stays intact
+        Highlight second = buffer.obtain(candidate.set(3f, 4f, 30f, 40f, 0, -1, null));
+        assertNotSame(first, second);
+        assertEquals(1f, first.getX());
+        assertEquals(3f, second.getX());
+
+        // no more instances are created
+        assertSame(first, buffer.obtain(candidate.set(5f, 6f, 50f, 60f, 0, -1, null)));
+        assertEquals(5f, first.getX());
+        assertSame(first, buffer.getLast());
+    }
+}
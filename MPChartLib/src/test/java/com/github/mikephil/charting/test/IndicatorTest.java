@@ -0,0 +1,101 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BollingerBandsIndicator;
+import com.github.mikephil.charting.data.EmaIndicator;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.MovingAverageIndicator;
+import com.github.mikephil.charting.data.RsiIndicator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class IndicatorTest {
+
+    @Test
+    public void testIndicators() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i % 4));
+
+        LineDataSet source = new LineDataSet(entries, "");
+
+        MovingAverageIndicator sma = new MovingAverageIndicator(source, 3, "SMA");
+        BollingerBandsIndicator bands = new BollingerBandsIndicator(source, 3, 2f, "BB");
+        RsiIndicator rsi = new RsiIndicator(source, 3, "RSI");
+
+        sma.attach();
+        bands.attach();
+        rsi.attach();
+
+        // an indicator of an indicator
+        EmaIndicator ema = new EmaIndicator(sma.getOutput(0), 2, "EMA");
+        ema.attach();
+
+        assertEquals(8, sma.getOutput(0).getEntryCount());
+        assertEquals(2f, sma.getOutput(0).getXValue(0), 0f);
+        assertEquals(1f, sma.getOutput(0).getYValue(0), 0.0001f);
+        assertEquals(7, ema.getOutput(0).getEntryCount());
+        assertEquals(7, rsi.getOutput(0).getEntryCount());
+
+        // appended entries are processed one by one
+        for (int i = 10; i < 20; i++)
+            source.addEntry(new Entry(i, i % 4 + (i == 15 ? 10f : 0f)));
+
+        source.notifyEntriesInserted(10, 10);
+
+        assertEquals(18, sma.getOutput(0).getEntryCount());
+        assertEquals(17, ema.getOutput(0).getEntryCount());
+
+        MovingAverageIndicator reference = new MovingAverageIndicator(source, 3, "");
+        reference.attach();
+
+        for (int i = 0; i < 18; i++) {
+
+            assertEquals(reference.getOutput(0).getYValue(i), sma.getOutput(0).getYValue(i), 0.0001f);
+            assertEquals(sma.getOutput(0).getYValue(i), bands.getMiddleBand().getYValue(i), 0.0001f);
+
+            // mean +- 2 standard deviations of the window
+            float mean = 0f, squares = 0f;
+
+            for (int j = i; j < i + 3; j++) {
+                mean += source.getEntryForIndex(j).getY() / 3f;
+                squares += source.getEntryForIndex(j).getY() * source.getEntryForIndex(j).getY() / 3f;
+            }
+
+            float deviation = (float) Math.sqrt(Math.max(squares - mean * mean, 0f));
+            assertEquals(mean + 2f * deviation, bands.getUpperBand().getYValue(i), 0.001f);
+            assertEquals(mean - 2f * deviation, bands.getLowerBand().getYValue(i), 0.001f);
+        }
+
+        // the bounds of the outputs follow the appended values
+        assertEquals(19f, sma.getOutput(0).getXMax(), 0f);
+        assertEquals((1f + 2f + 13f) / 3f, sma.getOutput(0).getYMax(), 0.0001f);
+
+        for (int i = 0; i < rsi.getOutput(0).getEntryCount(); i++) {
+            float value = rsi.getOutput(0).getYValue(i);
+            assertTrue(value >= 0f && value <= 100f);
+        }
+
+        // other changes calculate everything again
+        source.removeFirst();
+        source.notifyEntriesRemoved(0, 1);
+
+        assertEquals(17, sma.getOutput(0).getEntryCount());
+        assertEquals(16, ema.getOutput(0).getEntryCount());
+
+        sma.detach();
+        source.addEntry(new Entry(20, 1f));
+        source.notifyEntriesInserted(19, 1);
+
+        assertEquals(17, sma.getOutput(0).getEntryCount());
+        assertEquals(18, bands.getMiddleBand().getEntryCount());
+    }
+}
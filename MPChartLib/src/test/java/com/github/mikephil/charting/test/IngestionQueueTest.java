@@ -0,0 +1,141 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.IngestionQueue;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.SharedXLineDataSet;
+import com.github.mikephil.charting.data.SharedXValues;
+import com.github.mikephil.charting.data.UniformLineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.OnEntriesChangedListener;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class IngestionQueueTest {
+
+    @Test
+    public void testIngestionQueue() throws Exception {
+
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+        IngestionQueue queue = new IngestionQueue(set, 4, IngestionQueue.OverflowPolicy.DROP_OLDEST);
+
+        final int[] wakeUps = new int[1];
+
+        queue.setOnPublishCallback(new Runnable() {
+            @Override
+            public void run() {
+                wakeUps[0]++;
+            }
+        });
+
+        // a full queue drops its oldest samples
+        for (int i = 0; i < 6; i++)
+            queue.publish(i, i * 10f);
+
+        assertEquals(1, wakeUps[0]);
+        assertEquals(4, queue.getDepth());
+        assertEquals(2, queue.getDroppedCount());
+        assertEquals(2f / 6f, queue.getDropRate(), 0.0001f);
+
+        assertEquals(4, queue.drain());
+        assertEquals(0, queue.getDepth());
+        assertEquals(0, queue.drain());
+
+        assertEquals(4, set.getEntryCount());
+        assertEquals(2f, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(5f, set.getXMax(), 0.01f);
+        assertEquals(20f, set.getYMin(), 0.01f);
+        assertEquals(50f, set.getYMax(), 0.01f);
+
+        queue.publish(6f, -5f);
+        assertEquals(2, wakeUps[0]);
+        assertEquals(1, queue.drain());
+        assertEquals(-5f, set.getYMin(), 0.01f);
+
+        // a blocked producer continues once the queue was drained
+        final IngestionQueue blocking = new IngestionQueue(set, 2, IngestionQueue.OverflowPolicy.BLOCK);
+
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 7; i < 12; i++)
+                    blocking.publish(i, i);
+            }
+        });
+        producer.start();
+
+        while (producer.isAlive() || blocking.getDepth() > 0) {
+            blocking.drain();
+            Thread.sleep(1);
+        }
+
+        assertEquals(0, blocking.getDroppedCount());
+        assertEquals(10, set.getEntryCount());
+        assertEquals(11f, set.getXMax(), 0.01f);
+    }
+
+    @Test
+    public void testIngestionQueueListeners() {
+
+        final List<int[]> inserted = new ArrayList<>();
+
+        OnEntriesChangedListener listener = new OnEntriesChangedListener() {
+            @Override
+            public void onEntriesInserted(IDataSet set, int from, int count) {
+                inserted.add(new int[]{from, count});
+            }
+
+            @Override
+            public void onEntriesChanged(IDataSet set) {
+                fail("appending must be reported as an insertion");
+            }
+        };
+
+        UniformLineDataSet uniform = new UniformLineDataSet(0f, 1f, new float[]{10, 20}, "");
+        uniform.addOnEntriesChangedListener(listener);
+
+        IngestionQueue queue = new IngestionQueue(uniform, 8, IngestionQueue.OverflowPolicy.DROP_OLDEST);
+        queue.publish(2f, 5f);
+        queue.publish(3f, 40f);
+        queue.drain();
+
+        assertEquals(1, inserted.size());
+        assertTrue(Arrays.equals(new int[]{2, 2}, inserted.get(0)));
+        assertEquals(5f, uniform.getYMin(), 0.01f);
+        assertEquals(40f, uniform.getYMax(), 0.01f);
+        assertEquals(3f, uniform.getXMax(), 0.01f);
+
+        SharedXValues xValues = new SharedXValues(new float[]{0, 1, 2, 3});
+        SharedXLineDataSet shared = new SharedXLineDataSet(xValues, new float[]{10}, "");
+        shared.addOnEntriesChangedListener(listener);
+
+        queue = new IngestionQueue(shared, 8, IngestionQueue.OverflowPolicy.DROP_OLDEST);
+        queue.publish(1f, 30f);
+        queue.publish(2f, -10f);
+        queue.drain();
+
+        assertEquals(2, inserted.size());
+        assertTrue(Arrays.equals(new int[]{1, 2}, inserted.get(1)));
+        assertEquals(3, shared.getEntryCount());
+        assertEquals(-10f, shared.getYMin(), 0.01f);
+        assertEquals(30f, shared.getYMax(), 0.01f);
+
+        LineDataSet set = new LineDataSet(new ArrayList<Entry>(), "");
+        set.addOnEntriesChangedListener(listener);
+
+        queue = new IngestionQueue(set, 8, IngestionQueue.OverflowPolicy.DROP_OLDEST);
+        queue.publish(0f, 1f);
+        queue.drain();
+
+        assertEquals(3, inserted.size());
+        assertTrue(Arrays.equals(new int[]{0, 1}, inserted.get(2)));
+    }
+}
@@ -237,4 +237,30 @@ public class ObjectPoolTest {
 
     }
 
+    @Test
+    public void testTrim(){
+
+        ObjectPool<TestPoolable> pool = ObjectPool.create(2, new TestPoolable(0,0));
+
+        ArrayList<TestPoolable> testPoolables = new ArrayList<>();
+        for(int i = 0 ; i < 10 ; i++){
+            testPoolables.add(pool.get());
+        }
+
+        pool.recycle(testPoolables);
+
+        Assert.assertEquals(16, pool.getPoolCapacity());
+        Assert.assertEquals(10, pool.getPoolCount());
+
+        pool.trim();
+
+        Assert.assertEquals(2, pool.getPoolCapacity());
+        Assert.assertEquals(2, pool.getPoolCount());
+
+        // objects are created again on demand
+        for(int i = 0 ; i < 3 ; i++){
+            Assert.assertNotNull(pool.get());
+        }
+    }
+
 }
@@ -0,0 +1,73 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.ParallelMinMax;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the sequential and the parallel calculation of the bounds of a DataSet for growing
+ * numbers of entries, to find the threshold above which the parallel calculation pays off.
+ * Only runs with -Dbenchmark=true, e.g. ./gradlew test -Dbenchmark=true
+ */
+public class ParallelMinMaxBenchmark {
+
+    private static final int[] SIZES = {20000, 50000, 100000, 200000, 500000, 1000000, 2000000, 5000000};
+
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void benchmarkCalcMinMax() {
+
+        Assume.assumeTrue(Boolean.getBoolean("benchmark"));
+
+        int threshold = ParallelMinMax.getThreshold();
+
+        try {
+            System.out.println("entries\tsequential (ms)\tparallel (ms)");
+
+            for (int size : SIZES) {
+
+                List<Entry> entries = new ArrayList<>(size);
+
+                for (int i = 0; i < size; i++)
+                    entries.add(new Entry(i, (float) Math.sin(i * 0.01)));
+
+                LineDataSet set = new LineDataSet(entries, "");
+
+                ParallelMinMax.setThreshold(Integer.MAX_VALUE);
+                double sequential = measure(set);
+
+                ParallelMinMax.setThreshold(0);
+                double parallel = measure(set);
+
+                System.out.println(size + "\t" + String.format("%.3f", sequential)
+                        + "\t" + String.format("%.3f", parallel));
+            }
+        } finally {
+            ParallelMinMax.setThreshold(threshold);
+        }
+    }
+
+    /**
+     * Returns the best time of a calcMinMax() call in milliseconds.
+     */
+    private static double measure(LineDataSet set) {
+
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+
+            long start = System.nanoTime();
+            set.calcMinMax();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return best / 1000000.0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.data.ParallelMinMax;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class ParallelMinMaxTest {
+
+    @Test
+    public void testParallelMinMax() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 100000; i++)
+            entries.add(new Entry(i, (float) Math.sin(i * 0.001) * (i % 97)));
+
+        int threshold = ParallelMinMax.getThreshold();
+
+        try {
+            ParallelMinMax.setThreshold(Integer.MAX_VALUE);
+            LineDataSet sequential = new LineDataSet(entries, "");
+
+            ParallelMinMax.setThreshold(20000);
+            LineDataSet parallel = new LineDataSet(entries, "");
+
+            assertEquals(sequential.getXMin(), parallel.getXMin(), 0f);
+            assertEquals(sequential.getXMax(), parallel.getXMax(), 0f);
+            assertEquals(sequential.getYMin(), parallel.getYMin(), 0f);
+            assertEquals(sequential.getYMax(), parallel.getYMax(), 0f);
+
+            // the extremes are tracked, lowering the maximum finds the next one
+            int maxIndex = parallel.getEntryIndex(parallel.getEntriesForXValue(
+                    findX(entries, parallel.getYMax())).get(0));
+            float yMax = parallel.getYMax();
+
+            entries.get(maxIndex).setY(0f);
+            parallel.notifyEntriesChanged(maxIndex, 1);
+
+            assertTrue(parallel.getYMax() < yMax);
+
+            sequential.calcMinMax();
+            assertEquals(sequential.getYMax(), parallel.getYMax(), 0f);
+
+            parallel.calcMinMaxY(10000f, 90000f);
+            sequential.calcMinMaxY(10000f, 90000f);
+
+            assertEquals(sequential.getYMin(), parallel.getYMin(), 0f);
+            assertEquals(sequential.getYMax(), parallel.getYMax(), 0f);
+
+            // DataSets with their own bounds per entry are never calculated in parallel
+            List<BarEntry> stacked = new ArrayList<>();
+
+            for (int i = 0; i < 50000; i++)
+                stacked.add(new BarEntry(i, new float[]{-3f, 5f}));
+
+            BarDataSet bars = new BarDataSet(stacked, "");
+
+            assertEquals(-3f, bars.getYMin(), 0f);
+            assertEquals(5f, bars.getYMax(), 0f);
+
+        } finally {
+            ParallelMinMax.setThreshold(threshold);
+        }
+    }
+
+    private static float findX(List<Entry> entries, float y) {
+
+        for (Entry e : entries) {
+            if (e.getY() == y)
+                return e.getX();
+        }
+
+        return Float.NaN;
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import com.github.mikephil.charting.renderer.canvas.RecordingChartCanvas;
+import com.github.mikephil.charting.renderer.canvas.RecordingChartCanvas.Op;
+import com.github.mikephil.charting.renderer.canvas.RecordingChartCanvas.OpType;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class RecordingChartCanvasTest {
+
+    @Test
+    public void testRecordAndReplay() {
+
+        RecordingChartCanvas recording = new RecordingChartCanvas();
+        assertFalse(recording.hasRecording());
+
+        Canvas c = recording.beginRecording(100, 100);
+        Paint paint = new Paint();
+
+        // a frame of a pie chart with rounded bars
+        c.save();
+        c.clipPath(new Path());
+        c.drawArc(0f, 0f, 100f, 100f, -90f, 120f, true, paint);
+        c.drawRoundRect(10f, 20f, 30f, 80f, 4f, 4f, paint);
+        c.drawVertices(Canvas.VertexMode.TRIANGLE_STRIP, 6, new float[]{0f, 0f, 1f, 1f, 2f, 0f, 9f},
+                0, null, 0, null, 0, null, 0, 0, paint);
+        c.drawText("label", 1, 4, 50f, 50f, paint);
+        c.drawColor(0x80FF0000);
+        c.restore();
+
+        recording.endRecording();
+        assertTrue(recording.hasRecording());
+
+        List<Op> ops = recording.getOps();
+        assertEquals(8, ops.size());
+        assertEquals(1, recording.getOpCount(OpType.CLIP_PATH));
+        assertEquals(1, recording.getOpCount(OpType.ARC));
+        assertEquals(1, recording.getOpCount(OpType.ROUND_RECT));
+        assertEquals(1, recording.getOpCount(OpType.VERTICES));
+        assertEquals(6, ops.get(4).args.length);
+        assertEquals("abe", ops.get(5).payload);
+
+        // replaying the frame onto another recording canvas records the same operations
+        RecordingChartCanvas replay = new RecordingChartCanvas();
+        recording.draw(replay.beginRecording(100, 100));
+        replay.endRecording();
+
+        List<Op> replayed = replay.getOps();
+        assertEquals(ops.size(), replayed.size());
+
+        for (int i = 0; i < ops.size(); i++) {
+            assertEquals(ops.get(i).type, replayed.get(i).type);
+            assertTrue(ops.get(i).toString(), Arrays.equals(ops.get(i).args, replayed.get(i).args));
+        }
+
+        // the same operations have the same estimated size, which is freed on release
+        assertEquals(recording.getMemorySize(), replay.getMemorySize());
+        assertTrue(recording.getMemorySize() > 0);
+
+        recording.release();
+        assertEquals(0, recording.getMemorySize());
+    }
+
+    @Test
+    public void testUnsupportedOperation() {
+
+        RecordingChartCanvas recording = new RecordingChartCanvas();
+        Canvas c = recording.beginRecording(100, 100);
+
+        try {
+            c.drawPosText("x", new float[2], new Paint());
+            fail("drawPosText must not be dropped silently");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.renderer.canvas.PdfCanvas;
+import com.github.mikephil.charting.renderer.canvas.SvgCanvas;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class VectorCanvasTest {
+
+    private static final Charset LATIN_1 = Charset.forName("ISO-8859-1");
+
+    @Test
+    public void testNumberFormat() {
+
+        assertEquals("0", NumberFormat.format(0.0, 2));
+        assertEquals("1.5", NumberFormat.format(1.5, 2));
+        assertEquals("1.05", NumberFormat.format(1.05, 2));
+        assertEquals("-0.5", NumberFormat.format(-0.5, 2));
+        assertEquals("2", NumberFormat.format(2.004, 2));
+        assertEquals("1234.57", NumberFormat.format(1234.5678, 2));
+        assertEquals("0.001", NumberFormat.format(0.001, 3));
+        assertEquals("0.000001", NumberFormat.format(0.000001, 6));
+        assertEquals("1", NumberFormat.format(0.5, 0));
+
+        // no negative zero, no NaN in the document
+        assertEquals("0", NumberFormat.format(-0.001, 2));
+        assertEquals("0", NumberFormat.format(Double.NaN, 2));
+        assertEquals("0", NumberFormat.format(Double.POSITIVE_INFINITY, 2));
+    }
+
+    @Test
+    public void testSvg() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SvgCanvas canvas = new SvgCanvas(out, 100, 50);
+        Paint stroke = new FixedPaint(Paint.Style.STROKE);
+
+        // connected segments are joined into one polyline, the others start a new one
+        canvas.drawLines(new float[]{0, 0, 10, 10, 10, 10, 20, 0, 30, 30, 40, 40}, stroke);
+
+        canvas.setDecimationTolerance(2f);
+        canvas.drawLines(new float[]{0, 5, 0.5f, 5, 0.5f, 5, 1, 5, 1, 5, 10, 5}, stroke);
+        canvas.setDecimationTolerance(0f);
+
+        canvas.save();
+        canvas.translate(10f, 20f);
+        canvas.clipRect(0f, 0f, 50f, 25f);
+        canvas.save();
+        canvas.rotate(90f);
+        canvas.drawRect(1.5f, 0.25f, 11.5f, 2f, new FixedPaint(Paint.Style.FILL));
+        canvas.restore();
+        canvas.drawCircle(5f, 5f, 2.5f, stroke);
+        canvas.restore();
+
+        // groups of transformations outside of save / restore are closed by finish()
+        canvas.translate(1f, 1f);
+        canvas.drawText("a<b & \"c\"\u0001", 2f, 3f, new FixedPaint(Paint.Style.FILL));
+
+        canvas.finish();
+
+        String svg = new String(out.toByteArray(), "UTF-8");
+
+        assertTrue(svg.startsWith("<?xml"));
+        assertTrue(svg.endsWith("</svg>\n"));
+
+        assertTrue(svg.contains("<path d=\"M0 0L10 10L20 0\""));
+        assertTrue(svg.contains("<path d=\"M30 30L40 40\""));
+        assertTrue(svg.contains("<path d=\"M0 5L10 5\""));
+        assertTrue(svg.contains("<rect x=\"1.5\" y=\"0.25\" width=\"10\" height=\"1.75\""));
+        assertTrue(svg.contains("<circle cx=\"5\" cy=\"5\" r=\"2.5\""));
+        assertTrue(svg.contains("<g transform=\"matrix(1 0 0 1 10 20)\">"));
+        assertTrue(svg.contains("<g transform=\"matrix(0 1 -1 0 0 0)\">"));
+        assertTrue(svg.contains("<clipPath id=\"clip0\"><path d=\"M0 0L50 0L50 25L0 25Z\"/>"));
+        assertTrue(svg.contains(">a&lt;b &amp; &quot;c&quot;</text>"));
+
+        // every group is closed, in order
+        assertEquals(4, count(svg, "<g "));
+
+        int depth = 0;
+        Matcher m = Pattern.compile("<g |</g>").matcher(svg);
+
+        while (m.find()) {
+            depth += m.group().equals("</g>") ? -1 : 1;
+            assertTrue(depth >= 0);
+        }
+
+        assertEquals(0, depth);
+        assertTrue(svg.lastIndexOf("</g>") < svg.indexOf("</svg>"));
+    }
+
+    @Test
+    public void testPdf() throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PdfCanvas canvas = new PdfCanvas(out, 200, 100);
+        Paint stroke = new FixedPaint(Paint.Style.STROKE);
+
+        canvas.drawLines(new float[]{0, 0, 10, 10, 10, 10, 20, 0}, stroke);
+
+        canvas.save();
+        canvas.translate(10f, 20f);
+        canvas.clipRect(0f, 0f, 50f, 25f);
+        canvas.drawRect(1.5f, 0.25f, 11.5f, 2f, new FixedPaint(Paint.Style.FILL));
+        canvas.restore();
+
+        canvas.drawText("a(b)c\\ \u00e9\u20ac", 2f, 3f, new FixedPaint(Paint.Style.FILL));
+
+        // left open, closed by finish()
+        canvas.save();
+        canvas.scale(2f, 2f);
+        canvas.drawCircle(5f, 5f, 2f, stroke);
+
+        canvas.finish();
+
+        byte[] bytes = out.toByteArray();
+        String pdf = new String(bytes, LATIN_1);
+
+        assertTrue(pdf.startsWith("%PDF-1.4\n"));
+        assertTrue(pdf.endsWith("%%EOF\n"));
+
+        assertTrue(pdf.contains("0 0 m 10 10 l 20 0 l S"));
+        assertTrue(pdf.contains("1.5 0.25 10 1.75 re f"));
+
+        // strings are escaped, Latin-1 as octal, others replaced
+        assertTrue(pdf.contains("(a\\(b\\)c\\\\ \\351?) Tj"));
+
+        // the cross-reference table points at every object
+        int startXref = pdf.lastIndexOf("startxref\n");
+        long xref = Long.parseLong(pdf.substring(startXref + 10, pdf.indexOf('\n', startXref + 10)));
+        assertTrue(pdf.startsWith("xref\n0 ", (int) xref));
+
+        int tableStart = pdf.indexOf('\n', (int) xref + 5) + 1;
+        int size = Integer.parseInt(pdf.substring((int) xref + 7, tableStart - 1));
+        assertTrue(pdf.contains("/Size " + size + "/"));
+        assertTrue(pdf.startsWith("0000000000 65535 f \n", tableStart));
+
+        long[] offsets = new long[size];
+
+        for (int i = 1; i < size; i++) {
+
+            String entry = pdf.substring(tableStart + i * 20, tableStart + (i + 1) * 20);
+            assertTrue(entry, entry.endsWith(" 00000 n \n"));
+
+            offsets[i] = Long.parseLong(entry.substring(0, 10));
+            assertTrue(pdf.startsWith(i + " 0 obj\n", (int) offsets[i]));
+        }
+
+        // the length objects hold the exact length of their streams
+        Matcher m = Pattern.compile("<</Length (\\d+) 0 R>>\nstream\n").matcher(pdf);
+        int streams = 0;
+
+        StringBuilder content = new StringBuilder();
+
+        while (m.find()) {
+
+            int lengthObject = Integer.parseInt(m.group(1));
+            int valueStart = (int) offsets[lengthObject] + (lengthObject + " 0 obj\n").length();
+            int length = Integer.parseInt(pdf.substring(valueStart, pdf.indexOf('\n', valueStart)));
+
+            assertTrue(pdf.startsWith("\nendstream\n", m.end() + length));
+            content.append(pdf, m.end(), m.end() + length).append('\n');
+            streams++;
+        }
+
+        assertEquals(1, streams);
+
+        // every saved graphics state is restored
+        String operators = content.toString();
+        assertEquals(count(operators, "(?<=\\s|^)q(?=\\s)"), count(operators, "(?<=\\s|^)Q(?=\\s)"));
+        assertTrue(count(operators, "(?<=\\s|^)q(?=\\s)") >= 3);
+    }
+
+    @Test
+    public void testWriteError() throws Exception {
+
+        SvgCanvas canvas = new SvgCanvas(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        }, 10, 10);
+
+        // the buffered writer only fails on flush
+        canvas.drawRect(0f, 0f, 5f, 5f, new FixedPaint(Paint.Style.FILL));
+
+        try {
+            canvas.finish();
+            fail("the write error must be reported by finish()");
+        } catch (IOException e) {
+            assertEquals("disk full", e.getMessage());
+        }
+    }
+
+    private static int count(String text, String regex) {
+
+        Matcher m = Pattern.compile(regex).matcher(text);
+        int count = 0;
+
+        while (m.find())
+            count++;
+
+        return count;
+    }
+
+    /**
+     * Paint with fixed values, the unit tests run against a stubbed android.jar.
+     */
+    private static class FixedPaint extends Paint {
+
+        private final Style mStyle;
+
+        FixedPaint(Style style) {
+            mStyle = style;
+        }
+
+        @Override
+        public Style getStyle() {
+            return mStyle;
+        }
+
+        @Override
+        public int getColor() {
+            return 0xff000000;
+        }
+
+        @Override
+        public int getAlpha() {
+            return 255;
+        }
+
+        @Override
+        public float getStrokeWidth() {
+            return 1f;
+        }
+
+        @Override
+        public Cap getStrokeCap() {
+            return Cap.BUTT;
+        }
+
+        @Override
+        public Join getStrokeJoin() {
+            return Join.MITER;
+        }
+
+        @Override
+        public Align getTextAlign() {
+            return Align.LEFT;
+        }
+
+        @Override
+        public float getTextSize() {
+            return 10f;
+        }
+
+        @Override
+        public Typeface getTypeface() {
+            return null;
+        }
+    }
+
+    /**
+     * Exposes the number formatting of the vector canvases.
+     */
+    private static class NumberFormat extends SvgCanvas {
+
+        private NumberFormat() {
+            super(new ByteArrayOutputStream(), 1, 1);
+        }
+
+        static String format(double value, int decimals) {
+            StringBuilder b = new StringBuilder();
+            appendNumber(b, value, decimals);
+            return b.toString();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.jobs.MoveViewJob;
+import com.github.mikephil.charting.jobs.ViewPortJobScheduler;
+import com.github.mikephil.charting.jobs.ZoomJob;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class ViewPortJobSchedulerTest {
+
+    private final ArrayList<String> mLog = new ArrayList<String>();
+
+    @Test
+    public void testMerge() {
+
+        ManualScheduler scheduler = new ManualScheduler();
+        Chart<?> chart = mock(LineChart.class);
+
+        // only the last of the moves runs, the dropped one goes back to the pool
+        MoveViewJob first = new LoggingMoveJob("move 1");
+        scheduler.schedule(chart, first);
+        scheduler.schedule(chart, new LoggingMoveJob("move 2"));
+        scheduler.run();
+
+        assertLog("move 2");
+        assertSame(first, MoveViewJob.getInstance(null, 0, 0, null, null));
+
+        // the scale factors of the zooms are combined, the center is the one of the last zoom
+        ZoomJob zoomA = new LoggingZoomJob("zoom a", 2f, 3f);
+        ZoomJob zoomB = new LoggingZoomJob("zoom b", 1.5f, 0.5f);
+        scheduler.schedule(chart, zoomA);
+        scheduler.schedule(chart, zoomB);
+        scheduler.schedule(chart, new LoggingZoomJob("zoom c", 2f, 1f));
+        scheduler.run();
+
+        assertLog("zoom c 6.0 1.5");
+        assertSame(zoomB, ZoomJob.getInstance(null, 0, 0, 0, 0, null, null, null));
+        assertSame(zoomA, ZoomJob.getInstance(null, 0, 0, 0, 0, null, null, null));
+
+        // a move is replaced by a following zoom, but not the other way round
+        first = new LoggingMoveJob("move 1");
+        scheduler.schedule(chart, first);
+        scheduler.schedule(chart, new LoggingZoomJob("zoom a", 2f, 2f));
+        scheduler.schedule(chart, new LoggingMoveJob("move 2"));
+        scheduler.run();
+
+        assertLog("zoom a 2.0 2.0", "move 2");
+        assertSame(first, MoveViewJob.getInstance(null, 0, 0, null, null));
+
+        // any other job keeps them apart
+        scheduler.schedule(chart, new LoggingMoveJob("move 1"));
+        scheduler.schedule(chart, new LoggingJob("other"));
+        scheduler.schedule(chart, new LoggingMoveJob("move 2"));
+        scheduler.schedule(chart, new LoggingZoomJob("zoom a", 2f, 2f));
+        scheduler.schedule(chart, new LoggingJob("other"));
+        scheduler.schedule(chart, new LoggingZoomJob("zoom b", 2f, 2f));
+        scheduler.run();
+
+        assertLog("move 1", "other", "zoom a 2.0 2.0", "other", "zoom b 2.0 2.0");
+    }
+
+    @Test
+    public void testOrder() {
+
+        ManualScheduler scheduler = new ManualScheduler();
+        Chart<?> chart1 = mock(LineChart.class);
+        Chart<?> chart2 = mock(LineChart.class);
+
+        // the jobs of different charts are not merged, the remaining jobs keep their order
+        MoveViewJob move1 = new LoggingMoveJob("1 move 1");
+        MoveViewJob move2 = new LoggingMoveJob("2 move 1");
+        scheduler.schedule(chart1, move1);
+        scheduler.schedule(chart2, new LoggingZoomJob("2 zoom a", 2f, 2f));
+        scheduler.schedule(chart2, move2);
+        scheduler.schedule(chart1, new LoggingMoveJob("1 move 2"));
+        scheduler.schedule(chart2, new LoggingMoveJob("2 move 2"));
+
+        assertEquals(1, scheduler.mFrames);
+
+        scheduler.run();
+
+        assertLog("2 zoom a 2.0 2.0", "1 move 2", "2 move 2");
+        assertSame(move2, MoveViewJob.getInstance(null, 0, 0, null, null));
+        assertSame(move1, MoveViewJob.getInstance(null, 0, 0, null, null));
+
+        // jobs scheduled by a running job wait for the next frame
+        final ManualScheduler s = scheduler;
+        final Chart<?> c = chart1;
+
+        scheduler.schedule(chart1, new LoggingJob("schedules") {
+            @Override
+            public void run() {
+                super.run();
+                s.schedule(c, new LoggingMoveJob("1 move 3"));
+            }
+        });
+        scheduler.schedule(chart1, new LoggingMoveJob("1 move 4"));
+
+        assertEquals(2, scheduler.mFrames);
+
+        scheduler.run();
+
+        assertLog("schedules", "1 move 4");
+        assertEquals(3, scheduler.mFrames);
+
+        scheduler.run();
+
+        assertLog("1 move 3");
+
+        // cancelled jobs do not run
+        LoggingMoveJob cancelled = new LoggingMoveJob("2 move 3");
+        scheduler.schedule(chart2, cancelled);
+        scheduler.schedule(chart1, new LoggingMoveJob("1 move 5"));
+        scheduler.schedule(chart2, new LoggingJob("2 other"));
+        scheduler.cancel(cancelled);
+        scheduler.run();
+
+        assertLog("1 move 5", "2 other");
+
+        scheduler.schedule(chart2, new LoggingMoveJob("2 move 4"));
+        scheduler.schedule(chart1, new LoggingMoveJob("1 move 6"));
+        scheduler.cancelAll(chart2);
+        scheduler.run();
+
+        assertLog("1 move 6");
+    }
+
+    private void assertLog(String... expected) {
+        assertEquals(Arrays.asList(expected), mLog);
+        mLog.clear();
+    }
+
+    /**
+     * Scheduler whose frames are run by the test.
+     */
+    private static class ManualScheduler extends ViewPortJobScheduler {
+
+        private int mFrames = 0;
+
+        @Override
+        protected void postFrame() {
+            mFrames++;
+        }
+    }
+
+    private class LoggingJob implements Runnable {
+
+        private final String mName;
+
+        LoggingJob(String name) {
+            mName = name;
+        }
+
+        @Override
+        public void run() {
+            mLog.add(mName);
+        }
+    }
+
+    private class LoggingMoveJob extends MoveViewJob {
+
+        private final String mName;
+
+        LoggingMoveJob(String name) {
+            super(null, 0f, 0f, null, null);
+            mName = name;
+        }
+
+        @Override
+        public void run() {
+            mLog.add(mName);
+        }
+    }
+
+    private class LoggingZoomJob extends ZoomJob {
+
+        private final String mName;
+
+        LoggingZoomJob(String name, float scaleX, float scaleY) {
+            super(null, scaleX, scaleY, 0f, 0f, null, null, null);
+            mName = name;
+        }
+
+        @Override
+        public void run() {
+            mLog.add(mName + " " + scaleX + " " + scaleY);
+        }
+    }
+}